@@ -0,0 +1,63 @@
+package nustorage.model.record;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import nustorage.model.record.FinanceReport.Grouping;
+
+/**
+ * Compares computing a finance report with fork/join tasks against the sequential reference, over several years
+ * of records. Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FinanceReportBenchmark {
+
+    private static final int YEARS = 5;
+
+    @Param({"100000", "1000000"})
+    private int recordCount;
+
+    @Param({"DAY", "MONTH"})
+    private Grouping grouping;
+
+    private FinanceColumns columns;
+    private int[] positions;
+
+    /**
+     * Fills the columns with records of random amounts, spread over the years from 2016.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(25);
+        LocalDateTime start = LocalDateTime.of(2016, 1, 1, 0, 0);
+        columns = new FinanceColumns(recordCount);
+        for (int id = 0; id < recordCount; id++) {
+            columns.add(id, random.nextInt(2_000_001) - 1_000_000,
+                    start.plusSeconds(random.nextInt(YEARS * 365 * 24 * 60 * 60)));
+        }
+        positions = columns.indexesBetween(LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    @Benchmark
+    public FinanceReport forkJoin() {
+        return FinanceReport.compute(columns, positions, grouping);
+    }
+
+    @Benchmark
+    public FinanceReport sequentialReference() {
+        return FinanceReport.computeSequentially(columns, positions, grouping);
+    }
+
+}
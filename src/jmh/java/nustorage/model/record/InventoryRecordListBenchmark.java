@@ -0,0 +1,114 @@
+package nustorage.model.record;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares looking up, editing and removing inventory records by item name through the index of
+ * {@link InventoryRecordList} against scanning the list, as it did before the index, and times filling the list
+ * with a duplicate check per record, as loading the inventory does. Run with {@code gradlew jmh -Pjmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InventoryRecordListBenchmark {
+
+    /** Number of item names looked up in turn, so that each operation works on a different record. */
+    private static final int LOOKUP_COUNT = 1024;
+
+    @Param({"100000"})
+    private int itemCount;
+
+    private List<InventoryRecord> records;
+    private InventoryRecordList list;
+    private String[] lookupNames;
+    private int nextLookup;
+
+    /**
+     * Fills the list with items of random quantities, and picks the item names to look up.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(11);
+        LocalDateTime added = LocalDateTime.of(2020, 1, 1, 0, 0);
+        records = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            records.add(new InventoryRecord("Item " + i, random.nextInt(1000), added));
+        }
+
+        list = new InventoryRecordList();
+        records.forEach(list::add);
+
+        lookupNames = new String[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            lookupNames[i] = "Item " + random.nextInt(itemCount);
+        }
+    }
+
+    private String nextLookupName() {
+        nextLookup = (nextLookup + 1) % LOOKUP_COUNT;
+        return lookupNames[nextLookup];
+    }
+
+    @Benchmark
+    public boolean containsIndexed() {
+        return list.contains(new InventoryRecord(nextLookupName()));
+    }
+
+    /**
+     * Looks a record up by scanning the list, as before the index.
+     */
+    @Benchmark
+    public boolean containsScanReference() {
+        InventoryRecord toCheck = new InventoryRecord(nextLookupName());
+        return list.asUnmodifiableObservableList().stream().anyMatch(toCheck::equals);
+    }
+
+    /**
+     * Replaces a record with one of the same item name and a different quantity.
+     */
+    @Benchmark
+    public void editIndexed() {
+        InventoryRecord edited = new InventoryRecord(nextLookupName(), nextLookup, LocalDateTime.now());
+        list.setInventoryRecord(edited, edited);
+    }
+
+    /**
+     * Removes a record and adds it back at the end of the list, which leaves the positions of the records after
+     * it to be corrected in the index when they are next needed.
+     */
+    @Benchmark
+    public void removeAndAddIndexed() {
+        InventoryRecord record = new InventoryRecord(nextLookupName());
+        list.remove(record);
+        list.add(record);
+    }
+
+    /**
+     * Fills a new list with every record, checking for a duplicate item name before adding each one.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public InventoryRecordList loadIndexed() {
+        InventoryRecordList loaded = new InventoryRecordList();
+        for (InventoryRecord record : records) {
+            if (!loaded.contains(record)) {
+                loaded.add(record);
+            }
+        }
+        return loaded;
+    }
+
+}
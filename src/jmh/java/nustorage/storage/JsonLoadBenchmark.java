@@ -0,0 +1,157 @@
+package nustorage.storage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import nustorage.commons.util.JsonUtil;
+import nustorage.model.FinanceAccount;
+import nustorage.model.Inventory;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.ReadOnlyInventory;
+import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.InventoryRecord;
+
+/**
+ * Compares loading the Json inventory and finance files with the streaming readers against the reference path,
+ * which reads the whole file into a string and builds every adapted record before converting them. Each load is
+ * timed once per iteration, and the peak heap use during it is reported as {@code peakHeapMegabytes}.
+ * Run with {@code gradlew jmh -Pjmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonLoadBenchmark {
+
+    @Param({"1000000"})
+    private int recordCount;
+
+    private Path folder;
+    private Path inventoryPath;
+    private Path financePath;
+
+    /**
+     * The peak heap use of the load of an iteration, which starts after a garbage collection.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUse {
+
+        private long peakHeapMegabytes;
+
+        private final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+
+        /**
+         * Collects the garbage of earlier iterations and starts measuring the peak heap use again.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            System.gc();
+            heapPools.clear();
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    pool.resetPeakUsage();
+                    heapPools.add(pool);
+                }
+            }
+            peakHeapMegabytes = 0;
+        }
+
+        public long peakHeapMegabytes() {
+            return peakHeapMegabytes;
+        }
+
+        /**
+         * Runs {@code load}, then records the peak heap use since the iteration started, which includes the
+         * loaded data.
+         */
+        <T> T measure(Callable<T> load) throws Exception {
+            T loaded = load.call();
+            long peakBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            peakHeapMegabytes = peakBytes >> 20;
+            return loaded;
+        }
+    }
+
+    /**
+     * Writes an inventory and a finance account of {@code recordCount} records each, with the Json storages.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(4);
+        LocalDateTime start = LocalDateTime.of(2016, 1, 1, 0, 0);
+        List<InventoryRecord> inventoryRecords = new ArrayList<>(recordCount);
+        List<FinanceRecord> financeRecords = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            LocalDateTime dateTime = start.plusSeconds(random.nextInt(5 * 365 * 24 * 60 * 60));
+            inventoryRecords.add(new InventoryRecord("Item " + i, random.nextInt(1000), dateTime));
+            financeRecords.add(new FinanceRecord(i + 1, (random.nextInt(2_000_001) - 1_000_000) / 100.0, dateTime));
+        }
+
+        folder = Files.createTempDirectory("nustorage-jmh");
+        inventoryPath = folder.resolve("inventory.json");
+        financePath = folder.resolve("finance.json");
+        new JsonInventoryStorage(inventoryPath).saveInventory(new Inventory(inventoryRecords));
+        new JsonFinanceAccountStorage(financePath).saveFinanceAccount(new FinanceAccount(financeRecords));
+    }
+
+    /**
+     * Deletes the files written by {@link #setUp()}.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(inventoryPath);
+        Files.deleteIfExists(financePath);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyInventory inventoryStreaming(HeapUse heapUse) throws Exception {
+        return heapUse.measure(() -> new JsonInventoryStorage(inventoryPath).readInventory().get());
+    }
+
+    /**
+     * Loads the inventory as it was before the streaming reader, through the whole file and adapted records.
+     */
+    @Benchmark
+    public ReadOnlyInventory inventoryWholeFileReference(HeapUse heapUse) throws Exception {
+        return heapUse.measure(() ->
+                JsonUtil.readJsonFile(inventoryPath, JsonSerializableInventory.class).get().toModelType());
+    }
+
+    @Benchmark
+    public ReadOnlyFinanceAccount financeStreaming(HeapUse heapUse) throws Exception {
+        return heapUse.measure(() -> new JsonFinanceAccountStorage(financePath).readFinanceAccount().get());
+    }
+
+    /**
+     * Loads the finance account as it was before the streaming reader, through the whole file and adapted records.
+     */
+    @Benchmark
+    public ReadOnlyFinanceAccount financeWholeFileReference(HeapUse heapUse) throws Exception {
+        return heapUse.measure(() ->
+                JsonUtil.readJsonFile(financePath, JsonSerializableFinanceAccount.class).get().toModelType());
+    }
+
+}
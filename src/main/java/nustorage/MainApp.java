@@ -2,17 +2,27 @@ package nustorage;
 
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import nustorage.commons.core.Config;
 import nustorage.commons.core.LogsCenter;
+import nustorage.commons.core.StorageSettings;
+import nustorage.commons.core.StorageSettings.DataFileFormat;
 import nustorage.commons.core.Version;
 import nustorage.commons.exceptions.DataConversionException;
 import nustorage.commons.util.ConfigUtil;
+import nustorage.commons.util.FileUtil;
 import nustorage.commons.util.StringUtil;
 import nustorage.logic.Logic;
 import nustorage.logic.LogicManager;
@@ -24,8 +34,16 @@ import nustorage.model.ReadOnlyFinanceAccount;
 import nustorage.model.ReadOnlyInventory;
 import nustorage.model.ReadOnlyUserPrefs;
 import nustorage.model.UserPrefs;
+import nustorage.model.record.FinanceIdRenumbering;
+import nustorage.storage.ArchivingFinanceAccountStorage;
+import nustorage.storage.AsyncStorageManager;
+import nustorage.storage.BinaryFinanceAccountStorage;
+import nustorage.storage.BinaryInventoryStorage;
+import nustorage.storage.DataFileConverter;
 import nustorage.storage.FinanceAccountStorage;
 import nustorage.storage.InventoryStorage;
+import nustorage.storage.JournaledFinanceAccountStorage;
+import nustorage.storage.JournaledInventoryStorage;
 import nustorage.storage.JsonFinanceAccountStorage;
 import nustorage.storage.JsonInventoryStorage;
 import nustorage.storage.JsonUserPrefsStorage;
@@ -45,39 +63,131 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** Enough threads to save the config and prefs files while reading both data files. */
+    private static final int STARTUP_THREAD_COUNT = 4;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
 
+    /** Runs the independent parts of {@link #init()} at the same time. Only used during {@code init()}. */
+    private ExecutorService startupExecutor;
+
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        long startTime = System.nanoTime();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        startupExecutor = Executors.newFixedThreadPool(STARTUP_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            AppParameters appParameters = AppParameters.parse(getParameters());
+            config = logTime("Reading config", () -> initConfig(appParameters.getConfigPath()));
+
+            initLogging(config);
+
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            UserPrefs userPrefs = logTime("Reading user prefs", () -> initPrefs(userPrefsStorage));
+            // AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+
+            StorageSettings storageSettings = userPrefs.getStorageSettings();
+            FinanceAccountStorage financeAccountStorage = new ArchivingFinanceAccountStorage(
+                    initFinanceAccountStorage(userPrefs.getFinanceAccountFilePath(), storageSettings),
+                    storageSettings.getRecentFinanceMonths(), storageSettings.isDataFilePrettyPrinted());
+            InventoryStorage inventoryStorage =
+                    initInventoryStorage(userPrefs.getInventoryFilePath(), storageSettings);
+
+            // storage = new StorageManager(addressBookStorage, userPrefsStorage);
+            storage = new StorageManager(financeAccountStorage, inventoryStorage, userPrefsStorage);
+            if (storageSettings.isAsyncSaveEnabled()) {
+                storage = new AsyncStorageManager(storage, storageSettings.getMaxSaveDelayMillis());
+            }
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        // AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+            model = initModelManager(storage, userPrefs);
+        } finally {
+            // lets the config and prefs files finish saving in the background
+            startupExecutor.shutdown();
+        }
 
-        FinanceAccountStorage financeAccountStorage =
-                new JsonFinanceAccountStorage(userPrefs.getFinanceAccountFilePath());
-        InventoryStorage inventoryStorage = new JsonInventoryStorage(userPrefs.getInventoryFilePath());
+        logic = new LogicManager(model, storage);
 
-        // storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        storage = new StorageManager(financeAccountStorage, inventoryStorage, userPrefsStorage);
+        ui = new UiManager(logic);
 
-        initLogging(config);
+        logger.info("Initialized in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+    }
 
-        model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+    /**
+     * Runs {@code phase} and logs how long it took.
+     */
+    private static <T> T logTime(String phaseName, Supplier<T> phase) {
+        long startTime = System.nanoTime();
+        T result = phase.get();
+        logger.info(phaseName + " took " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+        return result;
+    }
 
-        ui = new UiManager(logic);
+
+    /**
+     * Returns the storage for the finance account data file, in the format chosen in {@code storageSettings}.
+     * A binary data file that does not exist yet is first converted from the Json data file at {@code jsonFilePath}.
+     */
+    private FinanceAccountStorage initFinanceAccountStorage(Path jsonFilePath, StorageSettings storageSettings) {
+        FinanceAccountStorage jsonStorage = new JournaledFinanceAccountStorage(
+                new JsonFinanceAccountStorage(jsonFilePath, storageSettings.isDataFilePrettyPrinted()),
+                storageSettings);
+        if (storageSettings.getDataFileFormat() == DataFileFormat.JSON) {
+            return jsonStorage;
+        }
+
+        FinanceAccountStorage binaryStorage =
+                new BinaryFinanceAccountStorage(DataFileConverter.getBinaryFilePath(jsonFilePath));
+        if (!FileUtil.isFileExists(binaryStorage.getFinanceAccountFilePath())) {
+            try {
+                if (DataFileConverter.convertFinanceAccount(jsonStorage, binaryStorage)) {
+                    logger.info("Converted " + jsonFilePath + " to " + binaryStorage.getFinanceAccountFilePath());
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to convert " + jsonFilePath + " to binary: " + StringUtil.getDetails(e));
+            }
+        }
+        if (!FileUtil.isFileExists(binaryStorage.getFinanceAccountFilePath()) && FileUtil.isFileExists(jsonFilePath)) {
+            // e.g. the records have to be renumbered first, so the Json data file is kept until it is converted
+            return jsonStorage;
+        }
+        return new JournaledFinanceAccountStorage(binaryStorage, storageSettings);
+    }
+
+
+    /**
+     * Returns the storage for the inventory data file, in the format chosen in {@code storageSettings}.
+     * A binary data file that does not exist yet is first converted from the Json data file at {@code jsonFilePath}.
+     */
+    private InventoryStorage initInventoryStorage(Path jsonFilePath, StorageSettings storageSettings) {
+        InventoryStorage jsonStorage = new JournaledInventoryStorage(
+                new JsonInventoryStorage(jsonFilePath, storageSettings.isDataFilePrettyPrinted()), storageSettings);
+        if (storageSettings.getDataFileFormat() == DataFileFormat.JSON) {
+            return jsonStorage;
+        }
+
+        InventoryStorage binaryStorage = new BinaryInventoryStorage(DataFileConverter.getBinaryFilePath(jsonFilePath));
+        if (!FileUtil.isFileExists(binaryStorage.getInventoryFilePath())) {
+            try {
+                if (DataFileConverter.convertInventory(jsonStorage, binaryStorage)) {
+                    logger.info("Converted " + jsonFilePath + " to " + binaryStorage.getInventoryFilePath());
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to convert " + jsonFilePath + " to binary: " + StringUtil.getDetails(e));
+            }
+        }
+        return new JournaledInventoryStorage(binaryStorage, storageSettings);
     }
 
 
@@ -105,42 +215,110 @@ public class MainApp extends Application {
         //
         // return new ModelManager(initialData, userPrefs);
 
-        Optional<ReadOnlyFinanceAccount> optionalFinanceAccount;
-        ReadOnlyFinanceAccount initialFinanceAccount;
+        // the stores are independent, so they are read at the same time
+        CompletableFuture<ReadOnlyFinanceAccount> financeAccountFuture = CompletableFuture.supplyAsync(() ->
+                logTime("Reading finance account", () -> readFinanceAccount(storage)), startupExecutor);
+        CompletableFuture<ReadOnlyInventory> inventoryFuture = CompletableFuture.supplyAsync(() ->
+                logTime("Reading inventory", () -> readInventory(storage)), startupExecutor);
+
+        ReadOnlyFinanceAccount financeAccount = financeAccountFuture.join();
+        ReadOnlyInventory inventory = inventoryFuture.join();
+        Optional<FinanceIdRenumbering> idRenumbering = financeAccount.getIdRenumbering();
+        if (idRenumbering.isPresent()) {
+            inventory = renumberFinanceIds(storage, financeAccount, inventory, idRenumbering.get());
+        }
+        return new ModelManager(financeAccount, inventory, userPrefs);
+    }
+
+
+    /**
+     * Links {@code inventory} to the IDs that the finance records were renumbered to when they were read, and saves
+     * both. The inventory is saved first, so that if the finance account fails to be saved, renumbering again on
+     * the next start leaves the inventory as it is.
+     */
+    private ReadOnlyInventory renumberFinanceIds(Storage storage, ReadOnlyFinanceAccount financeAccount,
+            ReadOnlyInventory inventory, FinanceIdRenumbering idRenumbering) {
+        logger.info("Renumbered " + idRenumbering.size() + " finance records written by an older version");
+        Inventory renumberedInventory = new Inventory(inventory);
+        renumberedInventory.renumberFinanceIds(idRenumbering);
+        try {
+            storage.saveInventory(renumberedInventory);
+            storage.saveFinanceAccount(financeAccount);
+        } catch (IOException e) {
+            logger.warning("Failed to save the renumbered finance records: " + StringUtil.getDetails(e));
+        }
+        return renumberedInventory;
+    }
 
-        Optional<ReadOnlyInventory> optionalInventory;
-        ReadOnlyInventory initialInventory;
 
+    /**
+     * Returns the finance account in {@code storage}.
+     * An empty finance account will be used instead if the data file is not found or cannot be read.
+     */
+    private ReadOnlyFinanceAccount readFinanceAccount(Storage storage) {
         try {
-            optionalFinanceAccount = storage.readFinanceAccount();
+            Optional<ReadOnlyFinanceAccount> optionalFinanceAccount = storage.readFinanceAccount();
             if (optionalFinanceAccount.isEmpty()) {
                 logger.info("Data file not found. Will be starting with an empty finance account!");
             }
-            initialFinanceAccount = optionalFinanceAccount.orElseGet(FinanceAccount::new);
+            return optionalFinanceAccount.orElseGet(FinanceAccount::new);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty finance account!");
-            initialFinanceAccount = new FinanceAccount();
+            backUpUnreadableFiles(storage.getFinanceAccountFilePath(),
+                    JournaledFinanceAccountStorage.getJournalFilePath(storage.getFinanceAccountFilePath()));
+            return new FinanceAccount();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty finance account!");
-            initialFinanceAccount = new FinanceAccount();
+            return new FinanceAccount();
         }
+    }
 
+
+    /**
+     * Returns the inventory in {@code storage}.
+     * An empty inventory will be used instead if the data file is not found or cannot be read.
+     */
+    private ReadOnlyInventory readInventory(Storage storage) {
         try {
-            optionalInventory = storage.readInventory();
+            Optional<ReadOnlyInventory> optionalInventory = storage.readInventory();
             if (optionalInventory.isEmpty()) {
                 logger.info("Data file not found. Will be starting with an empty inventory!");
             }
-            initialInventory = optionalInventory.orElseGet(Inventory::new);
+            return optionalInventory.orElseGet(Inventory::new);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty inventory!");
-            initialInventory = new Inventory();
+            backUpUnreadableFiles(storage.getInventoryFilePath(),
+                    JournaledInventoryStorage.getJournalFilePath(storage.getInventoryFilePath()));
+            return new Inventory();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty inventory!");
-            initialInventory = new Inventory();
+            return new Inventory();
         }
+    }
+
 
-        return new ModelManager(initialFinanceAccount, initialInventory, userPrefs);
+    /**
+     * Copies a data file that could not be read, and the journal of changes kept next to it, to backups next to
+     * them, so that neither is lost when the empty data that replaces them is saved.
+     */
+    private void backUpUnreadableFiles(Path filePath, Path journalFilePath) {
+        backUpUnreadableFile(filePath);
+        backUpUnreadableFile(journalFilePath);
+    }
+
+
+    private void backUpUnreadableFile(Path filePath) {
+        if (!FileUtil.isFileExists(filePath)) {
+            return;
+        }
 
+        Path backupPath = filePath.resolveSibling(filePath.getFileName() + ".bak");
+        try {
+            Files.copy(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("Unreadable data file backed up to " + backupPath);
+        } catch (IOException e) {
+            logger.warning("Failed to back up unreadable data file " + filePath + ": " + StringUtil.getDetails(e));
+        }
     }
 
 
@@ -177,12 +355,20 @@ public class MainApp extends Application {
         }
 
         //Update config file in case it was missing to begin with or there are new/unused fields
+        //The file is saved in the background, as nothing else reads it until the next start up
+        Config configToSave = initializedConfig;
+        Path configFilePathToSave = configFilePathUsed;
+        startupExecutor.execute(() -> saveConfig(configToSave, configFilePathToSave));
+        return initializedConfig;
+    }
+
+
+    private void saveConfig(Config config, Path configFilePath) {
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            ConfigUtil.saveConfig(config, configFilePath);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-        return initializedConfig;
     }
 
 
@@ -209,13 +395,20 @@ public class MainApp extends Application {
         }
 
         //Update prefs file in case it was missing to begin with or there are new/unused fields
+        //The file is saved in the background, as nothing else reads it until the next start up
+        UserPrefs prefsToSave = initializedPrefs;
+        startupExecutor.execute(() -> savePrefs(storage, prefsToSave));
+
+        return initializedPrefs;
+    }
+
+
+    private void savePrefs(UserPrefsStorage storage, UserPrefs prefs) {
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            storage.saveUserPrefs(prefs);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
     }
 
 
@@ -229,6 +422,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        logger.info("Storage statistics: " + storage.getSaveStatistics());
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -10,6 +10,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_INVENTORY_RECORDS_LISTED_OVERVIEW = "%1$d inventory records listed!";
+    public static final String MESSAGE_FINANCE_RECORDS_LISTED_OVERVIEW = "%1$d finance records listed!";
     public static final String MESSAGE_INVALID_INVENTORY_DISPLAYED_INDEX = "The inventory index provided is invalid";
 
 }
@@ -0,0 +1,147 @@
+package nustorage.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the settings of the storage component.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    /**
+     * Formats in which the finance account and inventory data files can be stored.
+     */
+    public enum DataFileFormat {
+        /** Human-readable Json, which can be edited by hand. */
+        JSON,
+        /** Compact binary, which is much faster to read and write. */
+        BINARY
+    }
+
+    private static final boolean DEFAULT_JOURNAL_ENABLED = true;
+    private static final int DEFAULT_JOURNAL_SNAPSHOT_INTERVAL = 100;
+    private static final boolean DEFAULT_ASYNC_SAVE_ENABLED = true;
+    private static final long DEFAULT_MAX_SAVE_DELAY_MILLIS = 1000;
+    private static final boolean DEFAULT_DATA_FILE_PRETTY_PRINTED = false;
+    private static final DataFileFormat DEFAULT_DATA_FILE_FORMAT = DataFileFormat.JSON;
+    /** Archiving is off by default; it is turned on by setting {@code recentFinanceMonths} in the preferences file. */
+    private static final int DEFAULT_RECENT_FINANCE_MONTHS = 0;
+
+    private final boolean journalEnabled;
+    private final int journalSnapshotInterval;
+    private final boolean asyncSaveEnabled;
+    private final long maxSaveDelayMillis;
+    private final boolean dataFilePrettyPrinted;
+    private final DataFileFormat dataFileFormat;
+    private final int recentFinanceMonths;
+
+    /**
+     * Constructs a {@code StorageSettings} with the default values.
+     */
+    public StorageSettings() {
+        journalEnabled = DEFAULT_JOURNAL_ENABLED;
+        journalSnapshotInterval = DEFAULT_JOURNAL_SNAPSHOT_INTERVAL;
+        asyncSaveEnabled = DEFAULT_ASYNC_SAVE_ENABLED;
+        maxSaveDelayMillis = DEFAULT_MAX_SAVE_DELAY_MILLIS;
+        dataFilePrettyPrinted = DEFAULT_DATA_FILE_PRETTY_PRINTED;
+        dataFileFormat = DEFAULT_DATA_FILE_FORMAT;
+        recentFinanceMonths = DEFAULT_RECENT_FINANCE_MONTHS;
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified values.
+     *
+     * @param journalEnabled whether changes are appended to a journal instead of rewriting the data files.
+     * @param journalSnapshotInterval number of journal entries after which a full snapshot is written.
+     * @param asyncSaveEnabled whether data is saved by a background thread instead of the thread running commands.
+     * @param maxSaveDelayMillis longest time in milliseconds that a change may wait before it is saved.
+     * @param dataFilePrettyPrinted whether the Json in the data files is indented over multiple lines.
+     * @param dataFileFormat format of the finance account and inventory data files.
+     * @param recentFinanceMonths number of months of finance records kept in the finance account data file and
+     *                            loaded at start up, or 0 to keep all of them there instead of archiving older ones.
+     */
+    public StorageSettings(boolean journalEnabled, int journalSnapshotInterval,
+                           boolean asyncSaveEnabled, long maxSaveDelayMillis, boolean dataFilePrettyPrinted,
+                           DataFileFormat dataFileFormat, int recentFinanceMonths) {
+        Objects.requireNonNull(dataFileFormat);
+        assert journalSnapshotInterval > 0 : "Journal snapshot interval must be positive!";
+        assert maxSaveDelayMillis >= 0 : "Maximum save delay must not be negative!";
+        assert recentFinanceMonths >= 0 : "Number of recent finance months must not be negative!";
+
+        this.journalEnabled = journalEnabled;
+        this.journalSnapshotInterval = journalSnapshotInterval;
+        this.asyncSaveEnabled = asyncSaveEnabled;
+        this.maxSaveDelayMillis = maxSaveDelayMillis;
+        this.dataFilePrettyPrinted = dataFilePrettyPrinted;
+        this.dataFileFormat = dataFileFormat;
+        this.recentFinanceMonths = recentFinanceMonths;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public int getJournalSnapshotInterval() {
+        return journalSnapshotInterval;
+    }
+
+    public boolean isAsyncSaveEnabled() {
+        return asyncSaveEnabled;
+    }
+
+    public long getMaxSaveDelayMillis() {
+        return maxSaveDelayMillis;
+    }
+
+    public boolean isDataFilePrettyPrinted() {
+        return dataFilePrettyPrinted;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public int getRecentFinanceMonths() {
+        return recentFinanceMonths;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StorageSettings)) { //this handles null as well.
+            return false;
+        }
+
+        StorageSettings o = (StorageSettings) other;
+
+        return journalEnabled == o.journalEnabled
+                && journalSnapshotInterval == o.journalSnapshotInterval
+                && asyncSaveEnabled == o.asyncSaveEnabled
+                && maxSaveDelayMillis == o.maxSaveDelayMillis
+                && dataFilePrettyPrinted == o.dataFilePrettyPrinted
+                && dataFileFormat == o.dataFileFormat
+                && recentFinanceMonths == o.recentFinanceMonths;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(journalEnabled, journalSnapshotInterval, asyncSaveEnabled, maxSaveDelayMillis,
+                dataFilePrettyPrinted, dataFileFormat, recentFinanceMonths);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Journal enabled : " + journalEnabled + "\n");
+        sb.append("Journal snapshot interval : " + journalSnapshotInterval + "\n");
+        sb.append("Async save enabled : " + asyncSaveEnabled + "\n");
+        sb.append("Max save delay (ms) : " + maxSaveDelayMillis + "\n");
+        sb.append("Data file pretty printed : " + dataFilePrettyPrinted + "\n");
+        sb.append("Data file format : " + dataFileFormat + "\n");
+        sb.append("Recent finance months : " + recentFinanceMonths);
+        return sb.toString();
+    }
+}
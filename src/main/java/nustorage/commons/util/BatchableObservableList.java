@@ -0,0 +1,136 @@
+package nustorage.commons.util;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javafx.collections.ModifiableObservableListBase;
+
+
+/**
+ * An observable list of the elements in a backing list, whose changes can be published in batches.
+ * <p>
+ * Changes made between {@link #beginBatch()} and the matching {@link #endBatch()} are not published as they are
+ * made, but together when the batch ends, as a single {@code Change} with a sub-change for each range of elements
+ * that changed. Listeners, such as a {@code FilteredList} and the {@code ListView} showing it, are therefore only
+ * notified once for the whole batch. Batches can be nested, in which case the changes are published when the
+ * outermost batch ends.
+ * <p>
+ * The backing list must not be modified except through this list.
+ *
+ * @param <E> type of the elements in the list.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    private final List<E> backingList;
+
+
+    /**
+     * Creates an observable list of the elements in {@code backingList}.
+     */
+    public BatchableObservableList(List<E> backingList) {
+        requireNonNull(backingList);
+        this.backingList = backingList;
+    }
+
+
+    /**
+     * Starts a batch of changes, which are published when the matching {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, and publishes its changes if it is the
+     * outermost batch.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        return addAll(size(), elements);
+    }
+
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (elements.isEmpty()) {
+            return false;
+        }
+
+        beginChange();
+        try {
+            backingList.addAll(index, elements);
+            modCount++;
+            nextAdd(index, index + elements.size());
+            return true;
+        } finally {
+            endChange();
+        }
+    }
+
+
+    @Override
+    public void clear() {
+        if (isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(backingList);
+            backingList.clear();
+            modCount++;
+            nextRemove(0, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+        modCount++;
+    }
+
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+
+    @Override
+    protected E doRemove(int index) {
+        E removed = backingList.remove(index);
+        modCount++;
+        return removed;
+    }
+
+}
@@ -1,10 +1,18 @@
 package nustorage.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,9 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +86,101 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, see {@link #writeToFileAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, so that after a crash the file holds
+     * either all of its old content or all of the new content.
+     * The content is written to a temporary file next to {@code file} and forced to the disk, before the
+     * temporary file is renamed over {@code file}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel),
+                    WRITE_BUFFER_SIZE);
+            contentWriter.writeTo(outputStream);
+            outputStream.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectoryOf(file);
+    }
+
+    /**
+     * Appends given string to a file, and forces it to the disk before returning.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the content of a file as a read-only buffer.
+     * The file is mapped into memory, so that only the parts that are read are loaded from the disk.
+     * On Windows, where a mapped file cannot be replaced until the mapping is garbage collected,
+     * the file is read into memory instead.
+     */
+    public static ByteBuffer mapFile(Path file) throws IOException {
+        if (IS_WINDOWS) {
+            return ByteBuffer.wrap(Files.readAllBytes(file)).asReadOnlyBuffer();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Forces the directory entry of {@code file} to the disk, so that a rename survives a crash.
+     * Not every platform allows directories to be opened, in which case this does nothing.
+     */
+    private static void forceDirectoryOf(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be forced on this platform
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        /**
+         * Writes the content to {@code outputStream}, without closing it.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
     }
 
 }
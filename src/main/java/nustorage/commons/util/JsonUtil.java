@@ -2,19 +2,29 @@ package nustorage.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +32,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import nustorage.commons.core.LogsCenter;
 import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -76,6 +87,77 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array {@code arrayFieldName} of the Json object in the given file one at a time,
+     * passing each element to {@code elementHandler} as soon as it is parsed.
+     * Unlike {@link #readJsonFile(Path, Class)}, neither the file nor the whole array is ever held in memory.
+     * Other fields of the Json object are skipped.
+     * @param filePath cannot be null.
+     * @param arrayFieldName name of the field of the top-level Json object that holds the array.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @param elementHandler receives the elements in the order they appear in the file.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataConversionException if the file format is not as expected, or {@code elementHandler} rejects
+     *     an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementHandler<T> elementHandler) throws DataConversionException {
+        return readJsonArrayFile(filePath, arrayFieldName, elementClass, elementHandler, (fieldName, value) -> {});
+    }
+
+    /**
+     * Reads the file like {@link #readJsonArrayFile(Path, String, Class, JsonElementHandler)}, but passes the
+     * other fields of the Json object to {@code fieldHandler} instead of skipping them.
+     * @param fieldHandler receives the other fields in the order they appear in the file.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementHandler<T> elementHandler, JsonFieldHandler fieldHandler) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementHandler);
+        requireNonNull(fieldHandler);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a Json object in " + filePath);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!arrayFieldName.equals(fieldName) || valueToken != JsonToken.START_ARRAY) {
+                    fieldHandler.handle(fieldName, objectMapper.readTree(parser));
+                    continue;
+                }
+
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.getCurrentToken() == null) {
+                        throw new IOException("Unexpected end of file in " + filePath);
+                    }
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new IOException("Unexpected end of file in " + filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -91,6 +173,62 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves a Json object with a single field {@code arrayFieldName}, holding an array with one element
+     * for each of the given {@code elements}, to the specified file.
+     * The elements are converted and written one at a time, straight to the file, so neither the array nor
+     * the Json text is ever held in memory.
+     * Overwrites existing file atomically if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @param arrayFieldName name of the field that holds the array.
+     * @param elements the objects to save, in order.
+     * @param toJsonAdapted converts each object into the instance that is written to the file.
+     * @param isPrettyPrinted whether the Json is indented over multiple lines, or written without any whitespace.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <S> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<S> elements,
+            Function<? super S, ?> toJsonAdapted, boolean isPrettyPrinted) throws IOException {
+        saveJsonArrayFile(filePath, Map.of(), arrayFieldName, elements, toJsonAdapted, isPrettyPrinted);
+    }
+
+    /**
+     * Saves the file like {@link #saveJsonArrayFile(Path, String, Iterable, Function, boolean)}, with the
+     * {@code otherFields} written before the array.
+     * @param otherFields values of the other fields of the Json object, by field name.
+     */
+    public static <S> void saveJsonArrayFile(Path filePath, Map<String, ?> otherFields, String arrayFieldName,
+            Iterable<S> elements, Function<? super S, ?> toJsonAdapted, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(otherFields);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(toJsonAdapted);
+
+        ObjectWriter elementWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        FileUtil.writeToFileAtomically(filePath, outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                if (isPrettyPrinted) {
+                    generator.useDefaultPrettyPrinter();
+                }
+
+                generator.writeStartObject();
+                for (Map.Entry<String, ?> field : otherFields.entrySet()) {
+                    generator.writeFieldName(field.getKey());
+                    elementWriter.writeValue(generator, field.getValue());
+                }
+                generator.writeArrayFieldStart(arrayFieldName);
+                for (S element : elements) {
+                    elementWriter.writeValue(generator, toJsonAdapted.apply(element));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +248,44 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any line breaks.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return single-line JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Receives the elements read by {@link #readJsonArrayFile(Path, String, Class, JsonElementHandler)}.
+     * @param <T> The type of the elements
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+
+        /**
+         * Handles a single element of the array.
+         * @throws IllegalValueException if the element violates any data constraints.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Receives the fields other than the array read by
+     * {@link #readJsonArrayFile(Path, String, Class, JsonElementHandler, JsonFieldHandler)}.
+     */
+    @FunctionalInterface
+    public interface JsonFieldHandler {
+
+        /**
+         * Handles a single field of the Json object.
+         * @throws IllegalValueException if the value violates any data constraints.
+         */
+        void handle(String fieldName, JsonNode value) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,347 @@
+package nustorage.commons.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of an observable source list, either in the order of the source or sorted by a {@code long} key of each
+ * element. Elements with the same key are in the order of the source.
+ * <p>
+ * The key of each element is computed once, when the element is added to the view, and kept in an array in sorted
+ * order. An element added to or removed from the source is therefore placed or found with a binary search over
+ * the keys, without comparing elements, and the rest of the view is only shifted along. The view is only sorted
+ * again from scratch when its key changes or when the source changes too much at once, such as when it is
+ * refiltered. While it is not sorted, changes of the source are passed on as they are.
+ * <p>
+ * Keys must not change while their elements are in the source, which holds for immutable elements.
+ *
+ * @param <E> type of the elements in the list.
+ */
+public class KeySortedList<E> extends TransformationList<E, E> {
+
+    /** Most elements added or removed at once that are placed one by one, rather than by sorting them all again. */
+    private static final int MAX_INCREMENTAL_CHANGES = 32;
+
+    /** Key to sort the elements by, or null if they are in the order of the source. */
+    private ToLongFunction<? super E> sortKey;
+    private boolean isDescending;
+
+    // The sorted view, as arrays of the first size elements in sorted order, only used while there is a key.
+    private Object[] elements = new Object[0];
+    private long[] keys = new long[0];
+    /** Index in the source of each element. */
+    private int[] sourceIndexes = new int[0];
+    private int size;
+
+    /**
+     * Creates a view of {@code source}, in the order of the source until it is sorted.
+     */
+    public KeySortedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    /**
+     * Sorts the view by {@code sortKey}, largest first if {@code isDescending}, or puts it back in the order of the
+     * source if {@code sortKey} is null. Listeners are notified of the new order as a permutation.
+     */
+    public void setSortKey(ToLongFunction<? super E> sortKey, boolean isDescending) {
+        int[] oldSourceIndexes = isSorted() ? Arrays.copyOf(sourceIndexes, size) : null;
+        this.sortKey = sortKey;
+        this.isDescending = isDescending;
+        if (isSorted()) {
+            sortAll();
+        } else {
+            clearArrays();
+        }
+
+        int count = getSource().size();
+        if (count == 0) {
+            return;
+        }
+        // the view holds the same elements in another order
+        int[] viewIndexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            viewIndexes[isSorted() ? sourceIndexes[i] : i] = i;
+        }
+        int[] permutation = new int[count];
+        for (int i = 0; i < count; i++) {
+            permutation[i] = viewIndexes[oldSourceIndexes == null ? i : oldSourceIndexes[i]];
+        }
+        beginChange();
+        nextPermutation(0, count, permutation);
+        endChange();
+    }
+
+    public boolean isSorted() {
+        return sortKey != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (!isSorted()) {
+            return getSource().get(index);
+        }
+        checkIndex(index);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return isSorted() ? size : getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (!isSorted()) {
+            return index;
+        }
+        checkIndex(index);
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (!isSorted()) {
+            return index;
+        }
+        for (int i = 0; i < size; i++) {
+            if (sourceIndexes[i] == index) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        try {
+            if (!isSorted()) {
+                passOn(change);
+            } else if (isIncremental(change)) {
+                change.reset();
+                while (change.next()) {
+                    placeRemoved(change);
+                    placeAdded(change);
+                }
+            } else {
+                List<E> removed = new ArrayList<>(this);
+                sortAll();
+                if (!removed.isEmpty() || size > 0) {
+                    nextReplace(0, size, removed);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void passOn(Change<? extends E> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(from, to, change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(from, change.getRemoved());
+            } else {
+                nextAdd(from, to);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code change} only adds and removes a few elements, which are then placed one by one.
+     */
+    private static boolean isIncremental(Change<?> change) {
+        int changedCount = 0;
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                return false;
+            }
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+        }
+        return changedCount <= MAX_INCREMENTAL_CHANGES;
+    }
+
+    /**
+     * Removes the elements removed by {@code change} from the view, and moves the source indexes of the elements
+     * after them by the number of elements added and removed.
+     */
+    private void placeRemoved(Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        List<? extends E> removed = change.getRemoved();
+        for (int i = 0; i < removedSize; i++) {
+            E element = removed.get(i);
+            int index = indexOf(sortKey.applyAsLong(element), from + i);
+            assert index < size && sourceIndexes[index] == from + i : "Removed element is missing from the view!";
+            shiftArrays(index + 1, index);
+            nextRemove(index, element);
+        }
+        int offset = change.getAddedSize() - removedSize;
+        if (offset != 0) {
+            shiftSourceIndexes(from + removedSize, offset);
+        }
+    }
+
+    private void placeAdded(Change<? extends E> change) {
+        for (int sourceIndex = change.getFrom(); sourceIndex < change.getTo(); sourceIndex++) {
+            E element = getSource().get(sourceIndex);
+            long key = sortKey.applyAsLong(element);
+            int index = indexOf(key, sourceIndex);
+            ensureCapacity(size + 1);
+            shiftArrays(index, index + 1);
+            elements[index] = element;
+            keys[index] = key;
+            sourceIndexes[index] = sourceIndex;
+            nextAdd(index, index + 1);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the view before an element with {@code key} at {@code sourceIndex}.
+     */
+    private int indexOf(long key, int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(keys[middle], sourceIndexes[middle], key, sourceIndex) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compare(long key, int sourceIndex, long otherKey, int otherSourceIndex) {
+        int result = isDescending ? Long.compare(otherKey, key) : Long.compare(key, otherKey);
+        return result != 0 ? result : Integer.compare(sourceIndex, otherSourceIndex);
+    }
+
+    /**
+     * Sorts all the elements of the source again.
+     */
+    private void sortAll() {
+        List<? extends E> source = getSource();
+        size = source.size();
+        long[] sourceKeys = new long[size];
+        long minKey = Long.MAX_VALUE;
+        long maxKey = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            sourceKeys[i] = sortKey.applyAsLong(source.get(i));
+            minKey = Math.min(minKey, sourceKeys[i]);
+            maxKey = Math.max(maxKey, sourceKeys[i]);
+        }
+        int[] order = sortOrder(sourceKeys, minKey, maxKey);
+
+        elements = new Object[size];
+        keys = new long[size];
+        sourceIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = source.get(order[i]);
+            keys[i] = sourceKeys[order[i]];
+            sourceIndexes[i] = order[i];
+        }
+    }
+
+    /**
+     * Returns the source indexes in sorted order, given the key of each element and the smallest and largest keys.
+     */
+    private int[] sortOrder(long[] sourceKeys, long minKey, long maxKey) {
+        int count = sourceKeys.length;
+        int indexBits = 32 - Integer.numberOfLeadingZeros(Math.max(count - 1, 1));
+        long keyRange = maxKey - minKey;
+        if (keyRange >= 0 && keyRange < 1L << (63 - indexBits)) {
+            // the keys, counted from the first in the order, leave room for the source index after them in a long,
+            // so the elements are sorted as primitives, without boxing or comparators
+            long[] packed = new long[count];
+            for (int i = 0; i < count; i++) {
+                long rank = isDescending ? maxKey - sourceKeys[i] : sourceKeys[i] - minKey;
+                packed[i] = rank << indexBits | i;
+            }
+            Arrays.sort(packed);
+            long indexMask = (1L << indexBits) - 1;
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = (int) (packed[i] & indexMask);
+            }
+            return order;
+        }
+
+        Integer[] order = new Integer[count];
+        Arrays.setAll(order, i -> i);
+        Comparator<Integer> byKey = (first, second) ->
+                compare(sourceKeys[first], first, sourceKeys[second], second);
+        Arrays.sort(order, byKey);
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private void clearArrays() {
+        elements = new Object[0];
+        keys = new long[0];
+        sourceIndexes = new int[0];
+        size = 0;
+    }
+
+    /**
+     * Adds {@code offset} to every source index from {@code from} on, which does not change their order.
+     */
+    private void shiftSourceIndexes(int from, int offset) {
+        for (int i = 0; i < size; i++) {
+            if (sourceIndexes[i] >= from) {
+                sourceIndexes[i] += offset;
+            }
+        }
+    }
+
+    /**
+     * Moves the elements from {@code from} to the end so that they start at {@code to}, and updates the size.
+     */
+    private void shiftArrays(int from, int to) {
+        int count = size - from;
+        System.arraycopy(elements, from, elements, to, count);
+        System.arraycopy(keys, from, keys, to, count);
+        System.arraycopy(sourceIndexes, from, sourceIndexes, to, count);
+        size += to - from;
+        if (to < from) {
+            Arrays.fill(elements, size, size + from - to, null);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int length = Math.max(capacity, elements.length + (elements.length >> 1));
+            elements = Arrays.copyOf(elements, length);
+            keys = Arrays.copyOf(keys, length);
+            sourceIndexes = Arrays.copyOf(sourceIndexes, length);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package nustorage.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Matches the words of sentences against a set of keywords, ignoring case.
+ * <p>
+ * The keywords are put in lower case once, when the matcher is created, and the sentences are given as their words
+ * in lower case, as split by {@link StringUtil#toLowerCaseWords(String)}. Matching the words of a sentence is
+ * therefore a set lookup per word, without splitting strings or creating any objects. A keyword that is blank or
+ * has more than one word does not match any word.
+ */
+public class KeywordMatcher {
+
+    private final Set<String> lowerCaseKeywords = new HashSet<>();
+
+    /**
+     * Creates a matcher of the {@code keywords}.
+     */
+    public KeywordMatcher(Collection<String> keywords) {
+        requireNonNull(keywords);
+        for (String keyword : keywords) {
+            lowerCaseKeywords.add(keyword.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Returns true if any of the {@code lowerCaseWords} is one of the keywords.
+     */
+    public boolean matchesAny(List<String> lowerCaseWords) {
+        for (int i = 0; i < lowerCaseWords.size(); i++) {
+            if (lowerCaseKeywords.contains(lowerCaseWords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
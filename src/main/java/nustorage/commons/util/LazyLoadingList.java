@@ -0,0 +1,231 @@
+package nustorage.commons.util;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+
+/**
+ * A list whose elements are only loaded from their source when they are first read.
+ * <p>
+ * The list can be modified like an {@code ArrayList}: elements that are added or set are kept as they are, and
+ * elements that are moved by an insertion or removal keep their place in the source.
+ * Copies made with {@link #LazyLoadingList(LazyLoadingList)} share the source, so each element is loaded at most
+ * once, and every copy sees the same object for it. The source may be read from several threads, but each list
+ * must only be modified by one thread at a time. A list may be copied on one thread while it is read on another,
+ * as long as it is not modified meanwhile.
+ *
+ * @param <E> type of the elements in the list.
+ */
+public class LazyLoadingList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int NOT_FROM_SOURCE = -1;
+
+    private final Source<E> source;
+
+    /** Elements already read through this list, or null for elements not read yet. */
+    private Object[] elements;
+    /** Indexes in the source of the elements in this list, or {@code NOT_FROM_SOURCE}. */
+    private int[] sourceIndexes;
+    private int size;
+
+
+    /**
+     * Creates a list of {@code size} elements, where the element at index {@code i} is loaded by
+     * {@code loader.apply(i)} when it is first read.
+     * {@code loader} must never return null, and may be called from any thread.
+     */
+    public LazyLoadingList(int size, IntFunction<? extends E> loader) {
+        requireNonNull(loader);
+        assert size >= 0 : "Size must not be negative!";
+
+        this.source = new Source<>(size, loader);
+        this.elements = new Object[size];
+        this.sourceIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            sourceIndexes[i] = i;
+        }
+        this.size = size;
+    }
+
+
+    /**
+     * Creates a copy of {@code toBeCopied}, without loading any of its elements.
+     */
+    public LazyLoadingList(LazyLoadingList<E> toBeCopied) {
+        requireNonNull(toBeCopied);
+
+        this.source = toBeCopied.source;
+        this.sourceIndexes = Arrays.copyOf(toBeCopied.sourceIndexes, toBeCopied.size);
+        this.size = toBeCopied.size;
+        // elements from the source are looked up in it again rather than read from toBeCopied, which may be loading
+        // them on another thread while it is copied
+        this.elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            if (sourceIndexes[i] == NOT_FROM_SOURCE) {
+                elements[i] = toBeCopied.elements[i];
+            }
+        }
+    }
+
+
+    /**
+     * Returns a modifiable copy of {@code list}. If {@code list} is a {@code LazyLoadingList}, the copy is one too,
+     * and none of its elements are loaded.
+     */
+    public static <E> List<E> copyOf(List<E> list) {
+        requireNonNull(list);
+
+        if (list instanceof LazyLoadingList) {
+            return new LazyLoadingList<>((LazyLoadingList<E>) list);
+        }
+        return new ArrayList<>(list);
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+
+        Object element = elements[index];
+        if (element == null) {
+            element = source.load(sourceIndexes[index]);
+            elements[index] = element;
+        }
+        return (E) element;
+    }
+
+
+    @Override
+    public E set(int index, E element) {
+        requireNonNull(element);
+
+        E oldElement = get(index);
+        elements[index] = element;
+        sourceIndexes[index] = NOT_FROM_SOURCE;
+        return oldElement;
+    }
+
+
+    @Override
+    public void add(int index, E element) {
+        addAll(index, List.of(element));
+    }
+
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        checkIndex(index, size + 1);
+
+        Object[] added = collection.toArray();
+        for (Object element : added) {
+            requireNonNull(element);
+        }
+        if (added.length == 0) {
+            return false;
+        }
+
+        modCount++;
+        ensureCapacity(size + added.length);
+        System.arraycopy(elements, index, elements, index + added.length, size - index);
+        System.arraycopy(sourceIndexes, index, sourceIndexes, index + added.length, size - index);
+        System.arraycopy(added, 0, elements, index, added.length);
+        Arrays.fill(sourceIndexes, index, index + added.length, NOT_FROM_SOURCE);
+        size += added.length;
+        return true;
+    }
+
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return addAll(size, collection);
+    }
+
+
+    @Override
+    public E remove(int index) {
+        E removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        modCount++;
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        System.arraycopy(sourceIndexes, toIndex, sourceIndexes, fromIndex, size - toIndex);
+        Arrays.fill(elements, size - (toIndex - fromIndex), size, null);
+        size -= toIndex - fromIndex;
+    }
+
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int newLength = Math.max(capacity, elements.length + (elements.length >> 1));
+            elements = Arrays.copyOf(elements, newLength);
+            sourceIndexes = Arrays.copyOf(sourceIndexes, newLength);
+        }
+    }
+
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+
+    /**
+     * The elements that a list and its copies are loaded from.
+     */
+    private static class Source<E> {
+
+        private final IntFunction<? extends E> loader;
+        private final AtomicReferenceArray<E> loaded;
+
+        Source(int size, IntFunction<? extends E> loader) {
+            this.loader = loader;
+            this.loaded = new AtomicReferenceArray<>(size);
+        }
+
+        /**
+         * Returns the element at {@code index}, loading it if no list has read it yet.
+         */
+        E load(int index) {
+            E element = loaded.get(index);
+            if (element == null) {
+                E newElement = loader.apply(index);
+                assert newElement != null : "Loader must not return null!";
+                // if another thread loaded it first, use that element so that all lists see the same object
+                element = loaded.compareAndExchange(index, null, newElement);
+                if (element == null) {
+                    element = newElement;
+                }
+            }
+            return element;
+        }
+    }
+
+}
@@ -5,7 +5,10 @@ import static nustorage.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +41,27 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of the {@code sentence} in lower case, which are the words
+     * {@link #containsWordIgnoreCase(String, String)} matches a word against.
+     *   <br>examples:<pre>
+     *       toLowerCaseWords("ABc  def") == ["abc", "def"]
+     *       toLowerCaseWords(" ") == []
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static List<String> toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        return words;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -2,7 +2,9 @@ package nustorage.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import nustorage.commons.core.GuiSettings;
 import nustorage.logic.commands.CommandResult;
 import nustorage.logic.commands.exceptions.CommandException;
@@ -10,6 +12,7 @@ import nustorage.logic.parser.exceptions.ParseException;
 import nustorage.model.ReadOnlyAddressBook;
 import nustorage.model.person.Person;
 import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceTotal;
 import nustorage.model.record.InventoryRecord;
 
 /**
@@ -25,6 +28,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Previews the results of the command being typed, without executing it.
+     * While a {@code find_inventory} command is typed, the inventory list shows the records with words that start
+     * with, or are misspellings of, its keywords. Once the command is no longer being typed, the whole inventory is
+     * shown again, unless a command was executed.
+     * @param commandText The command typed so far by the user.
+     */
+    void previewCommand(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -37,8 +49,14 @@ public interface Logic {
 
     ObservableList<InventoryRecord> getFilteredInventory();
 
+    /** Returns the inventory records that are low on stock, which is updated whenever the inventory changes. */
+    ObservableSet<InventoryRecord> getLowStockInventory();
+
     ObservableList<FinanceRecord> getFilteredFinanceList();
 
+    /** Returns the total of all the finance records, which is updated whenever the finance account changes. */
+    ObservableValue<FinanceTotal> getFinanceTotal();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -2,13 +2,18 @@ package nustorage.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import nustorage.commons.core.GuiSettings;
 import nustorage.commons.core.LogsCenter;
 import nustorage.logic.commands.Command;
 import nustorage.logic.commands.CommandResult;
+import nustorage.logic.commands.FindInventoryRecordCommand;
 import nustorage.logic.commands.exceptions.CommandException;
 import nustorage.logic.parser.NuStorageParser;
 import nustorage.logic.parser.exceptions.ParseException;
@@ -16,7 +21,9 @@ import nustorage.model.Model;
 import nustorage.model.ReadOnlyAddressBook;
 import nustorage.model.person.Person;
 import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceTotal;
 import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.exceptions.FinanceArchiveException;
 import nustorage.storage.Storage;
 
 /**
@@ -24,12 +31,16 @@ import nustorage.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String ARCHIVE_ERROR_MESSAGE = "Could not read archived data: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final NuStorageParser nuStorageParser;
 
+    /** Whether the inventory list shows the preview of a command being typed. */
+    private boolean isPreviewing;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -42,22 +53,53 @@ public class LogicManager implements Logic {
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        isPreviewing = false;
 
         CommandResult commandResult;
         Command command = nuStorageParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (FinanceArchiveException fae) {
+            throw new CommandException(ARCHIVE_ERROR_MESSAGE + fae.getMessage(), fae);
+        } finally {
+            // the changes made by a command are undone together, even if it failed part way
+            model.commitChanges();
+        }
 
+        // the inventory is saved even if saving the finance account failed, so that neither change is lost
+        IOException saveFailure = null;
         try {
             // storage.saveAddressBook(model.getAddressBook());
             storage.saveFinanceAccount(model.getFinanceAccount());
+        } catch (IOException ioe) {
+            saveFailure = ioe;
+        }
+        try {
             storage.saveInventory(model.getInventory());
         } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            saveFailure = saveFailure == null ? ioe : saveFailure;
+        }
+        if (saveFailure != null) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + saveFailure, saveFailure);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void previewCommand(String commandText) {
+        String[] commandWordAndArguments = commandText.trim().split("\\s+", 2);
+        if (commandWordAndArguments.length == 2
+                && commandWordAndArguments[0].equals(FindInventoryRecordCommand.COMMAND_WORD)) {
+            List<String> keywords = Arrays.asList(commandWordAndArguments[1].split("\\s+"));
+            model.updateFilteredInventoryListToSimilarWords(keywords);
+            isPreviewing = true;
+        } else if (isPreviewing) {
+            model.updateFilteredInventoryList(Model.PREDICATE_SHOW_ALL_INVENTORY);
+            isPreviewing = false;
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -72,11 +114,21 @@ public class LogicManager implements Logic {
         return model.getFilteredInventory();
     }
 
+    @Override
+    public ObservableSet<InventoryRecord> getLowStockInventory() {
+        return model.getLowStockInventory();
+    }
+
     @Override
     public ObservableList<FinanceRecord> getFilteredFinanceList() {
         return model.getFilteredFinanceList();
     }
 
+    @Override
+    public ObservableValue<FinanceTotal> getFinanceTotal() {
+        return model.financeTotalProperty();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
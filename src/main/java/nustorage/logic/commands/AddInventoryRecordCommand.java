@@ -43,11 +43,13 @@ public class AddInventoryRecordCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.addInventoryRecord(newInventoryRecord);
-        if (newFinanceRecord.isPresent()) {
-            newInventoryRecord.setFinanceRecord(newFinanceRecord.get());
-            model.addFinanceRecord(newFinanceRecord.get());
-        }
+        model.batch(batchModel -> {
+            batchModel.addInventoryRecord(newInventoryRecord);
+            if (newFinanceRecord.isPresent()) {
+                newInventoryRecord.setFinanceRecord(newFinanceRecord.get());
+                batchModel.addFinanceRecord(newFinanceRecord.get());
+            }
+        });
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, newInventoryRecord));
     }
@@ -0,0 +1,27 @@
+package nustorage.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import nustorage.model.Model;
+import nustorage.model.record.InventoryRecord;
+
+/**
+ * Lists the inventory records whose quantity is below their reorder threshold. The records are looked up in the
+ * set of records low on stock that the inventory keeps up to date, rather than by checking every record.
+ */
+public class AlertInventoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "alert_inventory";
+
+    public static final String MESSAGE_SUCCESS = "%1$d inventory records are low on stock!";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<InventoryRecord> lowStockRecords = model.getLowStockInventory();
+        model.updateFilteredInventoryList(lowStockRecords::contains);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lowStockRecords.size()));
+    }
+}
@@ -76,7 +76,8 @@ public class EditFinanceCommand extends Command {
         double updatedAmount = editFinanceDescriptor.getAmount().orElse(financeRecord.getAmount());
         LocalDateTime updatedDatetime = editFinanceDescriptor.getDatetime().orElse(financeRecord.getDatetime());
 
-        return new FinanceRecord(updatedAmount, updatedDatetime);
+        // keeps the ID, so that records linked to the finance record still find it
+        return new FinanceRecord(financeRecord.getID(), updatedAmount, updatedDatetime);
     }
 
     @Override
@@ -3,6 +3,7 @@ package nustorage.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static nustorage.logic.parser.CliSyntax.PREFIX_ITEM_DESCRIPTION;
 import static nustorage.logic.parser.CliSyntax.PREFIX_QUANTITY;
+import static nustorage.logic.parser.CliSyntax.PREFIX_THRESHOLD;
 import static nustorage.model.Model.PREDICATE_SHOW_ALL_INVENTORY;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,8 @@ import nustorage.commons.util.CollectionUtil;
 import nustorage.logic.commands.exceptions.CommandException;
 import nustorage.model.Model;
 import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.StockLedger;
+import nustorage.model.record.StockMovement;
 
 /**
  * Edits the details of an existing item in the Inventory
@@ -27,7 +30,8 @@ public class EditInventoryCommand extends Command {
             + "Existing values will be overwritten by the input values.\n"
             + "Parameters: INDEX (must be a positive integer) "
             + "[" + PREFIX_QUANTITY + "QUANTITY] "
-            + "[" + PREFIX_ITEM_DESCRIPTION + "DESCRIPTION] ";
+            + "[" + PREFIX_ITEM_DESCRIPTION + "DESCRIPTION] "
+            + "[" + PREFIX_THRESHOLD + "THRESHOLD] ";
 
     public static final String MESSAGE_EDIT_INVENTORY_SUCCESS = "Edited Item: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
@@ -75,6 +79,9 @@ public class EditInventoryCommand extends Command {
     /**
      * Creates and returns a {@code InventoryRecord} with the details of {@code inventoryRecord}
      * edited with {@code editPersonDescriptor}.
+     * A change in quantity is appended to the movements of the item, which are kept if it is renamed, as is
+     * its reorder threshold unless a new one is given. The edited record is timestamped with the time of the edit,
+     * which it is sorted by as its last update.
      */
     private static InventoryRecord createEditedInventoryRecord(
             InventoryRecord inventoryRecord, EditInventoryDescriptor editInventoryDescriptor) {
@@ -82,9 +89,16 @@ public class EditInventoryCommand extends Command {
 
         Integer updatedQuantity = editInventoryDescriptor.getQuantity().orElse(inventoryRecord.getQuantity());
         String updatedDescription = editInventoryDescriptor.getDescription().orElse(inventoryRecord.getItemName());
-        LocalDateTime dateTime = inventoryRecord.getDateTime();
+        int updatedThreshold = editInventoryDescriptor.getThreshold().orElse(inventoryRecord.getThreshold());
+        LocalDateTime dateTime = LocalDateTime.now();
 
-        return new InventoryRecord(updatedDescription, updatedQuantity, dateTime);
+        StockLedger ledger = inventoryRecord.getLedger();
+        int delta = updatedQuantity - inventoryRecord.getQuantity();
+        if (delta != 0) {
+            ledger = ledger.append(new StockMovement(delta, dateTime));
+        }
+
+        return new InventoryRecord(updatedDescription, dateTime, ledger, updatedThreshold);
     }
 
     @Override
@@ -112,6 +126,7 @@ public class EditInventoryCommand extends Command {
     public static class EditInventoryDescriptor {
         private Integer quantity;
         private String description;
+        private Integer threshold;
 
 
         public EditInventoryDescriptor() {}
@@ -123,16 +138,17 @@ public class EditInventoryCommand extends Command {
         public EditInventoryDescriptor(EditInventoryDescriptor toCopy) {
             setQuantity(toCopy.quantity);
             setDescription(toCopy.description);
+            setThreshold(toCopy.threshold);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(quantity, description);
+            return CollectionUtil.isAnyNonNull(quantity, description, threshold);
         }
 
-        public void setQuantity(int quantity) {
+        public void setQuantity(Integer quantity) {
             this.quantity = quantity;
         }
 
@@ -147,6 +163,14 @@ public class EditInventoryCommand extends Command {
         public Optional<String> getDescription() {
             return Optional.ofNullable(description);
         }
+
+        public void setThreshold(Integer threshold) {
+            this.threshold = threshold;
+        }
+
+        public Optional<Integer> getThreshold() {
+            return Optional.ofNullable(threshold);
+        }
         @Override
         public boolean equals(Object other) {
             // short circuit if same object
@@ -163,7 +187,8 @@ public class EditInventoryCommand extends Command {
             EditInventoryDescriptor e = (EditInventoryDescriptor) other;
 
             return getQuantity().equals(e.getQuantity())
-                    && getDescription().equals(e.getDescription());
+                    && getDescription().equals(e.getDescription())
+                    && getThreshold().equals(e.getThreshold());
         }
     }
 }
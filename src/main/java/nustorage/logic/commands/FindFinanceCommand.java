@@ -0,0 +1,60 @@
+package nustorage.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.logic.parser.CliSyntax.PREFIX_FROM;
+import static nustorage.logic.parser.CliSyntax.PREFIX_ITEM_DESCRIPTION;
+import static nustorage.logic.parser.CliSyntax.PREFIX_MAX_AMOUNT;
+import static nustorage.logic.parser.CliSyntax.PREFIX_MIN_AMOUNT;
+import static nustorage.logic.parser.CliSyntax.PREFIX_TO;
+
+import nustorage.commons.core.Messages;
+import nustorage.model.Model;
+import nustorage.model.record.FinanceQuery;
+
+/**
+ * Finds and lists the finance records dated in a period, with amounts in a range and linked to inventory records
+ * with any of some keywords in their item names. The records are found through the date-time order, the amount
+ * order or the linked records, whichever leaves the fewest candidates to check.
+ */
+public class FindFinanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "find_finance";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the finance records that meet all the "
+            + "conditions given and displays them as a list with index numbers.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FROM + "[DATE] [TIME]] "
+            + "[" + PREFIX_TO + "[DATE] [TIME]] "
+            + "[" + PREFIX_MIN_AMOUNT + "AMOUNT] "
+            + "[" + PREFIX_MAX_AMOUNT + "AMOUNT] "
+            + "[" + PREFIX_ITEM_DESCRIPTION + "KEYWORD [MORE_KEYWORDS]...]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "2020-01-01 "
+            + PREFIX_MIN_AMOUNT + "100 "
+            + PREFIX_ITEM_DESCRIPTION + "iphone";
+
+    private final FinanceQuery query;
+
+    /**
+     * Creates a FindFinanceCommand to find the finance records that meet every condition of {@code query}.
+     */
+    public FindFinanceCommand(FinanceQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredFinanceList(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_FINANCE_RECORDS_LISTED_OVERVIEW, model.getFilteredFinanceList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindFinanceCommand // instanceof handles nulls
+                && query.equals(((FindFinanceCommand) other).query)); // state check
+    }
+}
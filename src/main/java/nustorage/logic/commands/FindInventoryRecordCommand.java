@@ -8,7 +8,7 @@ import nustorage.model.record.InventoryRecordNameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all inventory records in the inventory whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. The matching records are looked up in the word index of the inventory.
  */
 public class FindInventoryRecordCommand extends Command {
 
@@ -29,7 +29,7 @@ public class FindInventoryRecordCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredInventoryList(predicate);
+        model.updateFilteredInventoryList(predicate.getKeywords());
         return new CommandResult(
                 String.format(Messages.MESSAGE_INVENTORY_RECORDS_LISTED_OVERVIEW, model.getFilteredInventory().size()));
     }
@@ -1,29 +1,79 @@
 package nustorage.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+import static nustorage.logic.parser.CliSyntax.PREFIX_FROM;
+import static nustorage.logic.parser.CliSyntax.PREFIX_TO;
 import static nustorage.model.Model.PREDICATE_REMOVE_ALL_INVENTORY;
 import static nustorage.model.Model.PREDICATE_SHOW_ALL_FINANCE;
 
-import javafx.collections.ObservableList;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 import nustorage.logic.commands.exceptions.CommandException;
 import nustorage.model.Model;
-import nustorage.model.record.FinanceRecord;
 
 /**
- * List all finance records in the address book to the user.
+ * List all finance records in the address book to the user, or only those dated in a period.
  */
 public class ListFinanceRecordsCommand extends Command {
 
     public static final String COMMAND_WORD = "list_finance";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all finance records, "
+            + "or those dated in the period given.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FROM + "[DATE] [TIME]] "
+            + "[" + PREFIX_TO + "[DATE] [TIME]]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "2020-01-01 "
+            + PREFIX_TO + "2020-03-31";
+
     public static final String MESSAGE_SUCCESS = "Listed all finance records!";
 
+    public static final String MESSAGE_SUCCESS_PERIOD = "Listed %1$d finance records in the period given!";
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a ListFinanceRecordsCommand to list all finance records.
+     */
+    public ListFinanceRecordsCommand() {
+        this.from = null;
+        this.to = null;
+    }
+
+    /**
+     * Creates a ListFinanceRecordsCommand to list the finance records dated from {@code from} to {@code to},
+     * both inclusive.
+     */
+    public ListFinanceRecordsCommand(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredFinanceList(PREDICATE_SHOW_ALL_FINANCE);
         model.updateFilteredInventoryList(PREDICATE_REMOVE_ALL_INVENTORY);
-        ObservableList<FinanceRecord> finance = model.getFilteredFinanceList();
-        return new CommandResult(MESSAGE_SUCCESS);
+
+        if (from == null) {
+            model.loadAllArchivedFinanceRecords();
+            model.updateFilteredFinanceList(PREDICATE_SHOW_ALL_FINANCE);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        model.updateFilteredFinanceList(from, to);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_PERIOD, model.getFilteredFinanceList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListFinanceRecordsCommand // instanceof handles nulls
+                && Objects.equals(from, ((ListFinanceRecordsCommand) other).from)
+                && Objects.equals(to, ((ListFinanceRecordsCommand) other).to));
     }
 }
@@ -0,0 +1,28 @@
+package nustorage.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import nustorage.logic.commands.exceptions.CommandException;
+import nustorage.model.Model;
+
+/**
+ * Redoes the changes undone by the latest {@code undo} command.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change!";
+    public static final String MESSAGE_FAILURE = "No more changes to redo!";
+
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.redo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
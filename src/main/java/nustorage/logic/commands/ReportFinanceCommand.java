@@ -0,0 +1,109 @@
+package nustorage.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+import static nustorage.logic.parser.CliSyntax.PREFIX_FROM;
+import static nustorage.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import nustorage.logic.commands.exceptions.CommandException;
+import nustorage.model.Model;
+import nustorage.model.record.FinanceReport;
+import nustorage.model.record.FinanceReport.Grouping;
+import nustorage.model.record.FinanceReport.Line;
+
+/**
+ * Shows the revenue, cost, net amount and number of the finance records of every day, week or month in a period.
+ */
+public class ReportFinanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "report_finance";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the revenue, cost, net amount and number "
+            + "of finance records of every day, week or month with records, in the period given if any. "
+            + "Records are grouped by month if no grouping is given.\n"
+            + "Parameters: "
+            + "[" + Grouping.DAY + "|" + Grouping.WEEK + "|" + Grouping.MONTH + "] "
+            + "[" + PREFIX_FROM + "[DATE] [TIME]] "
+            + "[" + PREFIX_TO + "[DATE] [TIME]]\n"
+            + "Example: " + COMMAND_WORD + " " + Grouping.WEEK + " "
+            + PREFIX_FROM + "2020-01-01 "
+            + PREFIX_TO + "2020-03-31";
+
+    public static final String MESSAGE_SUCCESS = "Finance report by %1$s:\n%2$sTotal: %3$s";
+
+    public static final String MESSAGE_NO_RECORDS = "There are no finance records in the period given.";
+
+    private static final String LINE_FORMAT = "revenue $%1$s, cost $%2$s, net $%3$s over %4$d records";
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMM yyyy");
+    private static final DateTimeFormatter WEEK_FORMAT = DateTimeFormatter.ofPattern("'Week of' dd MMM yyyy");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
+
+    private final Grouping grouping;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a ReportFinanceCommand to report the finance records dated from {@code from} to {@code to}, both
+     * inclusive, grouped by {@code grouping}.
+     */
+    public ReportFinanceCommand(Grouping grouping, LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(grouping, from, to);
+        this.grouping = grouping;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        FinanceReport report = model.getFinanceReport(from, to, grouping);
+        if (report.getLines().isEmpty()) {
+            return new CommandResult(MESSAGE_NO_RECORDS);
+        }
+
+        StringBuilder lines = new StringBuilder();
+        long revenueInCents = 0;
+        long costInCents = 0;
+        int count = 0;
+        for (Line line : report.getLines()) {
+            lines.append(formatStart(line)).append(": ")
+                    .append(format(line.getRevenueInCents(), line.getCostInCents(), line.getCount())).append('\n');
+            revenueInCents = Math.addExact(revenueInCents, line.getRevenueInCents());
+            costInCents = Math.addExact(costInCents, line.getCostInCents());
+            count += line.getCount();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, grouping, lines,
+                format(revenueInCents, costInCents, count)));
+    }
+
+    private String formatStart(Line line) {
+        switch (grouping) {
+        case MONTH:
+            return MONTH_FORMAT.format(line.getStart());
+        case WEEK:
+            return WEEK_FORMAT.format(line.getStart());
+        default:
+            return DATE_FORMAT.format(line.getStart());
+        }
+    }
+
+    private static String format(long revenueInCents, long costInCents, int count) {
+        return String.format(LINE_FORMAT, BigDecimal.valueOf(revenueInCents, 2), BigDecimal.valueOf(costInCents, 2),
+                BigDecimal.valueOf(Math.subtractExact(revenueInCents, costInCents), 2), count);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReportFinanceCommand // instanceof handles nulls
+                && grouping == ((ReportFinanceCommand) other).grouping
+                && from.equals(((ReportFinanceCommand) other).from)
+                && to.equals(((ReportFinanceCommand) other).to));
+    }
+}
@@ -0,0 +1,102 @@
+package nustorage.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+import nustorage.model.Model;
+import nustorage.model.record.FinanceRecord;
+
+/**
+ * Sorts the displayed finance records by amount or by date-time, or shows them in the order of the finance
+ * account again. The records stay sorted as they are added, edited and deleted.
+ */
+public class SortFinanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort_finance";
+
+    public static final String DESCENDING = "desc";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the finance records by amount, or by "
+            + "date-time, smallest or earliest first, or largest or latest first with " + DESCENDING + ". "
+            + "Without a key, shows the records in the order of the account.\n"
+            + "Parameters: [amount|date [" + DESCENDING + "]]\n"
+            + "Example: " + COMMAND_WORD + " amount " + DESCENDING;
+
+    public static final String MESSAGE_SUCCESS = "Sorted the finance records by %1$s!";
+
+    public static final String MESSAGE_UNSORTED = "Showing the finance records in the order of the account!";
+
+    /**
+     * A key that finance records can be sorted by.
+     */
+    public enum SortKey {
+        AMOUNT("amount", FinanceRecord::getAmountInCents),
+        DATE("date", financeRecord -> financeRecord.getDatetime().toEpochSecond(ZoneOffset.UTC));
+
+        private final String word;
+        private final ToLongFunction<FinanceRecord> key;
+
+        SortKey(String word, ToLongFunction<FinanceRecord> key) {
+            this.word = word;
+            this.key = key;
+        }
+
+        /**
+         * Returns the sort key named {@code word}, ignoring case, if there is one.
+         */
+        public static Optional<SortKey> of(String word) {
+            return Arrays.stream(values()).filter(sortKey -> sortKey.word.equalsIgnoreCase(word)).findFirst();
+        }
+
+        @Override
+        public String toString() {
+            return word;
+        }
+    }
+
+    private final SortKey sortKey;
+    private final boolean isDescending;
+
+    /**
+     * Creates a SortFinanceCommand to show the finance records in the order of the finance account.
+     */
+    public SortFinanceCommand() {
+        this.sortKey = null;
+        this.isDescending = false;
+    }
+
+    /**
+     * Creates a SortFinanceCommand to sort the finance records by {@code sortKey}, largest first if
+     * {@code isDescending}.
+     */
+    public SortFinanceCommand(SortKey sortKey, boolean isDescending) {
+        requireNonNull(sortKey);
+        this.sortKey = sortKey;
+        this.isDescending = isDescending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (sortKey == null) {
+            model.sortFilteredFinanceList(null, false);
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+
+        model.sortFilteredFinanceList(sortKey.key, isDescending);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortKey + (isDescending ? " " + DESCENDING : "")));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortFinanceCommand // instanceof handles nulls
+                && Objects.equals(sortKey, ((SortFinanceCommand) other).sortKey)
+                && isDescending == ((SortFinanceCommand) other).isDescending);
+    }
+}
@@ -0,0 +1,103 @@
+package nustorage.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+import nustorage.model.Model;
+import nustorage.model.record.InventoryRecord;
+
+/**
+ * Sorts the displayed inventory records by quantity or by the time of their last update, or shows them in the
+ * order they were added again. The records stay sorted as they are added, edited and deleted.
+ */
+public class SortInventoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort_inventory";
+
+    public static final String DESCENDING = "desc";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the inventory records by quantity, or by "
+            + "the time of their last update, smallest or earliest first, or largest or latest first with "
+            + DESCENDING + ". "
+            + "Without a key, shows the records in the order they were added.\n"
+            + "Parameters: [quantity|updated [" + DESCENDING + "]]\n"
+            + "Example: " + COMMAND_WORD + " quantity " + DESCENDING;
+
+    public static final String MESSAGE_SUCCESS = "Sorted the inventory records by %1$s!";
+
+    public static final String MESSAGE_UNSORTED = "Showing the inventory records in the order they were added!";
+
+    /**
+     * A key that inventory records can be sorted by.
+     */
+    public enum SortKey {
+        QUANTITY("quantity", InventoryRecord::getQuantity),
+        UPDATED("updated", inventoryRecord -> inventoryRecord.getDateTime().toEpochSecond(ZoneOffset.UTC));
+
+        private final String word;
+        private final ToLongFunction<InventoryRecord> key;
+
+        SortKey(String word, ToLongFunction<InventoryRecord> key) {
+            this.word = word;
+            this.key = key;
+        }
+
+        /**
+         * Returns the sort key named {@code word}, ignoring case, if there is one.
+         */
+        public static Optional<SortKey> of(String word) {
+            return Arrays.stream(values()).filter(sortKey -> sortKey.word.equalsIgnoreCase(word)).findFirst();
+        }
+
+        @Override
+        public String toString() {
+            return word;
+        }
+    }
+
+    private final SortKey sortKey;
+    private final boolean isDescending;
+
+    /**
+     * Creates a SortInventoryCommand to show the inventory records in the order they were added.
+     */
+    public SortInventoryCommand() {
+        this.sortKey = null;
+        this.isDescending = false;
+    }
+
+    /**
+     * Creates a SortInventoryCommand to sort the inventory records by {@code sortKey}, largest first if
+     * {@code isDescending}.
+     */
+    public SortInventoryCommand(SortKey sortKey, boolean isDescending) {
+        requireNonNull(sortKey);
+        this.sortKey = sortKey;
+        this.isDescending = isDescending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (sortKey == null) {
+            model.sortFilteredInventoryList(null, false);
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+
+        model.sortFilteredInventoryList(sortKey.key, isDescending);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortKey + (isDescending ? " " + DESCENDING : "")));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortInventoryCommand // instanceof handles nulls
+                && Objects.equals(sortKey, ((SortInventoryCommand) other).sortKey)
+                && isDescending == ((SortInventoryCommand) other).isDescending);
+    }
+}
@@ -0,0 +1,96 @@
+package nustorage.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.logic.parser.CliSyntax.PREFIX_FROM;
+import static nustorage.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+import nustorage.commons.core.Messages;
+import nustorage.commons.core.index.Index;
+import nustorage.logic.commands.exceptions.CommandException;
+import nustorage.model.Model;
+import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.StockLedger;
+
+/**
+ * Shows the stock of an item at a date-time, and the net movement of its stock over a period.
+ */
+public class StockInventoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "stock_inventory";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the stock of the item specified "
+            + "by the index number used in the displayed inventory at the end of a period, "
+            + "and the net movement of its stock over the period. "
+            + "The period ends now if no end is given.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + "[" + PREFIX_FROM + "DATE [TIME]] "
+            + "[" + PREFIX_TO + "DATE [TIME]]\n"
+            + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_FROM + "2020-01-01 "
+            + PREFIX_TO + "2020-03-31";
+
+    public static final String MESSAGE_STOCK = "Stock of %1$s %2$s: %3$d";
+    public static final String MESSAGE_NET_MOVEMENT = "Net movement since %1$s: %2$+d over %3$d movements";
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm");
+
+    private final Index index;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a StockInventoryCommand for the item at {@code index} over the period from {@code from} to
+     * {@code to}, both inclusive. A null {@code from} shows no net movement, and a null {@code to} ends the
+     * period now.
+     */
+    public StockInventoryCommand(Index index, LocalDateTime from, LocalDateTime to) {
+        requireNonNull(index);
+        assert from == null || to == null || !from.isAfter(to);
+        this.index = index;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<InventoryRecord> lastShownList = model.getFilteredInventory();
+
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_INVENTORY_DISPLAYED_INDEX);
+        }
+
+        InventoryRecord inventoryRecord = lastShownList.get(index.getZeroBased());
+        StockLedger ledger = inventoryRecord.getLedger();
+        LocalDateTime end = to == null ? LocalDateTime.MAX : to;
+
+        String result = String.format(MESSAGE_STOCK, inventoryRecord.getItemName(),
+                to == null ? "now" : "at " + DATETIME_FORMAT.format(to), ledger.getStockAt(end));
+        if (from != null) {
+            result += "\n" + String.format(MESSAGE_NET_MOVEMENT, DATETIME_FORMAT.format(from),
+                    ledger.getNetMovement(from, end), ledger.getMovementCount(from, end));
+        }
+        return new CommandResult(result);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StockInventoryCommand)) {
+            return false;
+        }
+
+        StockInventoryCommand otherCommand = (StockInventoryCommand) other;
+        return index.equals(otherCommand.index)
+                && Objects.equals(from, otherCommand.from)
+                && Objects.equals(to, otherCommand.to);
+    }
+}
@@ -0,0 +1,59 @@
+package nustorage.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.logic.parser.CliSyntax.PREFIX_DATETIME;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import nustorage.logic.commands.exceptions.CommandException;
+import nustorage.model.Model;
+
+/**
+ * Shows the total of all the finance records, and of those of a day and its month.
+ */
+public class SummaryFinanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "summary_finance";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the total of all finance records, "
+            + "and of those of the day given and its month. The day is today if none is given.\n"
+            + "Parameters: "
+            + "[" + PREFIX_DATETIME + "DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATETIME + "2020-03-30";
+
+    public static final String MESSAGE_SUCCESS = "All finance records: %1$s\n%2$s: %3$s\n%4$s: %5$s";
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMM yyyy");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
+
+    private final LocalDate date;
+
+    /**
+     * Creates a SummaryFinanceCommand to show the totals of the finance records, and of those of {@code date}
+     * and its month.
+     */
+    public SummaryFinanceCommand(LocalDate date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        YearMonth month = YearMonth.from(date);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFinanceTotal(),
+                MONTH_FORMAT.format(month), model.getMonthlyFinanceTotal(month),
+                DATE_FORMAT.format(date), model.getDailyFinanceTotal(date)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SummaryFinanceCommand // instanceof handles nulls
+                && date.equals(((SummaryFinanceCommand) other).date));
+    }
+}
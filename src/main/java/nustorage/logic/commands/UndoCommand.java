@@ -0,0 +1,28 @@
+package nustorage.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import nustorage.logic.commands.exceptions.CommandException;
+import nustorage.model.Model;
+
+/**
+ * Undoes the changes made to the inventory and finance account by the latest command that changed them.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change!";
+    public static final String MESSAGE_FAILURE = "No more changes to undo!";
+
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.undo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
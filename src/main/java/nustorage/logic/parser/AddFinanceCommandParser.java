@@ -30,11 +30,16 @@ public class AddFinanceCommandParser implements Parser<AddFinanceCommand> {
         double amount = ParserUtil.parseAmount(argMultimap.getValue(PREFIX_AMOUNT).get());
         FinanceRecord record;
 
-        if (argMultimap.getValue(PREFIX_DATETIME).isPresent()) {
-            LocalDateTime datetime = ParserUtil.parseDatetime(argMultimap.getValue(PREFIX_DATETIME).get());
-            record = new FinanceRecord(amount, datetime);
-        } else {
-            record = new FinanceRecord(amount);
+        try {
+            if (argMultimap.getValue(PREFIX_DATETIME).isPresent()) {
+                LocalDateTime datetime = ParserUtil.parseDatetime(argMultimap.getValue(PREFIX_DATETIME).get());
+                record = new FinanceRecord(amount, datetime);
+            } else {
+                record = new FinanceRecord(amount);
+            }
+        } catch (IllegalStateException e) {
+            // all the finance record IDs have been used
+            throw new ParseException(e.getMessage(), e);
         }
 
         return new AddFinanceCommand(record);
@@ -37,14 +37,20 @@ public class AddInventoryRecordCommandParser implements Parser<AddInventoryRecor
         String itemDescription = ParserUtil.parseItemDescription(argMultimap.getValue(PREFIX_ITEM_DESCRIPTION).get());
         int quantity = ParserUtil.parseQuantity(argMultimap.getValue(PREFIX_QUANTITY).get());
 
-        InventoryRecord inventoryRecord = new InventoryRecord(itemDescription, quantity);
-
         if (argMultimap.getValue(PREFIX_ITEM_COST).isPresent()) {
             double cost = ParserUtil.parseItemCost(argMultimap.getValue(PREFIX_ITEM_COST).get());
-            FinanceRecord financeRecord = new FinanceRecord(cost * quantity);
+            FinanceRecord financeRecord;
+            try {
+                financeRecord = new FinanceRecord(cost * quantity);
+            } catch (IllegalStateException e) {
+                // all the finance record IDs have been used
+                throw new ParseException(e.getMessage(), e);
+            }
+            InventoryRecord inventoryRecord = new InventoryRecord(itemDescription, quantity, financeRecord);
             return new AddInventoryRecordCommand(inventoryRecord, Optional.of(financeRecord));
         }
 
+        InventoryRecord inventoryRecord = new InventoryRecord(itemDescription, quantity);
         return new AddInventoryRecordCommand(inventoryRecord, Optional.empty());
     }
 
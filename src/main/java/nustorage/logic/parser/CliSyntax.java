@@ -16,9 +16,14 @@ public class CliSyntax {
     public static final Prefix PREFIX_QUANTITY = new Prefix("q/"); // can change to n after removing name
     public static final Prefix PREFIX_ITEM_DESCRIPTION = new Prefix("i/");
     public static final Prefix PREFIX_ITEM_COST = new Prefix("c/");
+    public static final Prefix PREFIX_THRESHOLD = new Prefix("r/"); // reorder threshold
     public static final Prefix PREFIX_ITEM_SERIAL = new Prefix("s/"); // not implemented yet
 
     // Finance
     public static final Prefix PREFIX_AMOUNT = new Prefix("amt/");
     public static final Prefix PREFIX_DATETIME = new Prefix("at/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_MIN_AMOUNT = new Prefix("min/");
+    public static final Prefix PREFIX_MAX_AMOUNT = new Prefix("max/");
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static nustorage.logic.parser.CliSyntax.PREFIX_ITEM_DESCRIPTION;
 import static nustorage.logic.parser.CliSyntax.PREFIX_QUANTITY;
+import static nustorage.logic.parser.CliSyntax.PREFIX_THRESHOLD;
 
 import nustorage.commons.core.index.Index;
 import nustorage.logic.commands.EditInventoryCommand;
@@ -22,7 +23,7 @@ public class EditInventoryCommandParser {
     public EditInventoryCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_QUANTITY, PREFIX_ITEM_DESCRIPTION);
+                ArgumentTokenizer.tokenize(args, PREFIX_QUANTITY, PREFIX_ITEM_DESCRIPTION, PREFIX_THRESHOLD);
 
         Index index;
 
@@ -41,6 +42,10 @@ public class EditInventoryCommandParser {
             editInventoryDescriptor.setDescription(ParserUtil.parseItemDescription(
                     argMultimap.getValue(PREFIX_ITEM_DESCRIPTION).get()));
         }
+        if (argMultimap.getValue(PREFIX_THRESHOLD).isPresent()) {
+            editInventoryDescriptor.setThreshold(
+                    ParserUtil.parseThreshold(argMultimap.getValue(PREFIX_THRESHOLD).get()));
+        }
 
         if (!editInventoryDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditInventoryCommand.MESSAGE_NOT_EDITED);
@@ -0,0 +1,73 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CliSyntax.PREFIX_FROM;
+import static nustorage.logic.parser.CliSyntax.PREFIX_ITEM_DESCRIPTION;
+import static nustorage.logic.parser.CliSyntax.PREFIX_MAX_AMOUNT;
+import static nustorage.logic.parser.CliSyntax.PREFIX_MIN_AMOUNT;
+import static nustorage.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import nustorage.commons.util.StringUtil;
+import nustorage.logic.commands.FindFinanceCommand;
+import nustorage.logic.parser.exceptions.ParseException;
+import nustorage.model.record.FinanceQuery;
+import nustorage.model.record.FinanceRecord;
+
+/**
+ * Parses input arguments and creates a new FindFinanceCommand object
+ */
+public class FindFinanceCommandParser implements Parser<FindFinanceCommand> {
+
+    public static final String MESSAGE_INVALID_AMOUNT_RANGE = "The minimum amount must not be more than the maximum.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindFinanceCommand
+     * and returns a FindFinanceCommand object for execution.
+     * A period or range of amounts without a start or an end is open on that side.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindFinanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO,
+                PREFIX_MIN_AMOUNT, PREFIX_MAX_AMOUNT, PREFIX_ITEM_DESCRIPTION);
+
+        Optional<String> start = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> end = argMultimap.getValue(PREFIX_TO);
+        Optional<String> minAmount = argMultimap.getValue(PREFIX_MIN_AMOUNT);
+        Optional<String> maxAmount = argMultimap.getValue(PREFIX_MAX_AMOUNT);
+        Optional<String> item = argMultimap.getValue(PREFIX_ITEM_DESCRIPTION);
+        boolean hasCondition = start.isPresent() || end.isPresent() || minAmount.isPresent()
+                || maxAmount.isPresent() || item.isPresent();
+        if (!argMultimap.getPreamble().isEmpty() || !hasCondition) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFinanceCommand.MESSAGE_USAGE));
+        }
+
+        LocalDateTime from = start.isPresent() ? ParserUtil.parsePeriodStart(start.get()) : LocalDateTime.MIN;
+        LocalDateTime to = end.isPresent() ? ParserUtil.parsePeriodEnd(end.get()) : LocalDateTime.MAX;
+        if (from.isAfter(to)) {
+            throw new ParseException(ParserUtil.MESSAGE_INVALID_PERIOD);
+        }
+
+        long minAmountInCents = minAmount.isPresent()
+                ? FinanceRecord.toCents(ParserUtil.parseAmount(minAmount.get()))
+                : Long.MIN_VALUE;
+        long maxAmountInCents = maxAmount.isPresent()
+                ? FinanceRecord.toCents(ParserUtil.parseAmount(maxAmount.get()))
+                : Long.MAX_VALUE;
+        if (minAmountInCents > maxAmountInCents) {
+            throw new ParseException(MESSAGE_INVALID_AMOUNT_RANGE);
+        }
+
+        List<String> itemKeywords = item.isPresent() ? StringUtil.toLowerCaseWords(item.get()) : List.of();
+        if (item.isPresent() && itemKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFinanceCommand.MESSAGE_USAGE));
+        }
+
+        return new FindFinanceCommand(new FinanceQuery(from, to, minAmountInCents, maxAmountInCents, itemKeywords));
+    }
+}
@@ -0,0 +1,46 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CliSyntax.PREFIX_FROM;
+import static nustorage.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import nustorage.logic.commands.ListFinanceRecordsCommand;
+import nustorage.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListFinanceRecordsCommand object
+ */
+public class ListFinanceRecordsCommandParser implements Parser<ListFinanceRecordsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListFinanceRecordsCommand
+     * and returns a ListFinanceRecordsCommand object for execution.
+     * A period without a start or an end is open on that side.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListFinanceRecordsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListFinanceRecordsCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> start = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> end = argMultimap.getValue(PREFIX_TO);
+        if (start.isEmpty() && end.isEmpty()) {
+            return new ListFinanceRecordsCommand();
+        }
+
+        LocalDateTime from = start.isPresent() ? ParserUtil.parsePeriodStart(start.get()) : LocalDateTime.MIN;
+        LocalDateTime to = end.isPresent() ? ParserUtil.parsePeriodEnd(end.get()) : LocalDateTime.MAX;
+        if (from.isAfter(to)) {
+            throw new ParseException(ParserUtil.MESSAGE_INVALID_PERIOD);
+        }
+
+        return new ListFinanceRecordsCommand(from, to);
+    }
+}
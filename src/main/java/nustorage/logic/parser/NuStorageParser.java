@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 import nustorage.logic.commands.AddCommand;
 import nustorage.logic.commands.AddFinanceCommand;
 import nustorage.logic.commands.AddInventoryRecordCommand;
+import nustorage.logic.commands.AlertInventoryCommand;
 import nustorage.logic.commands.ClearCommand;
 import nustorage.logic.commands.Command;
 import nustorage.logic.commands.DeleteCommand;
@@ -19,11 +20,19 @@ import nustorage.logic.commands.EditFinanceCommand;
 import nustorage.logic.commands.EditInventoryCommand;
 import nustorage.logic.commands.ExitCommand;
 import nustorage.logic.commands.FindCommand;
+import nustorage.logic.commands.FindFinanceCommand;
 import nustorage.logic.commands.FindInventoryRecordCommand;
 import nustorage.logic.commands.HelpCommand;
 import nustorage.logic.commands.ListCommand;
 import nustorage.logic.commands.ListFinanceRecordsCommand;
 import nustorage.logic.commands.ListInventoryCommand;
+import nustorage.logic.commands.RedoCommand;
+import nustorage.logic.commands.ReportFinanceCommand;
+import nustorage.logic.commands.SortFinanceCommand;
+import nustorage.logic.commands.SortInventoryCommand;
+import nustorage.logic.commands.StockInventoryCommand;
+import nustorage.logic.commands.SummaryFinanceCommand;
+import nustorage.logic.commands.UndoCommand;
 import nustorage.logic.parser.exceptions.ParseException;
 
 /**
@@ -67,6 +76,15 @@ public class NuStorageParser {
         case FindInventoryRecordCommand.COMMAND_WORD:
             return new FindInventoryRecordCommandParser().parse(arguments);
 
+        case SortInventoryCommand.COMMAND_WORD:
+            return new SortInventoryCommandParser().parse(arguments);
+
+        case StockInventoryCommand.COMMAND_WORD:
+            return new StockInventoryCommandParser().parse(arguments);
+
+        case AlertInventoryCommand.COMMAND_WORD:
+            return new AlertInventoryCommand();
+
         case AddFinanceCommand.COMMAND_WORD:
             return new AddFinanceCommandParser().parse(arguments);
 
@@ -86,7 +104,19 @@ public class NuStorageParser {
             return new DeleteCommandParser().parse(arguments);
 
         case ListFinanceRecordsCommand.COMMAND_WORD:
-            return new ListFinanceRecordsCommand();
+            return new ListFinanceRecordsCommandParser().parse(arguments);
+
+        case FindFinanceCommand.COMMAND_WORD:
+            return new FindFinanceCommandParser().parse(arguments);
+
+        case SortFinanceCommand.COMMAND_WORD:
+            return new SortFinanceCommandParser().parse(arguments);
+
+        case SummaryFinanceCommand.COMMAND_WORD:
+            return new SummaryFinanceCommandParser().parse(arguments);
+
+        case ReportFinanceCommand.COMMAND_WORD:
+            return new ReportFinanceCommandParser().parse(arguments);
 
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
@@ -97,6 +127,12 @@ public class NuStorageParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
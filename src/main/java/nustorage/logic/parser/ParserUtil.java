@@ -2,6 +2,7 @@ package nustorage.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -24,11 +25,16 @@ import nustorage.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
-    public static final String MESSAGE_INVALID_AMOUNT = "Amount if not a decimal value.";
+    public static final String MESSAGE_INVALID_AMOUNT =
+            "Amount must be a decimal value of at most 1000000000, with at most 2 decimal places.";
     public static final String MESSAGE_INVALID_DATETIME = "Date must be of the format yyyy-mm-dd HH:mm";
+    public static final String MESSAGE_INVALID_PERIOD = "The start of the period must not be after its end.";
     public static final String MESSAGE_INVALID_QUANITY = "Quantity is not a non-zero integer.";
+    public static final String MESSAGE_INVALID_THRESHOLD = "Threshold must be a non-negative integer.";
     public static final String MESSAGE_INVALID_ITEM_COST = "Item cost must be a positive numerical value.";
 
+    private static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(1_000_000_000);
+
     /**
      * Parses {@code itemCost} into an double and returns it
      */
@@ -62,18 +68,44 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses {@code threshold} into a non-negative int and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     * @throws ParseException if the specified threshold is not a non-negative integer.
+     */
+    public static int parseThreshold(String threshold) throws ParseException {
+        requireNonNull(threshold);
+        String trimmedThreshold = threshold.trim();
+        try {
+            int parsedThreshold = Integer.parseInt(trimmedThreshold);
+            if (parsedThreshold < 0) {
+                throw new ParseException(MESSAGE_INVALID_THRESHOLD);
+            }
+            return parsedThreshold;
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_THRESHOLD);
+        }
+    }
+
     /**
      * Parses {@code amount} into an {@code double} and returns it.
-     * @throws ParseException if the specified amount is invalid (non-double value).
+     * @throws ParseException if the specified amount is invalid (not a decimal value of at most
+     *     {@code MAX_AMOUNT}, in whole cents).
      */
     public static double parseAmount(String amount) throws ParseException {
         requireNonNull(amount);
         String trimmedAmount = amount.trim();
+        BigDecimal parsedAmount;
         try {
-            return Double.parseDouble(trimmedAmount);
+            parsedAmount = new BigDecimal(trimmedAmount);
         } catch (NumberFormatException ex) {
             throw new ParseException(MESSAGE_INVALID_AMOUNT);
         }
+        // amounts are kept in whole cents
+        if (parsedAmount.stripTrailingZeros().scale() > 2 || parsedAmount.abs().compareTo(MAX_AMOUNT) > 0) {
+            throw new ParseException(MESSAGE_INVALID_AMOUNT);
+        }
+        return parsedAmount.doubleValue();
     }
 
     /**
@@ -118,6 +150,34 @@ public class ParserUtil {
         return LocalDateTime.of(date, time);
     }
 
+    /**
+     * Parses {@code datetime} into the start of a period and returns it.
+     * A date without a time is taken to be the start of that day.
+     * @throws ParseException if the specified input is invalid (not correctly formatted).
+     */
+    public static LocalDateTime parsePeriodStart(String datetime) throws ParseException {
+        requireNonNull(datetime);
+        try {
+            return LocalDate.parse(datetime.trim()).atStartOfDay();
+        } catch (DateTimeParseException ex) {
+            return parseDatetime(datetime.trim());
+        }
+    }
+
+    /**
+     * Parses {@code datetime} into the end of a period and returns it.
+     * A date without a time is taken to be the end of that day.
+     * @throws ParseException if the specified input is invalid (not correctly formatted).
+     */
+    public static LocalDateTime parsePeriodEnd(String datetime) throws ParseException {
+        requireNonNull(datetime);
+        try {
+            return LocalDate.parse(datetime.trim()).atTime(LocalTime.MAX);
+        } catch (DateTimeParseException ex) {
+            return parseDatetime(datetime.trim());
+        }
+    }
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -0,0 +1,46 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CliSyntax.PREFIX_FROM;
+import static nustorage.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import nustorage.logic.commands.ReportFinanceCommand;
+import nustorage.logic.parser.exceptions.ParseException;
+import nustorage.model.record.FinanceReport.Grouping;
+
+/**
+ * Parses input arguments and creates a new ReportFinanceCommand object
+ */
+public class ReportFinanceCommandParser implements Parser<ReportFinanceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReportFinanceCommand
+     * and returns a ReportFinanceCommand object for execution.
+     * Records are grouped by month if no grouping is given, and a period without a start or an end is open on
+     * that side.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReportFinanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        String preamble = argMultimap.getPreamble();
+        Optional<Grouping> grouping = preamble.isEmpty() ? Optional.of(Grouping.MONTH) : Grouping.of(preamble);
+        if (grouping.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportFinanceCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> start = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> end = argMultimap.getValue(PREFIX_TO);
+        LocalDateTime from = start.isPresent() ? ParserUtil.parsePeriodStart(start.get()) : LocalDateTime.MIN;
+        LocalDateTime to = end.isPresent() ? ParserUtil.parsePeriodEnd(end.get()) : LocalDateTime.MAX;
+        if (from.isAfter(to)) {
+            throw new ParseException(ParserUtil.MESSAGE_INVALID_PERIOD);
+        }
+
+        return new ReportFinanceCommand(grouping.get(), from, to);
+    }
+}
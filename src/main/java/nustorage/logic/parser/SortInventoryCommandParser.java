@@ -0,0 +1,36 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import nustorage.logic.commands.SortInventoryCommand;
+import nustorage.logic.commands.SortInventoryCommand.SortKey;
+import nustorage.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SortInventoryCommand object
+ */
+public class SortInventoryCommandParser implements Parser<SortInventoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortInventoryCommand
+     * and returns a SortInventoryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortInventoryCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new SortInventoryCommand();
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        Optional<SortKey> sortKey = SortKey.of(words[0]);
+        boolean isDescending = words.length == 2 && words[1].equalsIgnoreCase(SortInventoryCommand.DESCENDING);
+        if (sortKey.isEmpty() || words.length > 2 || (words.length == 2 && !isDescending)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortInventoryCommand.MESSAGE_USAGE));
+        }
+        return new SortInventoryCommand(sortKey.get(), isDescending);
+    }
+}
@@ -0,0 +1,45 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CliSyntax.PREFIX_FROM;
+import static nustorage.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import nustorage.commons.core.index.Index;
+import nustorage.logic.commands.StockInventoryCommand;
+import nustorage.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StockInventoryCommand object
+ */
+public class StockInventoryCommandParser implements Parser<StockInventoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StockInventoryCommand
+     * and returns a StockInventoryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StockInventoryCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, StockInventoryCommand.MESSAGE_USAGE), pe);
+        }
+
+        Optional<String> start = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> end = argMultimap.getValue(PREFIX_TO);
+        LocalDateTime from = start.isPresent() ? ParserUtil.parsePeriodStart(start.get()) : null;
+        LocalDateTime to = end.isPresent() ? ParserUtil.parsePeriodEnd(end.get()) : null;
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ParseException(ParserUtil.MESSAGE_INVALID_PERIOD);
+        }
+
+        return new StockInventoryCommand(index, from, to);
+    }
+}
@@ -0,0 +1,36 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CliSyntax.PREFIX_DATETIME;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import nustorage.logic.commands.SummaryFinanceCommand;
+import nustorage.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SummaryFinanceCommand object
+ */
+public class SummaryFinanceCommandParser implements Parser<SummaryFinanceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SummaryFinanceCommand
+     * and returns a SummaryFinanceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SummaryFinanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATETIME);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SummaryFinanceCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> date = argMultimap.getValue(PREFIX_DATETIME);
+        if (date.isEmpty()) {
+            return new SummaryFinanceCommand(LocalDate.now());
+        }
+        return new SummaryFinanceCommand(ParserUtil.parseDatetime(date.get().trim()).toLocalDate());
+    }
+}
@@ -27,6 +27,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
     }
 
+    private long version = VersionCounter.nextVersion();
+
     public AddressBook() {}
 
     /**
@@ -35,6 +37,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        version = toBeCopied.getVersion();
     }
 
     //// list overwrite operations
@@ -45,6 +48,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version = VersionCounter.nextVersion();
     }
 
     /**
@@ -72,6 +76,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version = VersionCounter.nextVersion();
     }
 
     /**
@@ -83,6 +88,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version = VersionCounter.nextVersion();
     }
 
     /**
@@ -91,6 +97,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version = VersionCounter.nextVersion();
     }
 
     //// util methods
@@ -106,6 +113,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
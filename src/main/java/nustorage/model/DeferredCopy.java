@@ -0,0 +1,49 @@
+package nustorage.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * A copy of a data store that is only made when it is first asked for, by whichever thread asks first.
+ * <p>
+ * The store must not change until the copy is made, so the store makes the copy itself before it next changes
+ * if no other thread has asked for it by then. Reading the store must not change the parts of it that the copy
+ * reads, so that the copy can be made on another thread while the store is being read.
+ *
+ * @param <T> type of the copy.
+ */
+public final class DeferredCopy<T> implements Supplier<T> {
+
+    /** Makes the copy, or null once it has been made. */
+    private Supplier<? extends T> copier;
+    private T copy;
+
+    /**
+     * Creates a copy that is made by {@code copier} when it is first asked for.
+     */
+    public DeferredCopy(Supplier<? extends T> copier) {
+        this.copier = requireNonNull(copier);
+    }
+
+    /**
+     * Returns a copy that has already been made.
+     */
+    public static <T> DeferredCopy<T> of(T copy) {
+        requireNonNull(copy);
+        return new DeferredCopy<>(() -> copy);
+    }
+
+    /**
+     * Returns the copy, making it if it has not been made yet.
+     */
+    @Override
+    public synchronized T get() {
+        if (copier != null) {
+            copy = copier.get();
+            copier = null;
+        }
+        return copy;
+    }
+
+}
@@ -1,37 +1,197 @@
 package nustorage.model;
 
 import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.ObservableList;
 import nustorage.commons.core.index.Index;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.util.LazyLoadingList;
+import nustorage.model.record.FinanceColumns;
+import nustorage.model.record.FinanceIdRenumbering;
+import nustorage.model.record.FinanceQuery;
 import nustorage.model.record.FinanceRecord;
 import nustorage.model.record.FinanceRecordList;
+import nustorage.model.record.FinanceReport;
+import nustorage.model.record.FinanceTotal;
+import nustorage.model.record.exceptions.FinanceArchiveException;
 
 public class FinanceAccount implements ReadOnlyFinanceAccount {
 
     private final FinanceRecordList financeRecords;
-    {
+
+    /** Archive holding the records of the unloaded months, or null if there is none. */
+    private FinanceArchive archive;
+    /** Totals of the months with records in the archive that have not been loaded into this finance account yet. */
+    private final TreeMap<YearMonth, FinanceTotal> unloadedArchiveTotals = new TreeMap<>();
+    /** Total of all the months in {@code unloadedArchiveTotals}. */
+    private FinanceTotal unloadedArchiveTotal = FinanceTotal.ZERO;
+
+    /** Total of all the finance records, for the UI to observe, or null until it is first observed. */
+    private ReadOnlyObjectWrapper<FinanceTotal> observedTotal;
+
+    /** Number of batches of changes that have begun but not ended. */
+    private int batchDepth;
+
+    /** IDs that the finance records were renumbered to when they were read, or null if they were not. */
+    private FinanceIdRenumbering idRenumbering;
+
+    /** Version of the finance records, which changes before they do, so that listeners of the list see it. */
+    private long version = VersionCounter.nextVersion();
+
+    /** Copy of this finance account that may not have been made yet, or null if none has been handed out. */
+    private DeferredCopy<ReadOnlyFinanceAccount> deferredCopy;
+
+    public FinanceAccount() {
         financeRecords = new FinanceRecordList();
     }
 
-    private HashMap<Integer, FinanceRecord> financeRecordHashMap;
-    {
-        financeRecordHashMap = new HashMap<>();
+    /**
+     * Creates a FinanceAccount using the finance records in the {@code toBeCopied}.
+     * Records of {@code toBeCopied} that have not been loaded yet are only loaded when they are read.
+     */
+    public FinanceAccount(ReadOnlyFinanceAccount toBeCopied) {
+        requireNonNull(toBeCopied);
+        List<FinanceRecord> records = toBeCopied.copyFinanceList();
+        financeRecords = toBeCopied.copyFinanceColumns()
+                .map(columns -> new FinanceRecordList(records, columns))
+                .orElseGet(() -> new FinanceRecordList(records));
+        setUnloadedArchiveTotals(toBeCopied.getUnloadedArchiveTotals());
+        if (toBeCopied instanceof FinanceAccount) {
+            archive = ((FinanceAccount) toBeCopied).archive;
+        }
+        version = toBeCopied.getVersion();
+    }
+
+    /**
+     * Creates a FinanceAccount holding the {@code financeRecords}.
+     * If {@code financeRecords} is a {@code LazyLoadingList}, its records are only loaded when they are read.
+     */
+    public FinanceAccount(List<FinanceRecord> financeRecords) {
+        requireNonNull(financeRecords);
+        this.financeRecords = new FinanceRecordList(LazyLoadingList.copyOf(financeRecords));
     }
 
-    public FinanceAccount() {
+    /**
+     * Creates a FinanceAccount holding the {@code financeRecords}, whose columns are {@code columns}.
+     * If {@code financeRecords} is a {@code LazyLoadingList}, its records are only loaded when they are read, and
+     * are not needed to find, sum or filter the records.
+     */
+    public FinanceAccount(List<FinanceRecord> financeRecords, FinanceColumns columns) {
+        requireAllNonNull(financeRecords, columns);
+        this.financeRecords =
+                new FinanceRecordList(LazyLoadingList.copyOf(financeRecords), new FinanceColumns(columns));
     }
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Records that the finance records were renumbered by {@code idRenumbering} when they were read.
      */
-    public FinanceAccount(ReadOnlyFinanceAccount toBeCopied) {
-        this();
-        resetData(toBeCopied);
+    public void setIdRenumbering(FinanceIdRenumbering idRenumbering) {
+        this.idRenumbering = requireNonNull(idRenumbering);
+    }
+
+    //// archive operations
+
+    /**
+     * Attaches {@code archive}, which holds the records of the archived months that are not loaded into this
+     * finance account, with the total of each month in {@code archivedTotals}. A month is loaded by
+     * {@link #loadArchivedMonths(YearMonth, YearMonth)}, or when a record dated in it is added.
+     */
+    public void setArchive(FinanceArchive archive, Map<YearMonth, FinanceTotal> archivedTotals) {
+        requireAllNonNull(archive, archivedTotals);
+        finishDeferredCopy();
+        this.archive = archive;
+        setUnloadedArchiveTotals(archivedTotals);
+        updateObservedTotal();
+    }
+
+    private void setUnloadedArchiveTotals(Map<YearMonth, FinanceTotal> archivedTotals) {
+        unloadedArchiveTotals.clear();
+        unloadedArchiveTotals.putAll(archivedTotals);
+        unloadedArchiveTotal = FinanceTotal.ZERO;
+        for (FinanceTotal monthlyTotal : archivedTotals.values()) {
+            unloadedArchiveTotal = unloadedArchiveTotal.plus(monthlyTotal);
+        }
+    }
+
+    /**
+     * Loads the archived records dated from {@code from} to {@code to}, both inclusive, that are not loaded yet.
+     * Loaded records are put before the other records, oldest month first.
+     *
+     * @return true if any month was loaded.
+     * @throws FinanceArchiveException if a month could not be read, in which case nothing is loaded.
+     */
+    public boolean loadArchivedMonths(YearMonth from, YearMonth to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return false;
+        }
+        return loadMonths(new ArrayList<>(unloadedArchiveTotals.subMap(from, true, to, true).keySet()));
+    }
+
+    /**
+     * Loads all the archived records that are not loaded yet.
+     *
+     * @return true if any month was loaded.
+     * @throws FinanceArchiveException if a month could not be read, in which case nothing is loaded.
+     */
+    public boolean loadAllArchivedMonths() {
+        return loadMonths(new ArrayList<>(unloadedArchiveTotals.keySet()));
+    }
+
+    private boolean loadMonths(List<YearMonth> months) {
+        if (months.isEmpty()) {
+            return false;
+        }
+        assert archive != null : "Archived months without an archive!";
+
+        // reads every month first, so that a failure leaves this finance account unchanged
+        List<FinanceRecord> loadedRecords = new ArrayList<>();
+        for (YearMonth month : months) {
+            try {
+                loadedRecords.addAll(archive.readMonth(month));
+            } catch (DataConversionException | IOException e) {
+                throw new FinanceArchiveException(month, e);
+            }
+        }
+        // a save that was interrupted may have left a record both in the archive and in this finance account
+        loadedRecords.removeIf(this::hasFinanceRecord);
+
+        finishDeferredCopy();
+        // the months stop counting as unloaded before their records are added, so that the totals never count
+        // a month twice, even for listeners of the list
+        for (YearMonth month : months) {
+            unloadedArchiveTotal = unloadedArchiveTotal.minus(unloadedArchiveTotals.remove(month));
+        }
+        financeRecords.addAll(0, loadedRecords);
+        updateObservedTotal();
+        return true;
+    }
+
+    /**
+     * Loads the archived month that {@code financeRecord} is dated in, if it is not loaded yet.
+     */
+    private void loadArchivedMonthOf(FinanceRecord financeRecord) {
+        YearMonth month = YearMonth.from(financeRecord.getDatetime());
+        loadArchivedMonths(month, month);
     }
 
     //// list overwrite operations
@@ -41,11 +201,9 @@ public class FinanceAccount implements ReadOnlyFinanceAccount {
      * {@code persons} must not contain duplicate persons.
      */
     public void setFinanceRecords(List<FinanceRecord> financeRecords) {
+        changeVersion();
         this.financeRecords.setFinanceRecords(financeRecords);
-
-        for (FinanceRecord record : financeRecords) {
-            financeRecordHashMap.put(record.getID(), record);
-        }
+        updateObservedTotal();
     }
 
 
@@ -54,7 +212,6 @@ public class FinanceAccount implements ReadOnlyFinanceAccount {
      */
     public void resetData(ReadOnlyFinanceAccount newData) {
         requireNonNull(newData);
-        financeRecordHashMap = new HashMap<>();
         setFinanceRecords(newData.getFinanceList());
     }
 
@@ -63,7 +220,52 @@ public class FinanceAccount implements ReadOnlyFinanceAccount {
      */
     public boolean hasFinanceRecord(FinanceRecord financeRecord) {
         requireNonNull(financeRecord);
-        return financeRecordHashMap.containsKey(financeRecord.getID());
+        return financeRecords.containsId(financeRecord.getID());
+    }
+
+    /**
+     * Returns the finance record with the given {@code id}, if it is in the finance account.
+     * Archived records are only found once their month has been loaded.
+     */
+    public Optional<FinanceRecord> getFinanceRecord(int id) {
+        return financeRecords.get(id);
+    }
+
+    /**
+     * Returns the finance records dated from {@code from} to {@code to}, both inclusive, ordered by date-time.
+     * The archived months in that period are loaded first.
+     *
+     * @throws FinanceArchiveException if an archived month could not be read.
+     */
+    public List<FinanceRecord> getFinanceRecordsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        loadArchivedMonths(YearMonth.from(from), YearMonth.from(to));
+        return financeRecords.getRecordsBetween(from, to);
+    }
+
+    /**
+     * Returns the report of the finance records dated from {@code from} to {@code to}, both inclusive, grouped by
+     * {@code grouping}. The archived months in that period are loaded first.
+     *
+     * @throws FinanceArchiveException if an archived month could not be read.
+     */
+    public FinanceReport getReport(LocalDateTime from, LocalDateTime to, FinanceReport.Grouping grouping) {
+        requireAllNonNull(from, to, grouping);
+        loadArchivedMonths(YearMonth.from(from), YearMonth.from(to));
+        return financeRecords.getReport(from, to, grouping);
+    }
+
+    /**
+     * Returns a predicate that matches the finance records that meet every condition of {@code query}, with
+     * {@code linkedIds} as the IDs of the records linked to the inventory records of its item keywords. The
+     * records are found again whenever this finance account changes or archived months are loaded.
+     *
+     * @see FinanceRecordList#findIds(FinanceQuery, Set)
+     */
+    public Predicate<FinanceRecord> matchingPredicate(FinanceQuery query, Set<Integer> linkedIds) {
+        requireAllNonNull(query, linkedIds);
+        Set<Integer> linkedIdsCopy = Set.copyOf(linkedIds);
+        return new MatchingRecordsPredicate(() -> financeRecords.findIds(query, linkedIdsCopy));
     }
 
     /**
@@ -71,8 +273,25 @@ public class FinanceAccount implements ReadOnlyFinanceAccount {
      * The person must not already exist in the address book.
      */
     public void addFinanceRecord(FinanceRecord financeRecord) {
+        requireNonNull(financeRecord);
+
+        loadArchivedMonthOf(financeRecord);
+        changeVersion();
         financeRecords.add(financeRecord);
-        financeRecordHashMap.put(financeRecord.getID(), financeRecord);
+        updateObservedTotal();
+    }
+
+    /**
+     * Inserts a finance record into the finance account at {@code index}.
+     * The finance record must not already exist in the finance account.
+     */
+    public void addFinanceRecord(int index, FinanceRecord financeRecord) {
+        requireNonNull(financeRecord);
+
+        loadArchivedMonthOf(financeRecord);
+        changeVersion();
+        financeRecords.addAll(index, List.of(financeRecord));
+        updateObservedTotal();
     }
 
     /**
@@ -83,8 +302,10 @@ public class FinanceAccount implements ReadOnlyFinanceAccount {
     public void setFinanceRecord(FinanceRecord target, FinanceRecord editedRecord) {
         requireNonNull(editedRecord);
 
+        loadArchivedMonthOf(editedRecord);
+        changeVersion();
         financeRecords.setFinanceRecord(target, editedRecord);
-        financeRecordHashMap.replace(target.getID(), editedRecord);
+        updateObservedTotal();
     }
 
     /**
@@ -94,11 +315,115 @@ public class FinanceAccount implements ReadOnlyFinanceAccount {
      * @return Optional containing removed finance record if index is valid, else an empty optional
      */
     public Optional<FinanceRecord> removeFinanceRecord(Index targetIndex) {
+        if (targetIndex.getZeroBased() >= getFinanceList().size()) {
+            return Optional.empty();
+        }
+        changeVersion();
         Optional<FinanceRecord> removedRecord = financeRecords.remove(targetIndex);
-        removedRecord.ifPresent(record -> financeRecordHashMap.remove(record.getID()));
+        updateObservedTotal();
         return removedRecord;
     }
 
+    /**
+     * Removes the finance record with the same ID as {@code financeRecord}.
+     * The finance record must exist in the finance account.
+     */
+    public void removeFinanceRecord(FinanceRecord financeRecord) {
+        requireNonNull(financeRecord);
+
+        int index = financeRecords.indexOf(financeRecord.getID());
+        assert index != -1 : "Finance record to remove is missing!";
+        removeFinanceRecord(Index.fromZeroBased(index));
+    }
+
+    //// totals
+
+    /**
+     * Returns the total of all the finance records, including the archived ones that are not loaded.
+     */
+    public FinanceTotal getTotal() {
+        return financeRecords.getAggregates().getTotal().plus(unloadedArchiveTotal);
+    }
+
+    /**
+     * Returns the total of the finance records dated in {@code month}, including the archived ones.
+     */
+    public FinanceTotal getMonthlyTotal(YearMonth month) {
+        requireNonNull(month);
+        FinanceTotal loadedTotal = financeRecords.getAggregates().getMonthlyTotal(month);
+        return loadedTotal.plus(unloadedArchiveTotals.getOrDefault(month, FinanceTotal.ZERO));
+    }
+
+    /**
+     * Returns the total of the finance records dated on {@code date}.
+     * The archived month of {@code date} is loaded first, as the archive only keeps a total per month.
+     *
+     * @throws FinanceArchiveException if the archived month could not be read.
+     */
+    public FinanceTotal getDailyTotal(LocalDate date) {
+        requireNonNull(date);
+        loadArchivedMonths(YearMonth.from(date), YearMonth.from(date));
+        return financeRecords.getAggregates().getDailyTotal(date);
+    }
+
+    /**
+     * Returns the total of all the finance records as an observable value, which is updated whenever
+     * this finance account changes.
+     */
+    public ReadOnlyObjectProperty<FinanceTotal> totalProperty() {
+        if (observedTotal == null) {
+            observedTotal = new ReadOnlyObjectWrapper<>(getTotal());
+        }
+        return observedTotal.getReadOnlyProperty();
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch of changes to this finance account. The finance record list and the total are only
+     * published once the matching {@link #endBatch()} is called, with a single change for the whole batch.
+     */
+    public void beginBatch() {
+        batchDepth++;
+        financeRecords.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, and publishes its changes if it is the
+     * outermost batch.
+     */
+    public void endBatch() {
+        assert batchDepth > 0 : "Batch ended without beginning!";
+        batchDepth--;
+        financeRecords.endBatch();
+        updateObservedTotal();
+    }
+
+    /**
+     * Changes the version of this finance account, which is about to change.
+     */
+    private void changeVersion() {
+        finishDeferredCopy();
+        version = VersionCounter.nextVersion();
+    }
+
+    /**
+     * Makes the copy of this finance account that was handed out, if it has not been made yet, as the finance
+     * account is about to change.
+     */
+    private void finishDeferredCopy() {
+        if (deferredCopy != null) {
+            deferredCopy.get();
+            deferredCopy = null;
+        }
+    }
+
+    private void updateObservedTotal() {
+        if (observedTotal != null && batchDepth == 0) {
+            observedTotal.set(getTotal());
+        }
+    }
+
     //// util methods
 
     @Override
@@ -111,6 +436,49 @@ public class FinanceAccount implements ReadOnlyFinanceAccount {
         return financeRecords.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<FinanceRecord> copyFinanceList() {
+        return financeRecords.copyToList();
+    }
+
+    @Override
+    public Optional<FinanceColumns> copyFinanceColumns() {
+        return financeRecords.copyColumns();
+    }
+
+    /**
+     * Returns a copy of this finance account that is only made when it is first asked for, or before this finance
+     * account next changes, so that it can be made on another thread. Reading this finance account meanwhile is
+     * safe, but it must only be changed by the thread that called this method.
+     */
+    @Override
+    public DeferredCopy<ReadOnlyFinanceAccount> copyDeferred() {
+        if (deferredCopy == null) {
+            deferredCopy = new DeferredCopy<>(() -> new FinanceAccount(this));
+        }
+        return deferredCopy;
+    }
+
+    @Override
+    public Optional<FinanceIdRenumbering> getIdRenumbering() {
+        return Optional.ofNullable(idRenumbering);
+    }
+
+    @Override
+    public SortedSet<YearMonth> getUnloadedArchiveMonths() {
+        return Collections.unmodifiableSortedSet(unloadedArchiveTotals.navigableKeySet());
+    }
+
+    @Override
+    public SortedMap<YearMonth, FinanceTotal> getUnloadedArchiveTotals() {
+        return Collections.unmodifiableSortedMap(unloadedArchiveTotals);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -122,4 +490,33 @@ public class FinanceAccount implements ReadOnlyFinanceAccount {
     public int hashCode() {
         return financeRecords.hashCode();
     }
+
+    /**
+     * A predicate that matches the finance records with the IDs found by a search, which is only run again once
+     * the records have changed.
+     */
+    private class MatchingRecordsPredicate implements Predicate<FinanceRecord> {
+
+        private final Supplier<Set<Integer>> search;
+        private Set<Integer> matchingIds;
+        private long matchesVersion;
+        private int matchesUnloadedMonths;
+
+        private MatchingRecordsPredicate(Supplier<Set<Integer>> search) {
+            this.search = search;
+        }
+
+        @Override
+        public boolean test(FinanceRecord financeRecord) {
+            // loading archived months adds records without changing the version
+            if (matchingIds == null || matchesVersion != version
+                    || matchesUnloadedMonths != unloadedArchiveTotals.size()) {
+                matchingIds = search.get();
+                matchesVersion = version;
+                matchesUnloadedMonths = unloadedArchiveTotals.size();
+            }
+            return matchingIds.contains(financeRecord.getID());
+        }
+    }
+
 }
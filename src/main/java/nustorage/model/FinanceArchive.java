@@ -0,0 +1,24 @@
+package nustorage.model;
+
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.List;
+
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.model.record.FinanceRecord;
+
+
+/**
+ * Finance records kept outside of a finance account, which are only loaded into it a month at a time,
+ * when that month is needed.
+ */
+public interface FinanceArchive {
+
+    /**
+     * Returns the archived finance records dated in {@code month}, or an empty list if there are none.
+     * May be called from any thread.
+     */
+    List<FinanceRecord> readMonth(YearMonth month) throws DataConversionException, IOException;
+
+}
@@ -1,12 +1,23 @@
 package nustorage.model;
 
 import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
+import nustorage.commons.util.LazyLoadingList;
+import nustorage.model.record.FinanceIdRenumbering;
 import nustorage.model.record.InventoryRecord;
 import nustorage.model.record.InventoryRecordList;
+import nustorage.model.record.StockColumns;
 
 /**
  * Class to store different InventoryRecords.
@@ -15,27 +26,47 @@ public class Inventory implements ReadOnlyInventory {
 
     private final InventoryRecordList inventoryRecords;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
+    /** Changed before each change to the records, so that listeners of the record list see the new version. */
+    private long version = VersionCounter.nextVersion();
+
+    /** Copy of this inventory that may not have been made yet, or null if none has been handed out. */
+    private DeferredCopy<ReadOnlyInventory> deferredCopy;
+
+    public Inventory() {
         inventoryRecords = new InventoryRecordList();
     }
 
-    public Inventory() {
+    /**
+     * Creates an Inventory using the InventoryRecord in the {@code toBeCopied}.
+     * Records of {@code toBeCopied} that have not been loaded yet are only loaded when they are read.
+     */
+    public Inventory(ReadOnlyInventory toBeCopied) {
+        requireNonNull(toBeCopied);
+        List<InventoryRecord> records = toBeCopied.copyInventoryRecordList();
+        inventoryRecords = toBeCopied.copyStockColumns()
+                .map(columns -> new InventoryRecordList(records, columns))
+                .orElseGet(() -> new InventoryRecordList(records));
+        version = toBeCopied.getVersion();
+    }
 
+    /**
+     * Creates an Inventory holding the {@code inventoryRecords}, which must not contain duplicate records.
+     * If {@code inventoryRecords} is a {@code LazyLoadingList}, its records are only loaded when they are read.
+     */
+    public Inventory(List<InventoryRecord> inventoryRecords) {
+        requireNonNull(inventoryRecords);
+        this.inventoryRecords = new InventoryRecordList(LazyLoadingList.copyOf(inventoryRecords));
     }
 
     /**
-     * Creates an Inventory using the InventoryRecord in the {@code toBeCopied}
+     * Creates an Inventory holding the {@code inventoryRecords}, whose quantities and thresholds are
+     * {@code columns}. If {@code inventoryRecords} is a {@code LazyLoadingList}, its records are only loaded when
+     * they are read, and only those low on stock are read to find the records low on stock.
      */
-    public Inventory(ReadOnlyInventory toBeCopied) {
-        this();
-        resetData(toBeCopied);
+    public Inventory(List<InventoryRecord> inventoryRecords, StockColumns columns) {
+        requireAllNonNull(inventoryRecords, columns);
+        this.inventoryRecords =
+                new InventoryRecordList(LazyLoadingList.copyOf(inventoryRecords), new StockColumns(columns));
     }
 
     //// list overwrite operations
@@ -45,6 +76,7 @@ public class Inventory implements ReadOnlyInventory {
      * {@code inventoryRecords} must not contain duplicate records.
      */
     public void setInventoryRecords(List<InventoryRecord> inventoryRecords) {
+        changeVersion();
         this.inventoryRecords.setInventoryRecords(inventoryRecords);
     }
 
@@ -57,6 +89,19 @@ public class Inventory implements ReadOnlyInventory {
         setInventoryRecords(newData.getInventoryRecordList());
     }
 
+    /**
+     * Replaces the links of the inventory records to finance records with the IDs that {@code renumbering}
+     * renumbered the finance records to.
+     */
+    public void renumberFinanceIds(FinanceIdRenumbering renumbering) {
+        requireNonNull(renumbering);
+        List<InventoryRecord> renumberedRecords = new ArrayList<>();
+        for (InventoryRecord inventoryRecord : inventoryRecords) {
+            renumberedRecords.add(inventoryRecord.withFinanceIdsRenumbered(renumbering));
+        }
+        setInventoryRecords(renumberedRecords);
+    }
+
     //// InventoryRecord-level operations
 
     /**
@@ -72,9 +117,19 @@ public class Inventory implements ReadOnlyInventory {
      * The inventory record must not already exist in the inventory.
      */
     public void addInventoryRecord(InventoryRecord inventoryRecord) {
+        changeVersion();
         inventoryRecords.add(inventoryRecord);
     }
 
+    /**
+     * Inserts an inventory record into the inventory at {@code index}.
+     * The inventory record must not already exist in the inventory.
+     */
+    public void addInventoryRecord(int index, InventoryRecord inventoryRecord) {
+        changeVersion();
+        inventoryRecords.add(index, inventoryRecord);
+    }
+
     /**
      * Replaces the given inventory record {@code target} in the list with {@code editedInventoryRecord}.
      * {@code target} must exist in the inventory.
@@ -84,15 +139,93 @@ public class Inventory implements ReadOnlyInventory {
     public void setInventoryRecord(InventoryRecord target, InventoryRecord editedInventoryRecord) {
         requireNonNull(editedInventoryRecord);
 
+        changeVersion();
         inventoryRecords.setInventoryRecord(target, editedInventoryRecord);
     }
 
     /**
      * Removes {@code key} from this {@code Inventory}.
      * {@code key} must exist in the inventory.
+     *
+     * @return the position {@code key} was removed from.
+     */
+    public int removeInventoryRecord(InventoryRecord key) {
+        changeVersion();
+        return inventoryRecords.remove(key);
+    }
+
+    /**
+     * Returns the inventory records whose item name contains any of the {@code words} as a whole word, ignoring case.
+     * The records are looked up in a word index rather than by testing every record.
+     */
+    public Set<InventoryRecord> getInventoryRecordsWithAnyWord(Collection<String> words) {
+        return inventoryRecords.getRecordsWithAnyWord(words);
+    }
+
+    /**
+     * Returns the inventory records whose item name contains a word that starts with, or is a misspelling of, any of
+     * the {@code words}, ignoring case.
+     *
+     * @see InventoryRecordList#getRecordsWithSimilarWord(Collection)
+     */
+    public Set<InventoryRecord> getInventoryRecordsWithSimilarWord(Collection<String> words) {
+        return inventoryRecords.getRecordsWithSimilarWord(words);
+    }
+
+    /**
+     * Returns the inventory records whose quantity is below their reorder threshold. The set is kept up to date as
+     * the inventory changes, by checking only the records that are added, edited or removed.
+     */
+    public ObservableSet<InventoryRecord> getLowStockInventoryRecords() {
+        return inventoryRecords.getLowStockRecords();
+    }
+
+    /**
+     * Returns a predicate that is true for the inventory records whose item name contains any of the {@code words}
+     * as a whole word, ignoring case.
      */
-    public void removeInventoryRecord(InventoryRecord key) {
-        inventoryRecords.remove(key);
+    public Predicate<InventoryRecord> hasAnyWordPredicate(Collection<String> words) {
+        List<String> wordsCopy = List.copyOf(words);
+        return new MatchingRecordsPredicate(() -> getInventoryRecordsWithAnyWord(wordsCopy));
+    }
+
+    /**
+     * Returns a predicate that is true for the inventory records whose item name contains a word that starts with,
+     * or is a misspelling of, any of the {@code words}, ignoring case.
+     */
+    public Predicate<InventoryRecord> hasSimilarWordPredicate(Collection<String> words) {
+        List<String> wordsCopy = List.copyOf(words);
+        return new MatchingRecordsPredicate(() -> getInventoryRecordsWithSimilarWord(wordsCopy));
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch of changes to this inventory. The inventory record list is only published once the matching
+     * {@link #endBatch()} is called, with a single change for the whole batch.
+     */
+    public void beginBatch() {
+        inventoryRecords.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, and publishes its changes if it is the
+     * outermost batch.
+     */
+    public void endBatch() {
+        inventoryRecords.endBatch();
+    }
+
+    /**
+     * Changes the version of this inventory, which is about to change, after making the copy of it that was handed
+     * out if it has not been made yet.
+     */
+    private void changeVersion() {
+        if (deferredCopy != null) {
+            deferredCopy.get();
+            deferredCopy = null;
+        }
+        version = VersionCounter.nextVersion();
     }
 
     //// util methods
@@ -107,6 +240,34 @@ public class Inventory implements ReadOnlyInventory {
         return inventoryRecords.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<InventoryRecord> copyInventoryRecordList() {
+        return inventoryRecords.copyToList();
+    }
+
+    @Override
+    public Optional<StockColumns> copyStockColumns() {
+        return inventoryRecords.copyColumns();
+    }
+
+    /**
+     * Returns a copy of this inventory that is only made when it is first asked for, or before this inventory next
+     * changes, so that it can be made on another thread. Reading this inventory meanwhile is safe, but it must only
+     * be changed by the thread that called this method.
+     */
+    @Override
+    public DeferredCopy<ReadOnlyInventory> copyDeferred() {
+        if (deferredCopy == null) {
+            deferredCopy = new DeferredCopy<>(() -> new Inventory(this));
+        }
+        return deferredCopy;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -118,6 +279,30 @@ public class Inventory implements ReadOnlyInventory {
     public int hashCode() {
         return inventoryRecords.hashCode();
     }
-}
 
+    /**
+     * A predicate that is true for the records found by a search of this inventory. The records are found when the
+     * predicate is first tested, and found again only after this inventory changes, so testing a record is a single
+     * set lookup.
+     */
+    private class MatchingRecordsPredicate implements Predicate<InventoryRecord> {
+
+        private final Supplier<Set<InventoryRecord>> search;
+        private Set<InventoryRecord> matches;
+        private long matchesVersion;
 
+        private MatchingRecordsPredicate(Supplier<Set<InventoryRecord>> search) {
+            this.search = search;
+        }
+
+        @Override
+        public boolean test(InventoryRecord inventoryRecord) {
+            if (matches == null || matchesVersion != version) {
+                matches = search.get();
+                matchesVersion = version;
+            }
+            return matches.contains(inventoryRecord);
+        }
+    }
+
+}
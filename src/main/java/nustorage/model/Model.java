@@ -2,15 +2,27 @@ package nustorage.model;
 
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import nustorage.commons.core.GuiSettings;
 import nustorage.commons.core.index.Index;
 import nustorage.model.person.Person;
+import nustorage.model.record.FinanceQuery;
 import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceReport;
+import nustorage.model.record.FinanceTotal;
 import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.exceptions.FinanceArchiveException;
 
 
 /**
@@ -127,6 +139,9 @@ public interface Model {
     // --------- Finance Account ---------
 
 
+    /**
+     * Deletes the finance record at {@code targetIndex} of the filtered finance list, if there is one.
+     */
     Optional<FinanceRecord> deleteFinanceRecord(Index targetIndex);
 
 
@@ -144,6 +159,74 @@ public interface Model {
     ObservableList<FinanceRecord> getFilteredFinanceList();
 
 
+    /**
+     * Returns the finance record with the given {@code id}, if it is in the finance account.
+     */
+    Optional<FinanceRecord> getFinanceRecord(int id);
+
+
+    /**
+     * Loads the archived finance records dated from {@code from} to {@code to}, both inclusive,
+     * into the finance account.
+     *
+     * @throws FinanceArchiveException if the archived finance records could not be read.
+     */
+    void loadArchivedFinanceRecords(YearMonth from, YearMonth to);
+
+
+    /**
+     * Loads all the archived finance records into the finance account.
+     *
+     * @throws FinanceArchiveException if the archived finance records could not be read.
+     */
+    void loadAllArchivedFinanceRecords();
+
+
+    /**
+     * Returns the finance records dated from {@code from} to {@code to}, both inclusive, ordered by date-time.
+     * The archived finance records in that period are loaded first.
+     *
+     * @throws FinanceArchiveException if the archived finance records could not be read.
+     */
+    List<FinanceRecord> getFinanceRecordsBetween(LocalDateTime from, LocalDateTime to);
+
+
+    /**
+     * Returns the report of the finance records dated from {@code from} to {@code to}, both inclusive, grouped by
+     * {@code grouping}. The archived finance records in that period are loaded first.
+     *
+     * @throws FinanceArchiveException if the archived finance records could not be read.
+     */
+    FinanceReport getFinanceReport(LocalDateTime from, LocalDateTime to, FinanceReport.Grouping grouping);
+
+
+    /**
+     * Returns the total of all the finance records, including the archived ones.
+     */
+    FinanceTotal getFinanceTotal();
+
+
+    /**
+     * Returns the total of the finance records dated in {@code month}, including the archived ones.
+     */
+    FinanceTotal getMonthlyFinanceTotal(YearMonth month);
+
+
+    /**
+     * Returns the total of the finance records dated on {@code date}.
+     *
+     * @throws FinanceArchiveException if the archived finance records could not be read.
+     */
+    FinanceTotal getDailyFinanceTotal(LocalDate date);
+
+
+    /**
+     * Returns the total of all the finance records as an observable value, which is updated whenever
+     * the finance account changes.
+     */
+    ReadOnlyObjectProperty<FinanceTotal> financeTotalProperty();
+
+
     // --------- Inventory ---------
 
 
@@ -166,12 +249,80 @@ public interface Model {
 
     void updateFilteredInventoryList(Predicate<InventoryRecord> predicate);
 
+    /**
+     * Updates the filter of the filtered inventory list to show only the records whose item name contains any of
+     * the {@code keywords} as a whole word, ignoring case.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredInventoryList(List<String> keywords);
+
+    /**
+     * Updates the filter of the filtered inventory list to show only the records whose item name contains a word that
+     * starts with, or is a misspelling of, any of the {@code keywords}, ignoring case.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredInventoryListToSimilarWords(List<String> keywords);
+
 
     ObservableList<InventoryRecord> getFilteredInventory();
 
 
+    /**
+     * Sorts the filtered inventory list by {@code sortKey}, largest first if {@code isDescending}, or shows it in
+     * the order of the inventory if {@code sortKey} is null. The list stays sorted as records change.
+     */
+    void sortFilteredInventoryList(ToLongFunction<InventoryRecord> sortKey, boolean isDescending);
+
+
+    /**
+     * Returns the inventory records whose quantity is below their reorder threshold, as a set that is kept up to
+     * date as the inventory changes.
+     */
+    ObservableSet<InventoryRecord> getLowStockInventory();
+
+
     Inventory getInventory();
 
+
+    // --------- Batches ---------
+
+
+    /**
+     * Applies {@code mutations} to this model as a single batch. The finance and inventory lists, and the lists
+     * filtered from them, are only notified once all the mutations are applied, with a single change each.
+     */
+    void batch(Consumer<Model> mutations);
+
+
+    // --------- History ---------
+
+
+    /**
+     * Ends the current step of the undo history, made of the changes to the finance account and inventory since
+     * the previous step. Called once every command has been executed.
+     *
+     * @return true if the step made any change.
+     */
+    boolean commitChanges();
+
+
+    boolean canUndo();
+
+
+    boolean canRedo();
+
+
+    /**
+     * Undoes the changes of the latest step of the undo history. There must be a step to undo.
+     */
+    void undo();
+
+
+    /**
+     * Redoes the changes of the latest step that was undone. There must be a step to redo.
+     */
+    void redo();
+
     // <<<<<<< HEAD
     //
     // =======
@@ -187,5 +338,30 @@ public interface Model {
 
 
     void updateFilteredFinanceList(Predicate<FinanceRecord> predicate);
+
+
+
+    /**
+     * Updates the filter of the filtered finance list to show the finance records dated from {@code from}
+     * to {@code to}, both inclusive. The archived finance records in that period are loaded first.
+     *
+     * @throws FinanceArchiveException if the archived finance records could not be read.
+     */
+    void updateFilteredFinanceList(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Updates the filter of the filtered finance list to show the finance records that meet every condition of
+     * {@code query}. The archived finance records in its period, or all of them if it has none, are loaded first.
+     *
+     * @throws FinanceArchiveException if the archived finance records could not be read.
+     */
+    void updateFilteredFinanceList(FinanceQuery query);
+
+
+    /**
+     * Sorts the filtered finance list by {@code sortKey}, largest first if {@code isDescending}, or shows it in the
+     * order of the finance account if {@code sortKey} is null. The list stays sorted as records change.
+     */
+    void sortFilteredFinanceList(ToLongFunction<FinanceRecord> sortKey, boolean isDescending);
     // >>>>>>> ba85e094c7db7ddb7b4601fc17379125a0c3bc68
 }
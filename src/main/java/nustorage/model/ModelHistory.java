@@ -0,0 +1,142 @@
+package nustorage.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The undo and redo history of a model.
+ * <p>
+ * Each step of the history is the list of changes made by one command, each recorded as the pair of actions that
+ * undo and redo it, rather than a copy of the data before the step. A step therefore takes memory in proportion
+ * to the records it changed, however many records there are. Changes are recorded as they are made, and grouped
+ * into a step by {@link #commit()}. Only the latest {@code depth} steps are kept; older steps are dropped.
+ */
+public class ModelHistory {
+
+    private final Deque<List<Change>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Change>> redoSteps = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+    private int depth;
+
+    /** Whether a step is being undone or redone, during which changes are not recorded. */
+    private boolean isReplaying;
+
+    /**
+     * Creates an empty history that keeps the latest {@code depth} steps.
+     */
+    public ModelHistory(int depth) {
+        setDepth(depth);
+    }
+
+    /**
+     * Keeps only the latest {@code depth} steps from now on. No steps are kept if {@code depth} is not positive.
+     */
+    public void setDepth(int depth) {
+        this.depth = Math.max(0, depth);
+        trimSteps();
+    }
+
+    /**
+     * Records a change, which is undone by {@code undo} and redone by {@code redo}.
+     * Changes made while a step is being undone or redone are not recorded.
+     */
+    public void record(Runnable undo, Runnable redo) {
+        requireNonNull(undo);
+        requireNonNull(redo);
+        if (!isReplaying && depth > 0) {
+            pendingChanges.add(new Change(undo, redo));
+        }
+    }
+
+    /**
+     * Groups the changes recorded since the previous step into a new step, which discards the steps that were
+     * undone.
+     *
+     * @return true if any change was recorded since the previous step.
+     */
+    public boolean commit() {
+        if (pendingChanges.isEmpty()) {
+            return false;
+        }
+        undoSteps.push(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoSteps.clear();
+        trimSteps();
+        return true;
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty() || !pendingChanges.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return pendingChanges.isEmpty() && !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the latest step, including the changes that have not been committed yet.
+     * There must be a step to undo.
+     */
+    public void undo() {
+        commit();
+        assert canUndo() : "No step to undo!";
+        List<Change> step = undoSteps.pop();
+        isReplaying = true;
+        try {
+            for (int i = step.size() - 1; i >= 0; i--) {
+                step.get(i).undo.run();
+            }
+        } finally {
+            isReplaying = false;
+        }
+        redoSteps.push(step);
+    }
+
+    /**
+     * Redoes the latest step that was undone. There must be a step to redo.
+     */
+    public void redo() {
+        assert canRedo() : "No step to redo!";
+        List<Change> step = redoSteps.pop();
+        isReplaying = true;
+        try {
+            for (Change change : step) {
+                change.redo.run();
+            }
+        } finally {
+            isReplaying = false;
+        }
+        undoSteps.push(step);
+    }
+
+    private void trimSteps() {
+        while (undoSteps.size() > depth) {
+            undoSteps.removeLast();
+        }
+        while (redoSteps.size() > depth) {
+            redoSteps.removeLast();
+        }
+        if (depth == 0) {
+            pendingChanges.clear();
+        }
+    }
+
+    /**
+     * A change to the model, with the actions that undo and redo it.
+     */
+    private static class Change {
+
+        private final Runnable undo;
+        private final Runnable redo;
+
+        private Change(Runnable undo, Runnable redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+
+}
@@ -5,17 +5,31 @@ import static java.util.Objects.requireNonNull;
 import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import javafx.collections.transformation.FilteredList;
 import nustorage.commons.core.GuiSettings;
 import nustorage.commons.core.LogsCenter;
 import nustorage.commons.core.index.Index;
+import nustorage.commons.util.KeySortedList;
 import nustorage.model.person.Person;
+import nustorage.model.record.FinanceQuery;
 import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceReport;
+import nustorage.model.record.FinanceTotal;
 import nustorage.model.record.InventoryRecord;
 
 
@@ -33,6 +47,9 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<InventoryRecord> filteredInventory;
     private final FilteredList<FinanceRecord> filteredFinance;
+    private final KeySortedList<InventoryRecord> sortedInventory;
+    private final KeySortedList<FinanceRecord> sortedFinance;
+    private final ModelHistory history;
 
 
     /**
@@ -48,10 +65,13 @@ public class ModelManager implements Model {
         this.financeAccount = new FinanceAccount();
         filteredInventory = new FilteredList<>(this.inventory.getInventoryRecordList());
         filteredFinance = new FilteredList<>(this.financeAccount.getFinanceList());
+        sortedInventory = new KeySortedList<>(filteredInventory);
+        sortedFinance = new KeySortedList<>(filteredFinance);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        history = new ModelHistory(userPrefs.getUndoHistoryDepth());
     }
 
 
@@ -71,7 +91,10 @@ public class ModelManager implements Model {
 
         this.inventory = new Inventory(inventory);
         filteredInventory = new FilteredList<>(this.inventory.getInventoryRecordList());
+        sortedInventory = new KeySortedList<>(filteredInventory);
+        sortedFinance = new KeySortedList<>(filteredFinance);
         this.userPrefs = new UserPrefs(userPrefs);
+        history = new ModelHistory(userPrefs.getUndoHistoryDepth());
 
         // duplicate so programme runs. will be deleted.
         this.addressBook = new AddressBook();
@@ -95,6 +118,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setDepth(userPrefs.getUndoHistoryDepth());
     }
 
 
@@ -119,13 +143,27 @@ public class ModelManager implements Model {
     //=========== Inventory ================================================================================
 
 
+    @Override
     public void addInventoryRecord(InventoryRecord newRecord) {
         inventory.addInventoryRecord(newRecord);
+        history.record(() -> inventory.removeInventoryRecord(newRecord), () ->
+                inventory.addInventoryRecord(newRecord));
     }
 
 
     public ObservableList<InventoryRecord> getFilteredInventory() {
-        return filteredInventory;
+        return sortedInventory;
+    }
+
+
+    @Override
+    public void sortFilteredInventoryList(ToLongFunction<InventoryRecord> sortKey, boolean isDescending) {
+        sortedInventory.setSortKey(sortKey, isDescending);
+    }
+
+    @Override
+    public ObservableSet<InventoryRecord> getLowStockInventory() {
+        return inventory.getLowStockInventoryRecords();
     }
 
 
@@ -139,6 +177,18 @@ public class ModelManager implements Model {
         filteredInventory.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredInventoryList(List<String> keywords) {
+        requireNonNull(keywords);
+        filteredInventory.setPredicate(inventory.hasAnyWordPredicate(keywords));
+    }
+
+    @Override
+    public void updateFilteredInventoryListToSimilarWords(List<String> keywords) {
+        requireNonNull(keywords);
+        filteredInventory.setPredicate(inventory.hasSimilarWordPredicate(keywords));
+    }
+
     @Override
     public Inventory getInventory() {
         return inventory;
@@ -156,6 +206,8 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedInventoryRecord);
 
         inventory.setInventoryRecord(target, editedInventoryRecord);
+        history.record(() -> inventory.setInventoryRecord(editedInventoryRecord, target), () ->
+                inventory.setInventoryRecord(target, editedInventoryRecord));
     }
 
 
@@ -163,7 +215,51 @@ public class ModelManager implements Model {
     public void deleteInventoryRecord(InventoryRecord target) {
         requireAllNonNull(target);
 
-        inventory.removeInventoryRecord(target);
+        int index = inventory.removeInventoryRecord(target);
+        history.record(() -> inventory.addInventoryRecord(index, target), () ->
+                inventory.removeInventoryRecord(target));
+    }
+
+    //=========== Batches ================================================================================
+
+    @Override
+    public void batch(Consumer<Model> mutations) {
+        requireNonNull(mutations);
+        financeAccount.beginBatch();
+        inventory.beginBatch();
+        try {
+            mutations.accept(this);
+        } finally {
+            inventory.endBatch();
+            financeAccount.endBatch();
+        }
+    }
+
+    //=========== History ================================================================================
+
+    @Override
+    public boolean commitChanges() {
+        return history.commit();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        batch(model -> history.undo());
+    }
+
+    @Override
+    public void redo() {
+        batch(model -> history.redo());
     }
 
     //=========== FinanceAccount ================================================================================
@@ -172,12 +268,26 @@ public class ModelManager implements Model {
     @Override
     public void addFinanceRecord(FinanceRecord newRecord) {
         financeAccount.addFinanceRecord(newRecord);
+        history.record(() -> financeAccount.removeFinanceRecord(newRecord), () ->
+                financeAccount.addFinanceRecord(newRecord));
     }
 
 
     @Override
     public ObservableList<FinanceRecord> getFilteredFinanceList() {
-        return filteredFinance;
+        return sortedFinance;
+    }
+
+
+    @Override
+    public void sortFilteredFinanceList(ToLongFunction<FinanceRecord> sortKey, boolean isDescending) {
+        sortedFinance.setSortKey(sortKey, isDescending);
+    }
+
+
+    @Override
+    public Optional<FinanceRecord> getFinanceRecord(int id) {
+        return financeAccount.getFinanceRecord(id);
     }
 
 
@@ -186,6 +296,66 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedFinanceRecord);
 
         financeAccount.setFinanceRecord(target, editedFinanceRecord);
+        history.record(() -> financeAccount.setFinanceRecord(editedFinanceRecord, target), () ->
+                financeAccount.setFinanceRecord(target, editedFinanceRecord));
+    }
+
+
+    @Override
+    public void loadArchivedFinanceRecords(YearMonth from, YearMonth to) {
+        requireAllNonNull(from, to);
+
+        if (financeAccount.loadArchivedMonths(from, to)) {
+            logger.fine("Loaded archived finance records from " + from + " to " + to);
+        }
+    }
+
+
+    @Override
+    public void loadAllArchivedFinanceRecords() {
+        if (financeAccount.loadAllArchivedMonths()) {
+            logger.fine("Loaded all archived finance records");
+        }
+    }
+
+
+    @Override
+    public List<FinanceRecord> getFinanceRecordsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return financeAccount.getFinanceRecordsBetween(from, to);
+    }
+
+
+    @Override
+    public FinanceReport getFinanceReport(LocalDateTime from, LocalDateTime to, FinanceReport.Grouping grouping) {
+        requireAllNonNull(from, to, grouping);
+        return financeAccount.getReport(from, to, grouping);
+    }
+
+
+    @Override
+    public FinanceTotal getFinanceTotal() {
+        return financeAccount.getTotal();
+    }
+
+
+    @Override
+    public FinanceTotal getMonthlyFinanceTotal(YearMonth month) {
+        requireNonNull(month);
+        return financeAccount.getMonthlyTotal(month);
+    }
+
+
+    @Override
+    public FinanceTotal getDailyFinanceTotal(LocalDate date) {
+        requireNonNull(date);
+        return financeAccount.getDailyTotal(date);
+    }
+
+
+    @Override
+    public ReadOnlyObjectProperty<FinanceTotal> financeTotalProperty() {
+        return financeAccount.totalProperty();
     }
 
 
@@ -203,9 +373,50 @@ public class ModelManager implements Model {
     }
 
 
+    @Override
+    public void updateFilteredFinanceList(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        loadArchivedFinanceRecords(YearMonth.from(from), YearMonth.from(to));
+        filteredFinance.setPredicate(record -> !record.getDatetime().isBefore(from)
+                && !record.getDatetime().isAfter(to));
+    }
+
+
+    @Override
+    public void updateFilteredFinanceList(FinanceQuery query) {
+        requireNonNull(query);
+        if (query.hasPeriod()) {
+            loadArchivedFinanceRecords(YearMonth.from(query.getFrom()), YearMonth.from(query.getTo()));
+        } else {
+            loadAllArchivedFinanceRecords();
+        }
+
+        Set<Integer> linkedIds = new HashSet<>();
+        if (query.hasItemKeywords()) {
+            for (InventoryRecord inventoryRecord : inventory.getInventoryRecordsWithAnyWord(query.getItemKeywords())) {
+                linkedIds.addAll(inventoryRecord.getLinkedFinanceIds());
+            }
+        }
+        filteredFinance.setPredicate(financeAccount.matchingPredicate(query, linkedIds));
+    }
+
+
     @Override
     public Optional<FinanceRecord> deleteFinanceRecord(Index targetIndex) {
-        return financeAccount.removeFinanceRecord(targetIndex);
+        requireNonNull(targetIndex);
+        if (targetIndex.getZeroBased() >= sortedFinance.size()) {
+            return Optional.empty();
+        }
+        int index = sortedFinance.getSourceIndexFor(financeAccount.getFinanceList(), targetIndex.getZeroBased());
+        Optional<FinanceRecord> removedRecord = financeAccount.removeFinanceRecord(Index.fromZeroBased(index));
+        removedRecord.ifPresent(financeRecord -> {
+            // archived months are loaded before the other records, so the records after it do not move
+            int recordsAfter = financeAccount.getFinanceList().size() - index;
+            history.record(() -> financeAccount.addFinanceRecord(
+                    financeAccount.getFinanceList().size() - recordsAfter, financeRecord), () ->
+                    financeAccount.removeFinanceRecord(financeRecord));
+        });
+        return removedRecord;
     }
 
 
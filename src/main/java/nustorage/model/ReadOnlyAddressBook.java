@@ -14,4 +14,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+
+    /**
+     * Returns the modification version of the address book.
+     * The version changes whenever the address book is modified,
+     * and copies of the address book share its version.
+     */
+    long getVersion();
+
 }
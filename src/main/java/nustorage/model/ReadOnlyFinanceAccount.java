@@ -1,8 +1,19 @@
 package nustorage.model;
 
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
 import javafx.collections.ObservableList;
+import nustorage.model.record.FinanceColumns;
+import nustorage.model.record.FinanceIdRenumbering;
 import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceTotal;
 
 
 /**
@@ -16,4 +27,65 @@ public interface ReadOnlyFinanceAccount {
      */
     ObservableList<FinanceRecord> getFinanceList();
 
+
+    /**
+     * Returns a modifiable copy of the finance records, which can be read without loading records
+     * that have not been read yet.
+     */
+    default List<FinanceRecord> copyFinanceList() {
+        return new ArrayList<>(getFinanceList());
+    }
+
+
+    /**
+     * Returns a copy of the columns of the finance records, in the order of {@link #copyFinanceList()}, if they
+     * are available without reading the finance records.
+     */
+    default Optional<FinanceColumns> copyFinanceColumns() {
+        return Optional.empty();
+    }
+
+
+    /**
+     * Returns a copy of this finance account that may be made later on another thread, before this finance account
+     * next changes (see {@link DeferredCopy}). The copy is made right away unless the finance account defers it.
+     */
+    default DeferredCopy<ReadOnlyFinanceAccount> copyDeferred() {
+        return DeferredCopy.of(new FinanceAccount(this));
+    }
+
+
+    /**
+     * Returns the IDs that the finance records were renumbered to when they were read, if their data file was
+     * written by an older version of the app (see {@link FinanceIdRenumbering}).
+     */
+    default Optional<FinanceIdRenumbering> getIdRenumbering() {
+        return Optional.empty();
+    }
+
+
+    /**
+     * Returns the months whose finance records are archived, and are not part of this finance account
+     * until they are loaded.
+     */
+    default SortedSet<YearMonth> getUnloadedArchiveMonths() {
+        return Collections.emptySortedSet();
+    }
+
+
+    /**
+     * Returns the total of each month in {@link #getUnloadedArchiveMonths()}.
+     */
+    default SortedMap<YearMonth, FinanceTotal> getUnloadedArchiveTotals() {
+        return Collections.emptySortedMap();
+    }
+
+
+    /**
+     * Returns the modification version of the finance account.
+     * The version changes whenever the finance account is modified,
+     * and copies of the finance account share its version.
+     */
+    long getVersion();
+
 }
@@ -1,7 +1,12 @@
 package nustorage.model;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.StockColumns;
 
 /**
  * Unmodifiable view of an address book
@@ -13,4 +18,39 @@ public interface ReadOnlyInventory {
      * This list will not contain any duplicate persons.
      */
     ObservableList<InventoryRecord> getInventoryRecordList();
+
+
+    /**
+     * Returns a modifiable copy of the inventory records, which can be read without loading records
+     * that have not been read yet.
+     */
+    default List<InventoryRecord> copyInventoryRecordList() {
+        return new ArrayList<>(getInventoryRecordList());
+    }
+
+
+    /**
+     * Returns a copy of the quantities and reorder thresholds of the inventory records, in the same order, if they
+     * are known without reading the records.
+     */
+    default Optional<StockColumns> copyStockColumns() {
+        return Optional.empty();
+    }
+
+
+    /**
+     * Returns a copy of this inventory that may be made later on another thread, before this inventory next changes
+     * (see {@link DeferredCopy}). The copy is made right away unless the inventory defers it.
+     */
+    default DeferredCopy<ReadOnlyInventory> copyDeferred() {
+        return DeferredCopy.of(new Inventory(this));
+    }
+
+
+    /**
+     * Returns the modification version of the inventory.
+     * The version changes whenever the inventory is modified,
+     * and copies of the inventory share its version.
+     */
+    long getVersion();
 }
@@ -3,6 +3,7 @@ package nustorage.model;
 import java.nio.file.Path;
 
 import nustorage.commons.core.GuiSettings;
+import nustorage.commons.core.StorageSettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -11,6 +12,13 @@ public interface ReadOnlyUserPrefs {
 
     GuiSettings getGuiSettings();
 
+    StorageSettings getStorageSettings();
+
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the number of commands that can be undone.
+     */
+    int getUndoHistoryDepth();
+
 }
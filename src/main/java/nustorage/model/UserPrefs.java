@@ -7,16 +7,21 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import nustorage.commons.core.GuiSettings;
+import nustorage.commons.core.StorageSettings;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    private static final int DEFAULT_UNDO_HISTORY_DEPTH = 50;
+
     private GuiSettings guiSettings = new GuiSettings();
+    private StorageSettings storageSettings = new StorageSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path financeAccountFilePath = Paths.get("data", "financeAccount.json");
     private Path inventoryFilePath = Paths.get("data", "inventory.json");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,7 +42,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void resetData(ReadOnlyUserPrefs newUserPrefs) {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setStorageSettings(newUserPrefs.getStorageSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -49,6 +56,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    public StorageSettings getStorageSettings() {
+        return storageSettings;
+    }
+
+    public void setStorageSettings(StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
+        this.storageSettings = storageSettings;
+    }
+
     public Path getAddressBookFilePath() {
         return addressBookFilePath;
     }
@@ -66,6 +82,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -78,19 +102,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && storageSettings.equals(o.storageSettings)
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && undoHistoryDepth == o.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, storageSettings, addressBookFilePath, undoHistoryDepth);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
+        sb.append("\nStorage Settings : " + storageSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
@@ -0,0 +1,25 @@
+package nustorage.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the modification versions of the data stores in the model.
+ * Versions are unique across all stores and increase over time, so a store that is modified or replaced
+ * never ends up with a version it had before.
+ */
+public final class VersionCounter {
+
+    /** A version that no store ever has, e.g. for a store that has not been saved yet. */
+    public static final long NO_VERSION = 0;
+
+    private static final AtomicLong lastVersion = new AtomicLong(NO_VERSION);
+
+    private VersionCounter() {} // prevents instantiation
+
+    /**
+     * Returns a new version, greater than all the versions handed out before it.
+     */
+    public static long nextVersion() {
+        return lastVersion.incrementAndGet();
+    }
+}
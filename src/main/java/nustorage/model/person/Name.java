@@ -3,6 +3,10 @@ package nustorage.model.person;
 import static java.util.Objects.requireNonNull;
 import static nustorage.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import nustorage.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +24,9 @@ public class Name {
 
     public final String fullName;
 
+    /** The words of the name in lower case, or null until they are first needed. */
+    private List<String> words;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -38,6 +45,15 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of the name in lower case, which are only split from the name once.
+     */
+    public List<String> getWords() {
+        if (words == null) {
+            words = List.copyOf(StringUtil.toLowerCaseWords(fullName));
+        }
+        return words;
+    }
 
     @Override
     public String toString() {
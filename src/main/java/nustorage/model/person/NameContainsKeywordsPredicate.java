@@ -3,22 +3,26 @@ package nustorage.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import nustorage.commons.util.StringUtil;
+import nustorage.commons.util.KeywordMatcher;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate that matches the names with any of the {@code keywords} as a word, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return matcher.matchesAny(person.getName().getWords());
     }
 
     @Override
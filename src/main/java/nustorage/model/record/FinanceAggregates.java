@@ -0,0 +1,84 @@
+package nustorage.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+
+/**
+ * Totals of a list of finance records, overall, per day and per month, which are kept up to date as records
+ * are added and removed, so that reading a total does not sum the records.
+ * <p>
+ * Only {@link FinanceRecordList} updates the totals; to others they are read-only.
+ */
+public class FinanceAggregates {
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private FinanceTotal total = FinanceTotal.ZERO;
+    private final HashMap<LocalDate, FinanceTotal> dailyTotals = new HashMap<>();
+    private final HashMap<YearMonth, FinanceTotal> monthlyTotals = new HashMap<>();
+
+    /**
+     * Creates the totals of the records in {@code columns}, without reading the records.
+     */
+    FinanceAggregates(FinanceColumns columns) {
+        // records are mostly in order of date, so the records of a day are summed before they are added to the map
+        int size = columns.size();
+        int start = 0;
+        while (start < size) {
+            long day = Math.floorDiv(columns.getEpochSecond(start), SECONDS_PER_DAY);
+            long amountInCents = 0;
+            int end = start;
+            while (end < size && Math.floorDiv(columns.getEpochSecond(end), SECONDS_PER_DAY) == day) {
+                amountInCents = Math.addExact(amountInCents, columns.getAmountInCents(end));
+                end++;
+            }
+            add(LocalDate.ofEpochDay(day), new FinanceTotal(amountInCents, end - start));
+            start = end;
+        }
+    }
+
+    private void add(LocalDate date, FinanceTotal dateTotal) {
+        total = total.plus(dateTotal);
+        dailyTotals.merge(date, dateTotal, FinanceTotal::plus);
+        monthlyTotals.merge(YearMonth.from(date), dateTotal, FinanceTotal::plus);
+    }
+
+    void add(FinanceRecord record) {
+        add(record.getDatetime().toLocalDate(), FinanceTotal.ZERO.plus(record));
+    }
+
+    void remove(FinanceRecord record) {
+        total = total.minus(record);
+        // a day or month without records is dropped, so that the maps do not keep every day ever used
+        dailyTotals.computeIfPresent(record.getDatetime().toLocalDate(), (unused, dailyTotal) ->
+                dailyTotal.getCount() > 1 ? dailyTotal.minus(record) : null);
+        monthlyTotals.computeIfPresent(YearMonth.from(record.getDatetime()), (unused, monthlyTotal) ->
+                monthlyTotal.getCount() > 1 ? monthlyTotal.minus(record) : null);
+    }
+
+    /**
+     * Returns the total of all the records.
+     */
+    public FinanceTotal getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the total of the records dated on {@code date}.
+     */
+    public FinanceTotal getDailyTotal(LocalDate date) {
+        requireNonNull(date);
+        return dailyTotals.getOrDefault(date, FinanceTotal.ZERO);
+    }
+
+    /**
+     * Returns the total of the records dated in {@code month}.
+     */
+    public FinanceTotal getMonthlyTotal(YearMonth month) {
+        requireNonNull(month);
+        return monthlyTotals.getOrDefault(month, FinanceTotal.ZERO);
+    }
+}
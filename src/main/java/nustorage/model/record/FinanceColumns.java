@@ -0,0 +1,496 @@
+package nustorage.model.record;
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The IDs, amounts and date-times of a list of finance records, stored column by column in primitive arrays, in
+ * the order of the list.
+ * <p>
+ * Amounts are stored in cents, and date-times as the epoch second and nanosecond of the local date-time, as if it
+ * were in UTC. Sums, filters and range scans are loops over the arrays, which neither create nor read the
+ * {@code FinanceRecord} objects, so that records only need to be created to be displayed.
+ * <p>
+ * The positions of the records in order of date-time, and in order of amount, are built when a period or a range
+ * of amounts is first looked up, so that the records in it are counted and found with a binary search. They are
+ * kept up to date as single records are added, edited or removed, and built again after larger changes.
+ */
+public class FinanceColumns {
+
+    private static final int MIN_CAPACITY = 16;
+    /**
+     * Number of slots kept free after the last record for the bounds of a lookup, so that a lookup never
+     * reallocates the columns, and the columns can be copied on another thread while they are looked up.
+     */
+    private static final int PROBE_COUNT = 2;
+
+    private int[] ids;
+    private long[] amountsInCents;
+    private long[] epochSeconds;
+    private int[] nanos;
+    private int size;
+
+    /** Positions of the records in order of date-time, then of position. */
+    private final PositionOrder datetimeOrder = new PositionOrder() {
+        @Override
+        int compareKeys(int position, int otherPosition) {
+            int result = Long.compare(epochSeconds[position], epochSeconds[otherPosition]);
+            return result != 0 ? result : Integer.compare(nanos[position], nanos[otherPosition]);
+        }
+    };
+
+    /** Positions of the records in order of amount, then of position. */
+    private final PositionOrder amountOrder = new PositionOrder() {
+        @Override
+        int compareKeys(int position, int otherPosition) {
+            return Long.compare(amountsInCents[position], amountsInCents[otherPosition]);
+        }
+    };
+
+    private final List<PositionOrder> orders = List.of(datetimeOrder, amountOrder);
+
+    /**
+     * Creates empty columns with room for {@code capacity} records.
+     */
+    public FinanceColumns(int capacity) {
+        assert capacity >= 0 : "Capacity must not be negative!";
+        int length = Math.max(MIN_CAPACITY, capacity + PROBE_COUNT);
+        ids = new int[length];
+        amountsInCents = new long[length];
+        epochSeconds = new long[length];
+        nanos = new int[length];
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public FinanceColumns(FinanceColumns toBeCopied) {
+        requireNonNull(toBeCopied);
+        size = toBeCopied.size;
+        int length = Math.max(MIN_CAPACITY, size + PROBE_COUNT);
+        ids = new int[length];
+        amountsInCents = new long[length];
+        epochSeconds = new long[length];
+        nanos = new int[length];
+        // the probe slots are not copied, as they may be being written by a lookup on another thread
+        System.arraycopy(toBeCopied.ids, 0, ids, 0, size);
+        System.arraycopy(toBeCopied.amountsInCents, 0, amountsInCents, 0, size);
+        System.arraycopy(toBeCopied.epochSeconds, 0, epochSeconds, 0, size);
+        System.arraycopy(toBeCopied.nanos, 0, nanos, 0, size);
+    }
+
+    /**
+     * Returns the columns of {@code records}, which are all read.
+     */
+    public static FinanceColumns of(List<FinanceRecord> records) {
+        requireNonNull(records);
+        FinanceColumns columns = new FinanceColumns(records.size());
+        columns.addAll(0, records);
+        return columns;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a record with the given details, without creating it.
+     */
+    public void add(int id, long amountInCents, LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        ensureCapacity(size + 1);
+        set(size, id, amountInCents, dateTime);
+        size++;
+        insertPosition(size - 1);
+    }
+
+    /**
+     * Inserts the columns of {@code records} at {@code index}, in order.
+     */
+    public void addAll(int index, List<FinanceRecord> records) {
+        requireAllNonNull(records);
+        checkIndex(index, size + 1);
+        int count = records.size();
+        ensureCapacity(size + count);
+        shift(index, index + count);
+        for (int i = 0; i < count; i++) {
+            FinanceRecord record = records.get(i);
+            set(index + i, record.getID(), record.getAmountInCents(), record.getDatetime());
+        }
+        if (count == 1) {
+            movePositions(index, 1);
+            insertPosition(index);
+        } else if (count > 0) {
+            clearOrders();
+        }
+    }
+
+    /**
+     * Replaces the columns at {@code index} with those of {@code record}.
+     */
+    public void set(int index, FinanceRecord record) {
+        requireNonNull(record);
+        checkIndex(index, size);
+        removePosition(index);
+        set(index, record.getID(), record.getAmountInCents(), record.getDatetime());
+        insertPosition(index);
+    }
+
+    private void set(int index, int id, long amountInCents, LocalDateTime dateTime) {
+        ids[index] = id;
+        amountsInCents[index] = amountInCents;
+        epochSeconds[index] = dateTime.toEpochSecond(ZoneOffset.UTC);
+        nanos[index] = dateTime.getNano();
+    }
+
+    /**
+     * Replaces the columns from {@code from} (inclusive) to {@code to} (exclusive) with those of {@code records}.
+     */
+    public void replaceRange(int from, int to, List<FinanceRecord> records) {
+        requireAllNonNull(records);
+        assert from >= 0 && from <= to && to <= size : "Range is out of bounds!";
+        shift(to, from);
+        clearOrders();
+        addAll(from, records);
+    }
+
+    /**
+     * Removes the columns at {@code index}.
+     */
+    public void remove(int index) {
+        checkIndex(index, size);
+        removePosition(index);
+        shift(index + 1, index);
+        movePositions(index + 1, -1);
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public long getAmountInCents(int index) {
+        return amountsInCents[index];
+    }
+
+    public long getEpochSecond(int index) {
+        return epochSeconds[index];
+    }
+
+    public LocalDateTime getDatetime(int index) {
+        return LocalDateTime.ofEpochSecond(epochSeconds[index], nanos[index], ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the position of the first record with the given {@code id} from {@code start} on, or -1 if there is
+     * none.
+     */
+    public int indexOfId(int id, int start) {
+        for (int i = start; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the total of all the records.
+     */
+    public FinanceTotal getTotal() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total = Math.addExact(total, amountsInCents[i]);
+        }
+        return new FinanceTotal(total, size);
+    }
+
+    /**
+     * Returns the positions of the records dated from {@code from} to {@code to}, both inclusive, in order of
+     * date-time, then of position.
+     */
+    public int[] indexesBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return new int[0];
+        }
+        setProbeDatetimes(from, to);
+        return datetimeOrder.positionsBetweenProbes();
+    }
+
+    /**
+     * Returns the number of records dated from {@code from} to {@code to}, both inclusive.
+     */
+    public int countBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        setProbeDatetimes(from, to);
+        return datetimeOrder.countBetweenProbes();
+    }
+
+    /**
+     * Returns true if the record at {@code index} is dated from {@code from} to {@code to}, both inclusive.
+     */
+    public boolean isDatedBetween(int index, LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        setProbeDatetimes(from, to);
+        return datetimeOrder.compareKeys(index, size) >= 0 && datetimeOrder.compareKeys(index, size + 1) <= 0;
+    }
+
+    /**
+     * Returns the positions of the records with amounts from {@code minInCents} to {@code maxInCents}, both
+     * inclusive, in order of amount, then of position.
+     */
+    public int[] indexesWithAmountBetween(long minInCents, long maxInCents) {
+        if (minInCents > maxInCents) {
+            return new int[0];
+        }
+        setProbeAmounts(minInCents, maxInCents);
+        return amountOrder.positionsBetweenProbes();
+    }
+
+    /**
+     * Returns the number of records with amounts from {@code minInCents} to {@code maxInCents}, both inclusive.
+     */
+    public int countWithAmountBetween(long minInCents, long maxInCents) {
+        if (minInCents > maxInCents) {
+            return 0;
+        }
+        setProbeAmounts(minInCents, maxInCents);
+        return amountOrder.countBetweenProbes();
+    }
+
+    // The bounds of a range are looked up as two probe records just after the last record, at positions size and
+    // size + 1, so that they are compared with the records like any other record.
+
+    private void setProbeDatetimes(LocalDateTime from, LocalDateTime to) {
+        assert size + PROBE_COUNT <= ids.length : "No room for the probe records!";
+        epochSeconds[size] = from.toEpochSecond(ZoneOffset.UTC);
+        nanos[size] = from.getNano();
+        epochSeconds[size + 1] = to.toEpochSecond(ZoneOffset.UTC);
+        nanos[size + 1] = to.getNano();
+    }
+
+    private void setProbeAmounts(long minInCents, long maxInCents) {
+        assert size + PROBE_COUNT <= ids.length : "No room for the probe records!";
+        amountsInCents[size] = minInCents;
+        amountsInCents[size + 1] = maxInCents;
+    }
+
+    /**
+     * Inserts {@code position} into the orders that are built, which hold every other position.
+     */
+    private void insertPosition(int position) {
+        for (PositionOrder order : orders) {
+            if (order.isBuilt()) {
+                order.insert(position);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code position} from the orders that are built, before the record at it changes.
+     */
+    private void removePosition(int position) {
+        for (PositionOrder order : orders) {
+            if (order.isBuilt()) {
+                order.remove(position);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code offset} to every position from {@code from} on in the orders that are built.
+     */
+    private void movePositions(int from, int offset) {
+        for (PositionOrder order : orders) {
+            if (order.isBuilt()) {
+                order.move(from, offset);
+            }
+        }
+    }
+
+    private void clearOrders() {
+        for (PositionOrder order : orders) {
+            order.clear();
+        }
+    }
+
+    /**
+     * Moves the columns from {@code from} to the end so that they start at {@code to}, and updates the size.
+     */
+    private void shift(int from, int to) {
+        int count = size - from;
+        System.arraycopy(ids, from, ids, to, count);
+        System.arraycopy(amountsInCents, from, amountsInCents, to, count);
+        System.arraycopy(epochSeconds, from, epochSeconds, to, count);
+        System.arraycopy(nanos, from, nanos, to, count);
+        size += to - from;
+    }
+
+    /**
+     * Makes room for {@code capacity} records, and the probe records after them.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity + PROBE_COUNT > ids.length) {
+            int length = Math.max(capacity + PROBE_COUNT, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, length);
+            amountsInCents = Arrays.copyOf(amountsInCents, length);
+            epochSeconds = Arrays.copyOf(epochSeconds, length);
+            nanos = Arrays.copyOf(nanos, length);
+        }
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FinanceColumns)) {
+            return false;
+        }
+        FinanceColumns otherColumns = (FinanceColumns) other;
+        return size == otherColumns.size
+                && Arrays.equals(ids, 0, size, otherColumns.ids, 0, size)
+                && Arrays.equals(amountsInCents, 0, size, otherColumns.amountsInCents, 0, size)
+                && Arrays.equals(epochSeconds, 0, size, otherColumns.epochSeconds, 0, size)
+                && Arrays.equals(nanos, 0, size, otherColumns.nanos, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(Arrays.copyOf(ids, size));
+    }
+
+    /**
+     * The positions of the records in order of a key, then of position, so that the records with keys in a range
+     * are found with a binary search.
+     */
+    private abstract class PositionOrder {
+
+        /** The positions in order, or null until they are needed. */
+        private int[] positions;
+
+        /**
+         * Compares the keys of the records at {@code position} and {@code otherPosition}.
+         */
+        abstract int compareKeys(int position, int otherPosition);
+
+        boolean isBuilt() {
+            return positions != null;
+        }
+
+        void clear() {
+            positions = null;
+        }
+
+        /**
+         * Returns the positions of the records with keys from that of the first probe to that of the second probe,
+         * both inclusive.
+         */
+        int[] positionsBetweenProbes() {
+            int[] orderedPositions = getPositions();
+            return Arrays.copyOfRange(orderedPositions, countBefore(size, size, Integer.MIN_VALUE),
+                    countBefore(size, size + 1, Integer.MAX_VALUE));
+        }
+
+        /**
+         * Returns the number of records with keys from that of the first probe to that of the second probe, both
+         * inclusive.
+         */
+        int countBetweenProbes() {
+            getPositions();
+            return countBefore(size, size + 1, Integer.MAX_VALUE) - countBefore(size, size, Integer.MIN_VALUE);
+        }
+
+        private int[] getPositions() {
+            if (positions == null) {
+                positions = new int[ids.length];
+                boolean isSorted = true;
+                for (int i = 0; i < size; i++) {
+                    positions[i] = i;
+                    isSorted = isSorted && (i == 0 || compareKeys(i - 1, i) <= 0);
+                }
+                if (!isSorted) {
+                    // records are mostly added in order of date-time, so they rarely need to be sorted by it
+                    Integer[] sortedPositions = new Integer[size];
+                    Arrays.setAll(sortedPositions, i -> i);
+                    Comparator<Integer> byKey = (first, second) -> compare(first, second, second);
+                    Arrays.sort(sortedPositions, byKey);
+                    Arrays.setAll(positions, i -> i < size ? sortedPositions[i] : 0);
+                }
+            }
+            return positions;
+        }
+
+        /**
+         * Compares the record at {@code position} with a record at {@code otherPosition} with the key of the record
+         * at {@code keyPosition}, by key, then by position.
+         */
+        private int compare(int position, int keyPosition, int otherPosition) {
+            int result = compareKeys(position, keyPosition);
+            return result != 0 ? result : Integer.compare(position, otherPosition);
+        }
+
+        /**
+         * Returns the number of the first {@code count} ordered positions that are before a record at
+         * {@code position} with the key of the record at {@code keyPosition}.
+         */
+        private int countBefore(int count, int keyPosition, int position) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(positions[middle], keyPosition, position) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private void insert(int position) {
+            if (positions.length < size) {
+                positions = Arrays.copyOf(positions, ids.length);
+            }
+            int count = size - 1;
+            int low = countBefore(count, position, position);
+            System.arraycopy(positions, low, positions, low + 1, count - low);
+            positions[low] = position;
+        }
+
+        private void remove(int position) {
+            int index = countBefore(size, position, position);
+            assert positions[index] == position : "Position is missing from the order!";
+            System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+        }
+
+        /**
+         * Adds {@code offset} to every position from {@code from} on, which does not change their order. Only the
+         * first {@code size - 1} positions are updated when a position was added.
+         */
+        private void move(int from, int offset) {
+            int count = offset > 0 ? size - 1 : size;
+            for (int i = 0; i < count; i++) {
+                if (positions[i] >= from) {
+                    positions[i] += offset;
+                }
+            }
+        }
+    }
+
+}
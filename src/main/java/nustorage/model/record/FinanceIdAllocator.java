@@ -0,0 +1,72 @@
+package nustorage.model.record;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out the IDs of new finance records.
+ * IDs are never negative and only increase, so no two finance records ever get the same ID. To keep it so across
+ * restarts, the finance data files record the next ID when they are written, and reading them back reserves
+ * every ID before it, as does creating a finance record with a given ID.
+ */
+public final class FinanceIdAllocator {
+
+    public static final String MESSAGE_NO_IDS_LEFT = "All finance record IDs have been used!";
+
+    private static final AtomicInteger nextId = new AtomicInteger(0);
+
+    private FinanceIdAllocator() {} // prevents instantiation
+
+    /**
+     * Returns a new ID, greater than all the IDs handed out or reserved before it.
+     *
+     * @throws IllegalStateException if all IDs have been used.
+     */
+    public static int allocate() {
+        int id = nextId.getAndUpdate(current -> current < Integer.MAX_VALUE ? current + 1 : current);
+        if (id == Integer.MAX_VALUE) {
+            throw new IllegalStateException(MESSAGE_NO_IDS_LEFT);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the ID that the next call to {@link #allocate()} returns.
+     */
+    public static int peekNextId() {
+        return nextId.get();
+    }
+
+    /**
+     * Makes sure that no ID below {@code nextId} is handed out from now on.
+     */
+    public static void reserveUpTo(int nextId) {
+        if (nextId > FinanceIdAllocator.nextId.get()) {
+            FinanceIdAllocator.nextId.accumulateAndGet(nextId, Math::max);
+        }
+    }
+
+    /**
+     * Makes sure that {@code id}, which is in use, is not handed out from now on.
+     */
+    public static void markUsed(int id) {
+        if (id >= 0) {
+            reserveUpTo(id < Integer.MAX_VALUE ? id + 1 : id);
+        }
+    }
+
+    /**
+     * Returns an ID that appears more than once in {@code ids}, if there is one.
+     */
+    public static OptionalInt findDuplicateId(int[] ids) {
+        int[] sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
+        for (int i = 1; i < sortedIds.length; i++) {
+            if (sortedIds[i] == sortedIds[i - 1]) {
+                return OptionalInt.of(sortedIds[i]);
+            }
+        }
+        return OptionalInt.empty();
+    }
+}
@@ -0,0 +1,57 @@
+package nustorage.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The IDs that the finance records of a data file without a next ID were renumbered to.
+ * <p>
+ * Older versions of the app gave finance records their identity hash as ID, which can be as high as
+ * {@code Integer.MAX_VALUE}, and did not record the next ID in the data file. Keeping those IDs would reserve
+ * nearly every ID in {@link FinanceIdAllocator}, so the records of such a file are numbered again from 1, in
+ * the order of the file, and the links of the inventory to them are renumbered to match.
+ * Guarantees: immutable.
+ */
+public final class FinanceIdRenumbering {
+
+    private final Map<Integer, Integer> newIds;
+
+    /**
+     * Creates the renumbering of the records with {@code oldIds}, in order, which must all be different.
+     */
+    public FinanceIdRenumbering(int[] oldIds) {
+        requireNonNull(oldIds);
+        newIds = new HashMap<>(oldIds.length * 4 / 3 + 1);
+        for (int i = 0; i < oldIds.length; i++) {
+            Integer previousId = newIds.put(oldIds[i], getNewId(i));
+            assert previousId == null : "Old IDs must all be different!";
+        }
+    }
+
+    /**
+     * Returns the ID that the record at {@code position} in the data file is renumbered to.
+     */
+    public static int getNewId(int position) {
+        assert position >= 0 : "Position must not be negative!";
+        return position + 1;
+    }
+
+    /**
+     * Returns the number of records that were renumbered.
+     */
+    public int size() {
+        return newIds.size();
+    }
+
+    /**
+     * Returns the ID that the record with {@code oldId} was renumbered to. IDs of no renumbered record, such as
+     * {@link StockMovement#NO_FINANCE_RECORD} or IDs that were already renumbered when the inventory was last
+     * saved, are returned unchanged.
+     */
+    public int renumber(int oldId) {
+        return newIds.getOrDefault(oldId, oldId);
+    }
+
+}
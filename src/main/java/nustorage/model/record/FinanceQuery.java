@@ -0,0 +1,106 @@
+package nustorage.model.record;
+
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The conditions that the finance records to find must all meet: to be dated in a period, to have an amount in a
+ * range, and to be linked to an inventory record with any of some keywords in its item name. Each condition is
+ * optional, and a period or range without a start or an end is open on that side.
+ */
+public class FinanceQuery {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final long minAmountInCents;
+    private final long maxAmountInCents;
+    private final List<String> itemKeywords;
+
+    /**
+     * Creates a query for the finance records dated from {@code from} to {@code to} with amounts from
+     * {@code minAmountInCents} to {@code maxAmountInCents}, all inclusive, linked to an inventory record with any of
+     * the {@code itemKeywords} in its item name. The records need not be linked to any inventory record if there
+     * are no {@code itemKeywords}.
+     */
+    public FinanceQuery(LocalDateTime from, LocalDateTime to, long minAmountInCents, long maxAmountInCents,
+            List<String> itemKeywords) {
+        requireAllNonNull(from, to, itemKeywords);
+        this.from = from;
+        this.to = to;
+        this.minAmountInCents = minAmountInCents;
+        this.maxAmountInCents = maxAmountInCents;
+        this.itemKeywords = List.copyOf(itemKeywords);
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public long getMinAmountInCents() {
+        return minAmountInCents;
+    }
+
+    public long getMaxAmountInCents() {
+        return maxAmountInCents;
+    }
+
+    public List<String> getItemKeywords() {
+        return itemKeywords;
+    }
+
+    /**
+     * Returns true if the records must be dated in a period.
+     */
+    public boolean hasPeriod() {
+        return !from.equals(LocalDateTime.MIN) || !to.equals(LocalDateTime.MAX);
+    }
+
+    /**
+     * Returns true if the records must have an amount in a range.
+     */
+    public boolean hasAmountRange() {
+        return minAmountInCents != Long.MIN_VALUE || maxAmountInCents != Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns true if the records must be linked to an inventory record.
+     */
+    public boolean hasItemKeywords() {
+        return !itemKeywords.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FinanceQuery)) {
+            return false;
+        }
+        FinanceQuery otherQuery = (FinanceQuery) other;
+        return from.equals(otherQuery.from)
+                && to.equals(otherQuery.to)
+                && minAmountInCents == otherQuery.minAmountInCents
+                && maxAmountInCents == otherQuery.maxAmountInCents
+                && itemKeywords.equals(otherQuery.itemKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, minAmountInCents, maxAmountInCents, itemKeywords);
+    }
+
+    @Override
+    public String toString() {
+        return "from " + from + " to " + to + ", amounts from " + minAmountInCents + " to " + maxAmountInCents
+                + " cents, items " + itemKeywords;
+    }
+
+}
@@ -3,6 +3,9 @@ package nustorage.model.record;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * A transaction in the finance account. Amounts are kept in whole cents.
+ */
 public class FinanceRecord {
 
     private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm");
@@ -12,41 +15,49 @@ public class FinanceRecord {
     private double amount;
 
     /**
-     * Constructs a {@code Finance Record}.
+     * Constructs a {@code Finance Record} with a new ID from {@link FinanceIdAllocator}.
      *
-     * @param amount Amount of the transaction.
+     * @param amount Amount of the transaction, which is rounded to cents.
      */
     public FinanceRecord(double amount) {
-        id = this.hashCode();
-        this.amount = amount;
+        id = FinanceIdAllocator.allocate();
+        this.amount = toCents(amount) / 100.0;
         this.datetime = LocalDateTime.now();
     }
 
     /**
-     * Constructs a {@code Finance Record}.
+     * Constructs a {@code Finance Record} with a new ID from {@link FinanceIdAllocator}.
      *
-     * @param amount Amount of the transaction.
+     * @param amount Amount of the transaction, which is rounded to cents.
      * @param datetime Date of the transaction.
      */
     public FinanceRecord(double amount, LocalDateTime datetime) {
-        id = this.hashCode();
-        this.amount = amount;
+        id = FinanceIdAllocator.allocate();
+        this.amount = toCents(amount) / 100.0;
         this.datetime = datetime;
     }
 
     /**
-     * Constructs a {@code Finance Record}.
+     * Constructs a {@code Finance Record} with an existing ID, which is never handed out to another record.
      *
      * @param id ID of the transaction.
-     * @param amount Amount of the transaction.
+     * @param amount Amount of the transaction, which is rounded to cents.
      * @param datetime Date of the transaction.
      */
     public FinanceRecord(int id, double amount, LocalDateTime datetime) {
+        FinanceIdAllocator.markUsed(id);
         this.id = id;
-        this.amount = amount;
+        this.amount = toCents(amount) / 100.0;
         this.datetime = datetime;
     }
 
+    /**
+     * Returns {@code amount} rounded to a whole number of cents.
+     */
+    public static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
     public int getID() {
         return id;
     }
@@ -55,6 +66,10 @@ public class FinanceRecord {
         return amount;
     }
 
+    public long getAmountInCents() {
+        return toCents(amount);
+    }
+
     public LocalDateTime getDatetime() {
         return datetime;
     }
@@ -86,6 +101,11 @@ public class FinanceRecord {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
+
     @Override
     public String toString() {
         return String.format("Transaction #%d on %s: $%.2f",
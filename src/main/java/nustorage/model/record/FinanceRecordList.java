@@ -3,27 +3,259 @@ package nustorage.model.record;
 import static java.util.Objects.requireNonNull;
 import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import nustorage.commons.core.index.Index;
+import nustorage.commons.util.BatchableObservableList;
+import nustorage.commons.util.LazyLoadingList;
 import nustorage.model.person.exceptions.PersonNotFoundException;
 
+/**
+ * A list of finance records with unique IDs.
+ * <p>
+ * The IDs, amounts and date-times of the records are kept alongside it in {@link FinanceColumns}, from which an
+ * index from ID to position in the list and the {@link FinanceAggregates totals} of the records are built. Finding
+ * a record by ID, summing the records and finding the records of a period therefore read the columns rather than
+ * the records, which need not be loaded. The columns are given by the storage that read the records, or built from
+ * the records when they are first needed. Like the index and the totals, they are updated before the list
+ * changes, so that listeners of the list see them up to date.
+ */
 public class FinanceRecordList implements Iterable<FinanceRecord> {
 
-    private final ObservableList<FinanceRecord> internalList = FXCollections.observableArrayList();
-    private final ObservableList<FinanceRecord> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private static final int NO_STALE_POSITION = Integer.MAX_VALUE;
+
+    private final List<FinanceRecord> backingList;
+    private final BatchableObservableList<FinanceRecord> internalList;
+    private final ObservableList<FinanceRecord> internalUnmodifiableList;
+
+    /**
+     * Columns of the finance records, in the same order, or null until they are first needed. Volatile, as the list
+     * may be copied on another thread while it is read, which builds the columns.
+     */
+    private volatile FinanceColumns columns;
+
+    /** Positions of the finance records by ID, or null until it is first needed. */
+    private HashMap<Integer, Integer> positionsById;
+    /** Positions from this one on may have moved since they were put in {@code positionsById}. */
+    private int firstStalePosition = NO_STALE_POSITION;
+
+    /** Totals of the finance records, or null until they are first needed. */
+    private FinanceAggregates aggregates;
+
+    /**
+     * Creates an empty list.
+     */
+    public FinanceRecordList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Creates a list that holds the finance records in {@code backingList}, which must not be modified
+     * except through this list. A {@code LazyLoadingList} is not loaded until its finance records are read.
+     */
+    public FinanceRecordList(List<FinanceRecord> backingList) {
+        requireNonNull(backingList);
+        this.backingList = backingList;
+        internalList = new BatchableObservableList<>(backingList);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Creates a list that holds the finance records in {@code backingList}, whose columns are {@code columns}.
+     * Neither may be modified except through this list. The records of a {@code LazyLoadingList} are only loaded
+     * when they are read, and are not needed to find, sum or filter records.
+     */
+    public FinanceRecordList(List<FinanceRecord> backingList, FinanceColumns columns) {
+        this(backingList);
+        requireNonNull(columns);
+        assert columns.size() == backingList.size() : "Columns do not match the finance records!";
+        this.columns = columns;
+    }
+
+    /**
+     * Returns a modifiable copy of the finance records in this list, without loading those not read yet.
+     */
+    public List<FinanceRecord> copyToList() {
+        return LazyLoadingList.copyOf(backingList);
+    }
+
+    /**
+     * Returns a copy of the columns of the finance records in this list, if they have been built.
+     */
+    public Optional<FinanceColumns> copyColumns() {
+        return Optional.ofNullable(columns).map(FinanceColumns::new);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(FinanceRecord toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return get(toCheck.getID()).map(toCheck::equals).orElse(false);
+    }
+
+    /**
+     * Returns true if the list contains a finance record with the given {@code id}.
+     */
+    public boolean containsId(int id) {
+        return getPositionsById().containsKey(id);
+    }
+
+    /**
+     * Returns the finance record with the given {@code id}, if there is one in the list.
+     */
+    public Optional<FinanceRecord> get(int id) {
+        int position = indexOf(id);
+        return position == -1 ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the position of the record with the given {@code id}, or -1 if there is none.
+     */
+    public int indexOf(int id) {
+        Integer position = getPositionsById().get(id);
+        if (position == null) {
+            return -1;
+        }
+        if (position < firstStalePosition) {
+            return position;
+        }
+
+        // corrects the stale positions up to the record, which is not before the first stale position
+        for (int i = firstStalePosition; i < columns.size(); i++) {
+            int recordId = columns.getId(i);
+            positionsById.put(recordId, i);
+            if (recordId == id) {
+                firstStalePosition = i + 1 < columns.size() ? i + 1 : NO_STALE_POSITION;
+                return i;
+            }
+        }
+        throw new AssertionError("Indexed record " + id + " is missing from the list");
+    }
+
+    /**
+     * Returns the finance records dated from {@code from} to {@code to}, both inclusive, ordered by date-time.
+     * Records with the same date-time are in the order of the list.
+     */
+    public List<FinanceRecord> getRecordsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<FinanceRecord> records = new ArrayList<>();
+        for (int position : getColumns().indexesBetween(from, to)) {
+            records.add(internalList.get(position));
+        }
+        return records;
+    }
+
+    /**
+     * Returns the report of the finance records dated from {@code from} to {@code to}, both inclusive, grouped by
+     * {@code grouping}. The report is computed in parallel from the columns of the records, without reading them.
+     */
+    public FinanceReport getReport(LocalDateTime from, LocalDateTime to, FinanceReport.Grouping grouping) {
+        requireAllNonNull(from, to, grouping);
+        FinanceColumns financeColumns = getColumns();
+        return FinanceReport.compute(financeColumns, financeColumns.indexesBetween(from, to), grouping);
+    }
+
+    /**
+     * Returns the IDs of the finance records that meet every condition of {@code query}, where
+     * {@code linkedIds} are the IDs of the records linked to the inventory records of its item keywords, if it has
+     * any.
+     * <p>
+     * The records are found from their columns, without reading them. The candidates are taken from the condition
+     * that the fewest records meet, as counted in the date-time order, the amount order or {@code linkedIds}, and
+     * only the candidates are checked against the other conditions.
+     */
+    public Set<Integer> findIds(FinanceQuery query, Set<Integer> linkedIds) {
+        requireAllNonNull(query, linkedIds);
+        FinanceColumns financeColumns = getColumns();
+        Set<Integer> ids = new HashSet<>();
+        switch (planQuery(query, linkedIds)) {
+        case LINKED_IDS:
+            for (int id : linkedIds) {
+                int position = indexOf(id);
+                if (position != -1 && isDatedAndAmountMatching(position, query)) {
+                    ids.add(id);
+                }
+            }
+            break;
+        case DATETIME:
+            for (int position : financeColumns.indexesBetween(query.getFrom(), query.getTo())) {
+                addIfMatching(ids, position, query, linkedIds);
+            }
+            break;
+        case AMOUNT:
+            for (int position : financeColumns.indexesWithAmountBetween(query.getMinAmountInCents(),
+                    query.getMaxAmountInCents())) {
+                addIfMatching(ids, position, query, linkedIds);
+            }
+            break;
+        default:
+            for (int position = 0; position < financeColumns.size(); position++) {
+                addIfMatching(ids, position, query, linkedIds);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns where the candidates for {@code query} are taken from: the condition that the fewest records meet.
+     */
+    QueryPlan planQuery(FinanceQuery query, Set<Integer> linkedIds) {
+        FinanceColumns financeColumns = getColumns();
+        QueryPlan plan = QueryPlan.SCAN;
+        int candidateCount = financeColumns.size();
+        if (query.hasItemKeywords() && linkedIds.size() < candidateCount) {
+            plan = QueryPlan.LINKED_IDS;
+            candidateCount = linkedIds.size();
+        }
+        if (query.hasPeriod()) {
+            int count = financeColumns.countBetween(query.getFrom(), query.getTo());
+            if (count < candidateCount) {
+                plan = QueryPlan.DATETIME;
+                candidateCount = count;
+            }
+        }
+        if (query.hasAmountRange()) {
+            int count = financeColumns.countWithAmountBetween(query.getMinAmountInCents(),
+                    query.getMaxAmountInCents());
+            if (count < candidateCount) {
+                plan = QueryPlan.AMOUNT;
+            }
+        }
+        return plan;
+    }
+
+    private void addIfMatching(Set<Integer> ids, int position, FinanceQuery query, Set<Integer> linkedIds) {
+        int id = columns.getId(position);
+        if ((!query.hasItemKeywords() || linkedIds.contains(id)) && isDatedAndAmountMatching(position, query)) {
+            ids.add(id);
+        }
+    }
+
+    private boolean isDatedAndAmountMatching(int position, FinanceQuery query) {
+        long amountInCents = columns.getAmountInCents(position);
+        return amountInCents >= query.getMinAmountInCents()
+                && amountInCents <= query.getMaxAmountInCents()
+                && (!query.hasPeriod() || columns.isDatedBetween(position, query.getFrom(), query.getTo()));
+    }
+
+    /**
+     * Returns the totals of the finance records, which are kept up to date as the list changes.
+     */
+    public FinanceAggregates getAggregates() {
+        if (aggregates == null) {
+            aggregates = new FinanceAggregates(getColumns());
+        }
+        return aggregates;
     }
 
     /**
@@ -32,7 +264,30 @@ public class FinanceRecordList implements Iterable<FinanceRecord> {
      */
     public void add(FinanceRecord toAdd) {
         requireNonNull(toAdd);
-        internalList.add(toAdd);
+        addAll(internalList.size(), List.of(toAdd));
+    }
+
+    /**
+     * Inserts the finance records in {@code toAdd} at {@code index}, in order.
+     * None of them may already exist in the list.
+     */
+    public void addAll(int index, List<FinanceRecord> toAdd) {
+        requireAllNonNull(toAdd);
+        if (columns != null) {
+            columns.addAll(index, toAdd);
+        }
+        if (positionsById != null) {
+            if (index < internalList.size()) {
+                firstStalePosition = Math.min(firstStalePosition, index);
+            }
+            for (int i = 0; i < toAdd.size(); i++) {
+                positionsById.put(toAdd.get(i).getID(), index + i);
+            }
+        }
+        if (aggregates != null) {
+            toAdd.forEach(aggregates::add);
+        }
+        internalList.addAll(index, toAdd);
     }
 
     /**
@@ -43,11 +298,18 @@ public class FinanceRecordList implements Iterable<FinanceRecord> {
     public void setFinanceRecord(FinanceRecord target, FinanceRecord editedRecord) {
         requireAllNonNull(target, editedRecord);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int index = indexOf(target.getID());
+        if (index == -1 || !internalList.get(index).equals(target)) {
             throw new PersonNotFoundException();
         }
 
+        columns.set(index, editedRecord);
+        positionsById.remove(target.getID());
+        positionsById.put(editedRecord.getID(), index);
+        if (aggregates != null) {
+            aggregates.remove(internalList.get(index));
+            aggregates.add(editedRecord);
+        }
         internalList.set(index, editedRecord);
     }
 
@@ -57,14 +319,29 @@ public class FinanceRecordList implements Iterable<FinanceRecord> {
      */
     public Optional<FinanceRecord> remove(Index targetIndex) {
         requireNonNull(targetIndex);
-        if (targetIndex.getZeroBased() >= internalList.size()) {
+        int index = targetIndex.getZeroBased();
+        if (index >= internalList.size()) {
             return Optional.empty();
         }
-        return Optional.of(internalList.remove(targetIndex.getZeroBased()));
+
+        FinanceRecord toRemove = internalList.get(index);
+        if (columns != null) {
+            columns.remove(index);
+        }
+        if (positionsById != null) {
+            positionsById.remove(toRemove.getID());
+            firstStalePosition = Math.min(firstStalePosition, index);
+        }
+        if (aggregates != null) {
+            aggregates.remove(toRemove);
+        }
+        return Optional.of(internalList.remove(index));
     }
 
     public void setFinanceRecords(FinanceRecordList replacement) {
         requireNonNull(replacement);
+        clearIndexes();
+        columns = replacement.copyColumns().orElse(null);
         internalList.setAll(replacement.internalList);
     }
 
@@ -74,9 +351,26 @@ public class FinanceRecordList implements Iterable<FinanceRecord> {
      */
     public void setFinanceRecords(List<FinanceRecord> financeRecords) {
         requireAllNonNull(financeRecords);
+        clearIndexes();
         internalList.setAll(financeRecords);
     }
 
+    /**
+     * Starts a batch of changes to the list, whose listeners are only notified once the matching
+     * {@link #endBatch()} is called, with a single change for the whole batch.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, notifying the listeners of the list of its
+     * changes if it is the outermost batch.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -84,6 +378,32 @@ public class FinanceRecordList implements Iterable<FinanceRecord> {
         return internalUnmodifiableList;
     }
 
+    private FinanceColumns getColumns() {
+        if (columns == null) {
+            columns = FinanceColumns.of(internalList);
+        }
+        return columns;
+    }
+
+    private HashMap<Integer, Integer> getPositionsById() {
+        if (positionsById == null) {
+            FinanceColumns financeColumns = getColumns();
+            positionsById = new HashMap<>();
+            for (int i = 0; i < financeColumns.size(); i++) {
+                positionsById.put(financeColumns.getId(i), i);
+            }
+            firstStalePosition = NO_STALE_POSITION;
+        }
+        return positionsById;
+    }
+
+    private void clearIndexes() {
+        columns = null;
+        positionsById = null;
+        firstStalePosition = NO_STALE_POSITION;
+        aggregates = null;
+    }
+
     @Override
     public Iterator<FinanceRecord> iterator() {
         return internalList.iterator();
@@ -100,4 +420,18 @@ public class FinanceRecordList implements Iterable<FinanceRecord> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    /**
+     * Where the candidates for a {@link FinanceQuery} are taken from.
+     */
+    enum QueryPlan {
+        /** The records linked to the inventory records of the item keywords. */
+        LINKED_IDS,
+        /** The records in the period, found in the date-time order. */
+        DATETIME,
+        /** The records in the range of amounts, found in the amount order. */
+        AMOUNT,
+        /** Every record. */
+        SCAN
+    }
 }
@@ -0,0 +1,358 @@
+package nustorage.model.record;
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The revenue, cost, net amount and number of the finance records of every day, week or month that has records,
+ * in order. Revenue is the sum of the positive amounts, and cost the sum of the negative amounts as a positive
+ * amount.
+ * <p>
+ * A report is computed from the columns of the records, in order of date-time, by a fork/join task: the records
+ * are split in halves until each part is small enough to be summed by a single task, and the lines of the two
+ * halves are then joined, adding up the lines of a period that spans both. As the records are in order, only the
+ * last line of the first half and the first line of the second can be of the same period. Amounts are summed
+ * exactly in cents, so the report is the same however the records are split, and the same as the report of
+ * {@link #computeSequentially(FinanceColumns, int[], Grouping)}.
+ * Guarantees: immutable.
+ */
+public final class FinanceReport {
+
+    /** Most records summed by a single task, rather than split between two. */
+    static final int MAX_RECORDS_PER_TASK = 1 << 13;
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final Grouping grouping;
+    private final List<Line> lines;
+
+    private FinanceReport(Grouping grouping, List<Line> lines) {
+        this.grouping = grouping;
+        this.lines = List.copyOf(lines);
+    }
+
+    /**
+     * Computes the report of the records at {@code positions} of {@code columns}, which must be in order of
+     * date-time, in parallel in the common fork/join pool.
+     */
+    public static FinanceReport compute(FinanceColumns columns, int[] positions, Grouping grouping) {
+        return compute(columns, positions, grouping, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the report of the records at {@code positions} of {@code columns}, which must be in order of
+     * date-time, in parallel in {@code pool}.
+     */
+    static FinanceReport compute(FinanceColumns columns, int[] positions, Grouping grouping, ForkJoinPool pool) {
+        requireAllNonNull(columns, positions, grouping, pool);
+        List<Line> lines = pool.invoke(new ReportTask(columns, positions, 0, positions.length, grouping));
+        return new FinanceReport(grouping, lines);
+    }
+
+    /**
+     * Computes the report of the records at {@code positions} of {@code columns}, in any order, one record at a
+     * time. This is the reference that {@link #compute(FinanceColumns, int[], Grouping)} must agree with.
+     */
+    public static FinanceReport computeSequentially(FinanceColumns columns, int[] positions, Grouping grouping) {
+        requireAllNonNull(columns, positions, grouping);
+        TreeMap<LocalDate, Line> lines = new TreeMap<>();
+        for (int position : positions) {
+            LocalDate start = grouping.startOf(columns.getDatetime(position).toLocalDate());
+            lines.merge(start, Line.of(start, columns.getAmountInCents(position)), Line::plus);
+        }
+        return new FinanceReport(grouping, new ArrayList<>(lines.values()));
+    }
+
+    public Grouping getGrouping() {
+        return grouping;
+    }
+
+    /**
+     * Returns the lines of the periods with records, in order.
+     */
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FinanceReport // instanceof handles nulls
+                && grouping == ((FinanceReport) other).grouping
+                && lines.equals(((FinanceReport) other).lines));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * grouping.hashCode() + lines.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Report by " + grouping + ": " + lines;
+    }
+
+    /**
+     * The periods that the records of a report are grouped by. Weeks start on Monday.
+     */
+    public enum Grouping {
+        DAY("day") {
+            @Override
+            LocalDate startOf(LocalDate date) {
+                return date;
+            }
+
+            @Override
+            LocalDate nextStart(LocalDate start) {
+                return start.plusDays(1);
+            }
+        },
+        WEEK("week") {
+            @Override
+            LocalDate startOf(LocalDate date) {
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            }
+
+            @Override
+            LocalDate nextStart(LocalDate start) {
+                return start.plusWeeks(1);
+            }
+        },
+        MONTH("month") {
+            @Override
+            LocalDate startOf(LocalDate date) {
+                return date.withDayOfMonth(1);
+            }
+
+            @Override
+            LocalDate nextStart(LocalDate start) {
+                return start.plusMonths(1);
+            }
+        };
+
+        private final String word;
+
+        Grouping(String word) {
+            this.word = word;
+        }
+
+        /**
+         * Returns the grouping named {@code word}, ignoring case, if there is one.
+         */
+        public static Optional<Grouping> of(String word) {
+            requireNonNull(word);
+            for (Grouping grouping : values()) {
+                if (grouping.word.equals(word.toLowerCase(Locale.ROOT))) {
+                    return Optional.of(grouping);
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Returns the first day of the period that {@code date} is in.
+         */
+        abstract LocalDate startOf(LocalDate date);
+
+        /**
+         * Returns the first day of the period after the one starting on {@code start}.
+         */
+        abstract LocalDate nextStart(LocalDate start);
+
+        @Override
+        public String toString() {
+            return word;
+        }
+    }
+
+    /**
+     * The totals of the records of a period.
+     * Guarantees: immutable.
+     */
+    public static final class Line {
+
+        private final LocalDate start;
+        private final long revenueInCents;
+        private final long costInCents;
+        private final int count;
+
+        /**
+         * Constructs the line of the period starting on {@code start}, of {@code count} records with
+         * {@code revenueInCents} of revenue and {@code costInCents} of cost.
+         */
+        public Line(LocalDate start, long revenueInCents, long costInCents, int count) {
+            requireNonNull(start);
+            assert revenueInCents >= 0 && costInCents >= 0 && count >= 0 : "Totals must not be negative!";
+            this.start = start;
+            this.revenueInCents = revenueInCents;
+            this.costInCents = costInCents;
+            this.count = count;
+        }
+
+        private static Line of(LocalDate start, long amountInCents) {
+            return amountInCents >= 0
+                    ? new Line(start, amountInCents, 0, 1)
+                    : new Line(start, 0, Math.negateExact(amountInCents), 1);
+        }
+
+        /**
+         * Returns the line of the records of this line and {@code other}, which must be of the same period.
+         */
+        private Line plus(Line other) {
+            assert start.equals(other.start) : "Lines must be of the same period!";
+            return new Line(start, Math.addExact(revenueInCents, other.revenueInCents),
+                    Math.addExact(costInCents, other.costInCents), count + other.count);
+        }
+
+        /**
+         * Returns the first day of the period.
+         */
+        public LocalDate getStart() {
+            return start;
+        }
+
+        public long getRevenueInCents() {
+            return revenueInCents;
+        }
+
+        public long getCostInCents() {
+            return costInCents;
+        }
+
+        public long getNetInCents() {
+            return Math.subtractExact(revenueInCents, costInCents);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Line)) {
+                return false;
+            }
+            Line otherLine = (Line) other;
+            return start.equals(otherLine.start)
+                    && revenueInCents == otherLine.revenueInCents
+                    && costInCents == otherLine.costInCents
+                    && count == otherLine.count;
+        }
+
+        @Override
+        public int hashCode() {
+            return start.hashCode() ^ Long.hashCode(revenueInCents) ^ Long.hashCode(costInCents) ^ count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: revenue $%s, cost $%s, net $%s over %d records", start,
+                    BigDecimal.valueOf(revenueInCents, 2), BigDecimal.valueOf(costInCents, 2),
+                    BigDecimal.valueOf(getNetInCents(), 2), count);
+        }
+    }
+
+    /**
+     * Computes the lines of the records at the positions from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    private static class ReportTask extends RecursiveTask<List<Line>> {
+
+        private final FinanceColumns columns;
+        private final int[] positions;
+        private final int from;
+        private final int to;
+        private final Grouping grouping;
+
+        private ReportTask(FinanceColumns columns, int[] positions, int from, int to, Grouping grouping) {
+            this.columns = columns;
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+            this.grouping = grouping;
+        }
+
+        @Override
+        protected List<Line> compute() {
+            if (to - from <= MAX_RECORDS_PER_TASK) {
+                return sumLines();
+            }
+            int middle = (from + to) >>> 1;
+            ReportTask firstHalf = new ReportTask(columns, positions, from, middle, grouping);
+            firstHalf.fork();
+            List<Line> secondLines = new ReportTask(columns, positions, middle, to, grouping).compute();
+            return join(firstHalf.join(), secondLines);
+        }
+
+        /**
+         * Sums the records one by one. The records are in order, so the period only has to be worked out again
+         * when a record is dated after the end of the current one.
+         */
+        private List<Line> sumLines() {
+            List<Line> lines = new ArrayList<>();
+            LocalDate start = null;
+            long nextStartDay = Long.MIN_VALUE;
+            long revenueInCents = 0;
+            long costInCents = 0;
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                int position = positions[i];
+                long day = Math.floorDiv(columns.getEpochSecond(position), SECONDS_PER_DAY);
+                if (day >= nextStartDay) {
+                    if (count > 0) {
+                        lines.add(new Line(start, revenueInCents, costInCents, count));
+                    }
+                    start = grouping.startOf(LocalDate.ofEpochDay(day));
+                    nextStartDay = grouping.nextStart(start).toEpochDay();
+                    revenueInCents = 0;
+                    costInCents = 0;
+                    count = 0;
+                }
+                long amountInCents = columns.getAmountInCents(position);
+                if (amountInCents >= 0) {
+                    revenueInCents = Math.addExact(revenueInCents, amountInCents);
+                } else {
+                    costInCents = Math.subtractExact(costInCents, amountInCents);
+                }
+                count++;
+            }
+            if (count > 0) {
+                lines.add(new Line(start, revenueInCents, costInCents, count));
+            }
+            return lines;
+        }
+
+        /**
+         * Appends {@code secondLines} to {@code firstLines}, which are of earlier records, adding up the lines of
+         * the period that both may have.
+         */
+        private static List<Line> join(List<Line> firstLines, List<Line> secondLines) {
+            if (firstLines.isEmpty()) {
+                return secondLines;
+            }
+            int lastIndex = firstLines.size() - 1;
+            int firstIndex = 0;
+            if (!secondLines.isEmpty() && firstLines.get(lastIndex).getStart().equals(secondLines.get(0).getStart())) {
+                firstLines.set(lastIndex, firstLines.get(lastIndex).plus(secondLines.get(0)));
+                firstIndex = 1;
+            }
+            firstLines.addAll(secondLines.subList(firstIndex, secondLines.size()));
+            return firstLines;
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package nustorage.model.record;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * The sum of the amounts of some finance records, and the number of records summed.
+ * Amounts are summed in cents, so that adding and then subtracting a record gives back the same total.
+ * Guarantees: immutable.
+ */
+public final class FinanceTotal {
+
+    public static final FinanceTotal ZERO = new FinanceTotal(0, 0);
+
+    private final long amountInCents;
+    private final int count;
+
+    /**
+     * Constructs a {@code FinanceTotal} of {@code count} records whose amounts sum to {@code amountInCents}.
+     */
+    public FinanceTotal(long amountInCents, int count) {
+        assert count >= 0 : "Number of records must not be negative!";
+        this.amountInCents = amountInCents;
+        this.count = count;
+    }
+
+    /**
+     * Returns the total of {@code records}.
+     */
+    public static FinanceTotal of(Collection<FinanceRecord> records) {
+        long amountInCents = 0;
+        for (FinanceRecord record : records) {
+            amountInCents = Math.addExact(amountInCents, record.getAmountInCents());
+        }
+        return new FinanceTotal(amountInCents, records.size());
+    }
+
+    public FinanceTotal plus(FinanceRecord record) {
+        return new FinanceTotal(Math.addExact(amountInCents, record.getAmountInCents()), count + 1);
+    }
+
+    public FinanceTotal plus(FinanceTotal other) {
+        return new FinanceTotal(Math.addExact(amountInCents, other.amountInCents), count + other.count);
+    }
+
+    public FinanceTotal minus(FinanceRecord record) {
+        return new FinanceTotal(Math.subtractExact(amountInCents, record.getAmountInCents()), count - 1);
+    }
+
+    public FinanceTotal minus(FinanceTotal other) {
+        return new FinanceTotal(Math.subtractExact(amountInCents, other.amountInCents), count - other.count);
+    }
+
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(amountInCents, 2);
+    }
+
+    public long getAmountInCents() {
+        return amountInCents;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FinanceTotal // instanceof handles nulls
+                && amountInCents == ((FinanceTotal) other).amountInCents
+                && count == ((FinanceTotal) other).count);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(amountInCents) + count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("$%.2f over %d records", getAmount(), count);
+    }
+}
@@ -4,18 +4,32 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import nustorage.commons.util.StringUtil;
 
 /**
  * Class to record movement in the Inventory.
+ * The current quantity of the item is its stock after all the movements in its {@link StockLedger}.
+ * An item is low on stock when its quantity is below its reorder threshold.
  */
 public class InventoryRecord {
 
+    /** Threshold of the items that are never low on stock. */
+    public static final int NO_THRESHOLD = 0;
+
     private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm");
 
     private final LocalDateTime dateTime;
     private final int quantity;
     private final String itemName;
+    private final StockLedger ledger;
+    private final int threshold;
     private int financeID;
+    /** The words of the item name in lower case, or null until they are first needed. */
+    private List<String> itemNameWords;
 
     /**
      * Constructs an InventoryRecord.
@@ -25,6 +39,8 @@ public class InventoryRecord {
         this.itemName = itemName;
         this.quantity = 0;
         this.dateTime = LocalDateTime.now();
+        this.ledger = StockLedger.EMPTY;
+        this.threshold = NO_THRESHOLD;
         this.financeID = -1;
     }
 
@@ -37,6 +53,8 @@ public class InventoryRecord {
         this.itemName = itemName;
         this.quantity = quantity;
         this.dateTime = LocalDateTime.now();
+        this.ledger = initialLedger(quantity, dateTime, StockMovement.NO_FINANCE_RECORD);
+        this.threshold = NO_THRESHOLD;
         this.financeID = -1;
     }
 
@@ -50,9 +68,60 @@ public class InventoryRecord {
         this.itemName = itemName;
         this.quantity = quantity;
         this.dateTime = dateTime;
+        this.ledger = initialLedger(quantity, dateTime, StockMovement.NO_FINANCE_RECORD);
+        this.threshold = NO_THRESHOLD;
         this.financeID = -1;
     }
 
+    /**
+     * Constructs an InventoryRecord of items paid for by {@code financeRecord}.
+     * @param itemName Item added.
+     * @param quantity Number of items added.
+     * @param financeRecord Finance record of the items, which the movement is linked to.
+     */
+    public InventoryRecord(String itemName, int quantity, FinanceRecord financeRecord) {
+        this.itemName = itemName;
+        this.quantity = quantity;
+        this.dateTime = LocalDateTime.now();
+        this.ledger = initialLedger(quantity, dateTime, financeRecord.getID());
+        this.threshold = NO_THRESHOLD;
+        this.financeID = financeRecord.getID();
+    }
+
+    /**
+     * Constructs an InventoryRecord with the stock after the movements in {@code ledger}.
+     * @param itemName Item added.
+     * @param dateTime Date and time of the last update.
+     * @param ledger Movements of the item.
+     */
+    public InventoryRecord(String itemName, LocalDateTime dateTime, StockLedger ledger) {
+        this(itemName, dateTime, ledger, NO_THRESHOLD);
+    }
+
+    /**
+     * Constructs an InventoryRecord with the stock after the movements in {@code ledger}, which is low on stock
+     * when its quantity is below {@code threshold}.
+     * @param itemName Item added.
+     * @param dateTime Date and time of the last update.
+     * @param ledger Movements of the item.
+     * @param threshold Reorder threshold of the item.
+     */
+    public InventoryRecord(String itemName, LocalDateTime dateTime, StockLedger ledger, int threshold) {
+        this.itemName = itemName;
+        this.quantity = Math.toIntExact(ledger.getStock());
+        this.dateTime = dateTime;
+        this.ledger = ledger;
+        this.threshold = threshold;
+        this.financeID = -1;
+    }
+
+    private static StockLedger initialLedger(int quantity, LocalDateTime dateTime, int financeId) {
+        if (quantity == 0) {
+            return StockLedger.EMPTY;
+        }
+        return StockLedger.EMPTY.append(new StockMovement(quantity, dateTime, financeId));
+    }
+
     public void setFinanceRecord(FinanceRecord financeRecord) {
         this.financeID = financeRecord.getID();
     }
@@ -64,10 +133,34 @@ public class InventoryRecord {
         return quantity;
     }
 
+    /**
+     * Returns the quantity below which the item is low on stock.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Returns true if the quantity of the item is below its reorder threshold.
+     */
+    public boolean isLowOnStock() {
+        return quantity < threshold;
+    }
+
     public String getItemName() {
         return itemName;
     }
 
+    /**
+     * Returns the words of the item name in lower case, which are only split from the item name once.
+     */
+    public List<String> getItemNameWords() {
+        if (itemNameWords == null) {
+            itemNameWords = List.copyOf(StringUtil.toLowerCaseWords(itemName));
+        }
+        return itemNameWords;
+    }
+
     public LocalDateTime getDateTime() {
         return dateTime;
     }
@@ -80,10 +173,45 @@ public class InventoryRecord {
         return dateTime.toLocalTime();
     }
 
+    /**
+     * Returns the movements of this item, which add up to its quantity.
+     */
+    public StockLedger getLedger() {
+        return ledger;
+    }
+
     public int getFinanceID() {
         return financeID;
     }
 
+    /**
+     * Returns the IDs of the finance records linked to this item, or to any of its movements.
+     */
+    public Set<Integer> getLinkedFinanceIds() {
+        Set<Integer> linkedIds = new HashSet<>();
+        if (financeID != StockMovement.NO_FINANCE_RECORD) {
+            linkedIds.add(financeID);
+        }
+        for (int i = 0; i < ledger.size(); i++) {
+            int financeId = ledger.getMovement(i).getFinanceId();
+            if (financeId != StockMovement.NO_FINANCE_RECORD) {
+                linkedIds.add(financeId);
+            }
+        }
+        return linkedIds;
+    }
+
+    /**
+     * Returns a copy of this record, linked to the finance records that {@code renumbering} renumbered its finance
+     * records to.
+     */
+    public InventoryRecord withFinanceIdsRenumbered(FinanceIdRenumbering renumbering) {
+        InventoryRecord renumberedRecord =
+                new InventoryRecord(itemName, dateTime, ledger.withFinanceIdsRenumbered(renumbering), threshold);
+        renumberedRecord.financeID = renumbering.renumber(financeID);
+        return renumberedRecord;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof InventoryRecord) {
@@ -92,6 +220,11 @@ public class InventoryRecord {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return itemName.hashCode();
+    }
+
     @Override
     public String toString() {
         return "Record on " + getDate() + " at " + getTime()
@@ -3,26 +3,123 @@ package nustorage.model.record;
 import static java.util.Objects.requireNonNull;
 import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
+import nustorage.commons.util.BatchableObservableList;
+import nustorage.commons.util.LazyLoadingList;
+import nustorage.commons.util.StringUtil;
 import nustorage.model.person.exceptions.DuplicatePersonException;
 import nustorage.model.person.exceptions.PersonNotFoundException;
 
+/**
+ * A list of inventory records with unique item names.
+ * <p>
+ * An index from item name to position in the list is kept alongside it, so that checking for, editing and
+ * removing a record do not search the list. The index is only built when it is first needed, so that records
+ * are not loaded up front. Inserting or removing a record does not update the positions after it straight away:
+ * they are corrected the next time one of them is looked up, up to the position looked up.
+ * <p>
+ * An inverted index from each lower case word of the item names to the records with that word is also kept, so
+ * that finding the records with some words takes time in proportion to the records found. Its words are also kept
+ * in a {@link WordDictionary}, to find the records with words that start with, or are misspellings of, the words
+ * a user is typing. Both are likewise only built when they are first needed.
+ * <p>
+ * The records that are low on stock are kept in {@link LowStockAlerts}, which only checks the records that change.
+ * If the {@link StockColumns} of the records are given, they are kept up to date too, so that the set can be
+ * filled without reading the records that are not low on stock.
+ */
 public class InventoryRecordList implements Iterable<InventoryRecord> {
 
-    private final ObservableList<InventoryRecord> internalList = FXCollections.observableArrayList();
-    private final ObservableList<InventoryRecord> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private static final int NO_STALE_POSITION = Integer.MAX_VALUE;
+    /** Shorter words are only matched whole, as too many words start with them for the matches to be useful. */
+    private static final int MIN_PREFIX_LENGTH = 2;
+    /** Words up to this long are only matched by prefix, as a misspelling of them could be almost any short word. */
+    private static final int MAX_LENGTH_WITHOUT_MISSPELLINGS = 3;
+    /** Words up to this long are matched with at most one misspelt character, and longer words with two. */
+    private static final int MAX_LENGTH_WITH_ONE_MISSPELLING = 7;
+
+    private final List<InventoryRecord> backingList;
+    private final BatchableObservableList<InventoryRecord> internalList;
+    private final ObservableList<InventoryRecord> internalUnmodifiableList;
+
+    /** Positions of the records in the list by item name, or null until it is first needed. */
+    private HashMap<String, Integer> positions;
+    /** Positions in the index from this one onwards may be wrong, as records before them were added or removed. */
+    private int firstStalePosition = NO_STALE_POSITION;
+    /**
+     * Records by the lower case words of their item names, or null until it is first needed. It is updated before
+     * the list, so that listeners of the list can look records up in it.
+     */
+    private HashMap<String, Set<InventoryRecord>> recordsByWord;
+    /** The words in {@code recordsByWord}, or null when it is. */
+    private WordDictionary dictionary;
+    /** Records below their reorder thresholds, which is also updated before the list. */
+    private final LowStockAlerts lowStockAlerts = new LowStockAlerts();
+    /** Quantities and thresholds of the records, in the same order, or null if they were not given. */
+    private StockColumns columns;
+
+    /**
+     * Creates an empty list.
+     */
+    public InventoryRecordList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Creates a list that holds the inventory records in {@code backingList}, which must not be modified
+     * except through this list. A {@code LazyLoadingList} is not loaded until its inventory records are read.
+     */
+    public InventoryRecordList(List<InventoryRecord> backingList) {
+        requireNonNull(backingList);
+        this.backingList = backingList;
+        internalList = new BatchableObservableList<>(backingList);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Creates a list that holds the inventory records in {@code backingList}, whose columns are {@code columns}.
+     * Neither may be modified except through this list. The records of a {@code LazyLoadingList} are only loaded
+     * when they are read, and only those low on stock are read to find the records low on stock.
+     */
+    public InventoryRecordList(List<InventoryRecord> backingList, StockColumns columns) {
+        this(backingList);
+        requireNonNull(columns);
+        assert columns.size() == backingList.size() : "Columns do not match the inventory records!";
+        this.columns = columns;
+    }
+
+    /**
+     * Returns a modifiable copy of the inventory records in this list, without loading those not read yet.
+     */
+    public List<InventoryRecord> copyToList() {
+        return LazyLoadingList.copyOf(backingList);
+    }
+
+    /**
+     * Returns a copy of the columns of the inventory records in this list, if they were given.
+     */
+    public Optional<StockColumns> copyColumns() {
+        return Optional.ofNullable(columns).map(StockColumns::new);
+    }
 
     /**
      * Returns true if the list contains an equivalent inventory record as the given argument.
      */
     public boolean contains(InventoryRecord toCheck) {
         requireAllNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return getPositions().containsKey(toCheck.getItemName());
     }
 
     /**
@@ -32,7 +129,36 @@ public class InventoryRecordList implements Iterable<InventoryRecord> {
      */
     public void add(InventoryRecord inventoryRecord) {
         requireNonNull(inventoryRecord);
+        indexWords(inventoryRecord);
+        lowStockAlerts.add(inventoryRecord);
+        if (columns != null) {
+            columns.add(inventoryRecord.getQuantity(), inventoryRecord.getThreshold());
+        }
         internalList.add(inventoryRecord);
+        if (positions != null) {
+            positions.put(inventoryRecord.getItemName(), internalList.size() - 1);
+        }
+    }
+
+    /**
+     * Inserts an inventory record at {@code index}.
+     * The inventory record must not already exist in the list.
+     */
+    public void add(int index, InventoryRecord inventoryRecord) {
+        requireNonNull(inventoryRecord);
+        Objects.checkIndex(index, internalList.size() + 1);
+        indexWords(inventoryRecord);
+        lowStockAlerts.add(inventoryRecord);
+        if (columns != null) {
+            columns.addAll(index, List.of(inventoryRecord));
+        }
+        internalList.add(index, inventoryRecord);
+        if (positions != null) {
+            if (index < internalList.size() - 1) {
+                firstStalePosition = Math.min(firstStalePosition, index);
+            }
+            positions.put(inventoryRecord.getItemName(), index);
+        }
     }
 
     /**
@@ -41,7 +167,7 @@ public class InventoryRecordList implements Iterable<InventoryRecord> {
     public void setInventoryRecord(InventoryRecord target, InventoryRecord editedInventoryRecord) {
         requireAllNonNull(target, editedInventoryRecord);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -50,7 +176,15 @@ public class InventoryRecordList implements Iterable<InventoryRecord> {
             throw new DuplicatePersonException();
         }
 
+        unindexWords(target);
+        indexWords(editedInventoryRecord);
+        lowStockAlerts.replace(target, editedInventoryRecord);
+        if (columns != null) {
+            columns.set(index, editedInventoryRecord);
+        }
         internalList.set(index, editedInventoryRecord);
+        positions.remove(target.getItemName());
+        positions.put(editedInventoryRecord.getItemName(), index);
     }
 
     /**
@@ -59,18 +193,181 @@ public class InventoryRecordList implements Iterable<InventoryRecord> {
      */
     public void setInventoryRecords(List<InventoryRecord> inventoryRecords) {
         requireNonNull(inventoryRecords);
+        positions = null;
+        recordsByWord = null;
+        dictionary = null;
+        columns = null;
+        lowStockAlerts.replaceAll(inventoryRecords);
         this.internalList.setAll(inventoryRecords);
     }
 
     /**
      * Removes the equivalent Inventory record from the list.
      * The inventory record must exist in the list.
+     *
+     * @return the position the inventory record was removed from.
      */
-    public void remove(InventoryRecord toRemove) {
+    public int remove(InventoryRecord toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        unindexWords(toRemove);
+        lowStockAlerts.remove(toRemove);
+        if (columns != null) {
+            columns.remove(index);
+        }
+        internalList.remove(index);
+        positions.remove(toRemove.getItemName());
+        firstStalePosition = Math.min(firstStalePosition, index);
+        return index;
+    }
+
+    /**
+     * Returns the inventory records whose item name contains any of the {@code words} as a whole word, ignoring
+     * case, as matched by {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    public Set<InventoryRecord> getRecordsWithAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        HashMap<String, Set<InventoryRecord>> recordsByWord = getRecordsByWord();
+        Set<InventoryRecord> records = new HashSet<>();
+        for (String word : words) {
+            records.addAll(recordsByWord.getOrDefault(word.trim().toLowerCase(Locale.ROOT), Set.of()));
+        }
+        return records;
+    }
+
+    /**
+     * Returns the records that are low on stock, as a set that is kept up to date as the records change.
+     * The first call reads every record, unless the columns of the records were given.
+     */
+    public ObservableSet<InventoryRecord> getLowStockRecords() {
+        return lowStockAlerts.getLowStockRecords(internalList, columns);
+    }
+
+    /**
+     * Returns the position of the record with the same item name as {@code inventoryRecord}, or -1 if there is none.
+     */
+    private int indexOf(InventoryRecord inventoryRecord) {
+        String itemName = inventoryRecord.getItemName();
+        Integer position = getPositions().get(itemName);
+        if (position == null) {
+            return -1;
+        }
+        if (position < firstStalePosition) {
+            return position;
+        }
+
+        // corrects the stale positions up to the record, which is not before the first stale position
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            String name = internalList.get(i).getItemName();
+            positions.put(name, i);
+            if (name.equals(itemName)) {
+                firstStalePosition = i + 1 < internalList.size() ? i + 1 : NO_STALE_POSITION;
+                return i;
+            }
+        }
+        throw new AssertionError("Indexed record " + itemName + " is missing from the list");
+    }
+
+    private HashMap<String, Integer> getPositions() {
+        if (positions == null) {
+            positions = new HashMap<>();
+            for (int i = 0; i < internalList.size(); i++) {
+                positions.put(internalList.get(i).getItemName(), i);
+            }
+            firstStalePosition = NO_STALE_POSITION;
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the inventory records whose item name contains a word that starts with any of the {@code words}, or
+     * that is within a typing mistake or two of one of them, ignoring case. A mistake is a character inserted,
+     * deleted or replaced, or two adjacent characters swapped. Single characters are only matched as whole words,
+     * words of up to three characters are only matched by prefix, words of up to seven characters can have one
+     * mistake, and longer words two.
+     */
+    public Set<InventoryRecord> getRecordsWithSimilarWord(Collection<String> words) {
+        requireNonNull(words);
+        HashMap<String, Set<InventoryRecord>> recordsByWord = getRecordsByWord();
+        Set<String> similarWords = new HashSet<>();
+        for (String word : words) {
+            String lowerCaseWord = word.trim().toLowerCase(Locale.ROOT);
+            if (lowerCaseWord.length() < MIN_PREFIX_LENGTH) {
+                similarWords.add(lowerCaseWord);
+                continue;
+            }
+            similarWords.addAll(dictionary.getWordsWithPrefix(lowerCaseWord));
+            if (lowerCaseWord.length() > MAX_LENGTH_WITHOUT_MISSPELLINGS) {
+                int maxDistance = lowerCaseWord.length() > MAX_LENGTH_WITH_ONE_MISSPELLING ? 2 : 1;
+                similarWords.addAll(dictionary.getWordsWithin(lowerCaseWord, maxDistance));
+            }
+        }
+
+        Set<InventoryRecord> records = new HashSet<>();
+        for (String similarWord : similarWords) {
+            records.addAll(recordsByWord.getOrDefault(similarWord, Set.of()));
+        }
+        return records;
+    }
+
+    private HashMap<String, Set<InventoryRecord>> getRecordsByWord() {
+        if (recordsByWord == null) {
+            recordsByWord = new HashMap<>();
+            dictionary = new WordDictionary();
+            for (InventoryRecord inventoryRecord : internalList) {
+                indexWords(inventoryRecord);
+            }
+        }
+        return recordsByWord;
+    }
+
+    private void indexWords(InventoryRecord inventoryRecord) {
+        if (recordsByWord == null) {
+            return;
+        }
+        for (String word : inventoryRecord.getItemNameWords()) {
+            recordsByWord.computeIfAbsent(word, unused -> {
+                dictionary.add(word);
+                return new HashSet<>();
+            }).add(inventoryRecord);
+        }
+    }
+
+    private void unindexWords(InventoryRecord inventoryRecord) {
+        if (recordsByWord == null) {
+            return;
+        }
+        for (String word : inventoryRecord.getItemNameWords()) {
+            Set<InventoryRecord> records = recordsByWord.get(word);
+            if (records != null) {
+                records.remove(inventoryRecord);
+                if (records.isEmpty()) {
+                    recordsByWord.remove(word);
+                    dictionary.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a batch of changes to the list, whose listeners are only notified once the matching
+     * {@link #endBatch()} is called, with a single change for the whole batch.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, notifying the listeners of the list of its
+     * changes if it is the outermost batch.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -3,20 +3,29 @@ package nustorage.model.record;
 import java.util.List;
 import java.util.function.Predicate;
 
-import nustorage.commons.util.StringUtil;
+import nustorage.commons.util.KeywordMatcher;
 
 public class InventoryRecordNameContainsKeywordsPredicate implements Predicate<InventoryRecord> {
 
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate that matches the inventory records with any of the {@code keywords} as a word of their item
+     * name, ignoring case.
+     */
     public InventoryRecordNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        matcher = new KeywordMatcher(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(InventoryRecord inventoryRecord) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(inventoryRecord.getItemName(), keyword));
+        return matcher.matchesAny(inventoryRecord.getItemNameWords());
     }
 
     @Override
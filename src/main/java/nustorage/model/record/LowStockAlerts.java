@@ -0,0 +1,103 @@
+package nustorage.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableSet;
+
+/**
+ * The inventory records that are low on stock, kept up to date as records are added, replaced and removed.
+ * <p>
+ * Only the records that change are checked against their thresholds, so keeping the set up to date takes constant
+ * time per change, however many records there are. The set is only filled the first time it is needed. If the
+ * {@link StockColumns} of the records are known, as for records read from a binary file, it is filled from them,
+ * and only the records low on stock are read, so that the other records loaded lazily are not created. Otherwise
+ * every record is read. Records are in the order they went low on stock.
+ */
+class LowStockAlerts {
+
+    private final ObservableSet<InventoryRecord> lowStockRecords = FXCollections.observableSet(new LinkedHashSet<>());
+    private final ObservableSet<InventoryRecord> unmodifiableLowStockRecords =
+            FXCollections.unmodifiableObservableSet(lowStockRecords);
+    private boolean isFilled;
+
+    /**
+     * Returns the records of {@code inventoryRecords} that are low on stock, filling the set from them if it is
+     * not filled yet. The set returned is kept up to date as long as every later change to the records is passed
+     * to this object.
+     *
+     * @param columns columns of {@code inventoryRecords}, or null if they are not known.
+     */
+    public ObservableSet<InventoryRecord> getLowStockRecords(List<InventoryRecord> inventoryRecords,
+            StockColumns columns) {
+        requireNonNull(inventoryRecords);
+        if (!isFilled) {
+            isFilled = true;
+            if (columns == null) {
+                refill(inventoryRecords);
+            } else {
+                fill(inventoryRecords, columns);
+            }
+        }
+        return unmodifiableLowStockRecords;
+    }
+
+    /**
+     * Checks {@code inventoryRecord}, which was added to the records.
+     */
+    public void add(InventoryRecord inventoryRecord) {
+        if (isFilled && inventoryRecord.isLowOnStock()) {
+            lowStockRecords.add(inventoryRecord);
+        }
+    }
+
+    /**
+     * Forgets {@code inventoryRecord}, which was removed from the records.
+     */
+    public void remove(InventoryRecord inventoryRecord) {
+        if (isFilled) {
+            lowStockRecords.remove(inventoryRecord);
+        }
+    }
+
+    /**
+     * Checks {@code editedInventoryRecord}, which replaced {@code target} in the records.
+     */
+    public void replace(InventoryRecord target, InventoryRecord editedInventoryRecord) {
+        // records are equal by item name, so the target must be removed even if the edited record is also low
+        remove(target);
+        add(editedInventoryRecord);
+    }
+
+    /**
+     * Checks all the {@code inventoryRecords}, which replaced all the records, if the set has been filled.
+     */
+    public void replaceAll(Iterable<InventoryRecord> inventoryRecords) {
+        if (isFilled) {
+            refill(inventoryRecords);
+        }
+    }
+
+    /**
+     * Adds the records that {@code columns} show to be low on stock, reading only those records.
+     */
+    private void fill(List<InventoryRecord> inventoryRecords, StockColumns columns) {
+        assert columns.size() == inventoryRecords.size() : "Columns do not match the inventory records!";
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.isLowOnStock(i)) {
+                lowStockRecords.add(inventoryRecords.get(i));
+            }
+        }
+    }
+
+    private void refill(Iterable<InventoryRecord> inventoryRecords) {
+        lowStockRecords.clear();
+        for (InventoryRecord inventoryRecord : inventoryRecords) {
+            add(inventoryRecord);
+        }
+    }
+
+}
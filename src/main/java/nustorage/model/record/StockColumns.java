@@ -0,0 +1,142 @@
+package nustorage.model.record;
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The quantities and reorder thresholds of a list of inventory records, stored column by column in primitive
+ * arrays, in the order of the list.
+ * <p>
+ * The records that are low on stock are found with a loop over the arrays, which neither creates nor reads the
+ * {@code InventoryRecord} objects, so that records loaded lazily only need to be created if they are low on stock.
+ */
+public class StockColumns {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] quantities;
+    private int[] thresholds;
+    private int size;
+
+    /**
+     * Creates empty columns with room for {@code capacity} records.
+     */
+    public StockColumns(int capacity) {
+        assert capacity >= 0 : "Capacity must not be negative!";
+        int length = Math.max(MIN_CAPACITY, capacity);
+        quantities = new int[length];
+        thresholds = new int[length];
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public StockColumns(StockColumns toBeCopied) {
+        requireNonNull(toBeCopied);
+        size = toBeCopied.size;
+        int length = Math.max(MIN_CAPACITY, size);
+        quantities = Arrays.copyOf(toBeCopied.quantities, length);
+        thresholds = Arrays.copyOf(toBeCopied.thresholds, length);
+    }
+
+    /**
+     * Returns the columns of {@code records}, which are all read.
+     */
+    public static StockColumns of(List<InventoryRecord> records) {
+        requireNonNull(records);
+        StockColumns columns = new StockColumns(records.size());
+        columns.addAll(0, records);
+        return columns;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a record with the given quantity and threshold, without creating it.
+     */
+    public void add(int quantity, int threshold) {
+        ensureCapacity(size + 1);
+        quantities[size] = quantity;
+        thresholds[size] = threshold;
+        size++;
+    }
+
+    /**
+     * Inserts the columns of {@code records} at {@code index}, in order.
+     */
+    public void addAll(int index, List<InventoryRecord> records) {
+        requireAllNonNull(records);
+        checkIndex(index, size + 1);
+        ensureCapacity(size + records.size());
+        shift(index, index + records.size());
+        for (int i = 0; i < records.size(); i++) {
+            set(index + i, records.get(i));
+        }
+    }
+
+    /**
+     * Replaces the columns at {@code index} with those of {@code record}.
+     */
+    public void set(int index, InventoryRecord record) {
+        requireNonNull(record);
+        checkIndex(index, size);
+        quantities[index] = record.getQuantity();
+        thresholds[index] = record.getThreshold();
+    }
+
+    /**
+     * Replaces the columns from {@code from} (inclusive) to {@code to} (exclusive) with those of {@code records}.
+     */
+    public void replaceRange(int from, int to, List<InventoryRecord> records) {
+        requireAllNonNull(records);
+        assert from >= 0 && from <= to && to <= size : "Range is out of bounds!";
+        shift(to, from);
+        addAll(from, records);
+    }
+
+    /**
+     * Removes the columns at {@code index}.
+     */
+    public void remove(int index) {
+        checkIndex(index, size);
+        shift(index + 1, index);
+    }
+
+    /**
+     * Returns true if the record at {@code index} is below its reorder threshold, as
+     * {@link InventoryRecord#isLowOnStock()} would.
+     */
+    public boolean isLowOnStock(int index) {
+        checkIndex(index, size);
+        return quantities[index] < thresholds[index];
+    }
+
+    /**
+     * Moves the columns from {@code from} to the end so that they start at {@code to}, and updates the size.
+     */
+    private void shift(int from, int to) {
+        System.arraycopy(quantities, from, quantities, to, size - from);
+        System.arraycopy(thresholds, from, thresholds, to, size - from);
+        size += to - from;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > quantities.length) {
+            int length = Math.max(capacity, quantities.length + (quantities.length >> 1));
+            quantities = Arrays.copyOf(quantities, length);
+            thresholds = Arrays.copyOf(thresholds, length);
+        }
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+package nustorage.model.record;
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The stock movements of an inventory item, oldest first, with the stock after every movement.
+ * <p>
+ * As the stock after every movement is kept, the stock at any date-time and the net movement over any period are
+ * found with a binary search, without adding up the movements.
+ * <p>
+ * Guarantees: immutable. Appending a movement returns a new ledger, which shares the movements of this one, so
+ * that appending to the latest ledger of an item takes amortised constant time. Older ledgers are left unchanged.
+ */
+public final class StockLedger {
+
+    public static final StockLedger EMPTY = new StockLedger(new Movements(0), 0);
+
+    private static final int MIN_CAPACITY = 4;
+
+    private final Movements movements;
+    private final int size;
+
+    private StockLedger(Movements movements, int size) {
+        this.movements = movements;
+        this.size = size;
+    }
+
+    /**
+     * Returns a ledger of {@code stockMovements}, in order of their date-times.
+     */
+    public static StockLedger of(List<StockMovement> stockMovements) {
+        requireNonNull(stockMovements);
+        List<StockMovement> sorted = new ArrayList<>(stockMovements);
+        sorted.sort(Comparator.comparing(StockMovement::getDateTime));
+
+        Movements newMovements = new Movements(Math.max(MIN_CAPACITY, sorted.size()));
+        for (int i = 0; i < sorted.size(); i++) {
+            newMovements.set(i, sorted.get(i), i == 0 ? 0 : newMovements.stocks[i - 1]);
+        }
+        newMovements.used.set(sorted.size());
+        return new StockLedger(newMovements, sorted.size());
+    }
+
+    /**
+     * Returns a ledger with the movements of this one and {@code stockMovement}.
+     * Takes amortised constant time if {@code stockMovement} is not older than the latest movement.
+     */
+    public StockLedger append(StockMovement stockMovement) {
+        requireNonNull(stockMovement);
+        if (size > 0 && stockMovement.getDateTime().isBefore(movements.dateTimes[size - 1])) {
+            List<StockMovement> newMovements = getMovements();
+            newMovements.add(stockMovement);
+            return of(newMovements);
+        }
+
+        long stockBefore = getStock();
+        if (size < movements.capacity() && movements.used.compareAndSet(size, size + 1)) {
+            // no other ledger has appended to the shared movements yet
+            movements.set(size, stockMovement, stockBefore);
+            return new StockLedger(movements, size + 1);
+        }
+
+        Movements newMovements = movements.copyOf(size, Math.max(MIN_CAPACITY, size * 2));
+        newMovements.set(size, stockMovement, stockBefore);
+        newMovements.used.set(size + 1);
+        return new StockLedger(newMovements, size + 1);
+    }
+
+    /**
+     * Returns the number of movements in the ledger.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the movement at {@code index}, counting from the oldest.
+     */
+    public StockMovement getMovement(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return new StockMovement(movements.deltas[index], movements.dateTimes[index], movements.financeIds[index]);
+    }
+
+    /**
+     * Returns a modifiable list of the movements, oldest first.
+     */
+    public List<StockMovement> getMovements() {
+        List<StockMovement> stockMovements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            stockMovements.add(getMovement(i));
+        }
+        return stockMovements;
+    }
+
+    /**
+     * Returns a ledger with the movements of this one, linked to the finance records that {@code renumbering}
+     * renumbered their finance records to.
+     */
+    public StockLedger withFinanceIdsRenumbered(FinanceIdRenumbering renumbering) {
+        requireNonNull(renumbering);
+        List<StockMovement> renumberedMovements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            renumberedMovements.add(new StockMovement(movements.deltas[i], movements.dateTimes[i],
+                    renumbering.renumber(movements.financeIds[i])));
+        }
+        return of(renumberedMovements);
+    }
+
+    /**
+     * Returns the stock after all the movements.
+     */
+    public long getStock() {
+        return size == 0 ? 0 : movements.stocks[size - 1];
+    }
+
+    /**
+     * Returns the stock after the movements up to and including {@code dateTime}.
+     */
+    public long getStockAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return getStockAfter(countUpTo(dateTime));
+    }
+
+    /**
+     * Returns the net change in stock from the movements between {@code from} and {@code to}, both inclusive.
+     */
+    public long getNetMovement(LocalDateTime from, LocalDateTime to) {
+        checkPeriod(from, to);
+        return getStockAfter(countUpTo(to)) - getStockAfter(countBefore(from));
+    }
+
+    /**
+     * Returns the number of movements between {@code from} and {@code to}, both inclusive.
+     */
+    public int getMovementCount(LocalDateTime from, LocalDateTime to) {
+        checkPeriod(from, to);
+        return countUpTo(to) - countBefore(from);
+    }
+
+    private static void checkPeriod(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        checkArgument(!from.isAfter(to), "Start of period must not be after its end.");
+    }
+
+    private long getStockAfter(int count) {
+        return count == 0 ? 0 : movements.stocks[count - 1];
+    }
+
+    /**
+     * Returns the number of movements at or before {@code dateTime}.
+     */
+    private int countUpTo(LocalDateTime dateTime) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (movements.dateTimes[middle].isAfter(dateTime)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of movements before {@code dateTime}.
+     */
+    private int countBefore(LocalDateTime dateTime) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (movements.dateTimes[middle].isBefore(dateTime)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StockLedger)) {
+            return false;
+        }
+        StockLedger otherLedger = (StockLedger) other;
+        return getMovements().equals(otherLedger.getMovements());
+    }
+
+    @Override
+    public int hashCode() {
+        return getMovements().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getMovements().toString();
+    }
+
+    /**
+     * Movements shared by ledgers that were appended to one another.
+     * Each ledger only reads the first movements, up to its size, which are never changed. {@code used} is the
+     * number of movements written, so that only one ledger can append to the shared movements in place.
+     */
+    private static class Movements {
+
+        private final LocalDateTime[] dateTimes;
+        private final int[] deltas;
+        private final int[] financeIds;
+        private final long[] stocks;
+        private final AtomicInteger used = new AtomicInteger();
+
+        private Movements(int capacity) {
+            dateTimes = new LocalDateTime[capacity];
+            deltas = new int[capacity];
+            financeIds = new int[capacity];
+            stocks = new long[capacity];
+        }
+
+        private Movements(LocalDateTime[] dateTimes, int[] deltas, int[] financeIds, long[] stocks) {
+            this.dateTimes = dateTimes;
+            this.deltas = deltas;
+            this.financeIds = financeIds;
+            this.stocks = stocks;
+        }
+
+        private int capacity() {
+            return dateTimes.length;
+        }
+
+        private Movements copyOf(int count, int capacity) {
+            assert count <= capacity;
+            Movements copy = new Movements(Arrays.copyOf(dateTimes, capacity), Arrays.copyOf(deltas, capacity),
+                    Arrays.copyOf(financeIds, capacity), Arrays.copyOf(stocks, capacity));
+            copy.used.set(count);
+            return copy;
+        }
+
+        private void set(int index, StockMovement stockMovement, long stockBefore) {
+            dateTimes[index] = stockMovement.getDateTime();
+            deltas[index] = stockMovement.getDelta();
+            financeIds[index] = stockMovement.getFinanceId();
+            stocks[index] = stockBefore + stockMovement.getDelta();
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package nustorage.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A change in the stock of an inventory item, optionally paid for by a finance record.
+ * Guarantees: immutable.
+ */
+public class StockMovement {
+
+    /** Finance ID of a movement that is not linked to a finance record. */
+    public static final int NO_FINANCE_RECORD = -1;
+
+    private final int delta;
+    private final LocalDateTime dateTime;
+    private final int financeId;
+
+    /**
+     * Constructs a {@code StockMovement} that is not linked to a finance record.
+     *
+     * @param delta Number of items added, or removed if negative.
+     * @param dateTime Date and time of the movement.
+     */
+    public StockMovement(int delta, LocalDateTime dateTime) {
+        this(delta, dateTime, NO_FINANCE_RECORD);
+    }
+
+    /**
+     * Constructs a {@code StockMovement}.
+     *
+     * @param delta Number of items added, or removed if negative.
+     * @param dateTime Date and time of the movement.
+     * @param financeId ID of the finance record of the movement, or {@link #NO_FINANCE_RECORD}.
+     */
+    public StockMovement(int delta, LocalDateTime dateTime, int financeId) {
+        requireNonNull(dateTime);
+        this.delta = delta;
+        this.dateTime = dateTime;
+        this.financeId = financeId;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public int getFinanceId() {
+        return financeId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StockMovement)) {
+            return false;
+        }
+        StockMovement otherMovement = (StockMovement) other;
+        return delta == otherMovement.delta
+                && dateTime.equals(otherMovement.dateTime)
+                && financeId == otherMovement.financeId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delta, dateTime, financeId);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%+d on %s", delta, dateTime)
+                + (financeId == NO_FINANCE_RECORD ? "" : " (finance record " + financeId + ")");
+    }
+
+}
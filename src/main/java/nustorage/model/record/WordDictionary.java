@@ -0,0 +1,226 @@
+package nustorage.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A set of words that can be searched by prefix and by edit distance, to find the words a user may be typing.
+ * <p>
+ * The words are kept sorted, so the words with a prefix are found in one range of the set. For searches by edit
+ * distance, the words are also put in a trie, which is only built again after the set changes. A search walks the
+ * trie computing a row of the edit distance table for each prefix, from the rows of the shorter prefixes, and skips
+ * all the words with a prefix as soon as no word with that prefix can be close enough. It therefore only looks at
+ * the prefixes close to the word searched for, however many words there are.
+ */
+class WordDictionary {
+
+    private static final int NO_WORD = -1;
+
+    private final TreeSet<String> words = new TreeSet<>();
+
+    /** The words in order, or null if the words changed since the trie was last built. */
+    private String[] sortedWords;
+
+    // The trie, as arrays of its nodes in depth-first order, where each node is a prefix of the words.
+    /** Last character of the prefix of each node. */
+    private char[] nodeChars;
+    /** Length of the prefix of each node. */
+    private int[] nodeDepths;
+    /** Index in {@code sortedWords} of the prefix of each node, or {@code NO_WORD} if it is not a word. */
+    private int[] nodeWords;
+    /** Index of the first node after the nodes of the words that start with the prefix of each node. */
+    private int[] nodeSubtreeEnds;
+    private int nodeCount;
+
+    /**
+     * Adds {@code word} to the dictionary, if it is not already in it.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (words.add(word)) {
+            sortedWords = null;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the dictionary, if it is in it.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        if (words.remove(word)) {
+            sortedWords = null;
+        }
+    }
+
+    public boolean contains(String word) {
+        return words.contains(word);
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * Returns the words that start with {@code prefix}, in order.
+     */
+    public Set<String> getWordsWithPrefix(String prefix) {
+        requireNonNull(prefix);
+        return words.subSet(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns the words that can be changed into {@code word} by at most {@code maxDistance} edits, each of which
+     * inserts, deletes or replaces a character, or swaps two adjacent characters.
+     */
+    public Set<String> getWordsWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        Set<String> closeWords = new HashSet<>();
+        if (maxDistance < 0) {
+            return closeWords;
+        }
+        if (sortedWords == null) {
+            buildTrie();
+        }
+
+        // rows[i][j] is the edit distance between the prefix of i characters of a node and the first j of word
+        int columns = word.length() + 1;
+        int[][] rows = new int[1][columns];
+        for (int j = 0; j < columns; j++) {
+            rows[0][j] = j;
+        }
+        if (word.length() <= maxDistance && words.contains("")) {
+            closeWords.add("");
+        }
+
+        char[] prefix = new char[1];
+        int node = 0;
+        while (node < nodeCount) {
+            int depth = nodeDepths[node];
+            if (depth >= rows.length) {
+                rows = growRows(rows, depth + 1);
+                prefix = Arrays.copyOf(prefix, rows.length);
+            }
+            prefix[depth - 1] = nodeChars[node];
+
+            if (fillRow(rows, depth, prefix, word, maxDistance) > maxDistance) {
+                // no word starting with the prefix of the node is close enough
+                node = nodeSubtreeEnds[node];
+                continue;
+            }
+            boolean isWordClose = Math.abs(depth - word.length()) <= maxDistance
+                    && rows[depth][columns - 1] <= maxDistance;
+            if (nodeWords[node] != NO_WORD && isWordClose) {
+                closeWords.add(sortedWords[nodeWords[node]]);
+            }
+            node++;
+        }
+        return closeWords;
+    }
+
+    private void buildTrie() {
+        sortedWords = words.toArray(new String[0]);
+        int maxNodes = 0;
+        for (String sortedWord : sortedWords) {
+            maxNodes += sortedWord.length();
+        }
+        nodeChars = new char[maxNodes];
+        nodeDepths = new int[maxNodes];
+        nodeWords = new int[maxNodes];
+        nodeSubtreeEnds = new int[maxNodes];
+        nodeCount = 0;
+
+        // path[d] is the node of the prefix of d + 1 characters of the previous word
+        int[] path = new int[0];
+        String previousWord = "";
+        for (int wordIndex = 0; wordIndex < sortedWords.length; wordIndex++) {
+            String word = sortedWords[wordIndex];
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() > path.length) {
+                path = Arrays.copyOf(path, word.length());
+            }
+
+            // a word comes after the words it starts with, so it is longer than the prefix it shares with them
+            int sharedLength = getCommonPrefixLength(previousWord, word);
+            for (int depth = previousWord.length(); depth > sharedLength; depth--) {
+                nodeSubtreeEnds[path[depth - 1]] = nodeCount;
+            }
+            for (int depth = sharedLength + 1; depth <= word.length(); depth++) {
+                nodeChars[nodeCount] = word.charAt(depth - 1);
+                nodeDepths[nodeCount] = depth;
+                nodeWords[nodeCount] = NO_WORD;
+                path[depth - 1] = nodeCount;
+                nodeCount++;
+            }
+            nodeWords[path[word.length() - 1]] = wordIndex;
+            previousWord = word;
+        }
+        for (int depth = previousWord.length(); depth > 0; depth--) {
+            nodeSubtreeEnds[path[depth - 1]] = nodeCount;
+        }
+    }
+
+    private static int[][] growRows(int[][] rows, int minLength) {
+        int[][] moreRows = new int[Math.max(minLength, 2 * rows.length)][];
+        System.arraycopy(rows, 0, moreRows, 0, rows.length);
+        for (int i = rows.length; i < moreRows.length; i++) {
+            moreRows[i] = new int[rows[0].length];
+        }
+        return moreRows;
+    }
+
+    /**
+     * Fills row {@code i} of {@code rows} with the edit distances between the first {@code i} characters of
+     * {@code prefix} and the prefixes of {@code word}, from the rows of the shorter prefixes. Only the distances up to
+     * {@code maxDistance} are computed exactly, and the others are {@code maxDistance + 1}: as a distance is at least
+     * the difference in length, only the prefixes of {@code word} of about {@code i} characters are compared.
+     *
+     * @return the smallest distance in the row, which no word starting with the prefix can be closer than.
+     */
+    private static int fillRow(int[][] rows, int i, char[] prefix, String word, int maxDistance) {
+        int[] row = rows[i];
+        int[] previousRow = rows[i - 1];
+        char prefixChar = prefix[i - 1];
+        int tooFar = maxDistance + 1;
+        int first = Math.max(1, i - maxDistance);
+        int last = Math.min(row.length - 1, i + maxDistance);
+        if (first > last + 1) {
+            // the prefix is longer than word by more than maxDistance characters
+            return tooFar;
+        }
+        row[0] = Math.min(i, tooFar);
+        row[first - 1] = first == 1 ? row[0] : tooFar;
+        if (last + 1 < row.length) {
+            row[last + 1] = tooFar;
+        }
+
+        int minDistance = first == 1 ? row[0] : tooFar;
+        for (int j = first; j <= last; j++) {
+            char wordChar = word.charAt(j - 1);
+            int distance = Math.min(previousRow[j - 1] + (prefixChar == wordChar ? 0 : 1),
+                    Math.min(previousRow[j], row[j - 1]) + 1);
+            if (i > 1 && j > 1 && prefixChar == word.charAt(j - 2) && prefix[i - 2] == wordChar) {
+                distance = Math.min(distance, rows[i - 2][j - 2] + 1);
+            }
+            row[j] = Math.min(distance, tooFar);
+            minDistance = Math.min(minDistance, row[j]);
+        }
+        return minDistance;
+    }
+
+    private static int getCommonPrefixLength(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        for (int i = 0; i < length; i++) {
+            if (first.charAt(i) != second.charAt(i)) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+}
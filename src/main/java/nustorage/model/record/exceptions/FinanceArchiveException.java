@@ -0,0 +1,13 @@
+package nustorage.model.record.exceptions;
+
+import java.time.YearMonth;
+
+/**
+ * Signals that the archived finance records of a month could not be loaded.
+ */
+public class FinanceArchiveException extends RuntimeException {
+
+    public FinanceArchiveException(YearMonth month, Exception cause) {
+        super("Could not load the archived finance records of " + month + ": " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,476 @@
+package nustorage.storage;
+
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import nustorage.commons.core.LogsCenter;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.commons.util.JsonUtil;
+import nustorage.model.FinanceAccount;
+import nustorage.model.FinanceArchive;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.record.FinanceColumns;
+import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceTotal;
+import nustorage.model.record.exceptions.FinanceArchiveException;
+
+
+/**
+ * A class to access FinanceAccount data where only the records of recent months are kept in the main data file,
+ * and older records are archived in a Json segment file per month, e.g. {@code 2020-10.json}, in a directory next
+ * to the main data file.
+ * <p>
+ * Reading only reads the main data file, and the returned finance account loads an archived month from its
+ * segment when that month is needed (see {@link FinanceAccount#loadArchivedMonths}). Saving moves the records
+ * that are no longer recent into their segments, and only rewrites the segments whose records changed. The records
+ * to move are found from the columns of the finance account in order of date-time, so the recent records, which
+ * may not have been loaded, are not read to tell their month.
+ * Segments of months that were never loaded are left as they are.
+ * <p>
+ * The total of each archived month is kept in {@value #TOTALS_FILE_NAME} in the archive directory, so that
+ * the totals of the finance account are known without reading the segments. A total whose segment changed
+ * after it was written, e.g. by a save that was interrupted, is computed again from its segment.
+ */
+public class ArchivingFinanceAccountStorage implements FinanceAccountStorage, FinanceArchive {
+
+    public static final String ARCHIVE_DIRECTORY_SUFFIX = "_archive";
+    public static final String TOTALS_FILE_NAME = "totals.json";
+
+    private static final String TOTALS_FIELD = "months";
+
+    private static final DateTimeFormatter SEGMENT_NAME_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM");
+
+    private static final Logger logger = LogsCenter.getLogger(ArchivingFinanceAccountStorage.class);
+
+    private final FinanceAccountStorage recentStorage;
+    private final int recentMonths;
+    private final boolean isPrettyPrinted;
+    private final Clock clock;
+    private final Path archiveDirectory;
+
+    /** Records of the segments as they were last read or written, so that unchanged segments are not rewritten. */
+    private final Map<YearMonth, List<FinanceRecord>> persistedSegments = new ConcurrentHashMap<>();
+
+    /** Totals of the segments as they were last read or written. */
+    private final Map<YearMonth, JsonAdaptedArchiveTotal> segmentTotals = new ConcurrentHashMap<>();
+
+
+    /**
+     * Creates a new archiving finance account storage object.
+     *
+     * @param recentStorage storage that reads and writes the main data file.
+     * @param recentMonths number of months, including the current one, whose records are kept in the main data
+     *                     file. If 0, no records are archived, and archived records are moved back into the main
+     *                     data file.
+     * @param isPrettyPrinted whether the Json in the segment files is indented over multiple lines.
+     */
+    public ArchivingFinanceAccountStorage(FinanceAccountStorage recentStorage, int recentMonths,
+                                          boolean isPrettyPrinted) {
+        this(recentStorage, recentMonths, isPrettyPrinted, Clock.systemDefaultZone());
+    }
+
+
+    /**
+     * Creates a new archiving finance account storage object, which uses {@code clock} to tell which months
+     * are recent.
+     *
+     * @see #ArchivingFinanceAccountStorage(FinanceAccountStorage, int, boolean)
+     */
+    public ArchivingFinanceAccountStorage(FinanceAccountStorage recentStorage, int recentMonths,
+                                          boolean isPrettyPrinted, Clock clock) {
+        requireAllNonNull(recentStorage, clock);
+        assert recentMonths >= 0 : "Number of recent months must not be negative!";
+
+        this.recentStorage = recentStorage;
+        this.recentMonths = recentMonths;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.clock = clock;
+        this.archiveDirectory = getArchiveDirectory(recentStorage.getFinanceAccountFilePath());
+    }
+
+
+    /**
+     * Returns the directory that holds the segments archived from the main data file at {@code filePath}.
+     * It is named after the main data file without its extension, so the Json and binary data files share it.
+     */
+    public static Path getArchiveDirectory(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        if (extensionStart > 0) {
+            fileName = fileName.substring(0, extensionStart);
+        }
+        return filePath.resolveSibling(fileName + ARCHIVE_DIRECTORY_SUFFIX);
+    }
+
+
+    public Path getArchiveDirectory() {
+        return archiveDirectory;
+    }
+
+
+    /**
+     * Returns the path of the segment that holds the archived records of {@code month}.
+     */
+    public Path getSegmentFilePath(YearMonth month) {
+        return archiveDirectory.resolve(SEGMENT_NAME_FORMAT.format(month) + DataFileConverter.JSON_FILE_EXTENSION);
+    }
+
+
+    public Path getTotalsFilePath() {
+        return archiveDirectory.resolve(TOTALS_FILE_NAME);
+    }
+
+
+    /**
+     * Returns the months that have a segment in the archive directory.
+     */
+    public SortedSet<YearMonth> getArchivedMonths() throws IOException {
+        SortedSet<YearMonth> months = new TreeSet<>();
+        if (!Files.isDirectory(archiveDirectory)) {
+            return months;
+        }
+
+        String extension = DataFileConverter.JSON_FILE_EXTENSION;
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(archiveDirectory, "*" + extension)) {
+            for (Path segment : segments) {
+                String fileName = segment.getFileName().toString();
+                if (fileName.equals(TOTALS_FILE_NAME)) {
+                    continue;
+                }
+                try {
+                    months.add(YearMonth.parse(fileName.substring(0, fileName.length() - extension.length()),
+                            SEGMENT_NAME_FORMAT));
+                } catch (DateTimeParseException e) {
+                    logger.warning("Ignoring " + segment + ", which is not named after a month");
+                }
+            }
+        }
+        return months;
+    }
+
+
+    @Override
+    public Path getFinanceAccountFilePath() {
+        return recentStorage.getFinanceAccountFilePath();
+    }
+
+
+    @Override
+    public Optional<ReadOnlyFinanceAccount> readFinanceAccount() throws DataConversionException, IOException {
+        return readFinanceAccount(getFinanceAccountFilePath());
+    }
+
+
+    @Override
+    public Optional<ReadOnlyFinanceAccount> readFinanceAccount(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getFinanceAccountFilePath())) {
+            return recentStorage.readFinanceAccount(filePath);
+        }
+
+        persistedSegments.clear();
+        Optional<ReadOnlyFinanceAccount> recentFinanceAccount = recentStorage.readFinanceAccount(filePath);
+        SortedSet<YearMonth> archivedMonths = getArchivedMonths();
+        if (recentFinanceAccount.isEmpty() && archivedMonths.isEmpty()) {
+            return Optional.empty();
+        }
+
+        FinanceAccount financeAccount = recentFinanceAccount.map(FinanceAccount::new).orElseGet(FinanceAccount::new);
+        recentFinanceAccount.flatMap(ReadOnlyFinanceAccount::getIdRenumbering)
+                .ifPresent(financeAccount::setIdRenumbering);
+        financeAccount.setArchive(this, readTotals(archivedMonths));
+        logger.info(archivedMonths.size() + " archived months of finance records found in " + archiveDirectory);
+
+        if (recentMonths == 0) {
+            // archiving is turned off, so all the records are loaded, and moved back into the main data file
+            try {
+                financeAccount.loadAllArchivedMonths();
+            } catch (FinanceArchiveException e) {
+                persistedSegments.clear();
+                throw new DataConversionException(e);
+            }
+        }
+        return Optional.of(financeAccount);
+    }
+
+
+    @Override
+    public List<FinanceRecord> readMonth(YearMonth month) throws DataConversionException, IOException {
+        requireNonNull(month);
+
+        List<FinanceRecord> records = readSegment(month);
+        persistedSegments.put(month, records);
+        return new ArrayList<>(records);
+    }
+
+
+    @Override
+    public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount) throws IOException {
+        saveFinanceAccount(financeAccount, getFinanceAccountFilePath());
+    }
+
+
+    @Override
+    public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount, Path filePath) throws IOException {
+        requireAllNonNull(financeAccount, filePath);
+
+        if (!filePath.equals(getFinanceAccountFilePath())) {
+            recentStorage.saveFinanceAccount(financeAccount, filePath);
+            return;
+        }
+
+        List<FinanceRecord> records = financeAccount.getFinanceList();
+        List<FinanceRecord> recentRecords = financeAccount.copyFinanceList();
+        Map<YearMonth, List<FinanceRecord>> archivedRecords = new TreeMap<>();
+        if (recentMonths > 0) {
+            // the records to archive are found in the date-time order of the columns, so recent records are not read
+            FinanceColumns columns = financeAccount.copyFinanceColumns().orElseGet(() -> FinanceColumns.of(records));
+            LocalDateTime oldestRecentTime = YearMonth.now(clock).minusMonths(recentMonths - 1).atDay(1).atStartOfDay();
+            int[] archivedPositions = columns.indexesBetween(LocalDateTime.MIN, oldestRecentTime.minusNanos(1));
+            archivedRecords = splitIntoMonths(records, columns, archivedPositions);
+            removePositions(recentRecords, archivedPositions);
+        }
+
+        // records are written to their new place before they are removed from the old one, so an interrupted
+        // save may leave a record in two places, which loading tolerates, but never loses it
+        Set<YearMonth> unloadedMonths = financeAccount.getUnloadedArchiveMonths();
+        boolean isArchiveChanged = false;
+        for (Map.Entry<YearMonth, List<FinanceRecord>> entry : archivedRecords.entrySet()) {
+            if (unloadedMonths.contains(entry.getKey())) {
+                mergeIntoSegment(entry.getKey(), entry.getValue());
+                isArchiveChanged = true;
+            } else {
+                isArchiveChanged |= saveSegment(entry.getKey(), entry.getValue());
+            }
+        }
+
+        recentStorage.saveFinanceAccount(new FinanceAccount(recentRecords), filePath);
+
+        // a loaded month that no longer has archived records has its segment deleted
+        for (YearMonth month : persistedSegments.keySet()) {
+            if (!archivedRecords.containsKey(month) && !unloadedMonths.contains(month)) {
+                deleteSegment(month);
+                isArchiveChanged = true;
+            }
+        }
+
+        if (isArchiveChanged) {
+            saveTotals();
+        }
+    }
+
+
+    /**
+     * Returns the records at {@code positions}, which are in order of date-time, grouped by month. The month of each
+     * record is told from its columns, and the records of a month are kept in the order of {@code records}.
+     */
+    private static Map<YearMonth, List<FinanceRecord>> splitIntoMonths(List<FinanceRecord> records,
+            FinanceColumns columns, int[] positions) {
+        Map<YearMonth, List<FinanceRecord>> recordsByMonth = new TreeMap<>();
+        int start = 0;
+        while (start < positions.length) {
+            YearMonth month = YearMonth.from(columns.getDatetime(positions[start]));
+            long nextMonthSecond = month.plusMonths(1).atDay(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+            int end = start + 1;
+            while (end < positions.length && columns.getEpochSecond(positions[end]) < nextMonthSecond) {
+                end++;
+            }
+
+            int[] monthPositions = Arrays.copyOfRange(positions, start, end);
+            Arrays.sort(monthPositions);
+            List<FinanceRecord> monthRecords = new ArrayList<>(monthPositions.length);
+            for (int position : monthPositions) {
+                monthRecords.add(records.get(position));
+            }
+            recordsByMonth.put(month, monthRecords);
+            start = end;
+        }
+        return recordsByMonth;
+    }
+
+
+    /**
+     * Removes the records at {@code positions} from {@code records}, without reading them.
+     */
+    private static void removePositions(List<FinanceRecord> records, int[] positions) {
+        int[] sortedPositions = positions.clone();
+        Arrays.sort(sortedPositions);
+        int i = sortedPositions.length - 1;
+        while (i >= 0) {
+            // each run of adjacent positions is removed at once, from the last run to the first
+            int end = sortedPositions[i] + 1;
+            int start = sortedPositions[i];
+            i--;
+            while (i >= 0 && sortedPositions[i] == start - 1) {
+                start--;
+                i--;
+            }
+            records.subList(start, end).clear();
+        }
+    }
+
+
+    private List<FinanceRecord> readSegment(YearMonth month) throws DataConversionException, IOException {
+        Optional<ReadOnlyFinanceAccount> segment = getSegmentStorage(month).readFinanceAccount();
+        return segment.map(financeAccount -> List.copyOf(financeAccount.getFinanceList())).orElse(List.of());
+    }
+
+
+    /**
+     * Writes {@code records} as the segment of {@code month}, unless they are the records it already holds.
+     *
+     * @return true if the segment was written.
+     */
+    private boolean saveSegment(YearMonth month, List<FinanceRecord> records) throws IOException {
+        if (isSameRecords(persistedSegments.get(month), records)) {
+            return false;
+        }
+
+        logger.fine("Writing archived finance records of " + month);
+        getSegmentStorage(month).saveFinanceAccount(new FinanceAccount(records));
+        persistedSegments.put(month, records);
+        updateTotal(month, records);
+        return true;
+    }
+
+
+    /**
+     * Adds {@code records} to the segment of a month that the finance account has not loaded.
+     * The segment keeps its own records, since they are not in the finance account.
+     */
+    private void mergeIntoSegment(YearMonth month, List<FinanceRecord> records) throws IOException {
+        List<FinanceRecord> mergedRecords;
+        try {
+            mergedRecords = new ArrayList<>(readSegment(month));
+        } catch (DataConversionException e) {
+            throw new IOException("Could not add to the archived finance records of " + month, e);
+        }
+
+        Set<Integer> archivedIds = new HashSet<>();
+        for (FinanceRecord record : mergedRecords) {
+            archivedIds.add(record.getID());
+        }
+        for (FinanceRecord record : records) {
+            if (archivedIds.add(record.getID())) {
+                mergedRecords.add(record);
+            }
+        }
+
+        logger.fine("Adding to archived finance records of " + month);
+        getSegmentStorage(month).saveFinanceAccount(new FinanceAccount(mergedRecords));
+        updateTotal(month, mergedRecords);
+    }
+
+
+    private void deleteSegment(YearMonth month) throws IOException {
+        logger.fine("Deleting archived finance records of " + month);
+        Files.deleteIfExists(getSegmentFilePath(month));
+        persistedSegments.remove(month);
+        segmentTotals.remove(month);
+    }
+
+
+    /**
+     * Returns the total of each of the {@code archivedMonths}, from the totals file where it is up to date,
+     * or else from the segment of the month, in which case the totals file is written again.
+     */
+    private Map<YearMonth, FinanceTotal> readTotals(SortedSet<YearMonth> archivedMonths)
+            throws DataConversionException, IOException {
+        segmentTotals.clear();
+        try {
+            JsonUtil.JsonElementHandler<JsonAdaptedArchiveTotal> totalHandler =
+                total -> segmentTotals.put(total.getMonth(), total);
+            JsonUtil.readJsonArrayFile(getTotalsFilePath(), TOTALS_FIELD, JsonAdaptedArchiveTotal.class, totalHandler);
+        } catch (DataConversionException e) {
+            logger.warning("Computing the totals of the archived months again, as " + getTotalsFilePath()
+                    + " could not be read: " + e.getMessage());
+            segmentTotals.clear();
+        }
+
+        boolean isChanged = segmentTotals.keySet().retainAll(archivedMonths);
+        Map<YearMonth, FinanceTotal> totals = new TreeMap<>();
+        for (YearMonth month : archivedMonths) {
+            JsonAdaptedArchiveTotal total = segmentTotals.get(month);
+            if (total == null || !total.isUpToDate(getSegmentFilePath(month))) {
+                logger.info("Computing the total of the archived finance records of " + month);
+                total = updateTotal(month, readSegment(month));
+                isChanged = true;
+            }
+            try {
+                totals.put(month, total.toModelType());
+            } catch (IllegalValueException e) {
+                throw new DataConversionException(e);
+            }
+        }
+
+        if (isChanged) {
+            saveTotals();
+        }
+        return totals;
+    }
+
+
+    private JsonAdaptedArchiveTotal updateTotal(YearMonth month, List<FinanceRecord> records) throws IOException {
+        JsonAdaptedArchiveTotal total =
+                new JsonAdaptedArchiveTotal(month, FinanceTotal.of(records), getSegmentFilePath(month));
+        segmentTotals.put(month, total);
+        return total;
+    }
+
+
+    private void saveTotals() throws IOException {
+        if (segmentTotals.isEmpty()) {
+            Files.deleteIfExists(getTotalsFilePath());
+            return;
+        }
+        JsonUtil.saveJsonArrayFile(getTotalsFilePath(), TOTALS_FIELD, new TreeMap<>(segmentTotals).values(),
+                Function.identity(), isPrettyPrinted);
+    }
+
+
+    private FinanceAccountStorage getSegmentStorage(YearMonth month) {
+        return new JsonFinanceAccountStorage(getSegmentFilePath(month), isPrettyPrinted);
+    }
+
+
+    private static boolean isSameRecords(List<FinanceRecord> persistedRecords, List<FinanceRecord> records) {
+        if (persistedRecords == null || persistedRecords.size() != records.size()) {
+            return false;
+        }
+        for (int i = 0; i < records.size(); i++) {
+            if (persistedRecords.get(i) != records.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,411 @@
+package nustorage.storage;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import nustorage.commons.core.LogsCenter;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.model.DeferredCopy;
+import nustorage.model.ReadOnlyAddressBook;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.ReadOnlyInventory;
+import nustorage.model.ReadOnlyUserPrefs;
+import nustorage.model.UserPrefs;
+import nustorage.model.VersionCounter;
+
+
+/**
+ * Saves finance account and inventory data on a background thread, so that commands do not wait for the disk.
+ * <p>
+ * Each save marks a deferred copy of the data as pending (see {@link DeferredCopy}), which the background thread
+ * makes right away, so that the calling thread does not wait for the copy either, unless it changes the data before
+ * the copy is made. The pending data is written by the underlying {@code Storage} at most
+ * {@code maxSaveDelayMillis} after the first save that made it pending, so a burst of saves is written only once.
+ * {@link #flush()} writes the pending data right away.
+ * Saving data whose version has already been saved does nothing, and does not copy the data.
+ * <p>
+ * An error while writing in the background is thrown by the next save or flush, after that save has queued its
+ * data. The data that failed to be written stays pending, unless newer data has been queued since, so that it is
+ * written again by the next write.
+ */
+public class AsyncStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorageManager.class);
+
+    private final Storage storage;
+    private final long maxSaveDelayMillis;
+    private final ScheduledExecutorService writer;
+    private final AtomicReference<SaveStatistics> saveStatistics = new AtomicReference<>(SaveStatistics.EMPTY);
+
+    // guarded by this
+    private DeferredCopy<ReadOnlyFinanceAccount> pendingFinanceAccount;
+    private DeferredCopy<ReadOnlyInventory> pendingInventory;
+    private long queuedFinanceAccountVersion = VersionCounter.NO_VERSION;
+    private long queuedInventoryVersion = VersionCounter.NO_VERSION;
+    private boolean isWriteScheduled;
+    private IOException writeFailure;
+
+
+    /**
+     * Creates an {@code AsyncStorageManager} that writes through {@code storage}.
+     *
+     * @param storage storage that writes the data to the data files.
+     * @param maxSaveDelayMillis longest time in milliseconds that saved data may wait before it is written.
+     */
+    public AsyncStorageManager(Storage storage, long maxSaveDelayMillis) {
+        requireNonNull(storage);
+        assert maxSaveDelayMillis >= 0 : "Maximum save delay must not be negative!";
+
+        this.storage = storage;
+        this.maxSaveDelayMillis = maxSaveDelayMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    // ================ UserPrefs methods ==============================
+
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+
+    // ================ AddressBook methods ==============================
+
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return storage.readAddressBook();
+    }
+
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return storage.readAddressBook(filePath);
+    }
+
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+
+    @Override
+    public long getLastSavedAddressBookVersion() {
+        return storage.getLastSavedAddressBookVersion();
+    }
+
+
+    // ================ FinanceAccount methods ==============================
+
+
+    @Override
+    public Path getFinanceAccountFilePath() {
+        return storage.getFinanceAccountFilePath();
+    }
+
+
+    @Override
+    public Optional<ReadOnlyFinanceAccount> readFinanceAccount() throws DataConversionException, IOException {
+        flush();
+        return storage.readFinanceAccount();
+    }
+
+
+    @Override
+    public Optional<ReadOnlyFinanceAccount> readFinanceAccount(Path filePath)
+            throws DataConversionException, IOException {
+        flush();
+        return storage.readFinanceAccount(filePath);
+    }
+
+
+    @Override
+    public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount) throws IOException {
+        requireNonNull(financeAccount);
+        long startTime = System.nanoTime();
+        try {
+            queueFinanceAccount(financeAccount);
+        } finally {
+            recordSave(startTime);
+        }
+    }
+
+
+    @Override
+    public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount, Path filePath) throws IOException {
+        flush();
+        storage.saveFinanceAccount(financeAccount, filePath);
+    }
+
+
+    /**
+     * Marks a deferred copy of the finance account as pending, unless its version is already saved or pending.
+     */
+    private synchronized void queueFinanceAccount(ReadOnlyFinanceAccount financeAccount) throws IOException {
+        if (financeAccount.getVersion() == queuedFinanceAccountVersion
+                || financeAccount.getVersion() == storage.getLastSavedFinanceAccountVersion()) {
+            scheduleRetryAndThrowWriteFailure();
+            return;
+        }
+
+        DeferredCopy<ReadOnlyFinanceAccount> copy = financeAccount.copyDeferred();
+        pendingFinanceAccount = copy;
+        queuedFinanceAccountVersion = financeAccount.getVersion();
+        writer.execute(copy::get);
+        scheduleWrite();
+        throwWriteFailure();
+    }
+
+
+    @Override
+    public long getLastSavedFinanceAccountVersion() {
+        return storage.getLastSavedFinanceAccountVersion();
+    }
+
+
+    // ================ Inventory methods ==============================
+
+
+    @Override
+    public Path getInventoryFilePath() {
+        return storage.getInventoryFilePath();
+    }
+
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory() throws DataConversionException, IOException {
+        flush();
+        return storage.readInventory();
+    }
+
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readInventory(filePath);
+    }
+
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+        requireNonNull(inventory);
+        long startTime = System.nanoTime();
+        try {
+            queueInventory(inventory);
+        } finally {
+            recordSave(startTime);
+        }
+    }
+
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
+        flush();
+        storage.saveInventory(inventory, filePath);
+    }
+
+
+    /**
+     * Marks a deferred copy of the inventory as pending, unless its version is already saved or pending.
+     */
+    private synchronized void queueInventory(ReadOnlyInventory inventory) throws IOException {
+        if (inventory.getVersion() == queuedInventoryVersion
+                || inventory.getVersion() == storage.getLastSavedInventoryVersion()) {
+            scheduleRetryAndThrowWriteFailure();
+            return;
+        }
+
+        DeferredCopy<ReadOnlyInventory> copy = inventory.copyDeferred();
+        pendingInventory = copy;
+        queuedInventoryVersion = inventory.getVersion();
+        writer.execute(copy::get);
+        scheduleWrite();
+        throwWriteFailure();
+    }
+
+
+    @Override
+    public long getLastSavedInventoryVersion() {
+        return storage.getLastSavedInventoryVersion();
+    }
+
+
+    // ================ Statistics methods ==============================
+
+
+    /**
+     * Returns the saves made through this storage, together with the writes made by the underlying storage.
+     * Each write covers all the saves that were pending when it started.
+     */
+    @Override
+    public SaveStatistics getSaveStatistics() {
+        return saveStatistics.get().withWritesOf(storage.getSaveStatistics());
+    }
+
+
+    private void recordSave(long startTime) {
+        long nanos = System.nanoTime() - startTime;
+        saveStatistics.updateAndGet(statistics -> statistics.withSave(nanos));
+    }
+
+
+    // ================ Background writing ==============================
+
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Error while saving data", e.getCause());
+        }
+
+        synchronized (this) {
+            throwWriteFailure();
+        }
+    }
+
+
+    /**
+     * Schedules the pending data to be written, unless a write is already scheduled.
+     */
+    private void scheduleWrite() {
+        assert Thread.holdsLock(this);
+
+        if (!isWriteScheduled) {
+            writer.schedule(this::writePending, maxSaveDelayMillis, TimeUnit.MILLISECONDS);
+            isWriteScheduled = true;
+        }
+    }
+
+
+    /**
+     * Schedules the data left pending by a failed write to be written again, if there is any, and throws the error
+     * of the last failed background write, if there is one.
+     */
+    private void scheduleRetryAndThrowWriteFailure() throws IOException {
+        assert Thread.holdsLock(this);
+
+        if (pendingFinanceAccount != null || pendingInventory != null) {
+            scheduleWrite();
+        }
+        throwWriteFailure();
+    }
+
+
+    /**
+     * Throws the error of the last failed background write, if there is one, and clears it.
+     */
+    private void throwWriteFailure() throws IOException {
+        assert Thread.holdsLock(this);
+
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+
+
+    /**
+     * Writes the pending data. Runs on the writer thread only.
+     */
+    private void writePending() {
+        DeferredCopy<ReadOnlyFinanceAccount> financeAccount;
+        DeferredCopy<ReadOnlyInventory> inventory;
+        synchronized (this) {
+            financeAccount = pendingFinanceAccount;
+            inventory = pendingInventory;
+            pendingFinanceAccount = null;
+            pendingInventory = null;
+            isWriteScheduled = false;
+        }
+
+        if (financeAccount != null) {
+            logger.fine("Writing pending finance account in the background");
+            try {
+                storage.saveFinanceAccount(financeAccount.get());
+            } catch (IOException e) {
+                recordFinanceAccountWriteFailure(financeAccount, e);
+            }
+        }
+        if (inventory != null) {
+            logger.fine("Writing pending inventory in the background");
+            try {
+                storage.saveInventory(inventory.get());
+            } catch (IOException e) {
+                recordInventoryWriteFailure(inventory, e);
+            }
+        }
+    }
+
+
+    /**
+     * Keeps {@code financeAccount}, which failed to be written, pending unless a newer copy has been queued since.
+     */
+    private synchronized void recordFinanceAccountWriteFailure(DeferredCopy<ReadOnlyFinanceAccount> financeAccount,
+            IOException e) {
+        logger.warning("Failed to save finance account in the background: " + e);
+        writeFailure = e;
+        if (pendingFinanceAccount == null) {
+            pendingFinanceAccount = financeAccount;
+        }
+    }
+
+
+    /**
+     * Keeps {@code inventory}, which failed to be written, pending unless a newer copy has been queued since.
+     */
+    private synchronized void recordInventoryWriteFailure(DeferredCopy<ReadOnlyInventory> inventory, IOException e) {
+        logger.warning("Failed to save inventory in the background: " + e);
+        writeFailure = e;
+        if (pendingInventory == null) {
+            pendingInventory = inventory;
+        }
+    }
+
+}
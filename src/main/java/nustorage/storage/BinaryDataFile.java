@@ -0,0 +1,176 @@
+package nustorage.storage;
+
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.commons.util.FileUtil;
+
+
+/**
+ * Reads and writes the parts shared by the binary data files.
+ * <p>
+ * Every file starts with a header of a magic number that identifies the kind of data, and the version of the
+ * format. Files of older versions can still be read. All numbers are big-endian. Date-times are stored as the
+ * epoch second and nanosecond of the local date-time, as if it were in UTC, so that no time zone is needed to read
+ * them back.
+ * Amounts are stored as a whole number of cents, or as the raw bits of the {@code double} for the rare amount
+ * that is not a whole number of cents.
+ * <p>
+ * Files are memory-mapped when read, and records are read with absolute offsets so that they can be loaded
+ * lazily, from any thread, long after the file was opened.
+ */
+final class BinaryDataFile {
+
+    /**
+     * Version of the format that is written. Version 2 added the next finance record ID to finance files,
+     * version 3 added the stock movements to inventory files, and version 4 added the reorder thresholds to them.
+     */
+    public static final int FORMAT_VERSION = 4;
+
+    public static final String MESSAGE_WRONG_HEADER = "Not a binary %1$s file, or written by a newer version!";
+    public static final String MESSAGE_TRUNCATED = "Binary data file is incomplete!";
+    public static final String MESSAGE_INVALID_FIELD = "Binary data file contains an invalid %1$s!";
+
+    /** Size in bytes of a date-time written by {@link #writeDateTime(DataOutputStream, LocalDateTime)}. */
+    public static final int DATE_TIME_BYTES = Long.BYTES + Integer.BYTES;
+
+    /** Size in bytes of an amount written by {@link #writeAmount(DataOutputStream, double)}. */
+    public static final int AMOUNT_BYTES = Byte.BYTES + Long.BYTES;
+
+    private static final byte AMOUNT_IN_CENTS = 0;
+    private static final byte AMOUNT_AS_DOUBLE = 1;
+
+    private static final long MIN_EPOCH_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+    private static final long MAX_EPOCH_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+    private static final int MAX_NANO = 999_999_999;
+
+    private BinaryDataFile() {} // prevents instantiation
+
+
+    /**
+     * Maps the file at {@code filePath} into memory, and checks that it starts with the header for {@code magic}.
+     *
+     * @return a read-only buffer positioned right after the header.
+     * @throws DataConversionException if the header does not match.
+     */
+    static ByteBuffer readFile(Path filePath, int magic, String kind) throws IOException, DataConversionException {
+        return checkHeader(FileUtil.mapFile(filePath), magic, kind);
+    }
+
+
+    /**
+     * Checks that {@code buffer} starts with the header for {@code magic}, and skips past it.
+     *
+     * @throws DataConversionException if the header does not match.
+     */
+    static ByteBuffer checkHeader(ByteBuffer buffer, int magic, String kind) throws DataConversionException {
+        if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != magic
+                || !isSupportedVersion(buffer.getInt())) {
+            throw new DataConversionException(new IllegalValueException(String.format(MESSAGE_WRONG_HEADER, kind)));
+        }
+        return buffer;
+    }
+
+
+    private static boolean isSupportedVersion(int version) {
+        return version >= 1 && version <= FORMAT_VERSION;
+    }
+
+
+    /**
+     * Returns the version of the format of {@code buffer}, which must have been checked with
+     * {@link #checkHeader(ByteBuffer, int, String)}.
+     */
+    static int getFormatVersion(ByteBuffer buffer) {
+        return buffer.getInt(Integer.BYTES);
+    }
+
+
+    static void writeHeader(DataOutputStream output, int magic) throws IOException {
+        output.writeInt(magic);
+        output.writeInt(FORMAT_VERSION);
+    }
+
+
+    static void writeDateTime(DataOutputStream output, LocalDateTime dateTime) throws IOException {
+        output.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        output.writeInt(dateTime.getNano());
+    }
+
+
+    /**
+     * Checks that the date-time at {@code offset} in {@code buffer} is valid.
+     */
+    static void checkDateTime(ByteBuffer buffer, int offset) throws IllegalValueException {
+        long epochSecond = buffer.getLong(offset);
+        int nano = buffer.getInt(offset + Long.BYTES);
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND || nano < 0 || nano > MAX_NANO) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_FIELD, "date-time"));
+        }
+    }
+
+
+    /**
+     * Returns the date-time at {@code offset} in {@code buffer}, which must have been checked with
+     * {@link #checkDateTime(ByteBuffer, int)}.
+     */
+    static LocalDateTime getDateTime(ByteBuffer buffer, int offset) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(offset), buffer.getInt(offset + Long.BYTES), ZoneOffset.UTC);
+    }
+
+
+    static void writeAmount(DataOutputStream output, double amount) throws IOException {
+        double cents = amount * 100;
+        if (cents == Math.rint(cents) && Math.abs(cents) < Long.MAX_VALUE && (long) cents / 100.0 == amount) {
+            output.writeByte(AMOUNT_IN_CENTS);
+            output.writeLong((long) cents);
+        } else {
+            output.writeByte(AMOUNT_AS_DOUBLE);
+            output.writeLong(Double.doubleToRawLongBits(amount));
+        }
+    }
+
+
+    /**
+     * Returns the amount at {@code offset} in {@code buffer}.
+     *
+     * @throws IllegalValueException if the amount is not stored in a known way.
+     */
+    static double getAmount(ByteBuffer buffer, int offset) throws IllegalValueException {
+        byte kind = buffer.get(offset);
+        long value = buffer.getLong(offset + Byte.BYTES);
+        if (kind == AMOUNT_IN_CENTS) {
+            return value / 100.0;
+        } else if (kind == AMOUNT_AS_DOUBLE) {
+            return Double.longBitsToDouble(value);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_FIELD, "amount"));
+        }
+    }
+
+
+    /**
+     * Checks that {@code buffer} holds at least {@code count} records of {@code recordBytes} each.
+     *
+     * @throws DataConversionException if the buffer is too short.
+     */
+    static void checkRemaining(ByteBuffer buffer, int count, int recordBytes) throws DataConversionException {
+        if (count < 0 || (long) count * recordBytes > buffer.remaining()) {
+            throw truncated(null);
+        }
+    }
+
+
+    static DataConversionException truncated(BufferUnderflowException cause) {
+        return new DataConversionException(new IllegalValueException(MESSAGE_TRUNCATED, cause));
+    }
+
+}
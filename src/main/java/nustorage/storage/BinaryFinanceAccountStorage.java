@@ -0,0 +1,208 @@
+package nustorage.storage;
+
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+import nustorage.commons.core.LogsCenter;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.commons.util.FileUtil;
+import nustorage.commons.util.LazyLoadingList;
+import nustorage.model.FinanceAccount;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.record.FinanceColumns;
+import nustorage.model.record.FinanceIdAllocator;
+import nustorage.model.record.FinanceIdRenumbering;
+import nustorage.model.record.FinanceRecord;
+
+
+/**
+ * A class to access FinanceAccount data stored as a binary file on the hard disk.
+ * <p>
+ * After the header (see {@link BinaryDataFile}) comes the next ID that {@link FinanceIdAllocator} hands out,
+ * which files of version 1 do not have. Then come the number of records, followed by the records themselves.
+ * The records of version 1 files are renumbered when they are read (see {@link FinanceIdRenumbering}).
+ * Every record has the same size: its id, amount and date-time.
+ * <p>
+ * Reading checks every record, but only creates a {@code FinanceRecord} once the record is first read from the
+ * returned finance account.
+ */
+public class BinaryFinanceAccountStorage implements FinanceAccountStorage {
+
+    /** "NUSF" in ASCII. */
+    public static final int MAGIC = 0x4E555346;
+
+    /** Size in bytes of a single finance record. */
+    public static final int RECORD_BYTES = Integer.BYTES + BinaryDataFile.AMOUNT_BYTES + BinaryDataFile.DATE_TIME_BYTES;
+
+    /** First version of the format that holds the next finance record ID. */
+    private static final int NEXT_ID_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFinanceAccountStorage.class);
+
+    private final Path filePath;
+
+
+    /**
+     * Creates a new binary finance account storage object.
+     *
+     * @param filePath file path to storage file.
+     */
+    public BinaryFinanceAccountStorage(Path filePath) {
+        assert filePath != null : "File path for finance account storage is null!";
+
+        this.filePath = filePath;
+    }
+
+
+    @Override
+    public Path getFinanceAccountFilePath() {
+        return filePath;
+    }
+
+
+    @Override
+    public Optional<ReadOnlyFinanceAccount> readFinanceAccount() throws DataConversionException, IOException {
+        return readFinanceAccount(filePath);
+    }
+
+
+    @Override
+    public Optional<ReadOnlyFinanceAccount> readFinanceAccount(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = BinaryDataFile.readFile(filePath, MAGIC, "finance account");
+        try {
+            boolean hasNextId = BinaryDataFile.getFormatVersion(buffer) >= NEXT_ID_VERSION;
+            if (hasNextId) {
+                int nextId = buffer.getInt();
+                if (nextId < 0) {
+                    throw new IllegalValueException(String.format(BinaryDataFile.MESSAGE_INVALID_FIELD, "next ID"));
+                }
+                FinanceIdAllocator.reserveUpTo(nextId);
+            }
+
+            int recordCount = buffer.getInt();
+            BinaryDataFile.checkRemaining(buffer, recordCount, RECORD_BYTES);
+
+            // the IDs are reserved and the columns filled now, as the records are only created when they are
+            // first read; the records of files without a next ID are renumbered from 1
+            int recordsOffset = buffer.position();
+            FinanceColumns columns = new FinanceColumns(recordCount);
+            int[] ids = new int[recordCount];
+            int maxId = -1;
+            for (int i = 0; i < recordCount; i++) {
+                int offset = recordsOffset + i * RECORD_BYTES;
+                ids[i] = checkRecord(buffer, offset);
+                int id = hasNextId ? ids[i] : FinanceIdRenumbering.getNewId(i);
+                columns.add(id, FinanceRecord.toCents(BinaryDataFile.getAmount(buffer, offset + Integer.BYTES)),
+                        BinaryDataFile.getDateTime(buffer, offset + Integer.BYTES + BinaryDataFile.AMOUNT_BYTES));
+                maxId = Math.max(maxId, id);
+            }
+            if (FinanceIdAllocator.findDuplicateId(ids).isPresent()) {
+                throw new IllegalValueException(JsonSerializableFinanceAccount.MESSAGE_DUPLICATE_FINANCE_RECORD);
+            }
+            FinanceIdAllocator.markUsed(maxId);
+
+            // the records are only created when they are first read
+            IntFunction<FinanceRecord> loader = i -> getRecord(buffer, recordsOffset + i * RECORD_BYTES,
+                    hasNextId ? buffer.getInt(recordsOffset + i * RECORD_BYTES) : FinanceIdRenumbering.getNewId(i));
+            FinanceAccount financeAccount = new FinanceAccount(new LazyLoadingList<>(recordCount, loader), columns);
+            if (!hasNextId) {
+                financeAccount.setIdRenumbering(new FinanceIdRenumbering(ids));
+                logger.info("Renumbered the finance records of " + filePath + ", which has no next ID");
+            }
+            return Optional.of(financeAccount);
+        } catch (BufferUnderflowException e) {
+            throw BinaryDataFile.truncated(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+
+    @Override
+    public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount) throws IOException {
+        saveFinanceAccount(financeAccount, filePath);
+    }
+
+
+    @Override
+    public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount, Path filePath) throws IOException {
+        requireAllNonNull(financeAccount, filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+
+        List<FinanceRecord> financeRecords = financeAccount.getFinanceList();
+        FileUtil.writeToFileAtomically(filePath, outputStream -> {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            BinaryDataFile.writeHeader(output, MAGIC);
+            output.writeInt(FinanceIdAllocator.peekNextId());
+            output.writeInt(financeRecords.size());
+            for (FinanceRecord financeRecord : financeRecords) {
+                writeRecord(output, financeRecord);
+            }
+            output.flush();
+        });
+    }
+
+
+    private static void writeRecord(DataOutputStream output, FinanceRecord financeRecord) throws IOException {
+        output.writeInt(financeRecord.getID());
+        BinaryDataFile.writeAmount(output, financeRecord.getAmount());
+        BinaryDataFile.writeDateTime(output, financeRecord.getDatetime());
+    }
+
+
+    /**
+     * Checks that the record at {@code offset} in {@code buffer} is valid.
+     *
+     * @return the ID of the record.
+     */
+    private static int checkRecord(ByteBuffer buffer, int offset) throws IllegalValueException {
+        int id = buffer.getInt(offset);
+        if (id < 0) {
+            throw new IllegalValueException(String.format(BinaryDataFile.MESSAGE_INVALID_FIELD, "id"));
+        }
+        double amount = BinaryDataFile.getAmount(buffer, offset + Integer.BYTES);
+        // negative amounts are costs
+        if (!Double.isFinite(amount)) {
+            throw new IllegalValueException(String.format(BinaryDataFile.MESSAGE_INVALID_FIELD, "amount"));
+        }
+        BinaryDataFile.checkDateTime(buffer, offset + Integer.BYTES + BinaryDataFile.AMOUNT_BYTES);
+        return id;
+    }
+
+
+    /**
+     * Returns the record at {@code offset} in {@code buffer}, which must have been checked with
+     * {@link #checkRecord(ByteBuffer, int)}, with {@code id} as its ID.
+     */
+    private static FinanceRecord getRecord(ByteBuffer buffer, int offset, int id) {
+        try {
+            return new FinanceRecord(id, BinaryDataFile.getAmount(buffer, offset + Integer.BYTES),
+                    BinaryDataFile.getDateTime(buffer, offset + Integer.BYTES + BinaryDataFile.AMOUNT_BYTES));
+        } catch (IllegalValueException e) {
+            throw new AssertionError("Record was checked when the file was read", e);
+        }
+    }
+
+}
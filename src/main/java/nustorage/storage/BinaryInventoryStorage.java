@@ -0,0 +1,339 @@
+package nustorage.storage;
+
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+import nustorage.commons.core.LogsCenter;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.commons.util.FileUtil;
+import nustorage.commons.util.LazyLoadingList;
+import nustorage.model.Inventory;
+import nustorage.model.ReadOnlyInventory;
+import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.StockColumns;
+import nustorage.model.record.StockLedger;
+import nustorage.model.record.StockMovement;
+
+
+/**
+ * A class to access Inventory data stored as a binary file on the hard disk.
+ * <p>
+ * After the header (see {@link BinaryDataFile}) comes a string table holding every item name once, as its
+ * length and its UTF-8 bytes. Then come the number of records, followed by the records themselves. Every record
+ * has the same size: the position of its item name in the string table, its quantity, its date-time, the
+ * position and number of its stock movements, and its reorder threshold. The records are followed by the number of
+ * stock movements and the movements of every record in turn, oldest first, each holding its date-time, its change
+ * in stock and the ID of its finance record. Files of version 3 and older have no reorder thresholds, and files of
+ * version 2 and older have no stock movements either.
+ * <p>
+ * Reading checks every record, but only creates an {@code InventoryRecord} once the record is first read from
+ * the returned inventory. The quantities and thresholds are read into {@link StockColumns} while checking, so that
+ * the records low on stock are found without creating the others.
+ */
+public class BinaryInventoryStorage implements InventoryStorage {
+
+    /** "NUSI" in ASCII. */
+    public static final int MAGIC = 0x4E555349;
+
+    /** Size in bytes of a single inventory record. */
+    public static final int RECORD_BYTES = 5 * Integer.BYTES + BinaryDataFile.DATE_TIME_BYTES;
+
+    /** Size in bytes of a single stock movement. */
+    public static final int MOVEMENT_BYTES = BinaryDataFile.DATE_TIME_BYTES + 2 * Integer.BYTES;
+
+    private static final int MOVEMENTS_VERSION = 3;
+    private static final int THRESHOLDS_VERSION = 4;
+    private static final int RECORD_BYTES_WITHOUT_MOVEMENTS = 2 * Integer.BYTES + BinaryDataFile.DATE_TIME_BYTES;
+    private static final int RECORD_BYTES_WITHOUT_THRESHOLDS = 4 * Integer.BYTES + BinaryDataFile.DATE_TIME_BYTES;
+    private static final int THRESHOLD_OFFSET = 4 * Integer.BYTES + BinaryDataFile.DATE_TIME_BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryInventoryStorage.class);
+
+    private final Path filePath;
+
+
+    /**
+     * Creates a new binary inventory storage object.
+     *
+     * @param filePath file path to storage file.
+     */
+    public BinaryInventoryStorage(Path filePath) {
+        assert filePath != null : "File path for inventory storage is null!";
+
+        this.filePath = filePath;
+    }
+
+
+    @Override
+    public Path getInventoryFilePath() {
+        return filePath;
+    }
+
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory() throws DataConversionException, IOException {
+        return readInventory(filePath);
+    }
+
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = BinaryDataFile.readFile(filePath, MAGIC, "inventory");
+        try {
+            String[] itemNames = readStringTable(buffer);
+            int version = BinaryDataFile.getFormatVersion(buffer);
+            boolean hasMovements = version >= MOVEMENTS_VERSION;
+            boolean hasThresholds = version >= THRESHOLDS_VERSION;
+            int recordBytes = hasThresholds ? RECORD_BYTES
+                    : hasMovements ? RECORD_BYTES_WITHOUT_THRESHOLDS
+                    : RECORD_BYTES_WITHOUT_MOVEMENTS;
+
+            int recordCount = buffer.getInt();
+            BinaryDataFile.checkRemaining(buffer, recordCount, recordBytes);
+            int recordsOffset = buffer.position();
+
+            Movements movements = null;
+            if (hasMovements) {
+                buffer.position(recordsOffset + recordCount * recordBytes);
+                int movementCount = buffer.getInt();
+                BinaryDataFile.checkRemaining(buffer, movementCount, MOVEMENT_BYTES);
+                movements = new Movements(buffer, buffer.position(), movementCount);
+            }
+
+            Set<String> usedItemNames = new HashSet<>();
+            StockColumns columns = new StockColumns(recordCount);
+            for (int i = 0; i < recordCount; i++) {
+                int offset = recordsOffset + i * recordBytes;
+                checkRecord(buffer, offset, itemNames, usedItemNames, hasThresholds);
+                if (movements != null) {
+                    movements.check(offset);
+                }
+                columns.add(buffer.getInt(offset + Integer.BYTES), getThreshold(buffer, offset, hasThresholds));
+            }
+
+            // the records are only created when they are first read
+            Movements recordMovements = movements;
+            IntFunction<InventoryRecord> loader = i ->
+                    getRecord(buffer, recordsOffset + i * recordBytes, itemNames, recordMovements, hasThresholds);
+            return Optional.of(new Inventory(new LazyLoadingList<>(recordCount, loader), columns));
+        } catch (BufferUnderflowException e) {
+            throw BinaryDataFile.truncated(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+        saveInventory(inventory, filePath);
+    }
+
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
+        requireAllNonNull(inventory, filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+
+        List<InventoryRecord> inventoryRecords = inventory.getInventoryRecordList();
+        Map<String, Integer> nameIndexes = new HashMap<>();
+        List<String> itemNames = new ArrayList<>();
+        for (InventoryRecord inventoryRecord : inventoryRecords) {
+            if (!nameIndexes.containsKey(inventoryRecord.getItemName())) {
+                nameIndexes.put(inventoryRecord.getItemName(), itemNames.size());
+                itemNames.add(inventoryRecord.getItemName());
+            }
+        }
+
+        FileUtil.writeToFileAtomically(filePath, outputStream -> {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            BinaryDataFile.writeHeader(output, MAGIC);
+            writeStringTable(output, itemNames);
+            output.writeInt(inventoryRecords.size());
+            int movementCount = 0;
+            for (InventoryRecord inventoryRecord : inventoryRecords) {
+                output.writeInt(nameIndexes.get(inventoryRecord.getItemName()));
+                output.writeInt(inventoryRecord.getQuantity());
+                BinaryDataFile.writeDateTime(output, inventoryRecord.getDateTime());
+                output.writeInt(movementCount);
+                output.writeInt(inventoryRecord.getLedger().size());
+                movementCount += inventoryRecord.getLedger().size();
+                output.writeInt(inventoryRecord.getThreshold());
+            }
+
+            output.writeInt(movementCount);
+            for (InventoryRecord inventoryRecord : inventoryRecords) {
+                StockLedger ledger = inventoryRecord.getLedger();
+                for (int i = 0; i < ledger.size(); i++) {
+                    StockMovement movement = ledger.getMovement(i);
+                    BinaryDataFile.writeDateTime(output, movement.getDateTime());
+                    output.writeInt(movement.getDelta());
+                    output.writeInt(movement.getFinanceId());
+                }
+            }
+            output.flush();
+        });
+    }
+
+
+    private static void checkRecord(ByteBuffer buffer, int offset, String[] itemNames, Set<String> usedItemNames,
+            boolean hasThreshold) throws IllegalValueException {
+        int nameIndex = buffer.getInt(offset);
+        if (nameIndex < 0 || nameIndex >= itemNames.length) {
+            throw new IllegalValueException(String.format(BinaryDataFile.MESSAGE_INVALID_FIELD, "item name"));
+        }
+        if (!usedItemNames.add(itemNames[nameIndex])) {
+            throw new IllegalValueException(JsonSerializableInventory.MESSAGE_DUPLICATE_INVENTORY_RECORD);
+        }
+        if (buffer.getInt(offset + Integer.BYTES) < 0) {
+            throw new IllegalValueException(String.format(BinaryDataFile.MESSAGE_INVALID_FIELD, "quantity"));
+        }
+        BinaryDataFile.checkDateTime(buffer, offset + 2 * Integer.BYTES);
+        if (hasThreshold && buffer.getInt(offset + THRESHOLD_OFFSET) < 0) {
+            throw new IllegalValueException(String.format(BinaryDataFile.MESSAGE_INVALID_FIELD, "threshold"));
+        }
+    }
+
+
+    /**
+     * Returns the record at {@code offset} in {@code buffer}, which must have been checked with
+     * {@link #checkRecord(ByteBuffer, int, String[], Set, boolean)}, and with {@link Movements#check(int)} unless
+     * {@code movements} is null.
+     */
+    private static InventoryRecord getRecord(ByteBuffer buffer, int offset, String[] itemNames, Movements movements,
+            boolean hasThreshold) {
+        String itemName = itemNames[buffer.getInt(offset)];
+        LocalDateTime dateTime = BinaryDataFile.getDateTime(buffer, offset + 2 * Integer.BYTES);
+        if (movements == null) {
+            return new InventoryRecord(itemName, buffer.getInt(offset + Integer.BYTES), dateTime);
+        }
+        return new InventoryRecord(itemName, dateTime, movements.getLedger(offset),
+                getThreshold(buffer, offset, hasThreshold));
+    }
+
+
+    private static int getThreshold(ByteBuffer buffer, int offset, boolean hasThreshold) {
+        return hasThreshold ? buffer.getInt(offset + THRESHOLD_OFFSET) : InventoryRecord.NO_THRESHOLD;
+    }
+
+
+    /**
+     * The stock movements of a file, which follow its records.
+     */
+    private static class Movements {
+
+        private static final int FIRST_MOVEMENT_OFFSET = 2 * Integer.BYTES + BinaryDataFile.DATE_TIME_BYTES;
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int count;
+
+        private Movements(ByteBuffer buffer, int offset, int count) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.count = count;
+        }
+
+        /**
+         * Checks the movements of the record at {@code recordOffset}, which must add up to its quantity and be in
+         * order of their date-times.
+         */
+        private void check(int recordOffset) throws IllegalValueException {
+            int first = buffer.getInt(recordOffset + FIRST_MOVEMENT_OFFSET);
+            int recordCount = buffer.getInt(recordOffset + FIRST_MOVEMENT_OFFSET + Integer.BYTES);
+            if (first < 0 || recordCount < 0 || (long) first + recordCount > count) {
+                throw new IllegalValueException(String.format(BinaryDataFile.MESSAGE_INVALID_FIELD, "movement"));
+            }
+
+            long stock = 0;
+            LocalDateTime previousDateTime = LocalDateTime.MIN;
+            for (int i = first; i < first + recordCount; i++) {
+                int movementOffset = offset + i * MOVEMENT_BYTES;
+                BinaryDataFile.checkDateTime(buffer, movementOffset);
+                LocalDateTime dateTime = BinaryDataFile.getDateTime(buffer, movementOffset);
+                int financeId = buffer.getInt(movementOffset + BinaryDataFile.DATE_TIME_BYTES + Integer.BYTES);
+                if (dateTime.isBefore(previousDateTime) || financeId < StockMovement.NO_FINANCE_RECORD) {
+                    throw new IllegalValueException(String.format(BinaryDataFile.MESSAGE_INVALID_FIELD, "movement"));
+                }
+                stock += buffer.getInt(movementOffset + BinaryDataFile.DATE_TIME_BYTES);
+                previousDateTime = dateTime;
+            }
+            if (stock != buffer.getInt(recordOffset + Integer.BYTES)) {
+                throw new IllegalValueException(JsonAdaptedInventoryRecord.MESSAGE_MOVEMENTS_MISMATCH);
+            }
+        }
+
+        /**
+         * Returns the ledger of the record at {@code recordOffset}, which must have been checked with
+         * {@link #check(int)}.
+         */
+        private StockLedger getLedger(int recordOffset) {
+            int first = buffer.getInt(recordOffset + FIRST_MOVEMENT_OFFSET);
+            int recordCount = buffer.getInt(recordOffset + FIRST_MOVEMENT_OFFSET + Integer.BYTES);
+            List<StockMovement> stockMovements = new ArrayList<>(recordCount);
+            for (int i = first; i < first + recordCount; i++) {
+                int movementOffset = offset + i * MOVEMENT_BYTES;
+                stockMovements.add(new StockMovement(
+                        buffer.getInt(movementOffset + BinaryDataFile.DATE_TIME_BYTES),
+                        BinaryDataFile.getDateTime(buffer, movementOffset),
+                        buffer.getInt(movementOffset + BinaryDataFile.DATE_TIME_BYTES + Integer.BYTES)));
+            }
+            return StockLedger.of(stockMovements);
+        }
+    }
+
+
+    private static void writeStringTable(DataOutputStream output, List<String> strings) throws IOException {
+        output.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+
+    private static String[] readStringTable(ByteBuffer buffer) throws DataConversionException {
+        int count = buffer.getInt();
+        BinaryDataFile.checkRemaining(buffer, count, Integer.BYTES);
+
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            int length = buffer.getInt();
+            BinaryDataFile.checkRemaining(buffer, length, Byte.BYTES);
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+}
@@ -0,0 +1,137 @@
+package nustorage.storage;
+
+
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.ReadOnlyInventory;
+import nustorage.model.record.FinanceIdRenumbering;
+
+
+/**
+ * Converts finance account and inventory data files between the Json and binary formats.
+ * No data is lost in either direction.
+ * <p>
+ * Can also be run on its own:
+ * {@code java -cp nustorage.jar nustorage.storage.DataFileConverter toBinary|toJson financeAccount|inventory
+ * SOURCE TARGET}
+ */
+public class DataFileConverter {
+
+    public static final String JSON_FILE_EXTENSION = ".json";
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_USAGE = "Usage: DataFileConverter toBinary|toJson financeAccount|inventory "
+            + "SOURCE TARGET";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Source file %1$s not found";
+    public static final String MESSAGE_CONVERTED = "Converted %1$s to %2$s";
+    public static final String MESSAGE_RENUMBERING_NEEDED = "Finance records written by an older version have to "
+            + "be renumbered together with the inventory, by starting the app, before they are converted";
+
+    private DataFileConverter() {} // prevents instantiation
+
+
+    /**
+     * Returns the path of the binary data file kept in place of the Json data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+
+    /**
+     * Copies the finance account in {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no finance account to convert.
+     * @throws DataConversionException if the finance records in {@code source} were renumbered when they were read
+     *     (see {@link FinanceIdRenumbering}), as the inventory linked to them would no longer match.
+     */
+    public static boolean convertFinanceAccount(FinanceAccountStorage source, FinanceAccountStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyFinanceAccount> financeAccount = source.readFinanceAccount();
+        if (financeAccount.isEmpty()) {
+            return false;
+        }
+        if (financeAccount.get().getIdRenumbering().isPresent()) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_RENUMBERING_NEEDED));
+        }
+        target.saveFinanceAccount(financeAccount.get());
+        return true;
+    }
+
+
+    /**
+     * Copies the inventory in {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no inventory to convert.
+     */
+    public static boolean convertInventory(InventoryStorage source, InventoryStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyInventory> inventory = source.readInventory();
+        if (inventory.isEmpty()) {
+            return false;
+        }
+        target.saveInventory(inventory.get());
+        return true;
+    }
+
+
+    /**
+     * Converts the data file named in {@code args}, as described in {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 4 || !(args[0].equals("toBinary") || args[0].equals("toJson"))) {
+            System.err.println(MESSAGE_USAGE);
+            return;
+        }
+
+        boolean isToBinary = args[0].equals("toBinary");
+        Path sourcePath = Paths.get(args[2]);
+        Path targetPath = Paths.get(args[3]);
+
+        boolean isConverted;
+        switch (args[1]) {
+        case "financeAccount":
+            FinanceAccountStorage jsonFinanceAccountStorage =
+                    new JsonFinanceAccountStorage(isToBinary ? sourcePath : targetPath);
+            FinanceAccountStorage binaryFinanceAccountStorage =
+                    new BinaryFinanceAccountStorage(isToBinary ? targetPath : sourcePath);
+            isConverted = isToBinary
+                    ? convertFinanceAccount(jsonFinanceAccountStorage, binaryFinanceAccountStorage)
+                    : convertFinanceAccount(binaryFinanceAccountStorage, jsonFinanceAccountStorage);
+            break;
+        case "inventory":
+            InventoryStorage jsonInventoryStorage = new JsonInventoryStorage(isToBinary ? sourcePath : targetPath);
+            InventoryStorage binaryInventoryStorage = new BinaryInventoryStorage(isToBinary ? targetPath : sourcePath);
+            isConverted = isToBinary
+                    ? convertInventory(jsonInventoryStorage, binaryInventoryStorage)
+                    : convertInventory(binaryInventoryStorage, jsonInventoryStorage);
+            break;
+        default:
+            System.err.println(MESSAGE_USAGE);
+            return;
+        }
+
+        if (isConverted) {
+            System.out.println(String.format(MESSAGE_CONVERTED, sourcePath, targetPath));
+        } else {
+            System.err.println(String.format(MESSAGE_SOURCE_NOT_FOUND, sourcePath));
+        }
+    }
+
+}
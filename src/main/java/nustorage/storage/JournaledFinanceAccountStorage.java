@@ -0,0 +1,135 @@
+package nustorage.storage;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import nustorage.commons.core.StorageSettings;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.commons.util.JsonUtil;
+import nustorage.model.FinanceAccount;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.record.FinanceColumns;
+import nustorage.model.record.FinanceRecord;
+import nustorage.storage.StorageJournal.EntryCodec;
+import nustorage.storage.StorageJournal.JournalEntry;
+
+
+/**
+ * A class to access FinanceAccount data stored as a snapshot, with the changes made since the snapshot
+ * appended to a journal next to it.
+ */
+public class JournaledFinanceAccountStorage extends JournaledStorage<ReadOnlyFinanceAccount, FinanceRecord>
+        implements FinanceAccountStorage {
+
+    private final FinanceAccountStorage snapshotStorage;
+
+
+    /**
+     * Creates a new journaled finance account storage object.
+     *
+     * @param snapshotStorage storage that reads and writes the full snapshots.
+     * @param storageSettings settings that determine whether and how often the journal is used.
+     */
+    public JournaledFinanceAccountStorage(FinanceAccountStorage snapshotStorage, StorageSettings storageSettings) {
+        super(requireNonNull(snapshotStorage).getFinanceAccountFilePath(), storageSettings, new FinanceEntryCodec());
+        this.snapshotStorage = snapshotStorage;
+    }
+
+
+    @Override
+    public Path getFinanceAccountFilePath() {
+        return snapshotStorage.getFinanceAccountFilePath();
+    }
+
+
+    @Override
+    public Optional<ReadOnlyFinanceAccount> readFinanceAccount() throws DataConversionException, IOException {
+        return readFinanceAccount(getFinanceAccountFilePath());
+    }
+
+
+    @Override
+    public Optional<ReadOnlyFinanceAccount> readFinanceAccount(Path filePath)
+            throws DataConversionException, IOException {
+        return read(filePath);
+    }
+
+
+    @Override
+    public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount) throws IOException {
+        saveFinanceAccount(financeAccount, getFinanceAccountFilePath());
+    }
+
+
+    @Override
+    public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount, Path filePath) throws IOException {
+        save(financeAccount, filePath);
+    }
+
+
+    @Override
+    Optional<ReadOnlyFinanceAccount> readSnapshot(Path filePath) throws DataConversionException, IOException {
+        return snapshotStorage.readFinanceAccount(filePath);
+    }
+
+
+    @Override
+    void saveSnapshot(ReadOnlyFinanceAccount financeAccount, Path filePath) throws IOException {
+        snapshotStorage.saveFinanceAccount(financeAccount, filePath);
+    }
+
+
+    @Override
+    List<FinanceRecord> getRecords(ReadOnlyFinanceAccount financeAccount) {
+        return financeAccount.getFinanceList();
+    }
+
+
+    @Override
+    List<FinanceRecord> copyRecords(ReadOnlyFinanceAccount financeAccount) {
+        return financeAccount.copyFinanceList();
+    }
+
+
+    @Override
+    ReadOnlyFinanceAccount toJournaledData(ReadOnlyFinanceAccount snapshot, List<FinanceRecord> records,
+            List<JournalEntry<FinanceRecord>> entries) {
+        // the entries are replayed onto the columns of the snapshot too, so that the records need not be read
+        Optional<FinanceColumns> columns = snapshot.copyFinanceColumns();
+        FinanceAccount financeAccount;
+        if (columns.isEmpty()) {
+            financeAccount = new FinanceAccount(records);
+        } else {
+            for (JournalEntry<FinanceRecord> entry : entries) {
+                columns.get().replaceRange(entry.getFrom(), entry.getTo(), entry.getRecords());
+            }
+            financeAccount = new FinanceAccount(records, columns.get());
+        }
+        snapshot.getIdRenumbering().ifPresent(financeAccount::setIdRenumbering);
+        return financeAccount;
+    }
+
+
+    /**
+     * Codec of finance journal entries, with each entry stored as a {@link JsonAdaptedFinanceJournalEntry}.
+     */
+    private static class FinanceEntryCodec implements EntryCodec<FinanceRecord> {
+
+        @Override
+        public String toEntryJson(int from, int to, List<FinanceRecord> records) throws IOException {
+            return JsonUtil.toCompactJsonString(JsonAdaptedFinanceJournalEntry.fromModelType(from, to, records));
+        }
+
+        @Override
+        public JournalEntry<FinanceRecord> parseEntry(String json) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(json, JsonAdaptedFinanceJournalEntry.class).toModelType();
+        }
+    }
+
+}
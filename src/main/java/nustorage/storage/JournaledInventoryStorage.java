@@ -0,0 +1,131 @@
+package nustorage.storage;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import nustorage.commons.core.StorageSettings;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.commons.util.JsonUtil;
+import nustorage.model.Inventory;
+import nustorage.model.ReadOnlyInventory;
+import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.StockColumns;
+import nustorage.storage.StorageJournal.EntryCodec;
+import nustorage.storage.StorageJournal.JournalEntry;
+
+
+/**
+ * A class to access Inventory data stored as a snapshot, with the changes made since the snapshot
+ * appended to a journal next to it.
+ */
+public class JournaledInventoryStorage extends JournaledStorage<ReadOnlyInventory, InventoryRecord>
+        implements InventoryStorage {
+
+    private final InventoryStorage snapshotStorage;
+
+
+    /**
+     * Creates a new journaled inventory storage object.
+     *
+     * @param snapshotStorage storage that reads and writes the full snapshots.
+     * @param storageSettings settings that determine whether and how often the journal is used.
+     */
+    public JournaledInventoryStorage(InventoryStorage snapshotStorage, StorageSettings storageSettings) {
+        super(requireNonNull(snapshotStorage).getInventoryFilePath(), storageSettings, new InventoryEntryCodec());
+        this.snapshotStorage = snapshotStorage;
+    }
+
+
+    @Override
+    public Path getInventoryFilePath() {
+        return snapshotStorage.getInventoryFilePath();
+    }
+
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory() throws DataConversionException, IOException {
+        return readInventory(getInventoryFilePath());
+    }
+
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory(Path filePath)
+            throws DataConversionException, IOException {
+        return read(filePath);
+    }
+
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+        saveInventory(inventory, getInventoryFilePath());
+    }
+
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
+        save(inventory, filePath);
+    }
+
+
+    @Override
+    Optional<ReadOnlyInventory> readSnapshot(Path filePath) throws DataConversionException, IOException {
+        return snapshotStorage.readInventory(filePath);
+    }
+
+
+    @Override
+    void saveSnapshot(ReadOnlyInventory inventory, Path filePath) throws IOException {
+        snapshotStorage.saveInventory(inventory, filePath);
+    }
+
+
+    @Override
+    List<InventoryRecord> getRecords(ReadOnlyInventory inventory) {
+        return inventory.getInventoryRecordList();
+    }
+
+
+    @Override
+    List<InventoryRecord> copyRecords(ReadOnlyInventory inventory) {
+        return inventory.copyInventoryRecordList();
+    }
+
+
+    @Override
+    ReadOnlyInventory toJournaledData(ReadOnlyInventory snapshot, List<InventoryRecord> records,
+            List<JournalEntry<InventoryRecord>> entries) {
+        // the entries are replayed onto the columns of the snapshot too, so that the records need not be read
+        Optional<StockColumns> columns = snapshot.copyStockColumns();
+        if (columns.isEmpty()) {
+            return new Inventory(records);
+        }
+        for (JournalEntry<InventoryRecord> entry : entries) {
+            columns.get().replaceRange(entry.getFrom(), entry.getTo(), entry.getRecords());
+        }
+        return new Inventory(records, columns.get());
+    }
+
+
+    /**
+     * Codec of inventory journal entries, with each entry stored as a {@link JsonAdaptedInventoryJournalEntry}.
+     */
+    private static class InventoryEntryCodec implements EntryCodec<InventoryRecord> {
+
+        @Override
+        public String toEntryJson(int from, int to, List<InventoryRecord> records) throws IOException {
+            return JsonUtil.toCompactJsonString(JsonAdaptedInventoryJournalEntry.fromModelType(from, to, records));
+        }
+
+        @Override
+        public JournalEntry<InventoryRecord> parseEntry(String json) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(json, JsonAdaptedInventoryJournalEntry.class).toModelType();
+        }
+    }
+
+}
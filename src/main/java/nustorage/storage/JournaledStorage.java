@@ -0,0 +1,146 @@
+package nustorage.storage;
+
+
+import static java.util.Objects.requireNonNull;
+import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import nustorage.commons.core.LogsCenter;
+import nustorage.commons.core.StorageSettings;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.storage.StorageJournal.EntryCodec;
+import nustorage.storage.StorageJournal.JournalEntry;
+
+
+/**
+ * Base of the storages that keep data as a snapshot, with the changes made since the snapshot appended to a
+ * journal next to it.
+ * Saving only appends the changed records to the journal, and rewrites the snapshot once every
+ * {@link StorageSettings#getJournalSnapshotInterval()} saves.
+ * Files other than the snapshot of this storage are read and written as plain snapshots.
+ *
+ * @param <D> type of the stored data.
+ * @param <R> type of the journaled records of the data.
+ */
+public abstract class JournaledStorage<D, R> {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledStorage.class);
+
+    private final Path snapshotPath;
+    private final StorageSettings storageSettings;
+    private final StorageJournal<R> journal;
+
+
+    /**
+     * Creates a journaled storage of the snapshot at {@code snapshotPath}, whose journal entries are converted
+     * to and from JSON by {@code codec}.
+     */
+    JournaledStorage(Path snapshotPath, StorageSettings storageSettings, EntryCodec<R> codec) {
+        requireAllNonNull(snapshotPath, storageSettings, codec);
+
+        this.snapshotPath = snapshotPath;
+        this.storageSettings = storageSettings;
+        this.journal = new StorageJournal<>(snapshotPath, codec);
+    }
+
+
+    /**
+     * Returns the path of the journal kept next to the snapshot.
+     */
+    public Path getJournalFilePath() {
+        return journal.getJournalPath();
+    }
+
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        requireNonNull(snapshotPath);
+        return StorageJournal.getJournalPath(snapshotPath);
+    }
+
+
+    /**
+     * Reads the snapshot at {@code filePath}, with the journal replayed over it if it is the snapshot of
+     * this storage.
+     */
+    Optional<D> read(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<D> snapshot = readSnapshot(filePath);
+        if (snapshot.isEmpty() || !filePath.equals(snapshotPath)) {
+            return snapshot;
+        }
+
+        List<R> records = copyRecords(snapshot.get());
+        List<JournalEntry<R>> entries = journal.replay(filePath, records);
+        return Optional.of(toJournaledData(snapshot.get(), records, entries));
+    }
+
+
+    /**
+     * Saves {@code data} to {@code filePath}, only appending the changed records to the journal if it is the
+     * snapshot of this storage and the journal is in use.
+     */
+    void save(D data, Path filePath) throws IOException {
+        requireAllNonNull(data, filePath);
+
+        if (!filePath.equals(snapshotPath)) {
+            saveSnapshot(data, filePath);
+            return;
+        }
+
+        if (!storageSettings.isJournalEnabled()) {
+            saveSnapshot(data, filePath);
+            journal.discard();
+            return;
+        }
+
+        if (journal.isStarted() && journal.getEntryCount() < storageSettings.getJournalSnapshotInterval()) {
+            journal.append(getRecords(data));
+            return;
+        }
+
+        logger.fine("Writing snapshot to " + filePath);
+        saveSnapshot(data, filePath);
+        journal.start(filePath, getRecords(data));
+    }
+
+
+    /**
+     * Reads the snapshot at {@code filePath} without the journal.
+     */
+    abstract Optional<D> readSnapshot(Path filePath) throws DataConversionException, IOException;
+
+
+    /**
+     * Writes {@code data} in full as the snapshot at {@code filePath}.
+     */
+    abstract void saveSnapshot(D data, Path filePath) throws IOException;
+
+
+    /**
+     * Returns the records of {@code data}, which the journal compares with the last saved records.
+     */
+    abstract List<R> getRecords(D data);
+
+
+    /**
+     * Returns a modifiable copy of the records of {@code data}, which the journal is replayed over.
+     */
+    abstract List<R> copyRecords(D data);
+
+
+    /**
+     * Returns the data read as {@code snapshot}, with {@code records} as its records after the journal
+     * {@code entries} were replayed over them.
+     */
+    abstract D toJournaledData(D snapshot, List<R> records, List<JournalEntry<R>> entries);
+
+}
@@ -0,0 +1,109 @@
+package nustorage.storage;
+
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.model.record.FinanceTotal;
+
+
+/**
+ * Jackson-friendly version of the {@link FinanceTotal} of an archived month, along with the size and modification
+ * time of the segment file it was computed from, so that a total that no longer matches its segment can be told.
+ */
+class JsonAdaptedArchiveTotal {
+
+    public static final String INVALID_FIELD_MESSAGE_FORMAT = "Archived month total's %s field is invalid!";
+
+    private final String month;
+    private final BigDecimal amount;
+    private final int count;
+    private final long segmentSize;
+    private final long segmentModifiedTime;
+
+
+    /**
+     * Constructs a {@code JsonAdaptedArchiveTotal} with the given total details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchiveTotal(@JsonProperty("month") String month,
+                                   @JsonProperty("amount") BigDecimal amount,
+                                   @JsonProperty("count") int count,
+                                   @JsonProperty("segmentSize") long segmentSize,
+                                   @JsonProperty("segmentModifiedTime") long segmentModifiedTime) {
+        this.month = month;
+        this.amount = amount;
+        this.count = count;
+        this.segmentSize = segmentSize;
+        this.segmentModifiedTime = segmentModifiedTime;
+    }
+
+
+    /**
+     * Converts the {@code total} of {@code month}, whose records are in the segment file at {@code segment},
+     * for Jackson use.
+     */
+    public JsonAdaptedArchiveTotal(YearMonth month, FinanceTotal total, Path segment) throws IOException {
+        this(month.toString(), total.getAmount(), total.getCount(), Files.size(segment),
+                Files.getLastModifiedTime(segment).toMillis());
+    }
+
+
+    /**
+     * Returns true if the segment file at {@code segment} is the one this total was computed from.
+     */
+    public boolean isUpToDate(Path segment) {
+        try {
+            return Files.size(segment) == segmentSize
+                    && Files.getLastModifiedTime(segment).toMillis() == segmentModifiedTime;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+
+    /**
+     * Returns the month of this total.
+     *
+     * @throws IllegalValueException if the month is missing or invalid.
+     */
+    public YearMonth getMonth() throws IllegalValueException {
+        if (month == null) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "month"));
+        }
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "month"), e);
+        }
+    }
+
+
+    /**
+     * Converts this Jackson-friendly adapted total into the model's {@code FinanceTotal} object.
+     *
+     * @throws IllegalValueException if the amount is missing or not in whole cents, or the count is negative.
+     */
+    public FinanceTotal toModelType() throws IllegalValueException {
+        if (amount == null) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "amount"));
+        }
+        if (count < 0) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "count"));
+        }
+        try {
+            return new FinanceTotal(amount.movePointRight(2).longValueExact(), count);
+        } catch (ArithmeticException e) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "amount"), e);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package nustorage.storage;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.model.record.FinanceIdAllocator;
+import nustorage.model.record.FinanceRecord;
+
+
+/**
+ * Jackson-friendly version of a {@link StorageJournal.JournalEntry} of finance records.
+ */
+class JsonAdaptedFinanceJournalEntry {
+
+    private final int from;
+    private final int to;
+    private final List<JsonAdaptedFinanceRecord> financeRecords = new ArrayList<>();
+    private final Integer nextId;
+
+
+    /**
+     * Constructs a {@code JsonAdaptedFinanceJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedFinanceJournalEntry(@JsonProperty("from") int from,
+                                          @JsonProperty("to") int to,
+                                          @JsonProperty("financeRecords") List<JsonAdaptedFinanceRecord> records,
+                                          @JsonProperty("nextId") Integer nextId) {
+        this.from = from;
+        this.to = to;
+        if (records != null) {
+            this.financeRecords.addAll(records);
+        }
+        this.nextId = nextId;
+    }
+
+
+    /**
+     * Converts an entry replacing the range {@code from} to {@code to} with {@code records} for Jackson use.
+     * The entry also holds the next ID to allocate, so that the IDs of removed records are not handed out again.
+     */
+    public static JsonAdaptedFinanceJournalEntry fromModelType(int from, int to, List<FinanceRecord> records) {
+        return new JsonAdaptedFinanceJournalEntry(from, to, records.stream()
+                .map(JsonAdaptedFinanceRecord::new)
+                .collect(Collectors.toList()), FinanceIdAllocator.peekNextId());
+    }
+
+
+    /**
+     * Converts this Jackson-friendly adapted entry into a {@code JournalEntry} of the model's finance records.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted records.
+     */
+    public StorageJournal.JournalEntry<FinanceRecord> toModelType() throws IllegalValueException {
+        if (nextId != null) {
+            if (nextId < 0) {
+                throw new IllegalValueException(JsonSerializableFinanceAccount.MESSAGE_INVALID_NEXT_ID);
+            }
+            FinanceIdAllocator.reserveUpTo(nextId);
+        }
+
+        List<FinanceRecord> modelRecords = new ArrayList<>();
+        for (JsonAdaptedFinanceRecord record : financeRecords) {
+            modelRecords.add(record.toModelType());
+        }
+        return new StorageJournal.JournalEntry<>(from, to, modelRecords);
+    }
+
+}
@@ -47,19 +47,36 @@ class JsonAdaptedFinanceRecord {
     }
 
 
+    public int getId() {
+        return id;
+    }
+
+
     /**
      * Converts this Jackson-friendly adapted finance record object into the model's {@code FinanceRecord} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public FinanceRecord toModelType() throws IllegalValueException {
+        return toModelType(this.id);
+    }
+
+
+    /**
+     * Converts this Jackson-friendly adapted finance record object into the model's {@code FinanceRecord} object,
+     * with {@code newId} in place of the ID it was stored with.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public FinanceRecord toModelType(int newId) throws IllegalValueException {
 
         if (this.id < 0) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
         }
-        final int modelId = this.id;
+        final int modelId = newId;
 
-        if (this.amount < 0) {
+        // negative amounts are costs
+        if (!Double.isFinite(this.amount)) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "amount"));
         }
         final double modelAmount = this.amount;
@@ -0,0 +1,64 @@
+package nustorage.storage;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.model.record.InventoryRecord;
+
+
+/**
+ * Jackson-friendly version of a {@link StorageJournal.JournalEntry} of inventory records.
+ */
+class JsonAdaptedInventoryJournalEntry {
+
+    private final int from;
+    private final int to;
+    private final List<JsonAdaptedInventoryRecord> inventoryRecords = new ArrayList<>();
+
+
+    /**
+     * Constructs a {@code JsonAdaptedInventoryJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedInventoryJournalEntry(
+            @JsonProperty("from") int from,
+            @JsonProperty("to") int to,
+            @JsonProperty("inventoryRecords") List<JsonAdaptedInventoryRecord> records) {
+        this.from = from;
+        this.to = to;
+        if (records != null) {
+            this.inventoryRecords.addAll(records);
+        }
+    }
+
+
+    /**
+     * Converts an entry replacing the range {@code from} to {@code to} with {@code records} for Jackson use.
+     */
+    public static JsonAdaptedInventoryJournalEntry fromModelType(int from, int to, List<InventoryRecord> records) {
+        return new JsonAdaptedInventoryJournalEntry(from, to, records.stream()
+                .map(JsonAdaptedInventoryRecord::new)
+                .collect(Collectors.toList()));
+    }
+
+
+    /**
+     * Converts this Jackson-friendly adapted entry into a {@code JournalEntry} of the model's inventory records.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted records.
+     */
+    public StorageJournal.JournalEntry<InventoryRecord> toModelType() throws IllegalValueException {
+        List<InventoryRecord> modelRecords = new ArrayList<>();
+        for (JsonAdaptedInventoryRecord record : inventoryRecords) {
+            modelRecords.add(record.toModelType());
+        }
+        return new StorageJournal.JournalEntry<>(from, to, modelRecords);
+    }
+
+}
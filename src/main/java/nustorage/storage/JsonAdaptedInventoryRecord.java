@@ -1,33 +1,67 @@
 package nustorage.storage;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import nustorage.commons.exceptions.IllegalValueException;
 import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.StockLedger;
+import nustorage.model.record.StockMovement;
 
 
 class JsonAdaptedInventoryRecord {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Inventory record's %s field is missing!";
+    public static final String MESSAGE_MOVEMENTS_MISMATCH =
+            "Inventory record's movements do not add up to its quantity!";
 
     private final int quantity;
     private final String itemName;
     private final LocalDateTime dateTime;
+    private final List<JsonAdaptedStockMovement> movements = new ArrayList<>();
+    private final int threshold;
+
+
+    /**
+     * Constructs a {@code JsonAdaptedInventoryRecord} with the given record details, and no movements.
+     */
+    public JsonAdaptedInventoryRecord(String itemName, int quantity, LocalDateTime dateTime) {
+        this(itemName, quantity, dateTime, null);
+    }
+
+
+    /**
+     * Constructs a {@code JsonAdaptedInventoryRecord} with the given record details, and no reorder threshold.
+     */
+    public JsonAdaptedInventoryRecord(String itemName, int quantity, LocalDateTime dateTime,
+                                      List<JsonAdaptedStockMovement> movements) {
+        this(itemName, quantity, dateTime, movements, InventoryRecord.NO_THRESHOLD);
+    }
 
 
     /**
      * Constructs a {@code JsonAdaptedInventoryRecord} with the given record details.
+     * Records saved before movements were kept have no {@code movements}, and records saved before reorder
+     * thresholds were kept have no {@code threshold}.
      */
     @JsonCreator
     public JsonAdaptedInventoryRecord(@JsonProperty("itemName") String itemName,
                                       @JsonProperty("quantity") int quantity,
-                                      @JsonProperty("dateTime") LocalDateTime dateTime) {
+                                      @JsonProperty("dateTime") LocalDateTime dateTime,
+                                      @JsonProperty("movements") List<JsonAdaptedStockMovement> movements,
+                                      @JsonProperty("threshold") int threshold) {
         this.quantity = quantity;
         this.itemName = itemName;
         this.dateTime = dateTime;
+        if (movements != null) {
+            this.movements.addAll(movements);
+        }
+        this.threshold = threshold;
     }
 
 
@@ -40,6 +74,10 @@ class JsonAdaptedInventoryRecord {
         this.quantity = source.getQuantity();
         this.itemName = source.getItemName();
         this.dateTime = source.getDateTime();
+        this.movements.addAll(source.getLedger().getMovements().stream()
+                .map(JsonAdaptedStockMovement::new)
+                .collect(Collectors.toList()));
+        this.threshold = source.getThreshold();
     }
 
 
@@ -64,8 +102,27 @@ class JsonAdaptedInventoryRecord {
         }
         final LocalDateTime modelDateTime = this.dateTime;
 
-        return new InventoryRecord(modelItemName, modelQuantity, modelDateTime);
+        if (this.threshold < 0) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "threshold"));
+        }
+        final int modelThreshold = this.threshold;
+
+        StockLedger modelLedger;
+        if (this.movements.isEmpty()) {
+            // the item gets a single movement for its quantity
+            modelLedger = new InventoryRecord(modelItemName, modelQuantity, modelDateTime).getLedger();
+        } else {
+            List<StockMovement> modelMovements = new ArrayList<>();
+            for (JsonAdaptedStockMovement movement : this.movements) {
+                modelMovements.add(movement.toModelType());
+            }
+            modelLedger = StockLedger.of(modelMovements);
+            if (modelLedger.getStock() != modelQuantity) {
+                throw new IllegalValueException(MESSAGE_MOVEMENTS_MISMATCH);
+            }
+        }
 
+        return new InventoryRecord(modelItemName, modelDateTime, modelLedger, modelThreshold);
     }
 
 }
@@ -0,0 +1,67 @@
+package nustorage.storage;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.model.record.StockMovement;
+
+
+/**
+ * Jackson-friendly version of {@link StockMovement}.
+ */
+class JsonAdaptedStockMovement {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Stock movement's %s field is missing!";
+
+    private final int delta;
+    private final LocalDateTime dateTime;
+    private final Integer financeId;
+
+
+    /**
+     * Constructs a {@code JsonAdaptedStockMovement} with the given movement details.
+     */
+    @JsonCreator
+    public JsonAdaptedStockMovement(@JsonProperty("delta") int delta,
+                                    @JsonProperty("dateTime") LocalDateTime dateTime,
+                                    @JsonProperty("financeId") Integer financeId) {
+        this.delta = delta;
+        this.dateTime = dateTime;
+        this.financeId = financeId;
+    }
+
+
+    /**
+     * Converts a given {@code StockMovement} into this class for Jackson use.
+     */
+    public JsonAdaptedStockMovement(StockMovement source) {
+        assert source != null : "Source stock movement is null!";
+
+        this.delta = source.getDelta();
+        this.dateTime = source.getDateTime();
+        this.financeId = source.getFinanceId() == StockMovement.NO_FINANCE_RECORD ? null : source.getFinanceId();
+    }
+
+
+    /**
+     * Converts this Jackson-friendly adapted movement object into the model's {@code StockMovement} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted movement.
+     */
+    public StockMovement toModelType() throws IllegalValueException {
+        if (this.dateTime == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "dateTime"));
+        }
+        if (this.financeId == null) {
+            return new StockMovement(delta, dateTime);
+        }
+        if (this.financeId < 0) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "financeId"));
+        }
+        return new StockMovement(delta, dateTime, financeId);
+    }
+
+}
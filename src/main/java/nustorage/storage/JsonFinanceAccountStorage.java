@@ -6,15 +6,25 @@ import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import nustorage.commons.core.LogsCenter;
 import nustorage.commons.exceptions.DataConversionException;
 import nustorage.commons.exceptions.IllegalValueException;
 import nustorage.commons.util.FileUtil;
 import nustorage.commons.util.JsonUtil;
+import nustorage.model.FinanceAccount;
 import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.record.FinanceIdAllocator;
+import nustorage.model.record.FinanceIdRenumbering;
+import nustorage.model.record.FinanceRecord;
 
 
 /**
@@ -25,17 +35,30 @@ public class JsonFinanceAccountStorage implements FinanceAccountStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonFinanceAccountStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
 
     /**
-     * Creates a new finance account storage object.
+     * Creates a new finance account storage object that writes indented Json.
      *
      * @param filePath file path to storage file.
      */
     public JsonFinanceAccountStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+
+    /**
+     * Creates a new finance account storage object.
+     *
+     * @param filePath file path to storage file.
+     * @param isPrettyPrinted whether the Json written to the file is indented over multiple lines.
+     */
+    public JsonFinanceAccountStorage(Path filePath, boolean isPrettyPrinted) {
         assert filePath != null : "File path for finance account storage is null!";
 
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
 
@@ -56,19 +79,49 @@ public class JsonFinanceAccountStorage implements FinanceAccountStorage {
     public Optional<ReadOnlyFinanceAccount> readFinanceAccount(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFinanceAccount> jsonFinanceAccount = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFinanceAccount.class);
-
-        if (jsonFinanceAccount.isEmpty()) {
+        // each record is converted as soon as it is parsed, instead of after the whole file has been read, once
+        // the next ID has been read, as the records of files without one are renumbered
+        List<FinanceRecord> financeRecords = new ArrayList<>();
+        List<JsonAdaptedFinanceRecord> unconvertedRecords = new ArrayList<>();
+        AtomicBoolean hasNextId = new AtomicBoolean();
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableFinanceAccount.FINANCE_RECORDS_FIELD,
+                JsonAdaptedFinanceRecord.class, jsonFinRecord -> {
+                if (hasNextId.get()) {
+                    financeRecords.add(jsonFinRecord.toModelType());
+                } else {
+                    unconvertedRecords.add(jsonFinRecord);
+                }
+            }, (fieldName, value) -> {
+                if (readField(fieldName, value)) {
+                    hasNextId.set(true);
+                }
+            });
+
+        if (!isFound) {
             return Optional.empty();
         }
 
+        FinanceAccount financeAccount = new FinanceAccount();
         try {
-            return Optional.of(jsonFinanceAccount.get().toModelType());
+            if (hasNextId.get()) {
+                financeRecords.addAll(0, convertRecords(unconvertedRecords));
+            } else {
+                financeRecords.addAll(renumberRecords(unconvertedRecords));
+                financeAccount.setIdRenumbering(new FinanceIdRenumbering(getIds(unconvertedRecords)));
+                logger.info("Renumbered the finance records of " + filePath + ", which has no next ID");
+            }
+            if (FinanceIdAllocator.findDuplicateId(
+                    financeRecords.stream().mapToInt(FinanceRecord::getID).toArray()).isPresent()) {
+                throw new IllegalValueException(JsonSerializableFinanceAccount.MESSAGE_DUPLICATE_FINANCE_RECORD);
+            }
         } catch (IllegalValueException e) {
             logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
             throw new DataConversionException(e);
         }
+
+        financeAccount.setFinanceRecords(financeRecords);
+        logger.fine("Read " + financeRecords.size() + " finance records from " + filePath);
+        return Optional.of(financeAccount);
     }
 
 
@@ -85,7 +138,60 @@ public class JsonFinanceAccountStorage implements FinanceAccountStorage {
 
         FileUtil.createIfMissing(filePath);
 
-        JsonUtil.saveJsonFile(new JsonSerializableFinanceAccount(financeAccount), filePath);
+        JsonUtil.saveJsonArrayFile(filePath,
+                Map.of(JsonSerializableFinanceAccount.NEXT_ID_FIELD, FinanceIdAllocator.peekNextId()),
+                JsonSerializableFinanceAccount.FINANCE_RECORDS_FIELD, financeAccount.getFinanceList(),
+                JsonAdaptedFinanceRecord::new, isPrettyPrinted);
+    }
+
+
+    /**
+     * Reserves the finance record IDs handed out before the file was written, so that they are not reused.
+     *
+     * @return true if the field is the next ID.
+     */
+    private static boolean readField(String fieldName, JsonNode value) throws IllegalValueException {
+        if (!fieldName.equals(JsonSerializableFinanceAccount.NEXT_ID_FIELD)) {
+            return false;
+        }
+        if (!value.canConvertToInt() || value.intValue() < 0) {
+            throw new IllegalValueException(JsonSerializableFinanceAccount.MESSAGE_INVALID_NEXT_ID);
+        }
+        FinanceIdAllocator.reserveUpTo(value.intValue());
+        return true;
+    }
+
+
+    private static List<FinanceRecord> convertRecords(List<JsonAdaptedFinanceRecord> jsonRecords)
+            throws IllegalValueException {
+        List<FinanceRecord> records = new ArrayList<>(jsonRecords.size());
+        for (JsonAdaptedFinanceRecord jsonRecord : jsonRecords) {
+            records.add(jsonRecord.toModelType());
+        }
+        return records;
+    }
+
+
+    /**
+     * Converts {@code jsonRecords}, which must have different IDs, numbering them from 1 in order.
+     */
+    private static List<FinanceRecord> renumberRecords(List<JsonAdaptedFinanceRecord> jsonRecords)
+            throws IllegalValueException {
+        int[] oldIds = getIds(jsonRecords);
+        if (FinanceIdAllocator.findDuplicateId(oldIds).isPresent()) {
+            throw new IllegalValueException(JsonSerializableFinanceAccount.MESSAGE_DUPLICATE_FINANCE_RECORD);
+        }
+
+        List<FinanceRecord> records = new ArrayList<>(jsonRecords.size());
+        for (int i = 0; i < jsonRecords.size(); i++) {
+            records.add(jsonRecords.get(i).toModelType(FinanceIdRenumbering.getNewId(i)));
+        }
+        return records;
+    }
+
+
+    private static int[] getIds(List<JsonAdaptedFinanceRecord> jsonRecords) {
+        return jsonRecords.stream().mapToInt(JsonAdaptedFinanceRecord::getId).toArray();
     }
 
 }
@@ -6,7 +6,11 @@ import static nustorage.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import nustorage.commons.core.LogsCenter;
@@ -14,7 +18,9 @@ import nustorage.commons.exceptions.DataConversionException;
 import nustorage.commons.exceptions.IllegalValueException;
 import nustorage.commons.util.FileUtil;
 import nustorage.commons.util.JsonUtil;
+import nustorage.model.Inventory;
 import nustorage.model.ReadOnlyInventory;
+import nustorage.model.record.InventoryRecord;
 
 
 /**
@@ -25,17 +31,30 @@ public class JsonInventoryStorage implements InventoryStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonInventoryStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
 
     /**
-     * Creates a new inventory storage object.
+     * Creates a new inventory storage object that writes indented Json.
      *
      * @param filePath file path to storage file.
      */
     public JsonInventoryStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+
+    /**
+     * Creates a new inventory storage object.
+     *
+     * @param filePath file path to storage file.
+     * @param isPrettyPrinted whether the Json written to the file is indented over multiple lines.
+     */
+    public JsonInventoryStorage(Path filePath, boolean isPrettyPrinted) {
         assert filePath != null : "File path for finance account storage is null!";
 
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
 
@@ -56,19 +75,27 @@ public class JsonInventoryStorage implements InventoryStorage {
     public Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableInventory> jsonInventory = JsonUtil.readJsonFile(
-                filePath, JsonSerializableInventory.class);
-
-        if (jsonInventory.isEmpty()) {
+        // each record is converted as soon as it is parsed, instead of after the whole file has been read
+        List<InventoryRecord> inventoryRecords = new ArrayList<>();
+        Set<String> itemNames = new HashSet<>();
+        JsonUtil.JsonElementHandler<JsonAdaptedInventoryRecord> addRecord = jsonInvRecord -> {
+            InventoryRecord invRecord = jsonInvRecord.toModelType();
+            if (!itemNames.add(invRecord.getItemName())) {
+                throw new IllegalValueException(JsonSerializableInventory.MESSAGE_DUPLICATE_INVENTORY_RECORD);
+            }
+            inventoryRecords.add(invRecord);
+        };
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableInventory.INVENTORY_RECORDS_FIELD,
+                JsonAdaptedInventoryRecord.class, addRecord);
+
+        if (!isFound) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonInventory.get().toModelType());
-        } catch (IllegalValueException e) {
-            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
-            throw new DataConversionException(e);
-        }
+        Inventory inventory = new Inventory();
+        inventory.setInventoryRecords(inventoryRecords);
+        logger.fine("Read " + inventoryRecords.size() + " inventory records from " + filePath);
+        return Optional.of(inventory);
     }
 
 
@@ -85,7 +112,8 @@ public class JsonInventoryStorage implements InventoryStorage {
 
         FileUtil.createIfMissing(filePath);
 
-        JsonUtil.saveJsonFile(new JsonSerializableInventory(inventory), filePath);
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableInventory.INVENTORY_RECORDS_FIELD,
+                inventory.getInventoryRecordList(), JsonAdaptedInventoryRecord::new, isPrettyPrinted);
     }
 
 }
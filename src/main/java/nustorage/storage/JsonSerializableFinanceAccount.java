@@ -22,6 +22,10 @@ import nustorage.model.record.FinanceRecord;
 class JsonSerializableFinanceAccount {
 
     public static final String MESSAGE_DUPLICATE_FINANCE_RECORD = "Finance record list contains duplicate records!";
+    public static final String FINANCE_RECORDS_FIELD = "financeRecords";
+    /** Field holding the next ID that {@link nustorage.model.record.FinanceIdAllocator} hands out. */
+    public static final String NEXT_ID_FIELD = "nextId";
+    public static final String MESSAGE_INVALID_NEXT_ID = "Finance account contains an invalid next ID!";
 
     public final List<JsonAdaptedFinanceRecord> financeRecords = new ArrayList<>();
 
@@ -31,7 +35,7 @@ class JsonSerializableFinanceAccount {
      */
     @JsonCreator
     public JsonSerializableFinanceAccount(
-            @JsonProperty("financeRecords") List<JsonAdaptedFinanceRecord> financeRecords) {
+            @JsonProperty(FINANCE_RECORDS_FIELD) List<JsonAdaptedFinanceRecord> financeRecords) {
 
         this.financeRecords.addAll(financeRecords);
     }
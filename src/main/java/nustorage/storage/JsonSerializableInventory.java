@@ -22,6 +22,7 @@ import nustorage.model.record.InventoryRecord;
 class JsonSerializableInventory {
 
     public static final String MESSAGE_DUPLICATE_INVENTORY_RECORD = "Inventory record list contains duplicate records!";
+    public static final String INVENTORY_RECORDS_FIELD = "inventoryRecords";
 
     public final List<JsonAdaptedInventoryRecord> inventoryRecords = new ArrayList<>();
 
@@ -31,7 +32,7 @@ class JsonSerializableInventory {
      */
     @JsonCreator
     public JsonSerializableInventory(
-            @JsonProperty("inventoryRecords") List<JsonAdaptedInventoryRecord> inventoryRecords) {
+            @JsonProperty(INVENTORY_RECORDS_FIELD) List<JsonAdaptedInventoryRecord> inventoryRecords) {
 
         this.inventoryRecords.addAll(inventoryRecords);
     }
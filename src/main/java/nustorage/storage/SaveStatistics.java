@@ -0,0 +1,131 @@
+package nustorage.storage;
+
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Counts and times the saves made through a {@code Storage}.
+ * A save is a request to save a store, made once by every command. A write is a save that reached the data
+ * file on the disk, and is durable once it has been counted.
+ * Guarantees: immutable.
+ */
+public class SaveStatistics {
+
+    public static final SaveStatistics EMPTY = new SaveStatistics(0, 0, 0, 0, 0, 0);
+
+    private final long saveCount;
+    private final long totalSaveNanos;
+    private final long maxSaveNanos;
+    private final long writeCount;
+    private final long totalWriteNanos;
+    private final long maxWriteNanos;
+
+
+    private SaveStatistics(long saveCount, long totalSaveNanos, long maxSaveNanos,
+                           long writeCount, long totalWriteNanos, long maxWriteNanos) {
+        this.saveCount = saveCount;
+        this.totalSaveNanos = totalSaveNanos;
+        this.maxSaveNanos = maxSaveNanos;
+        this.writeCount = writeCount;
+        this.totalWriteNanos = totalWriteNanos;
+        this.maxWriteNanos = maxWriteNanos;
+    }
+
+
+    /**
+     * Returns these statistics with one more save, which kept the caller waiting for {@code nanos}.
+     */
+    public SaveStatistics withSave(long nanos) {
+        return new SaveStatistics(saveCount + 1, totalSaveNanos + nanos, Math.max(maxSaveNanos, nanos),
+                writeCount, totalWriteNanos, maxWriteNanos);
+    }
+
+
+    /**
+     * Returns these statistics with one more write to a data file, which took {@code nanos}.
+     */
+    public SaveStatistics withWrite(long nanos) {
+        return new SaveStatistics(saveCount, totalSaveNanos, maxSaveNanos,
+                writeCount + 1, totalWriteNanos + nanos, Math.max(maxWriteNanos, nanos));
+    }
+
+
+    /**
+     * Returns these statistics with the writes replaced by those of {@code other}.
+     */
+    public SaveStatistics withWritesOf(SaveStatistics other) {
+        return new SaveStatistics(saveCount, totalSaveNanos, maxSaveNanos,
+                other.writeCount, other.totalWriteNanos, other.maxWriteNanos);
+    }
+
+
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+
+    public long getWriteCount() {
+        return writeCount;
+    }
+
+
+    public double getAverageSaveMillis() {
+        return saveCount == 0 ? 0 : toMillis(totalSaveNanos) / saveCount;
+    }
+
+
+    public double getMaxSaveMillis() {
+        return toMillis(maxSaveNanos);
+    }
+
+
+    public double getAverageWriteMillis() {
+        return writeCount == 0 ? 0 : toMillis(totalWriteNanos) / writeCount;
+    }
+
+
+    public double getMaxWriteMillis() {
+        return toMillis(maxWriteNanos);
+    }
+
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SaveStatistics)) {
+            return false;
+        }
+
+        SaveStatistics o = (SaveStatistics) other;
+        return saveCount == o.saveCount
+                && totalSaveNanos == o.totalSaveNanos
+                && maxSaveNanos == o.maxSaveNanos
+                && writeCount == o.writeCount
+                && totalWriteNanos == o.totalWriteNanos
+                && maxWriteNanos == o.maxWriteNanos;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(saveCount, totalSaveNanos, maxSaveNanos, writeCount, totalWriteNanos, maxWriteNanos);
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("%d saves (avg %.2f ms, max %.2f ms), %d durable writes (avg %.2f ms, max %.2f ms)",
+                saveCount, getAverageSaveMillis(), getMaxSaveMillis(),
+                writeCount, getAverageWriteMillis(), getMaxWriteMillis());
+    }
+
+}
@@ -11,6 +11,7 @@ import nustorage.model.ReadOnlyFinanceAccount;
 import nustorage.model.ReadOnlyInventory;
 import nustorage.model.ReadOnlyUserPrefs;
 import nustorage.model.UserPrefs;
+import nustorage.model.VersionCounter;
 
 
 /**
@@ -53,4 +54,39 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, FinanceAc
     @Override
     void saveInventory(ReadOnlyInventory inventory) throws IOException;
 
+
+    /**
+     * Returns the version of the address book that was last read from or written to its data file,
+     * or {@link VersionCounter#NO_VERSION} if there is none.
+     */
+    long getLastSavedAddressBookVersion();
+
+
+    /**
+     * Returns the version of the finance account that was last read from or written to its data file,
+     * or {@link VersionCounter#NO_VERSION} if there is none.
+     */
+    long getLastSavedFinanceAccountVersion();
+
+
+    /**
+     * Returns the version of the inventory that was last read from or written to its data file,
+     * or {@link VersionCounter#NO_VERSION} if there is none.
+     */
+    long getLastSavedInventoryVersion();
+
+
+    /**
+     * Returns the number and duration of the saves made so far.
+     */
+    SaveStatistics getSaveStatistics();
+
+
+    /**
+     * Writes out any saved data that has not reached the data files yet, and waits until it is written.
+     *
+     * @throws IOException if there was an error writing the data.
+     */
+    void flush() throws IOException;
+
 }
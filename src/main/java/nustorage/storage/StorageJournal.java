@@ -0,0 +1,306 @@
+package nustorage.storage;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nustorage.commons.core.LogsCenter;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.commons.util.FileUtil;
+import nustorage.commons.util.JsonUtil;
+import nustorage.commons.util.LazyLoadingList;
+
+
+/**
+ * An append-only journal of the changes made to a list of records since its last full snapshot.
+ * <p>
+ * The first line of the journal identifies the snapshot it was started on. Every later line replaces
+ * a range of the records with the records found in that range at the time of saving.
+ * Replaying the lines in order over the snapshot gives back the records as they were last saved.
+ *
+ * @param <T> type of the journaled records.
+ */
+class StorageJournal<T> {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry %1$d of %2$s is invalid!";
+
+    private static final Logger logger = LogsCenter.getLogger(StorageJournal.class);
+
+    private final Path journalPath;
+    private final EntryCodec<T> codec;
+
+    /** The records as they are on disk (snapshot plus journal), or null if the journal has not been started. */
+    private List<T> persistedRecords;
+    private int entryCount;
+
+
+    /**
+     * Creates a journal that is kept next to the snapshot at {@code snapshotPath}, with its entries converted
+     * to and from JSON by {@code codec}.
+     */
+    StorageJournal(Path snapshotPath, EntryCodec<T> codec) {
+        requireNonNull(snapshotPath);
+        requireNonNull(codec);
+        this.journalPath = getJournalPath(snapshotPath);
+        this.codec = codec;
+    }
+
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+
+    Path getJournalPath() {
+        return journalPath;
+    }
+
+
+    /**
+     * Returns the number of entries appended since the last snapshot.
+     */
+    int getEntryCount() {
+        return entryCount;
+    }
+
+
+    /**
+     * Returns true if the journal is in step with its snapshot, and changes can be appended to it.
+     */
+    boolean isStarted() {
+        return persistedRecords != null && FileUtil.isFileExists(journalPath);
+    }
+
+
+    /**
+     * Starts a new, empty journal on the snapshot at {@code snapshotPath} that has just been written
+     * with {@code records}.
+     */
+    void start(Path snapshotPath, List<T> records) throws IOException {
+        requireNonNull(records);
+
+        JournalHeader header = new JournalHeader(Files.size(snapshotPath),
+                Files.getLastModifiedTime(snapshotPath).toMillis());
+        FileUtil.writeToFile(journalPath, JsonUtil.toCompactJsonString(header) + System.lineSeparator());
+
+        persistedRecords = new ArrayList<>(records);
+        entryCount = 0;
+    }
+
+
+    /**
+     * Deletes the journal, so that the snapshot alone holds the saved records.
+     */
+    void discard() throws IOException {
+        Files.deleteIfExists(journalPath);
+        persistedRecords = null;
+        entryCount = 0;
+    }
+
+
+    /**
+     * Appends the difference between {@code records} and the last saved records to the journal.
+     * Records are compared by identity, as the model replaces records instead of modifying them.
+     * The journal must have been started.
+     *
+     * @return true if an entry was appended, false if nothing has changed since the last save.
+     */
+    boolean append(List<T> records) throws IOException {
+        requireNonNull(records);
+        assert isStarted() : "Journal has not been started!";
+
+        int oldSize = persistedRecords.size();
+        int newSize = records.size();
+
+        int from = 0;
+        while (from < oldSize && from < newSize && persistedRecords.get(from) == records.get(from)) {
+            from++;
+        }
+
+        int oldTo = oldSize;
+        int newTo = newSize;
+        while (oldTo > from && newTo > from && persistedRecords.get(oldTo - 1) == records.get(newTo - 1)) {
+            oldTo--;
+            newTo--;
+        }
+
+        if (from == oldTo && from == newTo) {
+            return false;
+        }
+
+        List<T> replacement = new ArrayList<>(records.subList(from, newTo));
+        String entry = codec.toEntryJson(from, oldTo, replacement) + System.lineSeparator();
+        FileUtil.appendToFile(journalPath, entry);
+
+        replaceRange(persistedRecords, from, oldTo, replacement);
+        entryCount++;
+        return true;
+    }
+
+
+    /**
+     * Replays the journal over {@code records}, which were just read from the snapshot at {@code snapshotPath}.
+     * A journal that was started on a different snapshot is ignored, as that snapshot already includes it.
+     * An incomplete last entry, left behind by a crash while appending, is dropped, and the journal is left
+     * unstarted so that the next save writes a fresh snapshot.
+     *
+     * @return the entries that were applied to {@code records}, in order.
+     * @throws DataConversionException if an entry in the journal is not in the expected format.
+     */
+    List<JournalEntry<T>> replay(Path snapshotPath, List<T> records) throws DataConversionException {
+        requireNonNull(records);
+        persistedRecords = null;
+        entryCount = 0;
+
+        List<JournalEntry<T>> appliedEntries = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalPath)) {
+            return appliedEntries;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || !JsonUtil.fromJsonString(headerLine, JournalHeader.class)
+                    .isHeaderOf(snapshotPath)) {
+                logger.info("Journal " + journalPath + " does not belong to the current snapshot, ignoring it");
+                return appliedEntries;
+            }
+
+            int replayed = 0;
+            boolean hasIncompleteEntry = false;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                try {
+                    appliedEntries.add(applyEntry(line, records));
+                    replayed++;
+                } catch (IOException | IllegalValueException e) {
+                    if (nextLine != null) {
+                        throw new DataConversionException(new IllegalValueException(
+                                String.format(MESSAGE_INVALID_ENTRY, replayed + 1, journalPath)));
+                    }
+                    logger.warning("Dropping incomplete last entry of journal " + journalPath);
+                    hasIncompleteEntry = true;
+                }
+                line = nextLine;
+            }
+
+            logger.info("Replayed " + replayed + " entries from journal " + journalPath);
+            if (!hasIncompleteEntry) {
+                // otherwise leaves the journal unstarted, so that the next save writes a fresh snapshot
+                persistedRecords = LazyLoadingList.copyOf(records);
+                entryCount = replayed;
+            }
+            return appliedEntries;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+
+    private JournalEntry<T> applyEntry(String line, List<T> records) throws IOException, IllegalValueException {
+        JournalEntry<T> entry = codec.parseEntry(line);
+        if (entry.from < 0 || entry.from > entry.to || entry.to > records.size()) {
+            throw new IllegalValueException("Journal entry is out of range");
+        }
+        replaceRange(records, entry.from, entry.to, entry.records);
+        return entry;
+    }
+
+
+    private static <T> void replaceRange(List<T> records, int from, int to, List<T> replacement) {
+        List<T> range = records.subList(from, to);
+        range.clear();
+        range.addAll(replacement);
+    }
+
+
+    /**
+     * Converts the entries of a journal to and from single lines of JSON.
+     */
+    interface EntryCodec<T> {
+
+        /**
+         * Converts an entry that replaces the records in the range {@code from} (inclusive) to {@code to}
+         * (exclusive) with {@code records} into a single line of JSON.
+         */
+        String toEntryJson(int from, int to, List<T> records) throws IOException;
+
+        /**
+         * Converts a single line of JSON written by {@link #toEntryJson(int, int, List)} back into an entry.
+         *
+         * @throws IOException if the line is not valid JSON.
+         * @throws IllegalValueException if the records in the line violate any data constraints.
+         */
+        JournalEntry<T> parseEntry(String json) throws IOException, IllegalValueException;
+    }
+
+
+    /**
+     * An entry of the journal, which replaces the records in the range {@code from} (inclusive)
+     * to {@code to} (exclusive) with {@code records}.
+     */
+    static class JournalEntry<T> {
+
+        private final int from;
+        private final int to;
+        private final List<T> records;
+
+        JournalEntry(int from, int to, List<T> records) {
+            this.from = from;
+            this.to = to;
+            this.records = records;
+        }
+
+        int getFrom() {
+            return from;
+        }
+
+        int getTo() {
+            return to;
+        }
+
+        List<T> getRecords() {
+            return records;
+        }
+    }
+
+
+    /**
+     * Jackson-friendly first line of the journal, which identifies the snapshot the journal was started on.
+     */
+    static class JournalHeader {
+
+        private final long snapshotSize;
+        private final long snapshotLastModified;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                      @JsonProperty("snapshotLastModified") long snapshotLastModified) {
+            this.snapshotSize = snapshotSize;
+            this.snapshotLastModified = snapshotLastModified;
+        }
+
+        boolean isHeaderOf(Path snapshotPath) throws IOException {
+            return Files.size(snapshotPath) == snapshotSize
+                    && Files.getLastModifiedTime(snapshotPath).toMillis() == snapshotLastModified;
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ package nustorage.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import nustorage.commons.core.LogsCenter;
@@ -13,6 +14,7 @@ import nustorage.model.ReadOnlyFinanceAccount;
 import nustorage.model.ReadOnlyInventory;
 import nustorage.model.ReadOnlyUserPrefs;
 import nustorage.model.UserPrefs;
+import nustorage.model.VersionCounter;
 
 
 /**
@@ -26,6 +28,13 @@ public class StorageManager implements Storage {
     private FinanceAccountStorage financeAccountStorage;
     private InventoryStorage inventoryStorage;
 
+    // versions of the data in the default data files, which may be read by other threads
+    private volatile long lastSavedAddressBookVersion = VersionCounter.NO_VERSION;
+    private volatile long lastSavedFinanceAccountVersion = VersionCounter.NO_VERSION;
+    private volatile long lastSavedInventoryVersion = VersionCounter.NO_VERSION;
+
+    private final AtomicReference<SaveStatistics> saveStatistics = new AtomicReference<>(SaveStatistics.EMPTY);
+
 
     // /**
     //  * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -89,7 +98,11 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (addressBook.isPresent() && filePath.equals(getAddressBookFilePath())) {
+            lastSavedAddressBookVersion = addressBook.get().getVersion();
+        }
+        return addressBook;
     }
 
 
@@ -101,8 +114,23 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        boolean isDefaultFile = filePath.equals(getAddressBookFilePath());
+        if (isDefaultFile && addressBook.getVersion() == lastSavedAddressBookVersion) {
+            logger.fine("Address book unchanged since last save, skipping write to data file: " + filePath);
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (isDefaultFile) {
+            lastSavedAddressBookVersion = addressBook.getVersion();
+        }
+    }
+
+
+    @Override
+    public long getLastSavedAddressBookVersion() {
+        return lastSavedAddressBookVersion;
     }
 
 
@@ -125,7 +153,13 @@ public class StorageManager implements Storage {
     public Optional<ReadOnlyFinanceAccount> readFinanceAccount(Path filePath)
             throws DataConversionException, IOException {
         logger.fine("Attempting to read finance account from data file: " + filePath);
-        return financeAccountStorage.readFinanceAccount(filePath);
+        Optional<ReadOnlyFinanceAccount> financeAccount = financeAccountStorage.readFinanceAccount(filePath);
+        // renumbered records differ from those in the data file, so they are not recorded as saved
+        if (financeAccount.isPresent() && filePath.equals(getFinanceAccountFilePath())
+                && financeAccount.get().getIdRenumbering().isEmpty()) {
+            lastSavedFinanceAccountVersion = financeAccount.get().getVersion();
+        }
+        return financeAccount;
     }
 
 
@@ -137,8 +171,26 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount, Path filePath) throws IOException {
+        long startTime = System.nanoTime();
+        boolean isDefaultFile = filePath.equals(getFinanceAccountFilePath());
+        if (isDefaultFile && financeAccount.getVersion() == lastSavedFinanceAccountVersion) {
+            logger.fine("Finance account unchanged since last save, skipping write to data file: " + filePath);
+            recordSave(startTime, false);
+            return;
+        }
+
         logger.fine("Attempting to write finance account to data file: " + filePath);
         financeAccountStorage.saveFinanceAccount(financeAccount, filePath);
+        if (isDefaultFile) {
+            lastSavedFinanceAccountVersion = financeAccount.getVersion();
+        }
+        recordSave(startTime, true);
+    }
+
+
+    @Override
+    public long getLastSavedFinanceAccountVersion() {
+        return lastSavedFinanceAccountVersion;
     }
 
 
@@ -159,8 +211,12 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read finance account from data file: " + filePath);
-        return inventoryStorage.readInventory(filePath);
+        logger.fine("Attempting to read inventory from data file: " + filePath);
+        Optional<ReadOnlyInventory> inventory = inventoryStorage.readInventory(filePath);
+        if (inventory.isPresent() && filePath.equals(getInventoryFilePath())) {
+            lastSavedInventoryVersion = inventory.get().getVersion();
+        }
+        return inventory;
     }
 
 
@@ -172,8 +228,52 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
-        logger.fine("Attempting to write finance account to data file: " + filePath);
+        long startTime = System.nanoTime();
+        boolean isDefaultFile = filePath.equals(getInventoryFilePath());
+        if (isDefaultFile && inventory.getVersion() == lastSavedInventoryVersion) {
+            logger.fine("Inventory unchanged since last save, skipping write to data file: " + filePath);
+            recordSave(startTime, false);
+            return;
+        }
+
+        logger.fine("Attempting to write inventory to data file: " + filePath);
         inventoryStorage.saveInventory(inventory, filePath);
+        if (isDefaultFile) {
+            lastSavedInventoryVersion = inventory.getVersion();
+        }
+        recordSave(startTime, true);
+    }
+
+
+    @Override
+    public long getLastSavedInventoryVersion() {
+        return lastSavedInventoryVersion;
+    }
+
+
+    // ================ Statistics methods ==============================
+
+
+    @Override
+    public SaveStatistics getSaveStatistics() {
+        return saveStatistics.get();
+    }
+
+
+    /**
+     * Records a save that started at {@code startTime}, and that wrote to a data file if {@code isWritten}.
+     */
+    private void recordSave(long startTime, boolean isWritten) {
+        long nanos = System.nanoTime() - startTime;
+        saveStatistics.updateAndGet(statistics -> isWritten
+                ? statistics.withSave(nanos).withWrite(nanos)
+                : statistics.withSave(nanos));
+    }
+
+
+    @Override
+    public void flush() {
+        // data is written as soon as it is saved
     }
 
 }
@@ -17,6 +17,7 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
 
     @FXML
     private TextField commandTextField;
@@ -25,10 +26,22 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, unused -> { });
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which previews commands with the
+     * {@code CommandPreviewer} as they are typed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandPreviewer = commandPreviewer;
+        // calls #setStyleToDefault() and previews the command whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, commandText) -> {
+            setStyleToDefault();
+            commandPreviewer.preview(commandText);
+        });
     }
 
     /**
@@ -77,4 +90,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws Exception;
     }
 
+    /**
+     * Represents a function that previews the results of a command as it is typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the results of the command typed so far.
+         *
+         * @see nustorage.logic.Logic#previewCommand(String)
+         */
+        void preview(String commandText);
+    }
+
 }
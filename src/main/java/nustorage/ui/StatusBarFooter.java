@@ -2,27 +2,72 @@ package nustorage.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import nustorage.model.record.FinanceTotal;
+import nustorage.model.record.InventoryRecord;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String BALANCE_FORMAT = "Balance: $%.2f";
+    public static final String LOW_STOCK_FORMAT = "Low stock: %1$d (%2$s)";
+    public static final String NO_LOW_STOCK = "Low stock: none";
+
+    /** Most item names shown for the items low on stock. */
+    private static final int MAX_LOW_STOCK_NAMES = 3;
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label lowStockStatus;
+
+    @FXML
+    private Label balanceStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, showing the {@code lowStockRecords} and the
+     * {@code financeTotal} as the balance as they change.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableSet<InventoryRecord> lowStockRecords,
+            ObservableValue<FinanceTotal> financeTotal) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        showLowStock(lowStockRecords);
+        lowStockRecords.addListener((SetChangeListener<InventoryRecord>) change -> showLowStock(lowStockRecords));
+        showBalance(financeTotal.getValue());
+        financeTotal.addListener((observable, oldTotal, newTotal) -> showBalance(newTotal));
+    }
+
+    private void showLowStock(Set<InventoryRecord> lowStockRecords) {
+        if (lowStockRecords.isEmpty()) {
+            lowStockStatus.setText(NO_LOW_STOCK);
+            return;
+        }
+        String itemNames = lowStockRecords.stream()
+                .limit(MAX_LOW_STOCK_NAMES)
+                .map(InventoryRecord::getItemName)
+                .collect(Collectors.joining(", "));
+        if (lowStockRecords.size() > MAX_LOW_STOCK_NAMES) {
+            itemNames += ", ...";
+        }
+        lowStockStatus.setText(String.format(LOW_STOCK_FORMAT, lowStockRecords.size(), itemNames));
+    }
+
+    private void showBalance(FinanceTotal financeTotal) {
+        balanceStatus.setText(String.format(BALANCE_FORMAT, financeTotal.getAmount()));
     }
 
 }
@@ -0,0 +1,56 @@
+package nustorage.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+
+public class BatchableObservableListTest {
+
+    private final BatchableObservableList<String> list = new BatchableObservableList<>(new ArrayList<>());
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @Test
+    public void add_outsideBatch_publishedOneByOne() {
+        list.addListener((ListChangeListener<String>) changes::add);
+        list.add("a");
+        list.add("b");
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void modifications_inNestedBatches_publishedOnceAtOutermostEnd() {
+        list.addAll(List.of("a", "b", "c"));
+        FilteredList<String> filteredList = new FilteredList<>(list, element -> !element.equals("b"));
+        filteredList.addListener((ListChangeListener<String>) changes::add);
+
+        list.beginBatch();
+        list.add("d");
+        list.beginBatch();
+        list.remove(0);
+        list.set(1, "e");
+        list.endBatch();
+        assertEquals(List.of(), changes);
+        list.endBatch();
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of("b", "e", "d"), list);
+        assertEquals(List.of("e", "d"), filteredList);
+    }
+
+    @Test
+    public void setAll_manyElements_publishedAsOneChange() {
+        list.addAll(List.of("a", "b", "c"));
+        list.addListener((ListChangeListener<String>) changes::add);
+
+        list.setAll(List.of("d", "e"));
+        assertEquals(1, changes.size());
+        assertEquals(List.of("d", "e"), list);
+    }
+
+}
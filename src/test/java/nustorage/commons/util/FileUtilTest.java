@@ -1,13 +1,22 @@
 package nustorage.commons.util;
 
 import static nustorage.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,37 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTempFile() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_originalFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, outputStream -> {
+            outputStream.write("partial".getBytes());
+            throw new IOException("dummy exception");
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void appendToFile_missingFile_createdThenAppended() throws Exception {
+        Path file = testFolder.resolve("data.journal");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
 }
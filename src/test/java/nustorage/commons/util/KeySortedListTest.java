@@ -0,0 +1,122 @@
+package nustorage.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+
+public class KeySortedListTest {
+
+    private final BatchableObservableList<Integer> source = new BatchableObservableList<>(new ArrayList<>());
+    private final KeySortedList<Integer> sortedList = new KeySortedList<>(source);
+
+    /** A copy of the sorted list kept up to date only from the changes it publishes. */
+    private final List<Integer> mirror = new ArrayList<>();
+
+    private void mirrorChanges() {
+        sortedList.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    List<Integer> permuted = new ArrayList<>(mirror);
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        permuted.set(change.getPermutation(i), mirror.get(i));
+                    }
+                    mirror.clear();
+                    mirror.addAll(permuted);
+                } else {
+                    mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    mirror.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void setSortKey_keyThenNone_sortedStablyThenSourceOrder() {
+        source.addAll(List.of(21, 10, 32, 11, 20));
+        mirror.addAll(source);
+        mirrorChanges();
+
+        sortedList.setSortKey(element -> element / 10, false);
+        assertEquals(List.of(10, 11, 21, 20, 32), sortedList);
+        assertEquals(sortedList, mirror);
+
+        sortedList.setSortKey(element -> element / 10, true);
+        assertEquals(List.of(32, 21, 20, 10, 11), sortedList);
+        assertEquals(1, sortedList.getSourceIndex(3));
+        assertEquals(sortedList, mirror);
+
+        sortedList.setSortKey(null, false);
+        assertEquals(source, sortedList);
+        assertEquals(sortedList, mirror);
+    }
+
+    @Test
+    public void setSortKey_keysTooFarApartToPack_sorted() {
+        source.addAll(List.of(21, 10, 32, 11, 20));
+        sortedList.setSortKey(element -> element == 10 ? Long.MIN_VALUE : Long.MAX_VALUE - element, false);
+        assertEquals(List.of(10, 32, 21, 20, 11), sortedList);
+    }
+
+    @Test
+    public void sourceChanges_sorted_keptSortedAndPublished() {
+        Random random = new Random(23);
+        for (int i = 0; i < 200; i++) {
+            source.add(random.nextInt(50));
+        }
+        FilteredList<Integer> filteredList = new FilteredList<>(source);
+        KeySortedList<Integer> sortedFilteredList = new KeySortedList<>(filteredList);
+        sortedFilteredList.setSortKey(Integer::longValue, true);
+        sortedList.setSortKey(element -> element % 7, false);
+        mirror.addAll(sortedList);
+        mirrorChanges();
+
+        for (int step = 0; step < 300; step++) {
+            int index = random.nextInt(source.size());
+            switch (random.nextInt(5)) {
+            case 0:
+                source.add(index, random.nextInt(50));
+                break;
+            case 1:
+                source.remove(index);
+                break;
+            case 2:
+                source.set(index, random.nextInt(50));
+                break;
+            case 3:
+                source.beginBatch();
+                source.add(random.nextInt(50));
+                source.remove(index);
+                source.endBatch();
+                break;
+            default:
+                source.addAll(index, List.of(random.nextInt(50), random.nextInt(50)));
+            }
+            if (step % 100 == 99) {
+                int divisor = step / 100 + 2;
+                filteredList.setPredicate(element -> element % divisor == 0);
+            }
+
+            assertEquals(expectedOrder(source, element -> element % 7, false), sortedList);
+            assertEquals(sortedList, mirror);
+            assertEquals(expectedOrder(filteredList, Integer::longValue, true), sortedFilteredList);
+        }
+    }
+
+    private static List<Integer> expectedOrder(List<Integer> elements,
+            ToLongFunction<Integer> key, boolean isDescending) {
+        List<Integer> expected = new ArrayList<>(elements);
+        Comparator<Integer> byKey = Comparator.comparingLong(key);
+        expected.sort(isDescending ? byKey.reversed() : byKey);
+        return expected;
+    }
+
+}
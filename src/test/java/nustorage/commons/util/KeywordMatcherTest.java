@@ -0,0 +1,37 @@
+package nustorage.commons.util;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void matchesAny_validInputs_correctResult() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("bBb", "  CCc@1  "));
+
+        // Matches words in the sentence, different upper/lower case letters
+        assertTrue(matcher.matchesAny(StringUtil.toLowerCaseWords("aaa bBb")));
+        assertTrue(matcher.matchesAny(StringUtil.toLowerCaseWords("  ccc@1   aaa  ")));
+
+        // Matches a partial word only
+        assertFalse(matcher.matchesAny(StringUtil.toLowerCaseWords("aaa bb bbbb")));
+
+        // Empty sentence and no keywords
+        assertFalse(matcher.matchesAny(List.of()));
+        assertFalse(new KeywordMatcher(List.of()).matchesAny(List.of("aaa")));
+
+        // Keywords that are blank or have several words never match
+        assertFalse(new KeywordMatcher(List.of(" ", "aaa bbb")).matchesAny(List.of("aaa", "bbb")));
+    }
+
+}
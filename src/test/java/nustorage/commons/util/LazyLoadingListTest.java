@@ -0,0 +1,91 @@
+package nustorage.commons.util;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyLoadingListTest {
+
+    private final List<Integer> loadedIndexes = new ArrayList<>();
+
+    private LazyLoadingList<String> createList(int size) {
+        return new LazyLoadingList<>(size, i -> {
+            loadedIndexes.add(i);
+            return "element " + i;
+        });
+    }
+
+    @Test
+    public void get_notReadBefore_loadsOnlyThatElementOnce() {
+        LazyLoadingList<String> list = createList(5);
+        assertEquals(5, list.size());
+        assertEquals(List.of(), loadedIndexes);
+
+        assertEquals("element 3", list.get(3));
+        assertEquals("element 3", list.get(3));
+        assertEquals(List.of(3), loadedIndexes);
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        LazyLoadingList<String> list = createList(2);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void modify_likeArrayList_sameElementsWithoutLoadingMovedElements() {
+        LazyLoadingList<String> list = createList(5);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add("element " + i);
+        }
+
+        list.add(1, "added");
+        expected.add(1, "added");
+        list.add("appended");
+        expected.add("appended");
+        list.subList(3, 5).clear();
+        expected.subList(3, 5).clear();
+        assertEquals(List.of(), loadedIndexes);
+
+        list.set(0, "set");
+        expected.set(0, "set");
+        list.remove(2);
+        expected.remove(2);
+        assertEquals(List.of(0, 1), loadedIndexes);
+
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void copy_sharesLoadedElements() {
+        LazyLoadingList<String> list = createList(3);
+        String first = list.get(0);
+        List<String> copy = LazyLoadingList.copyOf(list);
+
+        assertSame(first, copy.get(0));
+        assertSame(copy.get(2), list.get(2));
+        assertEquals(List.of(0, 2), loadedIndexes);
+
+        // modifying the copy leaves the original unchanged
+        copy.remove(1);
+        assertEquals(3, list.size());
+        assertEquals("element 1", list.get(1));
+    }
+
+    @Test
+    public void copyOf_otherList_arrayListCopy() {
+        List<String> original = new ArrayList<>(List.of("a", "b"));
+        List<String> copy = LazyLoadingList.copyOf(original);
+        copy.add("c");
+        assertEquals(List.of("a", "b"), original);
+        assertEquals(List.of("a", "b", "c"), copy);
+    }
+
+}
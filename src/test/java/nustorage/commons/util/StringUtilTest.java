@@ -1,10 +1,12 @@
 package nustorage.commons.util;
 
 import static nustorage.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,19 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWords(null));
+    }
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        assertEquals(List.of(), StringUtil.toLowerCaseWords("    ")); // Boundary case
+        assertEquals(List.of("aaa", "bbb", "ccc@1"), StringUtil.toLowerCaseWords("  AAA   bBb\tccc@1  "));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import nustorage.model.Model;
 import nustorage.model.ModelManager;
 import nustorage.model.ReadOnlyAddressBook;
 import nustorage.model.UserPrefs;
+import nustorage.model.record.InventoryRecord;
 import nustorage.storage.JsonAddressBookStorage;
 import nustorage.storage.JsonFinanceAccountStorage;
 import nustorage.storage.JsonInventoryStorage;
@@ -75,6 +77,27 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void previewCommand_findInventoryBeingTyped_showsSimilarRecords() throws Exception {
+        InventoryRecord phone = new InventoryRecord("Samsung phone");
+        InventoryRecord laptop = new InventoryRecord("Dell laptop");
+        model.addInventoryRecord(phone);
+        model.addInventoryRecord(laptop);
+
+        logic.previewCommand("find_inventory smasung");
+        assertEquals(List.of(phone), logic.getFilteredInventory());
+
+        // the whole inventory is shown again once the command is no longer being typed
+        logic.previewCommand("find_inv");
+        assertEquals(List.of(phone, laptop), logic.getFilteredInventory());
+
+        // executing a command ends the preview, so clearing the command box keeps the results
+        logic.previewCommand("find_inventory lap");
+        logic.execute("find_inventory laptop");
+        logic.previewCommand("");
+        assertEquals(List.of(laptop), logic.getFilteredInventory());
+    }
+
     // @Test
     // public void execute_storageThrowsIoException_throwsCommandException() {
     //     // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
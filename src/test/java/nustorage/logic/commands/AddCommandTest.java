@@ -8,14 +8,23 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import nustorage.commons.core.GuiSettings;
 import nustorage.commons.core.index.Index;
 import nustorage.logic.commands.exceptions.CommandException;
@@ -26,7 +35,10 @@ import nustorage.model.Model;
 import nustorage.model.ReadOnlyAddressBook;
 import nustorage.model.ReadOnlyUserPrefs;
 import nustorage.model.person.Person;
+import nustorage.model.record.FinanceQuery;
 import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceReport;
+import nustorage.model.record.FinanceTotal;
 import nustorage.model.record.InventoryRecord;
 import nustorage.testutil.PersonBuilder;
 
@@ -190,11 +202,59 @@ public class AddCommandTest {
         }
 
 
+        @Override
+        public void batch(Consumer<Model> mutations) {
+            mutations.accept(this);
+        }
+
+
+        @Override
+        public boolean commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
         @Override
         public void updateFilteredInventoryList(Predicate<InventoryRecord> predicate) {
         }
 
 
+        @Override
+        public void updateFilteredInventoryList(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public void updateFilteredInventoryListToSimilarWords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
         @Override
         public void addInventoryRecord(InventoryRecord newRecord) {
         }
@@ -235,11 +295,64 @@ public class AddCommandTest {
         }
 
 
+        @Override
+        public Optional<FinanceRecord> getFinanceRecord(int id) {
+            return Optional.empty();
+        }
+
+
         public ObservableList<FinanceRecord> getFilteredFinanceList() {
             return null;
         }
 
 
+        @Override
+        public void loadArchivedFinanceRecords(YearMonth from, YearMonth to) {
+        }
+
+
+        @Override
+        public void loadAllArchivedFinanceRecords() {
+        }
+
+
+        @Override
+        public List<FinanceRecord> getFinanceRecordsBetween(LocalDateTime from, LocalDateTime to) {
+            return new ArrayList<>();
+        }
+
+
+        @Override
+        public FinanceReport getFinanceReport(LocalDateTime from, LocalDateTime to,
+                FinanceReport.Grouping grouping) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public FinanceTotal getFinanceTotal() {
+            return FinanceTotal.ZERO;
+        }
+
+
+        @Override
+        public FinanceTotal getMonthlyFinanceTotal(YearMonth month) {
+            return FinanceTotal.ZERO;
+        }
+
+
+        @Override
+        public FinanceTotal getDailyFinanceTotal(LocalDate date) {
+            return FinanceTotal.ZERO;
+        }
+
+
+        @Override
+        public ReadOnlyObjectProperty<FinanceTotal> financeTotalProperty() {
+            return new ReadOnlyObjectWrapper<>(FinanceTotal.ZERO).getReadOnlyProperty();
+        }
+
+
         @Override
         public Optional<FinanceRecord> deleteFinanceRecord(Index targetIndex) {
             return Optional.empty();
@@ -252,6 +365,36 @@ public class AddCommandTest {
         }
 
 
+        @Override
+        public void updateFilteredFinanceList(LocalDateTime from, LocalDateTime to) {
+
+        }
+
+
+        @Override
+        public void updateFilteredFinanceList(FinanceQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public void sortFilteredInventoryList(ToLongFunction<InventoryRecord> sortKey, boolean isDescending) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public ObservableSet<InventoryRecord> getLowStockInventory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public void sortFilteredFinanceList(ToLongFunction<FinanceRecord> sortKey, boolean isDescending) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
     }
 
 
@@ -0,0 +1,67 @@
+package nustorage.logic.commands;
+
+import static nustorage.logic.commands.CommandTestUtil.DATE_C;
+import static nustorage.logic.commands.CommandTestUtil.DATE_TIME_B;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_B;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_C;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.model.Inventory;
+import nustorage.model.Model;
+import nustorage.model.ModelManager;
+import nustorage.model.UserPrefs;
+import nustorage.model.record.FinanceRecord;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ListFinanceRecordsCommand.
+ */
+public class ListFinanceRecordsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalFinanceAccount(), new Inventory(), new UserPrefs());
+
+    @Test
+    public void execute_period_showsRecordsInPeriod() throws Exception {
+        CommandResult result = new ListFinanceRecordsCommand(DATE_C.atStartOfDay(), DATE_TIME_B).execute(model);
+
+        assertEquals(String.format(ListFinanceRecordsCommand.MESSAGE_SUCCESS_PERIOD, 2), result.getFeedbackToUser());
+        assertEquals(List.of(RECORD_B, RECORD_C), model.getFilteredFinanceList());
+    }
+
+    @Test
+    public void execute_recordAddedInPeriod_shown() throws Exception {
+        new ListFinanceRecordsCommand(DATE_C.atStartOfDay(), DATE_TIME_B).execute(model);
+        FinanceRecord newRecord = new FinanceRecord(1, DATE_TIME_B.minusHours(1));
+        model.addFinanceRecord(newRecord);
+
+        assertEquals(List.of(RECORD_B, RECORD_C, newRecord), model.getFilteredFinanceList());
+    }
+
+    @Test
+    public void execute_afterPeriod_showsAll() throws Exception {
+        new ListFinanceRecordsCommand(DATE_C.atStartOfDay(), DATE_TIME_B).execute(model);
+        CommandResult result = new ListFinanceRecordsCommand().execute(model);
+
+        assertEquals(ListFinanceRecordsCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(model.getFinanceAccount().getFinanceList(), model.getFilteredFinanceList());
+    }
+
+    @Test
+    public void equals() {
+        ListFinanceRecordsCommand listPeriod = new ListFinanceRecordsCommand(LocalDateTime.MIN, DATE_TIME_B);
+
+        assertEquals(listPeriod, new ListFinanceRecordsCommand(LocalDateTime.MIN, DATE_TIME_B));
+        assertEquals(new ListFinanceRecordsCommand(), new ListFinanceRecordsCommand());
+        assertNotEquals(listPeriod, new ListFinanceRecordsCommand());
+        assertNotEquals(listPeriod, new ListFinanceRecordsCommand(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertFalse(listPeriod.equals(null));
+    }
+
+}
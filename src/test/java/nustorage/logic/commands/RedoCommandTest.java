@@ -0,0 +1,50 @@
+package nustorage.logic.commands;
+
+import static nustorage.logic.commands.CommandTestUtil.assertCommandFailure;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_A;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.model.Model;
+import nustorage.model.ModelManager;
+import nustorage.model.record.InventoryRecord;
+
+/**
+ * Contains integration tests (interaction with the Model) for RedoCommand.
+ */
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesUndone_latestUndoneStepRedone() throws Exception {
+        model.addFinanceRecord(RECORD_A);
+        model.commitChanges();
+        model.undo();
+
+        CommandResult result = new RedoCommand().execute(model);
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(List.of(RECORD_A), model.getFilteredFinanceList());
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_throwsCommandException() {
+        model.addFinanceRecord(RECORD_A);
+        model.commitChanges();
+        model.undo();
+        model.addInventoryRecord(new InventoryRecord("item"));
+        model.commitChanges();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+}
@@ -0,0 +1,57 @@
+package nustorage.logic.commands;
+
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_A;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.model.Inventory;
+import nustorage.model.Model;
+import nustorage.model.ModelManager;
+import nustorage.model.UserPrefs;
+import nustorage.model.record.FinanceReport.Grouping;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ReportFinanceCommand.
+ */
+public class ReportFinanceCommandTest {
+
+    private final Model model = new ModelManager(getTypicalFinanceAccount(), new Inventory(), new UserPrefs());
+
+    @Test
+    public void execute_dayOfRecord_showsLineAndTotal() throws Exception {
+        LocalDate date = RECORD_A.getDatetime().toLocalDate();
+        CommandResult result = new ReportFinanceCommand(Grouping.DAY, date.atStartOfDay(), date.atTime(LocalTime.MAX))
+                .execute(model);
+
+        String line = "revenue $0.10, cost $0.00, net $0.10 over 1 records";
+        assertEquals(String.format(ReportFinanceCommand.MESSAGE_SUCCESS, "day", "01 Oct 2020: " + line + "\n", line),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_periodWithoutRecords_noRecords() throws Exception {
+        CommandResult result = new ReportFinanceCommand(Grouping.MONTH, LocalDateTime.of(2000, 1, 1, 0, 0),
+                LocalDateTime.of(2000, 12, 31, 0, 0)).execute(model);
+
+        assertEquals(ReportFinanceCommand.MESSAGE_NO_RECORDS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        ReportFinanceCommand reportCommand = new ReportFinanceCommand(Grouping.WEEK, LocalDateTime.MIN,
+                LocalDateTime.MAX);
+
+        assertEquals(reportCommand, new ReportFinanceCommand(Grouping.WEEK, LocalDateTime.MIN, LocalDateTime.MAX));
+        assertNotEquals(reportCommand, new ReportFinanceCommand(Grouping.DAY, LocalDateTime.MIN, LocalDateTime.MAX));
+        assertFalse(reportCommand.equals(null));
+    }
+
+}
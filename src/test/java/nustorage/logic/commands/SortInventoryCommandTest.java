@@ -0,0 +1,62 @@
+package nustorage.logic.commands;
+
+import static nustorage.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.logic.commands.EditInventoryCommand.EditInventoryDescriptor;
+import nustorage.logic.commands.SortInventoryCommand.SortKey;
+import nustorage.model.FinanceAccount;
+import nustorage.model.Inventory;
+import nustorage.model.Model;
+import nustorage.model.ModelManager;
+import nustorage.model.UserPrefs;
+import nustorage.model.record.InventoryRecord;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortInventoryCommand.
+ */
+public class SortInventoryCommandTest {
+
+    private final Model model = new ModelManager(new FinanceAccount(), new Inventory(List.of(
+            new InventoryRecord("Mouse", 10, LocalDateTime.of(2019, 1, 10, 9, 0)),
+            new InventoryRecord("Keyboard", 5, LocalDateTime.of(2020, 1, 10, 9, 0)))), new UserPrefs());
+
+    @Test
+    public void execute_updatedDescending_editedRecordFirst() throws Exception {
+        EditInventoryDescriptor descriptor = new EditInventoryDescriptor();
+        descriptor.setThreshold(3);
+        new EditInventoryCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        CommandResult result = new SortInventoryCommand(SortKey.UPDATED, true).execute(model);
+
+        assertEquals(String.format(SortInventoryCommand.MESSAGE_SUCCESS, "updated desc"), result.getFeedbackToUser());
+        assertEquals("Mouse", model.getFilteredInventory().get(0).getItemName());
+        assertEquals("Keyboard", model.getFilteredInventory().get(1).getItemName());
+    }
+
+    @Test
+    public void execute_updatedAscending_earliestFirst() {
+        new SortInventoryCommand(SortKey.UPDATED, false).execute(model);
+        assertEquals("Mouse", model.getFilteredInventory().get(0).getItemName());
+
+        new SortInventoryCommand(SortKey.QUANTITY, false).execute(model);
+        assertEquals("Keyboard", model.getFilteredInventory().get(0).getItemName());
+    }
+
+    @Test
+    public void equals() {
+        SortInventoryCommand sortUpdated = new SortInventoryCommand(SortKey.UPDATED, false);
+
+        assertEquals(sortUpdated, new SortInventoryCommand(SortKey.UPDATED, false));
+        assertNotEquals(sortUpdated, new SortInventoryCommand(SortKey.UPDATED, true));
+        assertNotEquals(sortUpdated, new SortInventoryCommand(SortKey.QUANTITY, false));
+        assertNotEquals(sortUpdated, new SortInventoryCommand());
+    }
+
+}
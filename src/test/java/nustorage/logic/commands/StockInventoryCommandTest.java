@@ -0,0 +1,75 @@
+package nustorage.logic.commands;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static nustorage.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.commons.core.Messages;
+import nustorage.logic.commands.EditInventoryCommand.EditInventoryDescriptor;
+import nustorage.logic.commands.exceptions.CommandException;
+import nustorage.model.FinanceAccount;
+import nustorage.model.Inventory;
+import nustorage.model.Model;
+import nustorage.model.ModelManager;
+import nustorage.model.UserPrefs;
+import nustorage.model.record.InventoryRecord;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for StockInventoryCommand.
+ */
+public class StockInventoryCommandTest {
+
+    private static final LocalDateTime ADDED = LocalDateTime.of(2020, 1, 10, 9, 0);
+
+    private final Model model = new ModelManager(new FinanceAccount(),
+            new Inventory(List.of(new InventoryRecord("Mouse", 10, ADDED))), new UserPrefs());
+
+    @Test
+    public void execute_afterEdits_stockAndNetMovementFromLedger() throws Exception {
+        LocalDateTime beforeEdits = LocalDateTime.now();
+        EditInventoryDescriptor descriptor = new EditInventoryDescriptor();
+        descriptor.setQuantity(4);
+        new EditInventoryCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+        descriptor.setQuantity(6);
+        new EditInventoryCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        CommandResult result = new StockInventoryCommand(INDEX_FIRST_PERSON, beforeEdits, null).execute(model);
+        String since = beforeEdits.format(DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm"));
+        assertEquals(String.format(StockInventoryCommand.MESSAGE_STOCK, "Mouse", "now", 6) + "\n"
+                + String.format(StockInventoryCommand.MESSAGE_NET_MOVEMENT, since, -4, 2),
+                result.getFeedbackToUser());
+        assertEquals(10, model.getFilteredInventory().get(0).getLedger().getStockAt(beforeEdits));
+    }
+
+    @Test
+    public void execute_beforeFirstMovement_noStock() throws Exception {
+        CommandResult result = new StockInventoryCommand(INDEX_FIRST_PERSON, null, ADDED.minusDays(1)).execute(model);
+        assertEquals(String.format(StockInventoryCommand.MESSAGE_STOCK, "Mouse", "at 09 Jan 2020 09:00", 0),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        StockInventoryCommand command = new StockInventoryCommand(INDEX_SECOND_PERSON, null, null);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_INVENTORY_DISPLAYED_INDEX, () ->
+                command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        StockInventoryCommand stockNow = new StockInventoryCommand(INDEX_FIRST_PERSON, null, null);
+
+        assertEquals(stockNow, new StockInventoryCommand(INDEX_FIRST_PERSON, null, null));
+        assertNotEquals(stockNow, new StockInventoryCommand(INDEX_SECOND_PERSON, null, null));
+        assertNotEquals(stockNow, new StockInventoryCommand(INDEX_FIRST_PERSON, null, ADDED));
+    }
+
+}
@@ -0,0 +1,58 @@
+package nustorage.logic.commands;
+
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_A;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceAccount;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceRecords;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.model.Inventory;
+import nustorage.model.Model;
+import nustorage.model.ModelManager;
+import nustorage.model.UserPrefs;
+import nustorage.model.record.FinanceTotal;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SummaryFinanceCommand.
+ */
+public class SummaryFinanceCommandTest {
+
+    private final Model model = new ModelManager(getTypicalFinanceAccount(), new Inventory(), new UserPrefs());
+
+    @Test
+    public void execute_dateOfRecord_showsTotals() throws Exception {
+        LocalDate date = RECORD_A.getDatetime().toLocalDate();
+        CommandResult result = new SummaryFinanceCommand(date).execute(model);
+
+        FinanceTotal recordTotal = FinanceTotal.of(List.of(RECORD_A));
+        String expectedMessage = String.format(SummaryFinanceCommand.MESSAGE_SUCCESS,
+                FinanceTotal.of(getTypicalFinanceRecords()), "Oct 2020", recordTotal, "01 Oct 2020", recordTotal);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_dateWithoutRecords_zeroTotals() throws Exception {
+        CommandResult result = new SummaryFinanceCommand(LocalDate.of(2000, 2, 29)).execute(model);
+
+        String expectedMessage = String.format(SummaryFinanceCommand.MESSAGE_SUCCESS,
+                FinanceTotal.of(getTypicalFinanceRecords()), "Feb 2000", FinanceTotal.ZERO, "29 Feb 2000",
+                FinanceTotal.ZERO);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        SummaryFinanceCommand summaryCommand = new SummaryFinanceCommand(LocalDate.of(2020, 1, 1));
+
+        assertEquals(summaryCommand, new SummaryFinanceCommand(LocalDate.of(2020, 1, 1)));
+        assertNotEquals(summaryCommand, new SummaryFinanceCommand(LocalDate.of(2020, 1, 2)));
+        assertFalse(summaryCommand.equals(null));
+    }
+
+}
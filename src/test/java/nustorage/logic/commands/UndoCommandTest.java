@@ -0,0 +1,53 @@
+package nustorage.logic.commands;
+
+import static nustorage.logic.commands.CommandTestUtil.assertCommandFailure;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_A;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_B;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.model.Model;
+import nustorage.model.ModelManager;
+
+/**
+ * Contains integration tests (interaction with the Model) for UndoCommand.
+ */
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_noChanges_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesMade_latestStepUndone() throws Exception {
+        model.addFinanceRecord(RECORD_A);
+        model.commitChanges();
+        model.addFinanceRecord(RECORD_B);
+        model.commitChanges();
+
+        CommandResult result = new UndoCommand().execute(model);
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(List.of(RECORD_A), model.getFilteredFinanceList());
+
+        new UndoCommand().execute(model);
+        assertEquals(List.of(), model.getFilteredFinanceList());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_uncommittedChanges_undone() throws Exception {
+        model.addFinanceRecord(RECORD_A);
+
+        new UndoCommand().execute(model);
+        assertEquals(List.of(), model.getFilteredFinanceList());
+        assertTrue(model.canRedo());
+    }
+
+}
@@ -0,0 +1,47 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.logic.commands.FindFinanceCommand;
+import nustorage.model.record.FinanceQuery;
+
+public class FindFinanceCommandParserTest {
+
+    private static final LocalDateTime START_OF_YEAR = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private final FindFinanceCommandParser parser = new FindFinanceCommandParser();
+
+    @Test
+    public void parse_allConditions_combinedQuery() {
+        assertParseSuccess(parser, " from/2020-01-01 min/10.5 max/200 i/iPhone Case",
+                new FindFinanceCommand(new FinanceQuery(START_OF_YEAR, LocalDateTime.MAX, 1050, 20000,
+                        List.of("iphone", "case"))));
+    }
+
+    @Test
+    public void parse_oneCondition_otherConditionsOpen() {
+        assertParseSuccess(parser, " max/-5", new FindFinanceCommand(new FinanceQuery(LocalDateTime.MIN,
+                LocalDateTime.MAX, Long.MIN_VALUE, -500, List.of())));
+        assertParseSuccess(parser, " i/macbook", new FindFinanceCommand(new FinanceQuery(LocalDateTime.MIN,
+                LocalDateTime.MAX, Long.MIN_VALUE, Long.MAX_VALUE, List.of("macbook"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFinanceCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", invalidFormat);
+        assertParseFailure(parser, "iphone", invalidFormat);
+        assertParseFailure(parser, " i/ ", invalidFormat);
+        assertParseFailure(parser, " min/20 max/10", FindFinanceCommandParser.MESSAGE_INVALID_AMOUNT_RANGE);
+        assertParseFailure(parser, " min/ten", ParserUtil.MESSAGE_INVALID_AMOUNT);
+        assertParseFailure(parser, " from/2020-03-31 to/2020-01-01", ParserUtil.MESSAGE_INVALID_PERIOD);
+    }
+
+}
@@ -0,0 +1,53 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.logic.commands.ListFinanceRecordsCommand;
+
+public class ListFinanceRecordsCommandParserTest {
+
+    private static final LocalDateTime START_OF_YEAR = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final LocalDateTime END_OF_MARCH = LocalDateTime.of(2020, 3, 31, 23, 59, 59, 999_999_999);
+
+    private final ListFinanceRecordsCommandParser parser = new ListFinanceRecordsCommandParser();
+
+    @Test
+    public void parse_noPeriod_listsAll() {
+        assertParseSuccess(parser, "", new ListFinanceRecordsCommand());
+        assertParseSuccess(parser, "   ", new ListFinanceRecordsCommand());
+    }
+
+    @Test
+    public void parse_datesOnly_wholeDaysIncluded() {
+        assertParseSuccess(parser, " from/2020-01-01 to/2020-03-31",
+                new ListFinanceRecordsCommand(START_OF_YEAR, END_OF_MARCH));
+    }
+
+    @Test
+    public void parse_datesWithTimes_exactBounds() {
+        assertParseSuccess(parser, " from/2020-01-01 09:30 to/2020-03-31 18:00",
+                new ListFinanceRecordsCommand(LocalDateTime.of(2020, 1, 1, 9, 30),
+                        LocalDateTime.of(2020, 3, 31, 18, 0)));
+    }
+
+    @Test
+    public void parse_oneBoundMissing_openPeriod() {
+        assertParseSuccess(parser, " from/2020-01-01", new ListFinanceRecordsCommand(START_OF_YEAR, LocalDateTime.MAX));
+        assertParseSuccess(parser, " to/2020-03-31", new ListFinanceRecordsCommand(LocalDateTime.MIN, END_OF_MARCH));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " from/2020-03-31 to/2020-01-01", ParserUtil.MESSAGE_INVALID_PERIOD);
+        assertParseFailure(parser, " from/yesterday", ParserUtil.MESSAGE_INVALID_DATETIME);
+        assertParseFailure(parser, "all", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ListFinanceRecordsCommand.MESSAGE_USAGE));
+    }
+
+}
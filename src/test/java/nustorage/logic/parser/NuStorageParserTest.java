@@ -14,14 +14,21 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import nustorage.logic.commands.AddCommand;
+import nustorage.logic.commands.AlertInventoryCommand;
 import nustorage.logic.commands.ClearCommand;
 import nustorage.logic.commands.DeleteCommand;
 import nustorage.logic.commands.EditCommand;
 import nustorage.logic.commands.EditCommand.EditPersonDescriptor;
 import nustorage.logic.commands.ExitCommand;
 import nustorage.logic.commands.FindCommand;
+import nustorage.logic.commands.FindFinanceCommand;
 import nustorage.logic.commands.HelpCommand;
 import nustorage.logic.commands.ListCommand;
+import nustorage.logic.commands.RedoCommand;
+import nustorage.logic.commands.ReportFinanceCommand;
+import nustorage.logic.commands.SortFinanceCommand;
+import nustorage.logic.commands.SortInventoryCommand;
+import nustorage.logic.commands.UndoCommand;
 import nustorage.logic.parser.exceptions.ParseException;
 import nustorage.model.person.NameContainsKeywordsPredicate;
 import nustorage.model.person.Person;
@@ -62,6 +69,30 @@ public class NuStorageParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_findFinance() throws Exception {
+        assertTrue(parser.parseCommand(FindFinanceCommand.COMMAND_WORD + " min/100") instanceof FindFinanceCommand);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortInventoryCommand(SortInventoryCommand.SortKey.QUANTITY, true),
+                parser.parseCommand(SortInventoryCommand.COMMAND_WORD + " quantity desc"));
+        assertEquals(new SortFinanceCommand(SortFinanceCommand.SortKey.DATE, false),
+                parser.parseCommand(SortFinanceCommand.COMMAND_WORD + " date"));
+        assertEquals(new SortFinanceCommand(), parser.parseCommand(SortFinanceCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -82,6 +113,16 @@ public class NuStorageParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_alertInventory() throws Exception {
+        assertTrue(parser.parseCommand(AlertInventoryCommand.COMMAND_WORD) instanceof AlertInventoryCommand);
+    }
+
+    @Test
+    public void parseCommand_reportFinance() throws Exception {
+        assertTrue(parser.parseCommand(ReportFinanceCommand.COMMAND_WORD + " week") instanceof ReportFinanceCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -1,5 +1,6 @@
 package nustorage.logic.parser;
 
+import static nustorage.logic.parser.ParserUtil.MESSAGE_INVALID_AMOUNT;
 import static nustorage.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static nustorage.testutil.Assert.assertThrows;
 import static nustorage.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
@@ -55,6 +56,25 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseAmount_notFinite_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_AMOUNT, () -> ParserUtil.parseAmount("Infinity"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_AMOUNT, () -> ParserUtil.parseAmount("NaN"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_AMOUNT, () -> ParserUtil.parseAmount("1e400"));
+    }
+
+    @Test
+    public void parseAmount_notInWholeCents_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_AMOUNT, () -> ParserUtil.parseAmount("1.005"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_AMOUNT, () -> ParserUtil.parseAmount("1000000000.01"));
+    }
+
+    @Test
+    public void parseAmount_wholeCents_success() throws Exception {
+        assertEquals(1.05, ParserUtil.parseAmount(" 1.050 "));
+        assertEquals(1e9, ParserUtil.parseAmount("1000000000"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,39 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.logic.commands.ReportFinanceCommand;
+import nustorage.model.record.FinanceReport.Grouping;
+
+public class ReportFinanceCommandParserTest {
+
+    private final ReportFinanceCommandParser parser = new ReportFinanceCommandParser();
+
+    @Test
+    public void parse_groupingAndPeriod_success() {
+        assertParseSuccess(parser, " week from/2020-01-01 to/2020-03-31", new ReportFinanceCommand(Grouping.WEEK,
+                LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 3, 31, 23, 59, 59, 999_999_999)));
+        assertParseSuccess(parser, " DAY to/2020-03-31 12:00", new ReportFinanceCommand(Grouping.DAY,
+                LocalDateTime.MIN, LocalDateTime.of(2020, 3, 31, 12, 0)));
+    }
+
+    @Test
+    public void parse_noArgs_allRecordsByMonth() {
+        assertParseSuccess(parser, "", new ReportFinanceCommand(Grouping.MONTH, LocalDateTime.MIN,
+                LocalDateTime.MAX));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " year", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ReportFinanceCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " from/2020-03-31 to/2020-01-01", ParserUtil.MESSAGE_INVALID_PERIOD);
+    }
+
+}
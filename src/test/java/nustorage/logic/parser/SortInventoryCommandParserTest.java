@@ -0,0 +1,35 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.logic.commands.SortInventoryCommand;
+import nustorage.logic.commands.SortInventoryCommand.SortKey;
+
+public class SortInventoryCommandParserTest {
+
+    private final SortInventoryCommandParser parser = new SortInventoryCommandParser();
+
+    @Test
+    public void parse_noKey_unsorted() {
+        assertParseSuccess(parser, "  ", new SortInventoryCommand());
+    }
+
+    @Test
+    public void parse_keyAndOrder_sorted() {
+        assertParseSuccess(parser, " quantity", new SortInventoryCommand(SortKey.QUANTITY, false));
+        assertParseSuccess(parser, " Updated DESC", new SortInventoryCommand(SortKey.UPDATED, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortInventoryCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " name", invalidFormat);
+        assertParseFailure(parser, " quantity up", invalidFormat);
+        assertParseFailure(parser, " quantity desc again", invalidFormat);
+    }
+
+}
@@ -0,0 +1,42 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static nustorage.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.logic.commands.StockInventoryCommand;
+
+public class StockInventoryCommandParserTest {
+
+    private final StockInventoryCommandParser parser = new StockInventoryCommandParser();
+
+    @Test
+    public void parse_indexOnly_stockNow() {
+        assertParseSuccess(parser, " 1", new StockInventoryCommand(INDEX_FIRST_PERSON, null, null));
+    }
+
+    @Test
+    public void parse_period_success() {
+        LocalDateTime from = LocalDate.of(2020, 1, 1).atStartOfDay();
+        LocalDateTime to = LocalDate.of(2020, 3, 31).atTime(LocalTime.MAX);
+        assertParseSuccess(parser, " 1 from/2020-01-01 to/2020-03-31",
+                new StockInventoryCommand(INDEX_FIRST_PERSON, from, to));
+        assertParseSuccess(parser, " 1 to/2020-03-31", new StockInventoryCommand(INDEX_FIRST_PERSON, null, to));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StockInventoryCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " from/2020-01-01", invalidFormat);
+        assertParseFailure(parser, " a", invalidFormat);
+        assertParseFailure(parser, " 1 from/2020-03-31 to/2020-01-01", ParserUtil.MESSAGE_INVALID_PERIOD);
+    }
+
+}
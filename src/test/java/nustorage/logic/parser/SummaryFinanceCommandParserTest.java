@@ -0,0 +1,35 @@
+package nustorage.logic.parser;
+
+import static nustorage.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nustorage.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.logic.commands.SummaryFinanceCommand;
+
+public class SummaryFinanceCommandParserTest {
+
+    private final SummaryFinanceCommandParser parser = new SummaryFinanceCommandParser();
+
+    @Test
+    public void parse_date_success() {
+        assertParseSuccess(parser, " at/2020-03-30", new SummaryFinanceCommand(LocalDate.of(2020, 3, 30)));
+        assertParseSuccess(parser, " at/2020-03-30 18:00", new SummaryFinanceCommand(LocalDate.of(2020, 3, 30)));
+    }
+
+    @Test
+    public void parse_noDate_today() {
+        assertParseSuccess(parser, "", new SummaryFinanceCommand(LocalDate.now()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " at/someday", ParserUtil.MESSAGE_INVALID_DATETIME);
+        assertParseFailure(parser, "today", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SummaryFinanceCommand.MESSAGE_USAGE));
+    }
+
+}
@@ -97,6 +97,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return VersionCounter.NO_VERSION;
+        }
     }
 
 }
@@ -0,0 +1,210 @@
+package nustorage.model;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_A;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_B;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import nustorage.commons.core.index.Index;
+import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceTotal;
+import nustorage.model.record.exceptions.FinanceArchiveException;
+
+public class FinanceAccountTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2020, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2020, 2);
+    private static final YearMonth MARCH = YearMonth.of(2020, 3);
+
+    private static final FinanceRecord JANUARY_RECORD = new FinanceRecord(1, 10, LocalDateTime.of(2020, 1, 5, 9, 0));
+    private static final FinanceRecord FEBRUARY_RECORD = new FinanceRecord(2, 20, LocalDateTime.of(2020, 2, 5, 9, 0));
+    private static final FinanceRecord MARCH_RECORD = new FinanceRecord(3, 30, LocalDateTime.of(2020, 3, 5, 9, 0));
+
+    private static final Map<YearMonth, List<FinanceRecord>> ARCHIVED_RECORDS = Map.of(
+            JANUARY, List.of(JANUARY_RECORD), FEBRUARY, List.of(FEBRUARY_RECORD), MARCH, List.of(MARCH_RECORD));
+
+    private final FinanceAccount financeAccount = new FinanceAccount();
+
+    /**
+     * Returns the totals of the archived records of {@code months}.
+     */
+    private static Map<YearMonth, FinanceTotal> archivedTotals(YearMonth... months) {
+        Map<YearMonth, FinanceTotal> totals = new HashMap<>();
+        for (YearMonth month : months) {
+            totals.put(month, FinanceTotal.of(ARCHIVED_RECORDS.get(month)));
+        }
+        return totals;
+    }
+
+    @Test
+    public void constructor() {
+        assertEquals(Collections.emptyList(), financeAccount.getFinanceList());
+    }
+
+    @Test
+    public void constructor_copy_sameVersion() {
+        FinanceAccount original = getTypicalFinanceAccount();
+        assertEquals(original.getVersion(), new FinanceAccount(original).getVersion());
+    }
+
+    @Test
+    public void getVersion_afterEachModification_increases() {
+        long version = financeAccount.getVersion();
+
+        financeAccount.addFinanceRecord(RECORD_A);
+        assertTrue(financeAccount.getVersion() > version);
+        version = financeAccount.getVersion();
+
+        financeAccount.setFinanceRecord(RECORD_A, RECORD_B);
+        assertTrue(financeAccount.getVersion() > version);
+        version = financeAccount.getVersion();
+
+        financeAccount.removeFinanceRecord(Index.fromZeroBased(0));
+        assertTrue(financeAccount.getVersion() > version);
+        version = financeAccount.getVersion();
+
+        financeAccount.resetData(getTypicalFinanceAccount());
+        assertTrue(financeAccount.getVersion() > version);
+    }
+
+    @Test
+    public void copyDeferred_changedBeforeCopyMade_copyUnchanged() {
+        financeAccount.addFinanceRecord(RECORD_A);
+        DeferredCopy<ReadOnlyFinanceAccount> copy = financeAccount.copyDeferred();
+        assertSame(copy, financeAccount.copyDeferred());
+
+        financeAccount.addFinanceRecord(RECORD_B);
+        assertNotSame(copy, financeAccount.copyDeferred());
+        assertEquals(List.of(RECORD_A), copy.get().getFinanceList());
+    }
+
+    @Test
+    public void getVersion_invalidRemoval_unchanged() {
+        long version = financeAccount.getVersion();
+        financeAccount.removeFinanceRecord(Index.fromZeroBased(0));
+        assertEquals(version, financeAccount.getVersion());
+    }
+
+    @Test
+    public void loadArchivedMonths_range_loadsOnlyThoseMonthsFirst() {
+        financeAccount.addFinanceRecord(RECORD_A);
+        financeAccount.setArchive(ARCHIVED_RECORDS::get, archivedTotals(JANUARY, FEBRUARY, MARCH));
+        long version = financeAccount.getVersion();
+
+        assertTrue(financeAccount.loadArchivedMonths(JANUARY, FEBRUARY));
+        assertEquals(List.of(JANUARY_RECORD, FEBRUARY_RECORD, RECORD_A), financeAccount.getFinanceList());
+        assertEquals(Set.of(MARCH), financeAccount.getUnloadedArchiveMonths());
+        assertEquals(version, financeAccount.getVersion());
+
+        assertFalse(financeAccount.loadArchivedMonths(JANUARY, FEBRUARY));
+        assertTrue(financeAccount.loadAllArchivedMonths());
+        assertEquals(List.of(MARCH_RECORD, JANUARY_RECORD, FEBRUARY_RECORD, RECORD_A),
+                financeAccount.getFinanceList());
+    }
+
+    @Test
+    public void addFinanceRecord_archivedMonth_loadsMonthFirst() {
+        financeAccount.setArchive(ARCHIVED_RECORDS::get, archivedTotals(JANUARY, FEBRUARY));
+        FinanceRecord newRecord = new FinanceRecord(4, 40, LocalDateTime.of(2020, 2, 20, 9, 0));
+
+        financeAccount.addFinanceRecord(newRecord);
+        assertEquals(List.of(FEBRUARY_RECORD, newRecord), financeAccount.getFinanceList());
+        assertEquals(Set.of(JANUARY), financeAccount.getUnloadedArchiveMonths());
+    }
+
+    @Test
+    public void loadArchivedMonths_recordAlreadyLoaded_notAddedAgain() {
+        financeAccount.addFinanceRecord(JANUARY_RECORD);
+        financeAccount.setArchive(ARCHIVED_RECORDS::get, archivedTotals(JANUARY));
+
+        financeAccount.loadAllArchivedMonths();
+        assertEquals(List.of(JANUARY_RECORD), financeAccount.getFinanceList());
+    }
+
+    @Test
+    public void loadArchivedMonths_readFails_nothingLoaded() {
+        financeAccount.setArchive(month -> {
+            if (month.equals(FEBRUARY)) {
+                throw new IOException("Disk error");
+            }
+            return ARCHIVED_RECORDS.get(month);
+        }, archivedTotals(JANUARY, FEBRUARY));
+
+        assertThrows(FinanceArchiveException.class, financeAccount::loadAllArchivedMonths);
+        assertEquals(Collections.emptyList(), financeAccount.getFinanceList());
+        assertEquals(Set.of(JANUARY, FEBRUARY), financeAccount.getUnloadedArchiveMonths());
+    }
+
+    @Test
+    public void constructor_copy_keepsArchive() {
+        financeAccount.setArchive(ARCHIVED_RECORDS::get, archivedTotals(MARCH));
+        FinanceAccount copy = new FinanceAccount(financeAccount);
+
+        assertEquals(Set.of(MARCH), copy.getUnloadedArchiveMonths());
+        copy.loadAllArchivedMonths();
+        assertEquals(List.of(MARCH_RECORD), copy.getFinanceList());
+        assertEquals(Set.of(MARCH), financeAccount.getUnloadedArchiveMonths());
+    }
+
+    @Test
+    public void getTotal_unloadedArchivedMonths_included() {
+        financeAccount.addFinanceRecord(RECORD_A);
+        financeAccount.setArchive(ARCHIVED_RECORDS::get, archivedTotals(JANUARY, FEBRUARY));
+        FinanceTotal expectedTotal = FinanceTotal.of(List.of(RECORD_A, JANUARY_RECORD, FEBRUARY_RECORD));
+
+        assertEquals(expectedTotal, financeAccount.getTotal());
+        assertEquals(FinanceTotal.of(List.of(JANUARY_RECORD)), financeAccount.getMonthlyTotal(JANUARY));
+
+        financeAccount.loadArchivedMonths(JANUARY, JANUARY);
+        assertEquals(expectedTotal, financeAccount.getTotal());
+        assertEquals(FinanceTotal.of(List.of(JANUARY_RECORD)), financeAccount.getMonthlyTotal(JANUARY));
+    }
+
+    @Test
+    public void getDailyTotal_archivedMonth_loadsMonthFirst() {
+        financeAccount.setArchive(ARCHIVED_RECORDS::get, archivedTotals(JANUARY, FEBRUARY));
+
+        assertEquals(FinanceTotal.of(List.of(FEBRUARY_RECORD)),
+                financeAccount.getDailyTotal(FEBRUARY_RECORD.getDatetime().toLocalDate()));
+        assertEquals(Set.of(JANUARY), financeAccount.getUnloadedArchiveMonths());
+    }
+
+    @Test
+    public void totalProperty_afterEachModification_updated() {
+        ReadOnlyObjectProperty<FinanceTotal> total = financeAccount.totalProperty();
+        assertEquals(FinanceTotal.ZERO, total.get());
+
+        financeAccount.addFinanceRecord(RECORD_A);
+        assertEquals(FinanceTotal.of(List.of(RECORD_A)), total.get());
+
+        financeAccount.setFinanceRecord(RECORD_A, RECORD_B);
+        assertEquals(FinanceTotal.of(List.of(RECORD_B)), total.get());
+
+        financeAccount.setArchive(ARCHIVED_RECORDS::get, archivedTotals(MARCH));
+        assertEquals(FinanceTotal.of(List.of(RECORD_B, MARCH_RECORD)), total.get());
+
+        financeAccount.removeFinanceRecord(Index.fromZeroBased(0));
+        assertEquals(FinanceTotal.of(List.of(MARCH_RECORD)), total.get());
+
+        financeAccount.resetData(new FinanceAccount());
+        assertEquals(FinanceTotal.of(List.of(MARCH_RECORD)), total.get());
+    }
+
+}
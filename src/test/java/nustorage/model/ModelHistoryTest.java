@@ -0,0 +1,94 @@
+package nustorage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ModelHistoryTest {
+
+    private final List<String> actions = new ArrayList<>();
+
+    private void record(ModelHistory history, String change) {
+        history.record(() -> actions.add("undo " + change), () -> actions.add("redo " + change));
+    }
+
+    @Test
+    public void undo_stepOfSeveralChanges_undoneInReverseOrder() {
+        ModelHistory history = new ModelHistory(5);
+        record(history, "a");
+        record(history, "b");
+        assertTrue(history.commit());
+
+        history.undo();
+        assertEquals(List.of("undo b", "undo a"), actions);
+        assertFalse(history.canUndo());
+
+        history.redo();
+        assertEquals(List.of("undo b", "undo a", "redo a", "redo b"), actions);
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_noChanges_noStep() {
+        ModelHistory history = new ModelHistory(5);
+        assertFalse(history.commit());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_beyondDepth_oldestStepsDropped() {
+        ModelHistory history = new ModelHistory(2);
+        for (String change : List.of("a", "b", "c")) {
+            record(history, change);
+            history.commit();
+        }
+
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+        assertEquals(List.of("undo c", "undo b"), actions);
+    }
+
+    @Test
+    public void commit_afterUndo_undoneStepsDiscarded() {
+        ModelHistory history = new ModelHistory(5);
+        record(history, "a");
+        history.commit();
+        history.undo();
+        assertTrue(history.canRedo());
+
+        record(history, "b");
+        assertFalse(history.canRedo());
+        history.commit();
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void record_whileUndoing_notRecorded() {
+        ModelHistory history = new ModelHistory(5);
+        history.record(() -> record(history, "inner"), () -> { });
+        history.commit();
+
+        history.undo();
+        assertFalse(history.commit());
+    }
+
+    @Test
+    public void setDepth_zero_nothingRecorded() {
+        ModelHistory history = new ModelHistory(5);
+        record(history, "a");
+        history.commit();
+
+        history.setDepth(0);
+        assertFalse(history.canUndo());
+        record(history, "b");
+        assertFalse(history.commit());
+    }
+
+}
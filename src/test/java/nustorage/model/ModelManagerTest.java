@@ -2,6 +2,11 @@ package nustorage.model;
 
 import static nustorage.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_A;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_B;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_C;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_A;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_B;
 import static nustorage.testutil.TypicalPersons.ALICE;
 import static nustorage.testutil.TypicalPersons.BENSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -10,12 +15,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import nustorage.commons.core.GuiSettings;
+import nustorage.commons.core.index.Index;
 import nustorage.model.person.NameContainsKeywordsPredicate;
+import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceTotal;
+import nustorage.model.record.InventoryRecord;
 import nustorage.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +107,109 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void batch_severalRecordsAdded_listsNotifiedOnce() {
+        List<FinanceTotal> publishedTotals = new ArrayList<>();
+        modelManager.financeTotalProperty().addListener((observable, oldTotal, newTotal) ->
+                publishedTotals.add(newTotal));
+        List<ListChangeListener.Change<? extends FinanceRecord>> financeChanges = new ArrayList<>();
+        modelManager.getFilteredFinanceList().addListener((ListChangeListener<FinanceRecord>) financeChanges::add);
+        List<ListChangeListener.Change<? extends InventoryRecord>> inventoryChanges = new ArrayList<>();
+        modelManager.getFilteredInventory().addListener((ListChangeListener<InventoryRecord>) inventoryChanges::add);
+
+        modelManager.batch(model -> {
+            model.addFinanceRecord(RECORD_A);
+            model.addFinanceRecord(RECORD_B);
+            model.addInventoryRecord(INVENTORY_RECORD_A);
+            model.addInventoryRecord(INVENTORY_RECORD_B);
+        });
+
+        assertEquals(1, financeChanges.size());
+        assertEquals(1, inventoryChanges.size());
+        assertEquals(List.of(FinanceTotal.of(List.of(RECORD_A, RECORD_B))), publishedTotals);
+        assertEquals(List.of(RECORD_A, RECORD_B), modelManager.getFilteredFinanceList());
+        assertEquals(List.of(INVENTORY_RECORD_A, INVENTORY_RECORD_B), modelManager.getFilteredInventory());
+    }
+
+    @Test
+    public void sortFilteredFinanceList_amountDescending_keptSortedAndDeletedByShownIndex() {
+        modelManager.addFinanceRecord(RECORD_A);
+        modelManager.addFinanceRecord(RECORD_B);
+        modelManager.addFinanceRecord(RECORD_C);
+        modelManager.sortFilteredFinanceList(FinanceRecord::getAmountInCents, true);
+        List<FinanceRecord> expected = new ArrayList<>(List.of(RECORD_A, RECORD_B, RECORD_C));
+        expected.sort(Comparator.comparingLong(FinanceRecord::getAmountInCents).reversed());
+        assertEquals(expected, modelManager.getFilteredFinanceList());
+
+        assertEquals(Optional.of(expected.get(0)), modelManager.deleteFinanceRecord(Index.fromZeroBased(0)));
+        FinanceRecord largestRecord = new FinanceRecord(expected.get(0).getAmount() + 1, RECORD_A.getDatetime());
+        modelManager.addFinanceRecord(largestRecord);
+        assertEquals(List.of(largestRecord, expected.get(1), expected.get(2)), modelManager.getFilteredFinanceList());
+
+        modelManager.sortFilteredFinanceList(null, false);
+        assertEquals(modelManager.getFinanceAccount().getFinanceList(), modelManager.getFilteredFinanceList());
+    }
+
+    @Test
+    public void undoAndRedo_inventoryAndFinanceChanges_restored() {
+        modelManager.addInventoryRecord(INVENTORY_RECORD_A);
+        modelManager.addInventoryRecord(INVENTORY_RECORD_B);
+        modelManager.addFinanceRecord(RECORD_A);
+        modelManager.addFinanceRecord(RECORD_B);
+        modelManager.commitChanges();
+        List<InventoryRecord> inventoryBefore = new ArrayList<>(modelManager.getFilteredInventory());
+        List<FinanceRecord> financeBefore = new ArrayList<>(modelManager.getFilteredFinanceList());
+
+        InventoryRecord editedRecord = new InventoryRecord("edited", 1, INVENTORY_RECORD_B.getDateTime());
+        modelManager.deleteInventoryRecord(INVENTORY_RECORD_A);
+        modelManager.setInventoryRecord(INVENTORY_RECORD_B, editedRecord);
+        modelManager.deleteFinanceRecord(Index.fromZeroBased(0));
+        modelManager.addFinanceRecord(RECORD_C);
+        assertTrue(modelManager.commitChanges());
+        List<InventoryRecord> inventoryAfter = new ArrayList<>(modelManager.getFilteredInventory());
+        List<FinanceRecord> financeAfter = new ArrayList<>(modelManager.getFilteredFinanceList());
+
+        modelManager.undo();
+        assertEquals(inventoryBefore, modelManager.getFilteredInventory());
+        assertEquals(financeBefore, modelManager.getFilteredFinanceList());
+        assertEquals(FinanceTotal.of(financeBefore), modelManager.getFinanceTotal());
+
+        assertTrue(modelManager.canRedo());
+        modelManager.redo();
+        assertEquals(inventoryAfter, modelManager.getFilteredInventory());
+        assertEquals(financeAfter, modelManager.getFilteredFinanceList());
+        assertFalse(modelManager.canRedo());
+    }
+
+    @Test
+    public void canUndo_historyDepthZero_returnsFalse() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        modelManager.setUserPrefs(userPrefs);
+
+        modelManager.addFinanceRecord(RECORD_A);
+        assertFalse(modelManager.commitChanges());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void updateFilteredInventoryList_keywords_showsRecordsWithAnyKeyword() {
+        InventoryRecord phone = new InventoryRecord("Samsung phone");
+        InventoryRecord laptop = new InventoryRecord("Dell laptop");
+        modelManager.addInventoryRecord(phone);
+        modelManager.addInventoryRecord(laptop);
+        modelManager.addInventoryRecord(INVENTORY_RECORD_A);
+
+        modelManager.updateFilteredInventoryList(List.of("PHONE", "laptop"));
+        assertEquals(List.of(phone, laptop), modelManager.getFilteredInventory());
+
+        // records added or edited later are filtered by the same keywords
+        InventoryRecord otherPhone = new InventoryRecord("Apple phone");
+        modelManager.addInventoryRecord(otherPhone);
+        modelManager.setInventoryRecord(laptop, new InventoryRecord("Dell monitor"));
+        assertEquals(List.of(phone, otherPhone), modelManager.getFilteredInventory());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
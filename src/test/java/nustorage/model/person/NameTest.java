@@ -1,9 +1,13 @@
 package nustorage.model.person;
 
 import static nustorage.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -37,4 +41,11 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void getWords_lowerCaseWordsSplitOnce() {
+        Name name = new Name("David  Roger Jr");
+        assertEquals(List.of("david", "roger", "jr"), name.getWords());
+        assertSame(name.getWords(), name.getWords());
+    }
 }
@@ -0,0 +1,114 @@
+package nustorage.model.record;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class FinanceColumnsTest {
+
+    private static final FinanceRecord MARCH_RECORD = new FinanceRecord(1, 0.1, LocalDateTime.of(2020, 3, 1, 9, 0));
+    private static final FinanceRecord APRIL_RECORD =
+            new FinanceRecord(2, 0.2, LocalDateTime.of(2020, 4, 1, 9, 0, 0, 500));
+    private static final FinanceRecord MAY_RECORD = new FinanceRecord(3, 5, LocalDateTime.of(2020, 5, 1, 9, 0));
+
+    @Test
+    public void of_records_columnsInOrder() {
+        FinanceColumns columns = FinanceColumns.of(List.of(MARCH_RECORD, APRIL_RECORD));
+        assertEquals(2, columns.size());
+        assertEquals(2, columns.getId(1));
+        assertEquals(20, columns.getAmountInCents(1));
+        assertEquals(APRIL_RECORD.getDatetime(), columns.getDatetime(1));
+    }
+
+    @Test
+    public void getTotal_amountsInCents_exact() {
+        assertEquals(new FinanceTotal(530, 3),
+                FinanceColumns.of(List.of(MARCH_RECORD, APRIL_RECORD, MAY_RECORD)).getTotal());
+        assertEquals(FinanceTotal.ZERO, new FinanceColumns(0).getTotal());
+    }
+
+    @Test
+    public void indexesBetween_boundsInclusiveToTheNanosecond_orderedByDatetime() {
+        FinanceColumns columns = FinanceColumns.of(List.of(MAY_RECORD, MARCH_RECORD, APRIL_RECORD));
+        assertArrayEquals(new int[] {1, 2}, columns.indexesBetween(MARCH_RECORD.getDatetime(),
+                APRIL_RECORD.getDatetime()));
+        assertArrayEquals(new int[] {1, 2, 0}, columns.indexesBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertArrayEquals(new int[] {0}, columns.indexesBetween(APRIL_RECORD.getDatetime().plusNanos(1),
+                LocalDateTime.MAX));
+        assertArrayEquals(new int[0], columns.indexesBetween(LocalDateTime.MIN,
+                MARCH_RECORD.getDatetime().minusNanos(1)));
+    }
+
+    @Test
+    public void indexesWithAmountBetween_boundsInclusive_orderedByAmount() {
+        FinanceColumns columns = FinanceColumns.of(List.of(MAY_RECORD, APRIL_RECORD, MARCH_RECORD, APRIL_RECORD));
+        assertArrayEquals(new int[] {2, 1, 3}, columns.indexesWithAmountBetween(10, 20));
+        assertArrayEquals(new int[] {1, 3, 0}, columns.indexesWithAmountBetween(11, Long.MAX_VALUE));
+        assertArrayEquals(new int[0], columns.indexesWithAmountBetween(21, 499));
+        assertEquals(3, columns.countWithAmountBetween(Long.MIN_VALUE, 20));
+        assertEquals(0, columns.countWithAmountBetween(20, 10));
+        assertEquals(3, columns.countBetween(APRIL_RECORD.getDatetime(), LocalDateTime.MAX));
+    }
+
+    @Test
+    public void modifications_matchListOfRecords() {
+        List<FinanceRecord> records = new ArrayList<>();
+        FinanceColumns columns = new FinanceColumns(0);
+        for (int i = 0; i < 40; i++) {
+            FinanceRecord record = new FinanceRecord(i, i, LocalDateTime.of(2020, 1, 1, 0, 0).plusDays(i));
+            records.add(record);
+            columns.add(record.getID(), record.getAmountInCents(), record.getDatetime());
+        }
+
+        // builds the date-time and amount orders, which are then kept up to date
+        columns.indexesBetween(LocalDateTime.MIN, LocalDateTime.MAX);
+        columns.indexesWithAmountBetween(Long.MIN_VALUE, Long.MAX_VALUE);
+        records.remove(3);
+        columns.remove(3);
+        records.set(5, MAY_RECORD);
+        columns.set(5, MAY_RECORD);
+        records.addAll(0, List.of(APRIL_RECORD));
+        columns.addAll(0, List.of(APRIL_RECORD));
+        records.add(MARCH_RECORD);
+        columns.add(MARCH_RECORD.getID(), MARCH_RECORD.getAmountInCents(), MARCH_RECORD.getDatetime());
+        assertArrayEquals(FinanceColumns.of(records).indexesBetween(LocalDateTime.MIN, LocalDateTime.MAX),
+                columns.indexesBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertArrayEquals(FinanceColumns.of(records).indexesWithAmountBetween(Long.MIN_VALUE, Long.MAX_VALUE),
+                columns.indexesWithAmountBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        records.subList(10, 20).clear();
+        records.addAll(10, List.of(MARCH_RECORD, APRIL_RECORD));
+        columns.replaceRange(10, 20, List.of(MARCH_RECORD, APRIL_RECORD));
+        assertArrayEquals(FinanceColumns.of(records).indexesBetween(LocalDateTime.MIN, LocalDateTime.MAX),
+                columns.indexesBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+
+        assertEquals(FinanceColumns.of(records), columns);
+        assertEquals(10, columns.indexOfId(MARCH_RECORD.getID(), 3));
+        assertEquals(-1, columns.indexOfId(15, 0));
+    }
+
+    @Test
+    public void copy_modified_originalUnchanged() {
+        FinanceColumns columns = FinanceColumns.of(List.of(MARCH_RECORD));
+        FinanceColumns copy = new FinanceColumns(columns);
+        assertEquals(columns, copy);
+
+        copy.addAll(1, List.of(APRIL_RECORD));
+        assertNotEquals(columns, copy);
+        assertEquals(1, columns.size());
+    }
+
+    @Test
+    public void remove_outOfBounds_throwsIndexOutOfBoundsException() {
+        FinanceColumns columns = FinanceColumns.of(List.of(MARCH_RECORD));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.remove(1));
+    }
+
+}
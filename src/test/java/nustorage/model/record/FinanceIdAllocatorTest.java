@@ -0,0 +1,43 @@
+package nustorage.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+public class FinanceIdAllocatorTest {
+
+    @Test
+    public void allocate_newRecords_distinctIncreasingIds() {
+        FinanceRecord first = new FinanceRecord(1);
+        FinanceRecord second = new FinanceRecord(1);
+        assertTrue(second.getID() > first.getID());
+    }
+
+    @Test
+    public void markUsed_recordWithGivenId_laterIdsAreGreater() {
+        int usedId = FinanceIdAllocator.peekNextId() + 100;
+        new FinanceRecord(usedId, 1, LocalDateTime.of(2020, 1, 1, 0, 0));
+        assertTrue(FinanceIdAllocator.allocate() > usedId);
+    }
+
+    @Test
+    public void reserveUpTo_lowerThanNextId_unchanged() {
+        int nextId = FinanceIdAllocator.peekNextId();
+        FinanceIdAllocator.reserveUpTo(0);
+        FinanceIdAllocator.markUsed(-1);
+        assertEquals(nextId, FinanceIdAllocator.peekNextId());
+    }
+
+    @Test
+    public void findDuplicateId() {
+        assertEquals(OptionalInt.of(7), FinanceIdAllocator.findDuplicateId(new int[] {7, 3, 9, 7}));
+        assertFalse(FinanceIdAllocator.findDuplicateId(new int[] {7, 3, 9}).isPresent());
+        assertFalse(FinanceIdAllocator.findDuplicateId(new int[0]).isPresent());
+    }
+
+}
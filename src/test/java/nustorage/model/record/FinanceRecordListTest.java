@@ -0,0 +1,186 @@
+package nustorage.model.record;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_A;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_B;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_C;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.commons.core.index.Index;
+import nustorage.commons.util.LazyLoadingList;
+
+public class FinanceRecordListTest {
+
+    private final FinanceRecordList financeRecordList = new FinanceRecordList();
+
+    @Test
+    public void contains_nullRecord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> financeRecordList.contains(null));
+    }
+
+    @Test
+    public void contains_recordWithSameIdButDifferentValues_returnsFalse() {
+        financeRecordList.add(RECORD_A);
+        assertTrue(financeRecordList.contains(RECORD_A));
+        assertTrue(financeRecordList.containsId(RECORD_A.getID()));
+        assertFalse(financeRecordList.contains(new FinanceRecord(RECORD_A.getID(), RECORD_A.getAmount() + 1,
+                RECORD_A.getDatetime())));
+    }
+
+    @Test
+    public void get_lazyLoadingList_indexBuiltFromRecords() {
+        List<FinanceRecord> records = List.of(RECORD_A, RECORD_B);
+        FinanceRecordList lazyList = new FinanceRecordList(new LazyLoadingList<>(records.size(), records::get));
+        assertEquals(Optional.of(RECORD_B), lazyList.get(RECORD_B.getID()));
+        assertEquals(Optional.empty(), lazyList.get(RECORD_C.getID()));
+    }
+
+    @Test
+    public void queries_lazyLoadingListWithColumns_onlyMatchingRecordsLoaded() {
+        List<FinanceRecord> records = List.of(RECORD_A, RECORD_B, RECORD_C);
+        List<Integer> loaded = new ArrayList<>();
+        LazyLoadingList<FinanceRecord> lazyRecords = new LazyLoadingList<>(records.size(), i -> {
+            loaded.add(i);
+            return records.get(i);
+        });
+        FinanceRecordList lazyList = new FinanceRecordList(lazyRecords, FinanceColumns.of(records));
+
+        assertTrue(lazyList.containsId(RECORD_C.getID()));
+        assertEquals(FinanceTotal.of(records), lazyList.getAggregates().getTotal());
+        assertEquals(List.of(), loaded);
+
+        assertEquals(List.of(RECORD_B), lazyList.getRecordsBetween(RECORD_B.getDatetime(), RECORD_B.getDatetime()));
+        assertEquals(List.of(1), loaded);
+    }
+
+    @Test
+    public void setFinanceRecord_editedRecordKeepsId_indexUpdated() {
+        financeRecordList.add(RECORD_A);
+        financeRecordList.add(RECORD_B);
+        FinanceRecord editedRecord = new FinanceRecord(RECORD_A.getID(), 1, LocalDateTime.of(2020, 1, 1, 0, 0));
+
+        financeRecordList.setFinanceRecord(RECORD_A, editedRecord);
+        assertEquals(Optional.of(editedRecord), financeRecordList.get(RECORD_A.getID()));
+        assertFalse(financeRecordList.contains(RECORD_A));
+    }
+
+    @Test
+    public void remove_validIndex_idNoLongerFound() {
+        financeRecordList.add(RECORD_A);
+        financeRecordList.add(RECORD_B);
+        financeRecordList.containsId(RECORD_A.getID()); // builds the index
+
+        assertEquals(Optional.of(RECORD_A), financeRecordList.remove(Index.fromZeroBased(0)));
+        assertFalse(financeRecordList.containsId(RECORD_A.getID()));
+        assertTrue(financeRecordList.containsId(RECORD_B.getID()));
+    }
+
+    @Test
+    public void setFinanceRecords_replacesIndex() {
+        financeRecordList.add(RECORD_A);
+        financeRecordList.setFinanceRecords(List.of(RECORD_B));
+        assertFalse(financeRecordList.containsId(RECORD_A.getID()));
+        assertTrue(financeRecordList.containsId(RECORD_B.getID()));
+    }
+
+    @Test
+    public void getRecordsBetween_period_recordsInDatetimeOrder() {
+        // RECORD_A is the latest and RECORD_C the earliest of the three
+        financeRecordList.add(RECORD_A);
+        financeRecordList.add(RECORD_B);
+        financeRecordList.add(RECORD_C);
+
+        assertEquals(List.of(RECORD_C, RECORD_B, RECORD_A),
+                financeRecordList.getRecordsBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertEquals(List.of(RECORD_C, RECORD_B),
+                financeRecordList.getRecordsBetween(RECORD_C.getDatetime(), RECORD_B.getDatetime()));
+        assertEquals(List.of(), financeRecordList.getRecordsBetween(RECORD_B.getDatetime(), RECORD_C.getDatetime()));
+    }
+
+    @Test
+    public void getRecordsBetween_afterEditAndRemoval_indexUpdated() {
+        financeRecordList.add(RECORD_A);
+        financeRecordList.add(RECORD_B);
+        financeRecordList.getRecordsBetween(LocalDateTime.MIN, LocalDateTime.MAX); // builds the index
+
+        FinanceRecord movedRecord = new FinanceRecord(RECORD_A.getID(), 1, RECORD_C.getDatetime());
+        financeRecordList.setFinanceRecord(RECORD_A, movedRecord);
+        financeRecordList.remove(Index.fromZeroBased(1));
+
+        assertEquals(List.of(movedRecord), financeRecordList.getRecordsBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertEquals(List.of(), financeRecordList.getRecordsBetween(RECORD_A.getDatetime(), LocalDateTime.MAX));
+    }
+
+    @Test
+    public void getAggregates_afterEachModification_totalsUpToDate() {
+        FinanceRecord firstRecord = new FinanceRecord(1, 0.1, LocalDateTime.of(2020, 3, 1, 9, 0));
+        FinanceRecord secondRecord = new FinanceRecord(2, 0.2, LocalDateTime.of(2020, 3, 1, 18, 0));
+        FinanceRecord aprilRecord = new FinanceRecord(3, 5, LocalDateTime.of(2020, 4, 2, 9, 0));
+        financeRecordList.add(firstRecord);
+        FinanceAggregates aggregates = financeRecordList.getAggregates();
+
+        financeRecordList.add(secondRecord);
+        assertEquals(new FinanceTotal(30, 2), aggregates.getTotal());
+        assertEquals(new FinanceTotal(30, 2), aggregates.getDailyTotal(LocalDate.of(2020, 3, 1)));
+
+        financeRecordList.setFinanceRecord(secondRecord, aprilRecord);
+        assertEquals(new FinanceTotal(510, 2), aggregates.getTotal());
+        assertEquals(new FinanceTotal(10, 1), aggregates.getMonthlyTotal(YearMonth.of(2020, 3)));
+        assertEquals(new FinanceTotal(500, 1), aggregates.getMonthlyTotal(YearMonth.of(2020, 4)));
+
+        financeRecordList.remove(Index.fromZeroBased(0));
+        assertEquals(new FinanceTotal(500, 1), aggregates.getTotal());
+        assertEquals(FinanceTotal.ZERO, aggregates.getDailyTotal(LocalDate.of(2020, 3, 1)));
+        assertEquals(FinanceTotal.ZERO, aggregates.getMonthlyTotal(YearMonth.of(2020, 3)));
+    }
+
+    @Test
+    public void findIds_mostSelectiveCondition_plannedAndOtherConditionsChecked() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 9, 0);
+        for (int i = 0; i < 100; i++) {
+            financeRecordList.add(new FinanceRecord(i, i, start.plusDays(i)));
+        }
+
+        FinanceQuery periodQuery = new FinanceQuery(start.plusDays(10), start.plusDays(14), 1200, Long.MAX_VALUE,
+                List.of());
+        assertEquals(FinanceRecordList.QueryPlan.DATETIME, financeRecordList.planQuery(periodQuery, Set.of()));
+        assertEquals(Set.of(12, 13, 14), financeRecordList.findIds(periodQuery, Set.of()));
+
+        FinanceQuery amountQuery = new FinanceQuery(start, start.plusDays(60), 5000, 5200, List.of());
+        assertEquals(FinanceRecordList.QueryPlan.AMOUNT, financeRecordList.planQuery(amountQuery, Set.of()));
+        assertEquals(Set.of(50, 51, 52), financeRecordList.findIds(amountQuery, Set.of()));
+
+        FinanceQuery itemQuery = new FinanceQuery(LocalDateTime.MIN, LocalDateTime.MAX, 600, Long.MAX_VALUE,
+                List.of("iphone"));
+        Set<Integer> linkedIds = Set.of(5, 70, 200);
+        assertEquals(FinanceRecordList.QueryPlan.LINKED_IDS, financeRecordList.planQuery(itemQuery, linkedIds));
+        assertEquals(Set.of(70), financeRecordList.findIds(itemQuery, linkedIds));
+
+        FinanceQuery wideQuery = new FinanceQuery(LocalDateTime.MIN, LocalDateTime.MAX, -100, Long.MAX_VALUE,
+                List.of());
+        assertEquals(FinanceRecordList.QueryPlan.SCAN, financeRecordList.planQuery(wideQuery, Set.of()));
+        assertEquals(100, financeRecordList.findIds(wideQuery, Set.of()).size());
+    }
+
+    @Test
+    public void getAggregates_setFinanceRecords_totalsOfNewRecords() {
+        financeRecordList.add(RECORD_A);
+        financeRecordList.getAggregates();
+
+        financeRecordList.setFinanceRecords(List.of(RECORD_B, RECORD_C));
+        assertEquals(FinanceTotal.of(List.of(RECORD_B, RECORD_C)), financeRecordList.getAggregates().getTotal());
+    }
+
+}
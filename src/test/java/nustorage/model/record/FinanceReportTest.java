@@ -0,0 +1,90 @@
+package nustorage.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import nustorage.model.record.FinanceReport.Grouping;
+import nustorage.model.record.FinanceReport.Line;
+
+public class FinanceReportTest {
+
+    private static final LocalDateTime ALL_FROM = LocalDateTime.MIN;
+    private static final LocalDateTime ALL_TO = LocalDateTime.MAX;
+
+    @Test
+    public void compute_groupedByPeriod_revenueAndCostSeparate() {
+        // 2020-03-01 is a Sunday, so it is in the week starting on 2020-02-24
+        FinanceColumns columns = FinanceColumns.of(List.of(
+                new FinanceRecord(1, 10, LocalDateTime.of(2020, 3, 1, 23, 59)),
+                new FinanceRecord(2, -2.5, LocalDateTime.of(2020, 3, 2, 0, 0)),
+                new FinanceRecord(3, 4, LocalDateTime.of(2020, 3, 2, 9, 0)),
+                new FinanceRecord(4, -1, LocalDateTime.of(2020, 4, 1, 9, 0))));
+        int[] positions = columns.indexesBetween(ALL_FROM, ALL_TO);
+
+        assertEquals(List.of(new Line(LocalDate.of(2020, 3, 1), 1000, 0, 1),
+                new Line(LocalDate.of(2020, 3, 2), 400, 250, 2),
+                new Line(LocalDate.of(2020, 4, 1), 0, 100, 1)),
+                FinanceReport.compute(columns, positions, Grouping.DAY).getLines());
+        assertEquals(List.of(new Line(LocalDate.of(2020, 2, 24), 1000, 0, 1),
+                new Line(LocalDate.of(2020, 3, 2), 400, 250, 2),
+                new Line(LocalDate.of(2020, 3, 30), 0, 100, 1)),
+                FinanceReport.compute(columns, positions, Grouping.WEEK).getLines());
+        assertEquals(List.of(new Line(LocalDate.of(2020, 3, 1), 1400, 250, 3),
+                new Line(LocalDate.of(2020, 4, 1), 0, 100, 1)),
+                FinanceReport.compute(columns, positions, Grouping.MONTH).getLines());
+        assertEquals(1150, FinanceReport.compute(columns, positions, Grouping.MONTH).getLines().get(0)
+                .getNetInCents());
+    }
+
+    @Test
+    public void compute_noRecords_noLines() {
+        FinanceColumns columns = new FinanceColumns(0);
+        assertTrue(FinanceReport.compute(columns, new int[0], Grouping.MONTH).getLines().isEmpty());
+    }
+
+    @Test
+    public void compute_manyTasks_sameAsSequentially() {
+        // enough records to be split between many tasks, with periods spanning the splits
+        Random random = new Random(25);
+        int count = FinanceReport.MAX_RECORDS_PER_TASK * 11 + 7;
+        FinanceColumns columns = new FinanceColumns(count);
+        LocalDateTime start = LocalDateTime.of(1969, 12, 1, 0, 0);
+        for (int id = 0; id < count; id++) {
+            long amountInCents = random.nextInt(2_000_001) - 1_000_000;
+            columns.add(id, amountInCents, start.plusSeconds(random.nextInt(3 * 365 * 24 * 60 * 60)));
+        }
+        int[] positions = columns.indexesBetween(ALL_FROM, ALL_TO);
+        int[] somePositions = columns.indexesBetween(LocalDateTime.of(1970, 2, 3, 12, 0),
+                LocalDateTime.of(1971, 6, 30, 0, 0));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Grouping grouping : Grouping.values()) {
+                FinanceReport expected = FinanceReport.computeSequentially(columns, positions, grouping);
+                assertEquals(expected, FinanceReport.compute(columns, positions, grouping));
+                assertEquals(expected, FinanceReport.compute(columns, positions, grouping, pool));
+                assertEquals(FinanceReport.computeSequentially(columns, somePositions, grouping),
+                        FinanceReport.compute(columns, somePositions, grouping, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void groupingOf() {
+        assertEquals(Optional.of(Grouping.WEEK), Grouping.of("Week"));
+        assertEquals(Optional.empty(), Grouping.of("year"));
+        assertEquals("month", Grouping.MONTH.toString());
+    }
+
+}
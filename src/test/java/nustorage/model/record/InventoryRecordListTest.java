@@ -0,0 +1,181 @@
+package nustorage.model.record;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_A;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_B;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_C;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.transformation.FilteredList;
+import nustorage.commons.util.LazyLoadingList;
+import nustorage.model.person.exceptions.DuplicatePersonException;
+import nustorage.model.person.exceptions.PersonNotFoundException;
+
+public class InventoryRecordListTest {
+
+    private final InventoryRecordList inventoryRecordList = new InventoryRecordList();
+
+    @Test
+    public void contains_nullRecord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> inventoryRecordList.contains(null));
+    }
+
+    @Test
+    public void contains_recordWithSameItemName_returnsTrue() {
+        inventoryRecordList.add(INVENTORY_RECORD_A);
+        assertTrue(inventoryRecordList.contains(new InventoryRecord(INVENTORY_RECORD_A.getItemName())));
+        assertFalse(inventoryRecordList.contains(INVENTORY_RECORD_B));
+    }
+
+    @Test
+    public void contains_lazyLoadingList_indexBuiltFromRecords() {
+        List<InventoryRecord> records = List.of(INVENTORY_RECORD_A, INVENTORY_RECORD_B);
+        InventoryRecordList lazyList = new InventoryRecordList(new LazyLoadingList<>(records.size(), records::get));
+        assertTrue(lazyList.contains(INVENTORY_RECORD_B));
+        assertFalse(lazyList.contains(INVENTORY_RECORD_C));
+    }
+
+    @Test
+    public void setInventoryRecord_afterRemovingEarlierRecord_replacesCorrectRecord() {
+        inventoryRecordList.add(INVENTORY_RECORD_A);
+        inventoryRecordList.add(INVENTORY_RECORD_B);
+        inventoryRecordList.add(INVENTORY_RECORD_C);
+
+        inventoryRecordList.remove(INVENTORY_RECORD_A);
+        InventoryRecord editedRecord = new InventoryRecord("Edited", 1);
+        inventoryRecordList.setInventoryRecord(INVENTORY_RECORD_C, editedRecord);
+        assertEquals(List.of(INVENTORY_RECORD_B, editedRecord), inventoryRecordList.asUnmodifiableObservableList());
+
+        inventoryRecordList.remove(INVENTORY_RECORD_B);
+        inventoryRecordList.add(INVENTORY_RECORD_A);
+        inventoryRecordList.remove(editedRecord);
+        assertEquals(List.of(INVENTORY_RECORD_A), inventoryRecordList.asUnmodifiableObservableList());
+        assertFalse(inventoryRecordList.contains(editedRecord));
+    }
+
+    @Test
+    public void setInventoryRecord_editedRecordHasExistingName_throwsDuplicatePersonException() {
+        inventoryRecordList.add(INVENTORY_RECORD_A);
+        inventoryRecordList.add(INVENTORY_RECORD_B);
+        assertThrows(DuplicatePersonException.class, () ->
+                inventoryRecordList.setInventoryRecord(INVENTORY_RECORD_A, INVENTORY_RECORD_B));
+    }
+
+    @Test
+    public void remove_recordNotInList_throwsPersonNotFoundException() {
+        inventoryRecordList.add(INVENTORY_RECORD_A);
+        assertThrows(PersonNotFoundException.class, () -> inventoryRecordList.remove(INVENTORY_RECORD_B));
+    }
+
+    @Test
+    public void setInventoryRecords_replacesIndex() {
+        inventoryRecordList.add(INVENTORY_RECORD_A);
+        inventoryRecordList.setInventoryRecords(List.of(INVENTORY_RECORD_B));
+        assertFalse(inventoryRecordList.contains(INVENTORY_RECORD_A));
+        assertTrue(inventoryRecordList.contains(INVENTORY_RECORD_B));
+    }
+
+    @Test
+    public void getRecordsWithAnyWord_afterChanges_indexUpToDate() {
+        InventoryRecord phone = new InventoryRecord("Samsung Galaxy phone");
+        InventoryRecord laptop = new InventoryRecord("Macbook Pro");
+        inventoryRecordList.add(phone);
+        assertEquals(Set.of(phone), inventoryRecordList.getRecordsWithAnyWord(List.of("GALAXY")));
+
+        // the index is updated once it is built
+        inventoryRecordList.add(0, laptop);
+        assertEquals(Set.of(phone, laptop), inventoryRecordList.getRecordsWithAnyWord(List.of("pro", "phone", "x")));
+
+        InventoryRecord tablet = new InventoryRecord("Samsung Galaxy tablet");
+        inventoryRecordList.setInventoryRecord(phone, tablet);
+        assertEquals(Set.of(), inventoryRecordList.getRecordsWithAnyWord(List.of("phone")));
+        assertEquals(Set.of(tablet), inventoryRecordList.getRecordsWithAnyWord(List.of("samsung")));
+
+        inventoryRecordList.remove(laptop);
+        assertEquals(Set.of(), inventoryRecordList.getRecordsWithAnyWord(List.of("macbook", "galax")));
+    }
+
+    @Test
+    public void getRecordsWithSimilarWord_prefixesAndMistakes_matched() {
+        InventoryRecord phone = new InventoryRecord("Samsung phone");
+        InventoryRecord charger = new InventoryRecord("Phone charger");
+        InventoryRecord laptop = new InventoryRecord("Dell laptop");
+        inventoryRecordList.add(phone);
+        inventoryRecordList.add(charger);
+        inventoryRecordList.add(laptop);
+
+        assertEquals(Set.of(phone, charger), inventoryRecordList.getRecordsWithSimilarWord(List.of("PH")));
+        assertEquals(Set.of(phone), inventoryRecordList.getRecordsWithSimilarWord(List.of("smasung")));
+        assertEquals(Set.of(charger, laptop),
+                inventoryRecordList.getRecordsWithSimilarWord(List.of("chrager", "lpatop")));
+        // single characters are only matched as whole words, and short words only by prefix
+        assertEquals(Set.of(), inventoryRecordList.getRecordsWithSimilarWord(List.of("d", "dek")));
+
+        inventoryRecordList.remove(phone);
+        assertEquals(Set.of(), inventoryRecordList.getRecordsWithSimilarWord(List.of("samsung")));
+    }
+
+    @Test
+    public void getLowStockRecords_afterChanges_updatedBeforeList() {
+        InventoryRecord cable = withThreshold("Cable", 2, 5);
+        InventoryRecord mouse = withThreshold("Mouse", 8, 5);
+        inventoryRecordList.add(INVENTORY_RECORD_A);
+        inventoryRecordList.add(cable);
+        Set<InventoryRecord> lowStockRecords = inventoryRecordList.getLowStockRecords();
+        assertEquals(Set.of(cable), lowStockRecords);
+
+        // a filter on the set sees the set already updated when the list changes
+        FilteredList<InventoryRecord> lowStockList =
+                new FilteredList<>(inventoryRecordList.asUnmodifiableObservableList(), lowStockRecords::contains);
+        inventoryRecordList.add(0, mouse);
+        InventoryRecord soldMouse = withThreshold("Mouse", 4, 5);
+        inventoryRecordList.setInventoryRecord(mouse, soldMouse);
+        assertEquals(List.of(soldMouse, cable), lowStockList);
+
+        InventoryRecord restockedCable = withThreshold("Cable", 20, 5);
+        inventoryRecordList.setInventoryRecord(cable, restockedCable);
+        assertEquals(List.of(soldMouse), lowStockList);
+
+        inventoryRecordList.remove(soldMouse);
+        assertEquals(Set.of(), lowStockRecords);
+
+        inventoryRecordList.setInventoryRecords(List.of(INVENTORY_RECORD_B, cable));
+        assertEquals(Set.of(cable), lowStockRecords);
+        assertEquals(List.of(cable), lowStockList);
+    }
+
+    @Test
+    public void getLowStockRecords_columnsGiven_onlyLowRecordsRead() {
+        List<InventoryRecord> records = List.of(INVENTORY_RECORD_A, withThreshold("Cable", 2, 5),
+                INVENTORY_RECORD_B, withThreshold("Mouse", 8, 5));
+        List<Integer> readIndexes = new ArrayList<>();
+        InventoryRecordList lazyList = new InventoryRecordList(new LazyLoadingList<>(records.size(), i -> {
+            readIndexes.add(i);
+            return records.get(i);
+        }), StockColumns.of(records));
+
+        assertEquals(Set.of(records.get(1)), lazyList.getLowStockRecords());
+        assertEquals(List.of(1), readIndexes);
+
+        // the columns are kept up to date for the copies of the list
+        InventoryRecord soldMouse = withThreshold("Mouse", 4, 5);
+        lazyList.setInventoryRecord(records.get(3), soldMouse);
+        lazyList.remove(records.get(1));
+        InventoryRecordList copy = new InventoryRecordList(lazyList.copyToList(), lazyList.copyColumns().get());
+        assertEquals(Set.of(soldMouse), copy.getLowStockRecords());
+    }
+
+    private static InventoryRecord withThreshold(String itemName, int quantity, int threshold) {
+        InventoryRecord inventoryRecord = new InventoryRecord(itemName, quantity);
+        return new InventoryRecord(itemName, inventoryRecord.getDateTime(), inventoryRecord.getLedger(), threshold);
+    }
+
+}
@@ -0,0 +1,75 @@
+package nustorage.model.record;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StockLedgerTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2020, 1, 10, 9, 0);
+    private static final LocalDateTime FEBRUARY = LocalDateTime.of(2020, 2, 10, 9, 0);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2020, 3, 10, 9, 0);
+
+    private static final StockMovement JANUARY_MOVEMENT = new StockMovement(10, JANUARY, 1);
+    private static final StockMovement FEBRUARY_MOVEMENT = new StockMovement(-4, FEBRUARY);
+    private static final StockMovement MARCH_MOVEMENT = new StockMovement(7, MARCH);
+
+    private final StockLedger ledger = StockLedger.EMPTY.append(JANUARY_MOVEMENT).append(FEBRUARY_MOVEMENT)
+            .append(MARCH_MOVEMENT);
+
+    @Test
+    public void getStockAt_betweenMovements_stockAfterEarlierMovements() {
+        assertEquals(0, ledger.getStockAt(JANUARY.minusNanos(1)));
+        assertEquals(10, ledger.getStockAt(JANUARY));
+        assertEquals(6, ledger.getStockAt(MARCH.minusDays(1)));
+        assertEquals(13, ledger.getStockAt(LocalDateTime.MAX));
+        assertEquals(13, ledger.getStock());
+    }
+
+    @Test
+    public void getNetMovement_periodBoundsInclusive() {
+        assertEquals(3, ledger.getNetMovement(FEBRUARY, MARCH));
+        assertEquals(2, ledger.getMovementCount(FEBRUARY, MARCH));
+        assertEquals(-4, ledger.getNetMovement(JANUARY.plusNanos(1), MARCH.minusNanos(1)));
+        assertEquals(0, ledger.getNetMovement(MARCH.plusDays(1), LocalDateTime.MAX));
+        assertThrows(IllegalArgumentException.class, () -> ledger.getNetMovement(MARCH, JANUARY));
+    }
+
+    @Test
+    public void append_toOlderLedger_olderLedgersUnchanged() {
+        StockLedger first = StockLedger.EMPTY.append(JANUARY_MOVEMENT);
+        StockLedger second = first.append(FEBRUARY_MOVEMENT);
+        StockLedger branch = first.append(MARCH_MOVEMENT);
+
+        assertEquals(List.of(JANUARY_MOVEMENT), first.getMovements());
+        assertEquals(List.of(JANUARY_MOVEMENT, FEBRUARY_MOVEMENT), second.getMovements());
+        assertEquals(List.of(JANUARY_MOVEMENT, MARCH_MOVEMENT), branch.getMovements());
+        assertEquals(17, branch.getStock());
+        assertEquals(List.of(), StockLedger.EMPTY.getMovements());
+    }
+
+    @Test
+    public void append_olderMovement_keptInOrder() {
+        StockLedger appended = StockLedger.EMPTY.append(MARCH_MOVEMENT).append(JANUARY_MOVEMENT);
+
+        assertEquals(List.of(JANUARY_MOVEMENT, MARCH_MOVEMENT), appended.getMovements());
+        assertEquals(10, appended.getStockAt(FEBRUARY));
+        assertEquals(StockLedger.of(List.of(MARCH_MOVEMENT, JANUARY_MOVEMENT)), appended);
+    }
+
+    @Test
+    public void withFinanceIdsRenumbered_linksRenumbered() {
+        FinanceIdRenumbering renumbering = new FinanceIdRenumbering(new int[] {5, 1});
+
+        StockLedger renumbered = ledger.withFinanceIdsRenumbered(renumbering);
+
+        assertEquals(List.of(new StockMovement(10, JANUARY, 2), FEBRUARY_MOVEMENT, MARCH_MOVEMENT),
+                renumbered.getMovements());
+        assertEquals(ledger.getStock(), renumbered.getStock());
+    }
+
+}
@@ -0,0 +1,55 @@
+package nustorage.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class WordDictionaryTest {
+
+    private final WordDictionary dictionary = new WordDictionary();
+
+    private void addAll(String... words) {
+        for (String word : words) {
+            dictionary.add(word);
+        }
+    }
+
+    @Test
+    public void getWordsWithPrefix_wordsInOrder() {
+        addAll("phone", "apple", "phablet", "ph", "pen");
+        assertEquals(List.of("ph", "phablet", "phone"), List.copyOf(dictionary.getWordsWithPrefix("ph")));
+        assertEquals(Set.of(), dictionary.getWordsWithPrefix("x"));
+    }
+
+    @Test
+    public void getWordsWithin_eachKindOfMistake_matched() {
+        addAll("samsung", "galaxy", "sam", "samsungs", "amsung", "samsong", "smasung", "gasmsung");
+
+        // inserted, deleted, replaced and swapped characters
+        assertEquals(Set.of("samsung", "samsungs", "amsung", "samsong", "smasung"),
+                dictionary.getWordsWithin("samsung", 1));
+        assertEquals(Set.of("samsung"), dictionary.getWordsWithin("samsung", 0));
+        assertEquals(Set.of("samsung", "samsungs", "amsung", "samsong", "smasung", "gasmsung"),
+                dictionary.getWordsWithin("samsung", 2));
+        assertEquals(Set.of(), dictionary.getWordsWithin("samsung", -1));
+    }
+
+    @Test
+    public void getWordsWithin_afterChanges_upToDate() {
+        addAll("laptop", "lapdog");
+        assertEquals(Set.of("laptop"), dictionary.getWordsWithin("lpatop", 1));
+
+        dictionary.remove("laptop");
+        dictionary.add("lptop");
+        assertFalse(dictionary.contains("laptop"));
+        assertTrue(dictionary.contains("lptop"));
+        assertEquals(Set.of("lptop"), dictionary.getWordsWithin("lpatop", 1));
+        assertEquals(2, dictionary.size());
+    }
+
+}
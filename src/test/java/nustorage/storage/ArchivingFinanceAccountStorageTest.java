@@ -0,0 +1,266 @@
+package nustorage.storage;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nustorage.commons.core.index.Index;
+import nustorage.commons.util.LazyLoadingList;
+import nustorage.model.FinanceAccount;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.record.FinanceColumns;
+import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceTotal;
+
+
+public class ArchivingFinanceAccountStorageTest {
+
+    private static final Clock JUNE_2020 = Clock.fixed(Instant.parse("2020-06-15T12:00:00Z"), ZoneOffset.UTC);
+    private static final int RECENT_MONTHS = 3;
+
+    private static final YearMonth JANUARY = YearMonth.of(2020, 1);
+    private static final YearMonth MARCH = YearMonth.of(2020, 3);
+
+    private static final FinanceRecord JANUARY_RECORD = new FinanceRecord(1, 10, LocalDateTime.of(2020, 1, 5, 9, 0));
+    private static final FinanceRecord OTHER_JANUARY_RECORD =
+            new FinanceRecord(2, 20, LocalDateTime.of(2020, 1, 25, 9, 0));
+    private static final FinanceRecord MARCH_RECORD = new FinanceRecord(3, 30, LocalDateTime.of(2020, 3, 5, 9, 0));
+    private static final FinanceRecord APRIL_RECORD = new FinanceRecord(4, 40, LocalDateTime.of(2020, 4, 1, 0, 0));
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("finance.json");
+    }
+
+
+    private ArchivingFinanceAccountStorage createStorage(int recentMonths) {
+        return new ArchivingFinanceAccountStorage(new JsonFinanceAccountStorage(filePath), recentMonths, true,
+                JUNE_2020);
+    }
+
+
+    private FinanceAccount readFromNewStorage() throws Exception {
+        return (FinanceAccount) createStorage(RECENT_MONTHS).readFinanceAccount().get();
+    }
+
+
+    /**
+     * Saves the typical records, so that January and March are archived.
+     */
+    private void saveTypicalRecords() throws Exception {
+        createStorage(RECENT_MONTHS).saveFinanceAccount(
+                new FinanceAccount(List.of(JANUARY_RECORD, MARCH_RECORD, OTHER_JANUARY_RECORD, APRIL_RECORD)));
+    }
+
+
+    private List<FinanceRecord> readMainFile() throws Exception {
+        return new JsonFinanceAccountStorage(filePath).readFinanceAccount().get().getFinanceList();
+    }
+
+
+    @Test
+    public void getArchiveDirectory_dataFile_namedAfterFileWithoutExtension() {
+        assertEquals(testFolder.resolve("finance_archive"),
+                ArchivingFinanceAccountStorage.getArchiveDirectory(filePath));
+        assertEquals(testFolder.resolve("finance_archive"),
+                ArchivingFinanceAccountStorage.getArchiveDirectory(testFolder.resolve("finance.bin")));
+    }
+
+
+    @Test
+    public void readFinanceAccount_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage(RECENT_MONTHS).readFinanceAccount().isPresent());
+    }
+
+
+    @Test
+    public void saveFinanceAccount_oldRecords_movedToMonthlySegments() throws Exception {
+        saveTypicalRecords();
+        ArchivingFinanceAccountStorage storage = createStorage(RECENT_MONTHS);
+
+        assertEquals(List.of(APRIL_RECORD), readMainFile());
+        assertEquals(Set.of(JANUARY, MARCH), storage.getArchivedMonths());
+        assertEquals(List.of(JANUARY_RECORD, OTHER_JANUARY_RECORD), storage.readMonth(JANUARY));
+        assertEquals(List.of(MARCH_RECORD), storage.readMonth(MARCH));
+    }
+
+
+    @Test
+    public void readFinanceAccount_archivedMonths_loadedOnDemand() throws Exception {
+        saveTypicalRecords();
+
+        FinanceAccount financeAccount = readFromNewStorage();
+        assertEquals(List.of(APRIL_RECORD), financeAccount.getFinanceList());
+        assertEquals(Set.of(JANUARY, MARCH), financeAccount.getUnloadedArchiveMonths());
+
+        financeAccount.loadArchivedMonths(MARCH, MARCH);
+        assertEquals(List.of(MARCH_RECORD, APRIL_RECORD), financeAccount.getFinanceList());
+        assertEquals(Set.of(JANUARY), financeAccount.getUnloadedArchiveMonths());
+    }
+
+
+    @Test
+    public void saveFinanceAccount_unchangedSegments_notRewritten() throws Exception {
+        saveTypicalRecords();
+        ArchivingFinanceAccountStorage storage = createStorage(RECENT_MONTHS);
+        FinanceAccount financeAccount = (FinanceAccount) storage.readFinanceAccount().get();
+        financeAccount.loadArchivedMonths(MARCH, MARCH);
+
+        // trailing whitespace that a rewrite would not keep
+        Path januarySegment = storage.getSegmentFilePath(JANUARY);
+        Path marchSegment = storage.getSegmentFilePath(MARCH);
+        Files.writeString(januarySegment, "\n", StandardOpenOption.APPEND);
+        Files.writeString(marchSegment, "\n", StandardOpenOption.APPEND);
+        String januaryContent = Files.readString(januarySegment);
+        String marchContent = Files.readString(marchSegment);
+
+        financeAccount.removeFinanceRecord(Index.fromZeroBased(1));
+        storage.saveFinanceAccount(financeAccount);
+
+        assertEquals(List.of(), readMainFile());
+        assertEquals(januaryContent, Files.readString(januarySegment));
+        assertEquals(marchContent, Files.readString(marchSegment));
+    }
+
+
+    @Test
+    public void saveFinanceAccount_loadedMonthEmptied_segmentDeleted() throws Exception {
+        saveTypicalRecords();
+        ArchivingFinanceAccountStorage storage = createStorage(RECENT_MONTHS);
+        FinanceAccount financeAccount = (FinanceAccount) storage.readFinanceAccount().get();
+        financeAccount.loadArchivedMonths(MARCH, MARCH);
+
+        financeAccount.removeFinanceRecord(Index.fromZeroBased(0));
+        storage.saveFinanceAccount(financeAccount);
+
+        assertFalse(Files.exists(storage.getSegmentFilePath(MARCH)));
+        assertTrue(Files.exists(storage.getSegmentFilePath(JANUARY)));
+        assertEquals(Set.of(JANUARY), readFromNewStorage().getUnloadedArchiveMonths());
+    }
+
+
+    @Test
+    public void saveFinanceAccount_recordInUnloadedMonth_mergedIntoSegment() throws Exception {
+        saveTypicalRecords();
+        ArchivingFinanceAccountStorage storage = createStorage(RECENT_MONTHS);
+        FinanceRecord newRecord = new FinanceRecord(5, 50, LocalDateTime.of(2020, 1, 30, 9, 0));
+        FinanceAccount financeAccount = new FinanceAccount(List.of(newRecord));
+        financeAccount.setArchive(storage,
+                Map.of(JANUARY, FinanceTotal.of(List.of(JANUARY_RECORD, OTHER_JANUARY_RECORD))));
+
+        storage.saveFinanceAccount(financeAccount);
+
+        assertEquals(List.of(JANUARY_RECORD, OTHER_JANUARY_RECORD, newRecord), storage.readMonth(JANUARY));
+    }
+
+
+    @Test
+    public void saveFinanceAccount_lazyRecordsWithColumns_onlyArchivedRecordsReadToSplitMonths() throws Exception {
+        List<FinanceRecord> records = List.of(JANUARY_RECORD, APRIL_RECORD, MARCH_RECORD, OTHER_JANUARY_RECORD);
+        List<Integer> readIndexes = new ArrayList<>();
+        FinanceAccount financeAccount = new FinanceAccount(new LazyLoadingList<>(records.size(), i -> {
+            readIndexes.add(i);
+            return records.get(i);
+        }), FinanceColumns.of(records));
+        List<Integer> readIndexesBeforeMainFile = new ArrayList<>();
+        ArchivingFinanceAccountStorage storage = new ArchivingFinanceAccountStorage(
+                new JsonFinanceAccountStorage(filePath) {
+                    @Override
+                    public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount, Path filePath)
+                            throws IOException {
+                        readIndexesBeforeMainFile.addAll(readIndexes);
+                        super.saveFinanceAccount(financeAccount, filePath);
+                    }
+                }, RECENT_MONTHS, true, JUNE_2020);
+
+        storage.saveFinanceAccount(financeAccount);
+
+        assertEquals(List.of(0, 2, 3), readIndexesBeforeMainFile.stream().sorted().collect(Collectors.toList()));
+        assertEquals(List.of(APRIL_RECORD), readMainFile());
+        assertEquals(List.of(JANUARY_RECORD, OTHER_JANUARY_RECORD), storage.readMonth(JANUARY));
+        assertEquals(List.of(MARCH_RECORD), storage.readMonth(MARCH));
+    }
+
+
+    @Test
+    public void readFinanceAccount_archivingTurnedOff_recordsMovedBackToMainFile() throws Exception {
+        saveTypicalRecords();
+        ArchivingFinanceAccountStorage storage = createStorage(0);
+
+        ReadOnlyFinanceAccount financeAccount = storage.readFinanceAccount().get();
+        assertEquals(List.of(JANUARY_RECORD, OTHER_JANUARY_RECORD, MARCH_RECORD, APRIL_RECORD),
+                financeAccount.getFinanceList());
+        assertEquals(Set.of(), financeAccount.getUnloadedArchiveMonths());
+
+        storage.saveFinanceAccount(financeAccount);
+        assertEquals(financeAccount.getFinanceList(), readMainFile());
+        assertEquals(Set.of(), storage.getArchivedMonths());
+    }
+
+    @Test
+    public void readFinanceAccount_archivedMonths_totalsReadFromTotalsFile() throws Exception {
+        saveTypicalRecords();
+        ArchivingFinanceAccountStorage storage = createStorage(RECENT_MONTHS);
+        assertTrue(Files.exists(storage.getTotalsFilePath()));
+
+        FinanceAccount financeAccount = (FinanceAccount) storage.readFinanceAccount().get();
+        assertEquals(Map.of(JANUARY, FinanceTotal.of(List.of(JANUARY_RECORD, OTHER_JANUARY_RECORD)),
+                MARCH, FinanceTotal.of(List.of(MARCH_RECORD))), financeAccount.getUnloadedArchiveTotals());
+        assertEquals(FinanceTotal.of(List.of(JANUARY_RECORD, OTHER_JANUARY_RECORD, MARCH_RECORD, APRIL_RECORD)),
+                financeAccount.getTotal());
+    }
+
+
+    @Test
+    public void readFinanceAccount_segmentChangedAfterTotals_totalComputedAgain() throws Exception {
+        saveTypicalRecords();
+        ArchivingFinanceAccountStorage storage = createStorage(RECENT_MONTHS);
+
+        // as if a save was interrupted after writing the segment, but before writing the totals
+        FinanceRecord newRecord = new FinanceRecord(5, 50, LocalDateTime.of(2020, 3, 30, 9, 0));
+        new JsonFinanceAccountStorage(storage.getSegmentFilePath(MARCH))
+                .saveFinanceAccount(new FinanceAccount(List.of(MARCH_RECORD, newRecord)));
+
+        FinanceAccount financeAccount = (FinanceAccount) storage.readFinanceAccount().get();
+        assertEquals(FinanceTotal.of(List.of(MARCH_RECORD, newRecord)), financeAccount.getMonthlyTotal(MARCH));
+    }
+
+
+    @Test
+    public void readFinanceAccount_corruptTotalsFile_totalsComputedAgain() throws Exception {
+        saveTypicalRecords();
+        ArchivingFinanceAccountStorage storage = createStorage(RECENT_MONTHS);
+        Files.writeString(storage.getTotalsFilePath(), "not Json");
+
+        FinanceAccount financeAccount = (FinanceAccount) storage.readFinanceAccount().get();
+        assertEquals(FinanceTotal.of(List.of(MARCH_RECORD)), financeAccount.getMonthlyTotal(MARCH));
+        assertTrue(Files.readString(storage.getTotalsFilePath()).contains(MARCH.toString()));
+    }
+
+}
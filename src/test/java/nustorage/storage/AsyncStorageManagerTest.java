@@ -0,0 +1,279 @@
+package nustorage.storage;
+
+
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_E;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceAccount;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_A;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nustorage.model.DeferredCopy;
+import nustorage.model.FinanceAccount;
+import nustorage.model.Inventory;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.ReadOnlyInventory;
+
+
+public class AsyncStorageManagerTest {
+
+    private static final long LONG_DELAY_MILLIS = 60 * 60 * 1000;
+
+    @TempDir
+    public Path testFolder;
+
+
+    private AsyncStorageManager createStorage(FinanceAccountStorage financeAccountStorage) {
+        StorageManager storageManager = new StorageManager(financeAccountStorage,
+                new JsonInventoryStorage(testFolder.resolve("inventory")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        return new AsyncStorageManager(storageManager, LONG_DELAY_MILLIS);
+    }
+
+
+    @Test
+    public void saveFinanceAccount_beforeFlush_notWritten() throws Exception {
+        AsyncStorageManager storage = createStorage(new JsonFinanceAccountStorage(testFolder.resolve("finance")));
+
+        storage.saveFinanceAccount(getTypicalFinanceAccount());
+
+        assertFalse(Files.exists(storage.getFinanceAccountFilePath()));
+    }
+
+
+    @Test
+    public void flush_afterSaves_latestDataWrittenOnce() throws Exception {
+        CountingFinanceAccountStorage financeAccountStorage =
+                new CountingFinanceAccountStorage(testFolder.resolve("finance"));
+        AsyncStorageManager storage = createStorage(financeAccountStorage);
+
+        FinanceAccount financeAccount = getTypicalFinanceAccount();
+        storage.saveFinanceAccount(financeAccount);
+        financeAccount.addFinanceRecord(RECORD_E);
+        storage.saveFinanceAccount(financeAccount);
+        Inventory inventory = new Inventory();
+        inventory.addInventoryRecord(INVENTORY_RECORD_A);
+        storage.saveInventory(inventory);
+
+        storage.flush();
+
+        assertEquals(1, financeAccountStorage.saveCount);
+        assertEquals(3, storage.getSaveStatistics().getSaveCount());
+        assertEquals(2, storage.getSaveStatistics().getWriteCount());
+        assertEquals(financeAccount, new FinanceAccount(storage.readFinanceAccount().get()));
+        assertEquals(inventory, new Inventory(storage.readInventory().get()));
+    }
+
+
+    @Test
+    public void saveFinanceAccount_copyMadeInBackground() throws Exception {
+        AsyncStorageManager storage = createStorage(new JsonFinanceAccountStorage(testFolder.resolve("finance")));
+        AtomicReference<Thread> copyingThread = new AtomicReference<>();
+        FinanceAccount financeAccount = new FinanceAccount(getTypicalFinanceAccount()) {
+            @Override
+            public DeferredCopy<ReadOnlyFinanceAccount> copyDeferred() {
+                return new DeferredCopy<>(() -> {
+                    copyingThread.set(Thread.currentThread());
+                    return new FinanceAccount(this);
+                });
+            }
+        };
+
+        storage.saveFinanceAccount(financeAccount);
+        storage.flush();
+
+        assertNotEquals(Thread.currentThread(), copyingThread.get());
+        assertEquals(getTypicalFinanceAccount(), new FinanceAccount(storage.readFinanceAccount().get()));
+    }
+
+
+    @Test
+    public void saveFinanceAccount_changedAfterSave_savedDataUnchanged() throws Exception {
+        AsyncStorageManager storage = createStorage(new JsonFinanceAccountStorage(testFolder.resolve("finance")));
+
+        FinanceAccount financeAccount = getTypicalFinanceAccount();
+        storage.saveFinanceAccount(financeAccount);
+        financeAccount.addFinanceRecord(RECORD_E);
+        storage.flush();
+
+        assertEquals(getTypicalFinanceAccount(), new FinanceAccount(storage.readFinanceAccount().get()));
+    }
+
+
+    @Test
+    public void flush_backgroundWriteFails_throwsIoException() throws Exception {
+        AsyncStorageManager storage = createStorage(
+                new IoExceptionThrowingFinanceAccountStorage(testFolder.resolve("finance")));
+
+        storage.saveFinanceAccount(getTypicalFinanceAccount());
+
+        assertThrows(IOException.class, storage::flush);
+        // the data that failed to be written is written again, and fails again
+        assertThrows(IOException.class, storage::flush);
+    }
+
+
+    @Test
+    public void flush_afterFailedWrite_failedDataWritten() throws Exception {
+        AsyncStorageManager storage = createStorage(
+                new IoExceptionThrowingFinanceAccountStorage(testFolder.resolve("finance"), 1, false));
+
+        storage.saveFinanceAccount(getTypicalFinanceAccount());
+        assertThrows(IOException.class, storage::flush);
+
+        // nothing was saved since, as when the app is closed right after the failure
+        storage.flush();
+
+        assertEquals(getTypicalFinanceAccount(), new FinanceAccount(storage.readFinanceAccount().get()));
+    }
+
+
+    @Test
+    public void flush_saveAfterFailedWrite_latestDataWritten() throws Exception {
+        AsyncStorageManager storage = createStorage(
+                new IoExceptionThrowingFinanceAccountStorage(testFolder.resolve("finance"), 1, false));
+
+        FinanceAccount financeAccount = getTypicalFinanceAccount();
+        storage.saveFinanceAccount(financeAccount);
+        assertThrows(IOException.class, storage::flush);
+        financeAccount.addFinanceRecord(RECORD_E);
+        storage.saveFinanceAccount(financeAccount);
+        storage.flush();
+
+        assertEquals(financeAccount, new FinanceAccount(storage.readFinanceAccount().get()));
+    }
+
+
+    @Test
+    public void saveFinanceAccount_backgroundWriteFailed_dataQueuedBeforeThrowing() throws Exception {
+        IoExceptionThrowingFinanceAccountStorage financeAccountStorage =
+                new IoExceptionThrowingFinanceAccountStorage(testFolder.resolve("finance"), 1, true);
+        LatchedInventoryStorage inventoryStorage = new LatchedInventoryStorage(testFolder.resolve("inventory"));
+        StorageManager storageManager = new StorageManager(financeAccountStorage, inventoryStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        AsyncStorageManager storage = new AsyncStorageManager(storageManager, 0);
+
+        FinanceAccount financeAccount = getTypicalFinanceAccount();
+        Inventory inventory = new Inventory();
+        storage.saveFinanceAccount(financeAccount);
+        storage.saveInventory(inventory);
+        // the inventory is only written by the write after the one that fails, once the failure is recorded
+        financeAccountStorage.releaseFailure();
+        inventoryStorage.awaitSave();
+
+        // the failure is only thrown once the changed finance account is queued, and the inventory is still saved
+        financeAccount.addFinanceRecord(RECORD_E);
+        inventory.addInventoryRecord(INVENTORY_RECORD_A);
+        assertThrows(IOException.class, () -> storage.saveFinanceAccount(financeAccount));
+        storage.saveInventory(inventory);
+        storage.flush();
+
+        assertEquals(financeAccount, new FinanceAccount(storage.readFinanceAccount().get()));
+        assertEquals(inventory, new Inventory(storage.readInventory().get()));
+    }
+
+
+    /**
+     * A {@code JsonFinanceAccountStorage} that counts the number of times it was asked to save.
+     */
+    private static class CountingFinanceAccountStorage extends JsonFinanceAccountStorage {
+
+        private int saveCount = 0;
+
+        CountingFinanceAccountStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount, Path filePath) throws IOException {
+            saveCount++;
+            super.saveFinanceAccount(financeAccount, filePath);
+        }
+    }
+
+
+    /**
+     * A {@code JsonFinanceAccountStorage} that fails to save a number of times, or always.
+     */
+    private static class IoExceptionThrowingFinanceAccountStorage extends JsonFinanceAccountStorage {
+
+        private final CountDownLatch failureRelease = new CountDownLatch(1);
+        private final boolean isFailureHeld;
+        private int failuresLeft;
+
+        IoExceptionThrowingFinanceAccountStorage(Path filePath) {
+            this(filePath, Integer.MAX_VALUE, false);
+        }
+
+        /**
+         * Creates a storage that fails {@code failureCount} times, each failure waiting for
+         * {@link #releaseFailure()} first if {@code isFailureHeld}.
+         */
+        IoExceptionThrowingFinanceAccountStorage(Path filePath, int failureCount, boolean isFailureHeld) {
+            super(filePath);
+            this.failuresLeft = failureCount;
+            this.isFailureHeld = isFailureHeld;
+        }
+
+        @Override
+        public void saveFinanceAccount(ReadOnlyFinanceAccount financeAccount, Path filePath) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                if (isFailureHeld) {
+                    awaitRelease();
+                }
+                throw new IOException("dummy exception");
+            }
+            super.saveFinanceAccount(financeAccount, filePath);
+        }
+
+        void releaseFailure() {
+            failureRelease.countDown();
+        }
+
+        private void awaitRelease() throws IOException {
+            try {
+                failureRelease.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+
+    /**
+     * A {@code JsonInventoryStorage} that lets a test wait until it has saved.
+     */
+    private static class LatchedInventoryStorage extends JsonInventoryStorage {
+
+        private final CountDownLatch saved = new CountDownLatch(1);
+
+        LatchedInventoryStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
+            super.saveInventory(inventory, filePath);
+            saved.countDown();
+        }
+
+        /**
+         * Waits until the inventory has been saved once.
+         */
+        void awaitSave() throws InterruptedException {
+            saved.await();
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+package nustorage.storage;
+
+
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_E;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.model.FinanceAccount;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.record.FinanceIdAllocator;
+import nustorage.model.record.FinanceIdRenumbering;
+import nustorage.model.record.FinanceRecord;
+
+
+public class BinaryFinanceAccountStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+
+    @Test
+    public void readFinanceAccount_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryFinanceAccountStorage(testFolder).readFinanceAccount(null));
+    }
+
+
+    @Test
+    public void readFinanceAccount_missingFile_emptyResult() throws Exception {
+        BinaryFinanceAccountStorage storage = new BinaryFinanceAccountStorage(testFolder.resolve("missing.bin"));
+        assertFalse(storage.readFinanceAccount().isPresent());
+    }
+
+
+    @Test
+    public void readAndSaveFinanceAccount_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("finance.bin");
+        BinaryFinanceAccountStorage storage = new BinaryFinanceAccountStorage(filePath);
+        FinanceAccount original = getTypicalFinanceAccount();
+
+        storage.saveFinanceAccount(original);
+        assertEquals(original, new FinanceAccount(storage.readFinanceAccount().get()));
+
+        original.addFinanceRecord(RECORD_E);
+        storage.saveFinanceAccount(original);
+        assertEquals(original, new FinanceAccount(storage.readFinanceAccount().get()));
+    }
+
+
+    @Test
+    public void readAndSaveFinanceAccount_unusualValues_lossless() throws Exception {
+        Path filePath = testFolder.resolve("finance.bin");
+        BinaryFinanceAccountStorage storage = new BinaryFinanceAccountStorage(filePath);
+        FinanceAccount original = new FinanceAccount();
+        original.setFinanceRecords(Arrays.asList(
+                new FinanceRecord(1, 0.1 + 0.2, LocalDateTime.of(2020, 1, 1, 12, 30, 15, 123456789)),
+                new FinanceRecord(2, 1e300, LocalDateTime.of(1900, 12, 31, 23, 59)),
+                new FinanceRecord(3, 19.99, LocalDateTime.of(2100, 6, 15, 0, 0))));
+
+        storage.saveFinanceAccount(original);
+        FinanceAccount readBack = new FinanceAccount(storage.readFinanceAccount().get());
+
+        for (int i = 0; i < original.getFinanceList().size(); i++) {
+            FinanceRecord expected = original.getFinanceList().get(i);
+            FinanceRecord actual = readBack.getFinanceList().get(i);
+            assertEquals(expected.getID(), actual.getID());
+            assertEquals(Double.doubleToLongBits(expected.getAmount()), Double.doubleToLongBits(actual.getAmount()));
+            assertEquals(expected.getDatetime(), actual.getDatetime());
+        }
+    }
+
+
+    @Test
+    public void readAndSaveFinanceAccount_negativeAmount_success() throws Exception {
+        Path filePath = testFolder.resolve("finance.bin");
+        BinaryFinanceAccountStorage storage = new BinaryFinanceAccountStorage(filePath);
+        FinanceAccount original = new FinanceAccount();
+        original.setFinanceRecords(Arrays.asList(
+                new FinanceRecord(1, -250.75, LocalDateTime.of(2020, 1, 1, 9, 0)),
+                new FinanceRecord(2, 100, LocalDateTime.of(2020, 1, 2, 9, 0))));
+
+        storage.saveFinanceAccount(original);
+        assertEquals(original, new FinanceAccount(storage.readFinanceAccount().get()));
+    }
+
+
+    @Test
+    public void readFinanceAccount_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("finance.json");
+        new JsonFinanceAccountStorage(filePath).saveFinanceAccount(getTypicalFinanceAccount());
+
+        assertThrows(DataConversionException.class, () ->
+                new BinaryFinanceAccountStorage(filePath).readFinanceAccount());
+    }
+
+
+    @Test
+    public void readFinanceAccount_invalidDateTime_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("finance.bin");
+        BinaryFinanceAccountStorage storage = new BinaryFinanceAccountStorage(filePath);
+        storage.saveFinanceAccount(getTypicalFinanceAccount());
+
+        // the nanosecond of the date-time of the last record
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, -1);
+        Files.write(filePath, bytes);
+
+        // the record is checked when the file is read, even though it is only created when it is used
+        assertThrows(DataConversionException.class, storage::readFinanceAccount);
+    }
+
+
+    @Test
+    public void readFinanceAccount_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("finance.bin");
+        BinaryFinanceAccountStorage storage = new BinaryFinanceAccountStorage(filePath);
+        storage.saveFinanceAccount(getTypicalFinanceAccount());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, storage::readFinanceAccount);
+    }
+
+
+    @Test
+    public void readFinanceAccount_nextIdInHeader_idsReserved() throws Exception {
+        Path filePath = testFolder.resolve("finance.bin");
+        BinaryFinanceAccountStorage storage = new BinaryFinanceAccountStorage(filePath);
+        storage.saveFinanceAccount(getTypicalFinanceAccount());
+
+        // the next ID comes right after the header, as if it were written by another session that used more IDs
+        int nextId = FinanceIdAllocator.peekNextId() + 1000;
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(2 * Integer.BYTES, nextId);
+        Files.write(filePath, bytes);
+
+        storage.readFinanceAccount();
+        assertTrue(FinanceIdAllocator.allocate() >= nextId);
+    }
+
+
+    @Test
+    public void readFinanceAccount_versionOneFile_success() throws Exception {
+        Path filePath = testFolder.resolve("finance.bin");
+        BinaryFinanceAccountStorage storage = new BinaryFinanceAccountStorage(filePath);
+        FinanceAccount original = getTypicalFinanceAccount();
+        storage.saveFinanceAccount(original);
+
+        // version 1 files have no next ID after the header
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer versionOne = ByteBuffer.allocate(bytes.length - Integer.BYTES);
+        versionOne.putInt(BinaryFinanceAccountStorage.MAGIC).putInt(1);
+        versionOne.put(bytes, 3 * Integer.BYTES, bytes.length - 3 * Integer.BYTES);
+        Files.write(filePath, versionOne.array());
+
+        // the records are numbered again from 1, as their IDs were identity hashes
+        ReadOnlyFinanceAccount readBack = storage.readFinanceAccount().get();
+        FinanceIdRenumbering renumbering = readBack.getIdRenumbering().get();
+        assertEquals(original.getFinanceList().size(), renumbering.size());
+        for (int i = 0; i < original.getFinanceList().size(); i++) {
+            FinanceRecord originalRecord = original.getFinanceList().get(i);
+            FinanceRecord readRecord = readBack.getFinanceList().get(i);
+            assertEquals(i + 1, readRecord.getID());
+            assertEquals(i + 1, renumbering.renumber(originalRecord.getID()));
+            assertTrue(readRecord.equalsWithoutID(originalRecord));
+        }
+    }
+
+
+    @Test
+    public void readFinanceAccount_duplicateIds_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("finance.bin");
+        BinaryFinanceAccountStorage storage = new BinaryFinanceAccountStorage(filePath);
+        FinanceAccount original = getTypicalFinanceAccount();
+        original.addFinanceRecord(original.getFinanceList().get(0));
+        storage.saveFinanceAccount(original);
+
+        assertThrows(DataConversionException.class, storage::readFinanceAccount);
+    }
+
+}
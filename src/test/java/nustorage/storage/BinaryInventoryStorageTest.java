@@ -0,0 +1,203 @@
+package nustorage.storage;
+
+
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_A;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_B;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_C;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.util.FileUtil;
+import nustorage.model.Inventory;
+import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.StockMovement;
+
+
+public class BinaryInventoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+
+    private Inventory getInventory(InventoryRecord... inventoryRecords) {
+        Inventory inventory = new Inventory();
+        inventory.setInventoryRecords(Arrays.asList(inventoryRecords));
+        return inventory;
+    }
+
+
+    @Test
+    public void readInventory_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryInventoryStorage(testFolder.resolve("missing.bin")).readInventory().isPresent());
+    }
+
+
+    @Test
+    public void readAndSaveInventory_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("inventory.bin");
+        BinaryInventoryStorage storage = new BinaryInventoryStorage(filePath);
+        Inventory original = getInventory(INVENTORY_RECORD_A, INVENTORY_RECORD_B);
+
+        storage.saveInventory(original);
+        assertEquals(original, new Inventory(storage.readInventory().get()));
+
+        original.addInventoryRecord(INVENTORY_RECORD_C);
+        original.removeInventoryRecord(INVENTORY_RECORD_A);
+        storage.saveInventory(original);
+        assertEquals(original, new Inventory(storage.readInventory().get()));
+    }
+
+
+    @Test
+    public void readAndSaveInventory_unicodeItemName_lossless() throws Exception {
+        Path filePath = testFolder.resolve("inventory.bin");
+        BinaryInventoryStorage storage = new BinaryInventoryStorage(filePath);
+        InventoryRecord original =
+                new InventoryRecord("Caf\u00e9 cr\u00e8me \u5496\u5561", 7, LocalDateTime.of(2020, 2, 29, 8, 1, 2, 3));
+
+        storage.saveInventory(getInventory(original));
+        InventoryRecord readBack = storage.readInventory().get().getInventoryRecordList().get(0);
+
+        assertEquals(original.getItemName(), readBack.getItemName());
+        assertEquals(original.getQuantity(), readBack.getQuantity());
+        assertEquals(original.getDateTime(), readBack.getDateTime());
+    }
+
+
+    @Test
+    public void readAndSaveInventory_movements_lossless() throws Exception {
+        Path filePath = testFolder.resolve("inventory.bin");
+        BinaryInventoryStorage storage = new BinaryInventoryStorage(filePath);
+        InventoryRecord moved = new InventoryRecord(INVENTORY_RECORD_C.getItemName(), INVENTORY_RECORD_C.getDateTime(),
+                INVENTORY_RECORD_C.getLedger().append(new StockMovement(-2, LocalDateTime.of(2030, 1, 1, 0, 0), 5)));
+
+        storage.saveInventory(getInventory(INVENTORY_RECORD_A, moved, INVENTORY_RECORD_B));
+        List<InventoryRecord> readBack = storage.readInventory().get().getInventoryRecordList();
+
+        assertEquals(INVENTORY_RECORD_A.getLedger(), readBack.get(0).getLedger());
+        assertEquals(moved.getLedger(), readBack.get(1).getLedger());
+        assertEquals(moved.getQuantity(), readBack.get(1).getQuantity());
+        assertEquals(INVENTORY_RECORD_B.getLedger(), readBack.get(2).getLedger());
+    }
+
+
+    @Test
+    public void readAndSaveInventory_thresholds_lossless() throws Exception {
+        Path filePath = testFolder.resolve("inventory.bin");
+        BinaryInventoryStorage storage = new BinaryInventoryStorage(filePath);
+        InventoryRecord lowOnStock = new InventoryRecord(INVENTORY_RECORD_C.getItemName(),
+                INVENTORY_RECORD_C.getDateTime(), INVENTORY_RECORD_C.getLedger(), INVENTORY_RECORD_C.getQuantity() + 1);
+
+        storage.saveInventory(getInventory(INVENTORY_RECORD_A, lowOnStock));
+        List<InventoryRecord> readBack = storage.readInventory().get().getInventoryRecordList();
+
+        assertEquals(InventoryRecord.NO_THRESHOLD, readBack.get(0).getThreshold());
+        assertEquals(lowOnStock.getThreshold(), readBack.get(1).getThreshold());
+        assertTrue(readBack.get(1).isLowOnStock());
+    }
+
+
+    @Test
+    public void readInventory_lowStockRecords_foundFromColumns() throws Exception {
+        Path filePath = testFolder.resolve("inventory.bin");
+        BinaryInventoryStorage storage = new BinaryInventoryStorage(filePath);
+        InventoryRecord lowOnStock = new InventoryRecord(INVENTORY_RECORD_C.getItemName(),
+                INVENTORY_RECORD_C.getDateTime(), INVENTORY_RECORD_C.getLedger(), INVENTORY_RECORD_C.getQuantity() + 1);
+        storage.saveInventory(getInventory(INVENTORY_RECORD_A, lowOnStock, INVENTORY_RECORD_B));
+
+        // copied, as the model copies the inventory it is given
+        Inventory readBack = new Inventory(storage.readInventory().get());
+
+        assertTrue(readBack.copyStockColumns().isPresent());
+        assertEquals(Set.of(lowOnStock), readBack.getLowStockInventoryRecords());
+    }
+
+
+    @Test
+    public void readInventory_versionTwoFile_singleMovement() throws Exception {
+        Path filePath = testFolder.resolve("inventory.bin");
+        LocalDateTime dateTime = LocalDateTime.of(2020, 2, 29, 8, 0);
+        // version 2 files have no movements after the records
+        FileUtil.writeToFileAtomically(filePath, outputStream -> {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(BinaryInventoryStorage.MAGIC);
+            output.writeInt(2);
+            writeVersionTwoRecord(output, "Mouse", 7, dateTime);
+            output.flush();
+        });
+
+        InventoryRecord readBack = new BinaryInventoryStorage(filePath).readInventory().get()
+                .getInventoryRecordList().get(0);
+        assertEquals(7, readBack.getQuantity());
+        assertEquals(List.of(new StockMovement(7, dateTime)), readBack.getLedger().getMovements());
+    }
+
+
+    private static void writeVersionTwoRecord(DataOutputStream output, String itemName, int quantity,
+            LocalDateTime dateTime) throws IOException {
+        output.writeInt(1);
+        output.writeInt(itemName.length());
+        output.writeBytes(itemName);
+        output.writeInt(1);
+        output.writeInt(0);
+        output.writeInt(quantity);
+        BinaryDataFile.writeDateTime(output, dateTime);
+    }
+
+
+    @Test
+    public void readInventory_duplicateInventoryRecords_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("inventory.bin");
+        BinaryInventoryStorage storage = new BinaryInventoryStorage(filePath);
+        // the inventory does not check for duplicates when it is replaced as a whole
+        storage.saveInventory(getInventory(INVENTORY_RECORD_A, INVENTORY_RECORD_A));
+
+        assertThrows(DataConversionException.class, storage::readInventory);
+    }
+
+
+    @Test
+    public void readInventory_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("inventory.bin");
+        BinaryInventoryStorage storage = new BinaryInventoryStorage(filePath);
+        storage.saveInventory(getInventory(INVENTORY_RECORD_A, INVENTORY_RECORD_B));
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, storage::readInventory);
+    }
+
+
+    @Test
+    public void convertInventory_jsonToBinaryAndBack_sameInventory() throws Exception {
+        Inventory original = getInventory(INVENTORY_RECORD_A, INVENTORY_RECORD_B, INVENTORY_RECORD_C);
+        JsonInventoryStorage jsonStorage = new JsonInventoryStorage(testFolder.resolve("inventory.json"));
+        BinaryInventoryStorage binaryStorage = new BinaryInventoryStorage(testFolder.resolve("inventory.bin"));
+        JsonInventoryStorage convertedJsonStorage = new JsonInventoryStorage(testFolder.resolve("converted.json"));
+        jsonStorage.saveInventory(original);
+
+        DataFileConverter.convertInventory(jsonStorage, binaryStorage);
+        DataFileConverter.convertInventory(binaryStorage, convertedJsonStorage);
+
+        assertEquals(original, new Inventory(binaryStorage.readInventory().get()));
+        assertEquals(Files.readString(jsonStorage.getInventoryFilePath()),
+                Files.readString(convertedJsonStorage.getInventoryFilePath()));
+    }
+
+}
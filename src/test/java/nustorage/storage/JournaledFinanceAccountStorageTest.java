@@ -0,0 +1,230 @@
+package nustorage.storage;
+
+
+import static nustorage.commons.core.StorageSettings.DataFileFormat.JSON;
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_A;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_B;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_C;
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_E;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nustorage.commons.core.StorageSettings;
+import nustorage.commons.core.index.Index;
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.model.FinanceAccount;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.record.FinanceRecord;
+
+
+public class JournaledFinanceAccountStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path snapshotPath;
+
+
+    @BeforeEach
+    public void setUp() {
+        snapshotPath = testFolder.resolve("finance.json");
+    }
+
+
+    private JournaledFinanceAccountStorage createStorage(StorageSettings storageSettings) {
+        return new JournaledFinanceAccountStorage(new JsonFinanceAccountStorage(snapshotPath), storageSettings);
+    }
+
+
+    private ReadOnlyFinanceAccount readFromNewStorage() throws Exception {
+        return createStorage(new StorageSettings()).readFinanceAccount().get();
+    }
+
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledFinanceAccountStorage(null,
+                new StorageSettings()));
+        assertThrows(NullPointerException.class, () -> new JournaledFinanceAccountStorage(
+                new JsonFinanceAccountStorage(snapshotPath), null));
+    }
+
+
+    @Test
+    public void getJournalFilePath_snapshotPath_sameAsJournalOfStorage() {
+        assertEquals(createStorage(new StorageSettings()).getJournalFilePath(),
+                JournaledFinanceAccountStorage.getJournalFilePath(snapshotPath));
+    }
+
+
+    @Test
+    public void readFinanceAccount_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(new StorageSettings()).readFinanceAccount().isPresent());
+    }
+
+
+    @Test
+    public void saveFinanceAccount_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournaledFinanceAccountStorage storage = createStorage(new StorageSettings());
+        FinanceAccount original = getTypicalFinanceAccount();
+
+        storage.saveFinanceAccount(original);
+        String snapshot = Files.readString(snapshotPath);
+
+        original.removeFinanceRecord(Index.fromZeroBased(1));
+        storage.saveFinanceAccount(original);
+        original.addFinanceRecord(RECORD_B);
+        storage.saveFinanceAccount(original);
+
+        // snapshot is left untouched, the journal holds the header and one line per save
+        assertEquals(snapshot, Files.readString(snapshotPath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        assertEquals(original, new FinanceAccount(readFromNewStorage()));
+    }
+
+
+    @Test
+    public void saveFinanceAccount_unchangedRecords_nothingAppended() throws Exception {
+        JournaledFinanceAccountStorage storage = createStorage(new StorageSettings());
+        FinanceAccount original = getTypicalFinanceAccount();
+
+        storage.saveFinanceAccount(original);
+        storage.saveFinanceAccount(original);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+
+    @Test
+    public void saveFinanceAccount_snapshotIntervalReached_snapshotRewritten() throws Exception {
+        JournaledFinanceAccountStorage storage = createStorage(new StorageSettings(true, 2, false, 0, true, JSON, 12));
+        FinanceAccount original = new FinanceAccount();
+
+        storage.saveFinanceAccount(original);
+        original.addFinanceRecord(RECORD_A);
+        storage.saveFinanceAccount(original);
+        original.addFinanceRecord(RECORD_B);
+        storage.saveFinanceAccount(original);
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        original.addFinanceRecord(RECORD_C);
+        storage.saveFinanceAccount(original);
+
+        // the fourth save compacts everything into a new snapshot and starts an empty journal
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new FinanceAccount(new JsonFinanceAccountStorage(snapshotPath)
+                .readFinanceAccount().get()));
+        assertEquals(original, new FinanceAccount(readFromNewStorage()));
+    }
+
+
+    @Test
+    public void saveFinanceAccount_journalDisabled_journalDeleted() throws Exception {
+        FinanceAccount original = getTypicalFinanceAccount();
+        JournaledFinanceAccountStorage storage = createStorage(new StorageSettings());
+        storage.saveFinanceAccount(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        JournaledFinanceAccountStorage disabledStorage =
+                createStorage(new StorageSettings(false, 1, false, 0, true, JSON, 12));
+        original.addFinanceRecord(RECORD_E);
+        disabledStorage.saveFinanceAccount(original);
+
+        assertFalse(Files.exists(disabledStorage.getJournalFilePath()));
+        assertEquals(original, new FinanceAccount(readFromNewStorage()));
+    }
+
+
+    @Test
+    public void saveFinanceAccount_negativeAmounts_readBackFromSnapshotAndJournal() throws Exception {
+        JournaledFinanceAccountStorage storage = createStorage(new StorageSettings());
+        FinanceAccount original = new FinanceAccount();
+        original.addFinanceRecord(new FinanceRecord(1, -40.5, LocalDateTime.of(2020, 3, 1, 9, 0)));
+        storage.saveFinanceAccount(original);
+
+        original.addFinanceRecord(new FinanceRecord(2, -0.01, LocalDateTime.of(2020, 3, 2, 9, 0)));
+        storage.saveFinanceAccount(original);
+
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new FinanceAccount(readFromNewStorage()));
+    }
+
+
+    @Test
+    public void saveFinanceAccount_afterReading_continuesJournal() throws Exception {
+        FinanceAccount original = getTypicalFinanceAccount();
+        JournaledFinanceAccountStorage storage = createStorage(new StorageSettings());
+        storage.saveFinanceAccount(original);
+        original.removeFinanceRecord(Index.fromZeroBased(0));
+        storage.saveFinanceAccount(original);
+
+        JournaledFinanceAccountStorage reopenedStorage = createStorage(new StorageSettings());
+        FinanceAccount reopened = new FinanceAccount(reopenedStorage.readFinanceAccount().get());
+        reopened.addFinanceRecord(RECORD_A);
+        reopenedStorage.saveFinanceAccount(reopened);
+
+        assertEquals(3, Files.readAllLines(reopenedStorage.getJournalFilePath()).size());
+        assertEquals(reopened, new FinanceAccount(readFromNewStorage()));
+    }
+
+
+    @Test
+    public void readFinanceAccount_incompleteLastEntry_entryDropped() throws Exception {
+        FinanceAccount original = getTypicalFinanceAccount();
+        JournaledFinanceAccountStorage storage = createStorage(new StorageSettings());
+        storage.saveFinanceAccount(original);
+        original.removeFinanceRecord(Index.fromZeroBased(0));
+        storage.saveFinanceAccount(original);
+
+        FinanceAccount expected = new FinanceAccount(original);
+        Files.write(storage.getJournalFilePath(), "{\"from\":0,\"to\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(expected, new FinanceAccount(readFromNewStorage()));
+    }
+
+
+    @Test
+    public void readFinanceAccount_invalidEntryInMiddle_throwsDataConversionException() throws Exception {
+        FinanceAccount original = getTypicalFinanceAccount();
+        JournaledFinanceAccountStorage storage = createStorage(new StorageSettings());
+        storage.saveFinanceAccount(original);
+
+        Files.write(storage.getJournalFilePath(), List.of("{\"from\":7,\"to\":9}", "{}"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThrows(DataConversionException.class, () -> createStorage(new StorageSettings()).readFinanceAccount());
+    }
+
+
+    @Test
+    public void readFinanceAccount_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        FinanceAccount original = getTypicalFinanceAccount();
+        JournaledFinanceAccountStorage storage = createStorage(new StorageSettings());
+        storage.saveFinanceAccount(original);
+        original.removeFinanceRecord(Index.fromZeroBased(0));
+        storage.saveFinanceAccount(original);
+
+        // snapshot rewritten without the journal being restarted, as after a crash during compaction
+        original.addFinanceRecord(RECORD_E);
+        new JsonFinanceAccountStorage(snapshotPath).saveFinanceAccount(original);
+
+        assertEquals(original, new FinanceAccount(readFromNewStorage()));
+    }
+
+}
@@ -0,0 +1,76 @@
+package nustorage.storage;
+
+
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_A;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_B;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_C;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nustorage.commons.core.StorageSettings;
+import nustorage.model.Inventory;
+import nustorage.model.record.InventoryRecord;
+
+
+public class JournaledInventoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+
+    @Test
+    public void saveInventory_changesAfterFirstSave_readBackFromJournal() throws Exception {
+        Path snapshotPath = testFolder.resolve("inventory.json");
+        JournaledInventoryStorage storage = new JournaledInventoryStorage(
+                new JsonInventoryStorage(snapshotPath), new StorageSettings());
+
+        Inventory original = new Inventory();
+        original.addInventoryRecord(INVENTORY_RECORD_A);
+        original.addInventoryRecord(INVENTORY_RECORD_B);
+        storage.saveInventory(original);
+
+        original.removeInventoryRecord(INVENTORY_RECORD_A);
+        storage.saveInventory(original);
+        original.addInventoryRecord(INVENTORY_RECORD_C);
+        storage.saveInventory(original);
+
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        JournaledInventoryStorage reopenedStorage = new JournaledInventoryStorage(
+                new JsonInventoryStorage(snapshotPath), new StorageSettings());
+        assertEquals(original, new Inventory(reopenedStorage.readInventory().get()));
+    }
+
+
+    @Test
+    public void readInventory_binarySnapshotAndJournal_lowStockRecordsFromColumns() throws Exception {
+        Path snapshotPath = testFolder.resolve("inventory.bin");
+        JournaledInventoryStorage storage = new JournaledInventoryStorage(
+                new BinaryInventoryStorage(snapshotPath), new StorageSettings());
+
+        Inventory original = new Inventory();
+        original.addInventoryRecord(INVENTORY_RECORD_A);
+        original.addInventoryRecord(INVENTORY_RECORD_B);
+        storage.saveInventory(original);
+
+        InventoryRecord lowOnStock = new InventoryRecord(INVENTORY_RECORD_B.getItemName(),
+                INVENTORY_RECORD_B.getDateTime(), INVENTORY_RECORD_B.getLedger(), INVENTORY_RECORD_B.getQuantity() + 1);
+        original.setInventoryRecord(INVENTORY_RECORD_B, lowOnStock);
+        original.removeInventoryRecord(INVENTORY_RECORD_A);
+        storage.saveInventory(original);
+
+        JournaledInventoryStorage reopenedStorage = new JournaledInventoryStorage(
+                new BinaryInventoryStorage(snapshotPath), new StorageSettings());
+        Inventory readBack = new Inventory(reopenedStorage.readInventory().get());
+        assertTrue(readBack.copyStockColumns().isPresent());
+        assertEquals(Set.of(lowOnStock), readBack.getLowStockInventoryRecords());
+    }
+
+}
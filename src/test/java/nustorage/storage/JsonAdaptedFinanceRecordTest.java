@@ -78,9 +78,15 @@ class JsonAdaptedFinanceRecordTest {
         assertEquals(new FinanceRecord(ID_D, AMOUNT_D, DATE_TIME_D), testFinanceRecord.toModelType());
     }
 
+    @Test
+    void toModelType_negativeAmount_returnsFinanceRecord() throws Exception {
+        JsonAdaptedFinanceRecord testFinanceRecord = new JsonAdaptedFinanceRecord(ID_A, -12.5, DATE_TIME_D);
+        assertEquals(new FinanceRecord(ID_A, -12.5, DATE_TIME_D), testFinanceRecord.toModelType());
+    }
+
     @Test
     void toModelType_invalidAmount_throwsIllegalValueException() {
-        JsonAdaptedFinanceRecord testFinanceRecord = new JsonAdaptedFinanceRecord(ID_A, -1, DATE_TIME_D);
+        JsonAdaptedFinanceRecord testFinanceRecord = new JsonAdaptedFinanceRecord(ID_A, Double.NaN, DATE_TIME_D);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "amount");
         assertThrows(IllegalValueException.class, expectedMessage, testFinanceRecord::toModelType);
     }
@@ -14,10 +14,14 @@ import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_B;
 import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_C;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import nustorage.commons.exceptions.IllegalValueException;
+import nustorage.model.record.FinanceRecord;
 import nustorage.model.record.InventoryRecord;
+import nustorage.model.record.StockMovement;
 
 class JsonAdaptedInventoryRecordTest {
 
@@ -89,4 +93,46 @@ class JsonAdaptedInventoryRecordTest {
         assertThrows(IllegalValueException.class, expectedMessage, testInventoryRecord::toModelType);
     }
 
+
+    @Test
+    void toModelType_movements_ledgerKept() throws Exception {
+        FinanceRecord financeRecord = new FinanceRecord(100);
+        InventoryRecord original = new InventoryRecord(ITEM_NAME_1, QUANTITY_1, financeRecord);
+        InventoryRecord edited = new InventoryRecord(ITEM_NAME_2, DATE_TIME_B,
+                original.getLedger().append(new StockMovement(-3, original.getDateTime().plusDays(1))));
+
+        InventoryRecord readBack = new JsonAdaptedInventoryRecord(edited).toModelType();
+        assertEquals(edited.getLedger(), readBack.getLedger());
+        assertEquals(QUANTITY_1 - 3, readBack.getQuantity());
+        assertEquals(financeRecord.getID(), readBack.getLedger().getMovement(0).getFinanceId());
+    }
+
+
+    @Test
+    void toModelType_threshold_kept() throws Exception {
+        InventoryRecord lowOnStock = new InventoryRecord(ITEM_NAME_1, DATE_TIME_A, INVENTORY_RECORD_A.getLedger(),
+                QUANTITY_1 + 1);
+        InventoryRecord readBack = new JsonAdaptedInventoryRecord(lowOnStock).toModelType();
+        assertEquals(QUANTITY_1 + 1, readBack.getThreshold());
+        assertEquals(lowOnStock.getLedger(), readBack.getLedger());
+    }
+
+
+    @Test
+    void toModelType_negativeThreshold_throwsIllegalValueException() {
+        JsonAdaptedInventoryRecord testInventoryRecord = new JsonAdaptedInventoryRecord(ITEM_NAME_1, QUANTITY_1,
+                DATE_TIME_A, null, -1);
+        assertThrows(IllegalValueException.class, String.format(MISSING_FIELD_MESSAGE_FORMAT, "threshold"),
+                testInventoryRecord::toModelType);
+    }
+
+
+    @Test
+    void toModelType_movementsNotAddingUpToQuantity_throwsIllegalValueException() {
+        JsonAdaptedInventoryRecord testInventoryRecord = new JsonAdaptedInventoryRecord(ITEM_NAME_1, QUANTITY_1,
+                DATE_TIME_A, List.of(new JsonAdaptedStockMovement(QUANTITY_1 + 1, DATE_TIME_A, null)));
+        assertThrows(IllegalValueException.class, JsonAdaptedInventoryRecord.MESSAGE_MOVEMENTS_MISMATCH,
+                testInventoryRecord::toModelType);
+    }
+
 }
@@ -0,0 +1,65 @@
+package nustorage.storage;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.model.FinanceAccount;
+import nustorage.model.ReadOnlyFinanceAccount;
+import nustorage.model.record.FinanceIdRenumbering;
+import nustorage.model.record.FinanceRecord;
+
+public class JsonFinanceAccountStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonFinanceAccountStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private ReadOnlyFinanceAccount readFinanceAccount(String fileName) throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve(fileName);
+        return new JsonFinanceAccountStorage(filePath).readFinanceAccount(filePath).get();
+    }
+
+    @Test
+    public void readFinanceAccount_noNextId_recordsRenumberedFromOne() throws Exception {
+        ReadOnlyFinanceAccount financeAccount = readFinanceAccount("legacyFinanceAccount.json");
+
+        List<FinanceRecord> records = financeAccount.getFinanceList();
+        assertEquals(1, records.get(0).getID());
+        assertEquals(120.5, records.get(0).getAmount());
+        assertEquals(2, records.get(1).getID());
+        assertEquals(-40.0, records.get(1).getAmount());
+
+        FinanceIdRenumbering renumbering = financeAccount.getIdRenumbering().get();
+        assertEquals(1, renumbering.renumber(2093457322));
+        assertEquals(2, renumbering.renumber(1847266512));
+    }
+
+    @Test
+    public void readFinanceAccount_duplicateIds_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readFinanceAccount("duplicateIdFinanceAccount.json"));
+        assertThrows(DataConversionException.class, () -> readFinanceAccount("duplicateIdLegacyFinanceAccount.json"));
+    }
+
+    @Test
+    public void readAndSaveFinanceAccount_nextIdSaved_idsKept() throws Exception {
+        Path filePath = testFolder.resolve("finance.json");
+        JsonFinanceAccountStorage storage = new JsonFinanceAccountStorage(filePath);
+        FinanceAccount original = getTypicalFinanceAccount();
+
+        storage.saveFinanceAccount(original);
+        ReadOnlyFinanceAccount readBack = storage.readFinanceAccount().get();
+        assertEquals(original, new FinanceAccount(readBack));
+        assertFalse(readBack.getIdRenumbering().isPresent());
+    }
+
+}
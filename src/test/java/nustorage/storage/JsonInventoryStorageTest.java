@@ -0,0 +1,116 @@
+package nustorage.storage;
+
+import static nustorage.testutil.Assert.assertThrows;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_A;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_B;
+import static nustorage.testutil.TypicalInventoryRecords.INVENTORY_RECORD_C;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nustorage.commons.exceptions.DataConversionException;
+import nustorage.commons.util.JsonUtil;
+import nustorage.model.Inventory;
+import nustorage.model.ReadOnlyInventory;
+
+public class JsonInventoryStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonInventoryStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Optional<ReadOnlyInventory> readInventory(String fileName) throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve(fileName);
+        return new JsonInventoryStorage(filePath).readInventory(filePath);
+    }
+
+    @Test
+    public void readInventory_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonInventoryStorage(testFolder).readInventory(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readInventory("NonExistentFile.json").isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        assertThrows(DataConversionException.class, () -> readInventory("notJsonFormatInventory.json"));
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() {
+        assertThrows(DataConversionException.class, () -> readInventory("truncatedInventory.json"));
+    }
+
+    @Test
+    public void readInventory_invalidInventoryRecord_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readInventory("invalidInventoryRecordInventory.json"));
+    }
+
+    @Test
+    public void readInventory_duplicateInventoryRecords_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readInventory("duplicateInventoryRecordInventory.json"));
+    }
+
+    @Test
+    public void readInventory_extraFields_ignored() throws Exception {
+        assertEquals(1, readInventory("extraFieldsInventory.json").get().getInventoryRecordList().size());
+    }
+
+    @Test
+    public void readAndSaveInventory_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempInventory.json");
+        Inventory original = new Inventory();
+        original.addInventoryRecord(INVENTORY_RECORD_A);
+        original.addInventoryRecord(INVENTORY_RECORD_B);
+        JsonInventoryStorage jsonInventoryStorage = new JsonInventoryStorage(filePath);
+
+        // Save in new file and read back
+        jsonInventoryStorage.saveInventory(original, filePath);
+        ReadOnlyInventory readBack = jsonInventoryStorage.readInventory(filePath).get();
+        assertEquals(original, new Inventory(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addInventoryRecord(INVENTORY_RECORD_C);
+        original.removeInventoryRecord(INVENTORY_RECORD_A);
+        jsonInventoryStorage.saveInventory(original, filePath);
+        readBack = jsonInventoryStorage.readInventory().get();
+        assertEquals(original, new Inventory(readBack));
+    }
+
+    @Test
+    public void saveInventory_prettyPrinted_sameAsSerializableInventory() throws Exception {
+        Path filePath = testFolder.resolve("TempInventory.json");
+        Inventory original = new Inventory();
+        original.addInventoryRecord(INVENTORY_RECORD_A);
+        original.addInventoryRecord(INVENTORY_RECORD_B);
+
+        new JsonInventoryStorage(filePath, true).saveInventory(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableInventory(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveInventory_notPrettyPrinted_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempInventory.json");
+        Inventory original = new Inventory();
+        original.addInventoryRecord(INVENTORY_RECORD_A);
+        original.addInventoryRecord(INVENTORY_RECORD_B);
+        JsonInventoryStorage jsonInventoryStorage = new JsonInventoryStorage(filePath, false);
+
+        jsonInventoryStorage.saveInventory(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new Inventory(jsonInventoryStorage.readInventory().get()));
+    }
+
+}
@@ -1,8 +1,13 @@
 package nustorage.storage;
 
 
+import static nustorage.testutil.TypicalFinanceRecords.RECORD_E;
+import static nustorage.testutil.TypicalFinanceRecords.getTypicalFinanceAccount;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,7 +15,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import nustorage.commons.core.GuiSettings;
+import nustorage.model.FinanceAccount;
 import nustorage.model.UserPrefs;
+import nustorage.model.VersionCounter;
 
 
 public class StorageManagerTest {
@@ -52,6 +59,33 @@ public class StorageManagerTest {
         assertEquals(original, retrieved);
     }
 
+    @Test
+    public void saveFinanceAccount_unchangedVersion_notWritten() throws Exception {
+        FinanceAccount financeAccount = getTypicalFinanceAccount();
+        assertEquals(VersionCounter.NO_VERSION, storageManager.getLastSavedFinanceAccountVersion());
+
+        storageManager.saveFinanceAccount(financeAccount);
+        assertEquals(financeAccount.getVersion(), storageManager.getLastSavedFinanceAccountVersion());
+
+        Files.delete(storageManager.getFinanceAccountFilePath());
+        storageManager.saveFinanceAccount(financeAccount);
+        assertFalse(Files.exists(storageManager.getFinanceAccountFilePath()));
+
+        financeAccount.addFinanceRecord(RECORD_E);
+        storageManager.saveFinanceAccount(financeAccount);
+        assertTrue(Files.exists(storageManager.getFinanceAccountFilePath()));
+        assertEquals(financeAccount.getVersion(), storageManager.getLastSavedFinanceAccountVersion());
+    }
+
+
+    @Test
+    public void readFinanceAccount_savedData_versionRecorded() throws Exception {
+        storageManager.saveFinanceAccount(getTypicalFinanceAccount());
+
+        FinanceAccount retrieved = new FinanceAccount(storageManager.readFinanceAccount().get());
+        assertEquals(retrieved.getVersion(), storageManager.getLastSavedFinanceAccountVersion());
+    }
+
     // @Test
     // public void addressBookReadSave() throws Exception {
     //     /*
@@ -23,6 +23,9 @@ public class TypicalFinanceRecords {
     public static final FinanceRecord RECORD_C = new FinanceRecord(AMOUNT_C, DATE_TIME_C);
     public static final FinanceRecord RECORD_D = new FinanceRecord(AMOUNT_D, DATE_TIME_D);
 
+    // not in the typical finance account
+    public static final FinanceRecord RECORD_E = new FinanceRecord(-AMOUNT_C, DATE_TIME_D);
+
     private TypicalFinanceRecords() {} // prevents instantiation
 
     /**
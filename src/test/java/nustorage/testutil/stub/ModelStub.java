@@ -1,10 +1,18 @@
 package nustorage.testutil.stub;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import nustorage.commons.core.GuiSettings;
 import nustorage.commons.core.index.Index;
 import nustorage.model.Inventory;
@@ -13,7 +21,10 @@ import nustorage.model.ReadOnlyAddressBook;
 import nustorage.model.ReadOnlyFinanceAccount;
 import nustorage.model.ReadOnlyUserPrefs;
 import nustorage.model.person.Person;
+import nustorage.model.record.FinanceQuery;
 import nustorage.model.record.FinanceRecord;
+import nustorage.model.record.FinanceReport;
+import nustorage.model.record.FinanceTotal;
 import nustorage.model.record.InventoryRecord;
 
 /**
@@ -62,6 +73,42 @@ public class ModelStub implements Model {
     }
 
 
+    @Override
+    public void batch(Consumer<Model> mutations) {
+        mutations.accept(this);
+    }
+
+
+    @Override
+    public boolean commitChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+
+    @Override
+    public boolean canUndo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+
+    @Override
+    public boolean canRedo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+
+    @Override
+    public void undo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+
+    @Override
+    public void redo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+
     @Override
     public boolean hasInventoryRecord(InventoryRecord inventoryRecord) {
         return true;
@@ -82,11 +129,56 @@ public class ModelStub implements Model {
         return null;
     }
 
+    @Override
+    public Optional<FinanceRecord> getFinanceRecord(int id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setFinanceRecord(FinanceRecord target, FinanceRecord editedFinanceRecord) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void loadArchivedFinanceRecords(YearMonth from, YearMonth to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void loadAllArchivedFinanceRecords() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<FinanceRecord> getFinanceRecordsBetween(LocalDateTime from, LocalDateTime to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public FinanceReport getFinanceReport(LocalDateTime from, LocalDateTime to, FinanceReport.Grouping grouping) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public FinanceTotal getFinanceTotal() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public FinanceTotal getMonthlyFinanceTotal(YearMonth month) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public FinanceTotal getDailyFinanceTotal(LocalDate date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<FinanceTotal> financeTotalProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Optional<FinanceRecord> deleteFinanceRecord(Index targetIndex) {
         return Optional.empty();
@@ -152,8 +244,43 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredInventoryList(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredInventoryListToSimilarWords(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredFinanceList(Predicate<FinanceRecord> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void updateFilteredFinanceList(LocalDateTime from, LocalDateTime to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredFinanceList(FinanceQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void sortFilteredInventoryList(ToLongFunction<InventoryRecord> sortKey, boolean isDescending) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableSet<InventoryRecord> getLowStockInventory() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void sortFilteredFinanceList(ToLongFunction<FinanceRecord> sortKey, boolean isDescending) {
+        throw new AssertionError("This method should not be called.");
+    }
 }